@@ -0,0 +1,178 @@
+package com.kt.backendapp.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 요청 처리 스레드 모드 비교 (플랫폼 스레드 풀 vs 가상 스레드 + 워크로드별 bulkhead)
+ * - application.yml 과 같은 구성: 커넥션 풀 32개, DB 를 쓰는 주기 작업 8개 + 대시보드 병렬 조회 4개가 배경에서 커넥션을 번갈아 사용
+ * - 요청 경로는 BulkheadConfig 의 인터셉터 등록과 같게 나눈다
+ *   - DB 요청(dbShare): 구역 변경/카탈로그/피드백 검색/통계/시뮬레이션 등, 워크로드 bulkhead 를 거쳐 DB 조회 시간만큼 커넥션을 잡는다
+ *   - 수집 요청: 나머지 요청 중 일부, ingestion bulkhead 를 거치지만 메모리 반영만 수행
+ *   - 메모리 조회: 운영 대시보드 스냅샷 폴링, 구역 목록/상세/주변 등, bulkhead 없이 메모리 조회만 수행
+ * - platform: Tomcat 기본 최대 스레드 수(200)의 고정 풀, bulkhead 없이 DB 요청은 배경 작업과 함께 커넥션 풀에서 바로 경쟁
+ * - virtual: 요청마다 가상 스레드, 수집/DB 요청은 자기 워크로드 bulkhead(허용 수 6/4/3/3/2/2, 합계 20)에서 먼저 대기
+ *   (Java 21 필요: -PjavaVersion=21)
+ * - mix=proportional 은 DB 요청을 DB 워크로드 허용 수 비율로, dashboard-heavy 는 70% 를 대시보드로 보낸다 (한 워크로드 쏠림)
+ * 한 번의 연산은 requests 개 요청을 동시에 제출하고 모두 끝날 때까지의 시간
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ThreadModeBenchmark {
+
+    private static final int CONNECTION_POOL_SIZE = 32;
+    private static final int BACKGROUND_JOBS = 8 + 4;
+    private static final int[] WORKLOAD_PERMITS = {6, 4, 3, 3, 2, 2};
+    private static final int INGESTION = 0;     // bulkhead 는 거치지만 DB 는 쓰지 않는 워크로드
+    private static final int DASHBOARD = 2;
+    private static final int INGESTION_EVERY = 4; // DB 를 쓰지 않는 요청 중 수집 비율 (1/4)
+    private static final double DASHBOARD_HEAVY_SHARE = 0.7;
+    private static final int PLATFORM_THREADS = 200;
+    private static final long QUERY_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+    private static final long BACKGROUND_QUERY_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long MEMORY_WORK_TOKENS = 2_000;
+
+    @Param({"platform", "virtual"})
+    public String threadMode;
+
+    @Param({"0.1", "0.5"})
+    public double dbShare;
+
+    @Param({"proportional", "dashboard-heavy"})
+    public String mix;
+
+    @Param({"2000"})
+    public int requests;
+
+    private ExecutorService executor;
+    private Semaphore connectionPool;
+    private Semaphore[] bulkheads;
+    private int[] workloadOf;   // 요청별 워크로드 (-1 이면 bulkhead 없는 메모리 조회)
+    private List<Thread> background;
+    private volatile boolean running;
+
+    @Setup
+    public void setUp() throws Exception {
+        if ("virtual".equals(threadMode)) {
+            // Java 17 로도 컴파일되도록 리플렉션으로 생성
+            try {
+                executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException("가상 스레드는 Java 21 이상에서만 측정할 수 있습니다 (-PjavaVersion=21)", e);
+            }
+            bulkheads = new Semaphore[WORKLOAD_PERMITS.length];
+            for (int i = 0; i < WORKLOAD_PERMITS.length; i++) {
+                bulkheads[i] = new Semaphore(WORKLOAD_PERMITS[i], true);
+            }
+        } else {
+            executor = Executors.newFixedThreadPool(PLATFORM_THREADS);
+        }
+        connectionPool = new Semaphore(CONNECTION_POOL_SIZE, true);
+
+        // DB 요청을 고르게 섞고, DB 워크로드는 mix 에 따라 배정
+        workloadOf = new int[requests];
+        int[] cumulativePermits = new int[WORKLOAD_PERMITS.length];
+        int dbPermits = 0;
+        for (int i = INGESTION + 1; i < WORKLOAD_PERMITS.length; i++) {
+            dbPermits += WORKLOAD_PERMITS[i];
+            cumulativePermits[i] = dbPermits;
+        }
+        int dbEvery = Math.max(1, (int) Math.round(1 / dbShare));
+        int dbRequests = 0;
+        int memoryRequests = 0;
+        for (int i = 0; i < requests; i++) {
+            if (i % dbEvery != 0) {
+                workloadOf[i] = memoryRequests++ % INGESTION_EVERY == 0 ? INGESTION : -1;
+                continue;
+            }
+            if ("dashboard-heavy".equals(mix) && (dbRequests % 10) < DASHBOARD_HEAVY_SHARE * 10) {
+                workloadOf[i] = DASHBOARD;
+            } else {
+                int slot = dbRequests % dbPermits;
+                int workload = INGESTION + 1;
+                while (slot >= cumulativePermits[workload]) {
+                    workload++;
+                }
+                workloadOf[i] = workload;
+            }
+            dbRequests++;
+        }
+
+        // 주기 작업/대시보드 병렬 조회: 절반 정도의 시간 동안 커넥션을 잡는다
+        running = true;
+        background = new ArrayList<>(BACKGROUND_JOBS);
+        for (int i = 0; i < BACKGROUND_JOBS; i++) {
+            Thread thread = new Thread(this::runBackgroundJob, "background-" + i);
+            thread.setDaemon(true);
+            thread.start();
+            background.add(thread);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        running = false;
+        for (Thread thread : background) {
+            thread.join();
+        }
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public void handleRequests(Blackhole blackhole) throws Exception {
+        List<Future<?>> futures = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            int workload = workloadOf[i];
+            futures.add(executor.submit(() -> handle(workload, blackhole)));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+
+    private void handle(int workload, Blackhole blackhole) {
+        Semaphore bulkhead = bulkheads != null && workload >= 0 ? bulkheads[workload] : null;
+        if (bulkhead != null) {
+            bulkhead.acquireUninterruptibly();
+        }
+        try {
+            if (workload <= INGESTION) {
+                Blackhole.consumeCPU(MEMORY_WORK_TOKENS);
+                return;
+            }
+            connectionPool.acquireUninterruptibly();
+            try {
+                LockSupport.parkNanos(QUERY_NANOS);
+                blackhole.consume(workload);
+            } finally {
+                connectionPool.release();
+            }
+        } finally {
+            if (bulkhead != null) {
+                bulkhead.release();
+            }
+        }
+    }
+
+    private void runBackgroundJob() {
+        while (running) {
+            connectionPool.acquireUninterruptibly();
+            try {
+                LockSupport.parkNanos(BACKGROUND_QUERY_NANOS);
+            } finally {
+                connectionPool.release();
+            }
+            LockSupport.parkNanos(BACKGROUND_QUERY_NANOS);
+        }
+    }
+}
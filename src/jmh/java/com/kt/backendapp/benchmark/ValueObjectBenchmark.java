@@ -0,0 +1,82 @@
+package com.kt.backendapp.benchmark;
+
+import com.kt.backendapp.domain.vo.CongestionLevel;
+import com.kt.backendapp.domain.vo.Coordinates;
+import com.kt.backendapp.domain.vo.TargetAudience;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 도메인 값 객체 단건 처리 비용
+ * 입력은 미리 만들어 둔 배열을 순환하며 사용 (상수 접기 방지)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class ValueObjectBenchmark {
+
+    private static final int INPUTS = 1024;
+
+    private int[] currentCapacities;
+    private int[] totalCapacities;
+    private String[] coordinateStrings;
+    private Coordinates[] coordinates;
+    private String[] targetStrings;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        currentCapacities = new int[INPUTS];
+        totalCapacities = new int[INPUTS];
+        coordinateStrings = new String[INPUTS];
+        coordinates = new Coordinates[INPUTS];
+        targetStrings = new String[INPUTS];
+
+        for (int i = 0; i < INPUTS; i++) {
+            totalCapacities[i] = 100 + random.nextInt(50_000);
+            currentCapacities[i] = random.nextInt(totalCapacities[i] + 1);
+            double latitude = 37.4 + random.nextDouble() * 0.3;
+            double longitude = 126.8 + random.nextDouble() * 0.4;
+            coordinateStrings[i] = String.format(Locale.ROOT, "%.6f, %.6f", latitude, longitude);
+            coordinates[i] = new Coordinates(latitude, longitude);
+            targetStrings[i] = String.format(Locale.ROOT, "%,d명", 1_000 + random.nextInt(1_000_000));
+        }
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (INPUTS - 1);
+        return cursor;
+    }
+
+    @Benchmark
+    public CongestionLevel congestionLevelCalculate() {
+        int i = next();
+        return CongestionLevel.calculate(currentCapacities[i], totalCapacities[i]);
+    }
+
+    @Benchmark
+    public int congestionLevelPercentageOf() {
+        int i = next();
+        return CongestionLevel.percentageOf(currentCapacities[i], totalCapacities[i]);
+    }
+
+    @Benchmark
+    public Coordinates coordinatesFromString() {
+        return Coordinates.fromString(coordinateStrings[next()]);
+    }
+
+    @Benchmark
+    public double coordinatesDistanceTo() {
+        int i = next();
+        return coordinates[i].distanceTo(coordinates[(i + 7) & (INPUTS - 1)]);
+    }
+
+    @Benchmark
+    public TargetAudience targetAudienceFromString() {
+        return TargetAudience.fromString(targetStrings[next()]);
+    }
+}
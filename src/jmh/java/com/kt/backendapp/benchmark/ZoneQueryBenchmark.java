@@ -0,0 +1,86 @@
+package com.kt.backendapp.benchmark;
+
+import com.kt.backendapp.domain.model.ZoneSpatialIndex;
+import com.kt.backendapp.domain.service.ZoneDomainService;
+import com.kt.backendapp.domain.vo.Coordinates;
+import com.kt.backendapp.entity.Zone;
+import com.kt.backendapp.entity.ZoneType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 구역 수에 따른 최근접/대체 구역 조회 비용
+ * 축제 규모(10 ~ 10,000 구역)별로 도메인 서비스의 전체 탐색과 공간 인덱스 조회를 비교
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ZoneQueryBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    public int zoneCount;
+
+    private final ZoneDomainService zoneDomainService = new ZoneDomainService();
+
+    private List<Zone> zones;
+    private Zone congestedZone;
+    private ZoneSpatialIndex spatialIndex;
+    private Coordinates origin;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        ZoneType[] types = ZoneType.values();
+        zones = new ArrayList<>(zoneCount);
+        spatialIndex = new ZoneSpatialIndex(0.2);
+
+        // 도심 축제 규모 (약 10km x 10km)
+        for (int i = 0; i < zoneCount; i++) {
+            double latitude = 37.50 + random.nextDouble() * 0.09;
+            double longitude = 126.93 + random.nextDouble() * 0.11;
+            int capacity = 500 + random.nextInt(20_000);
+            int current = random.nextInt(capacity + 1);
+            Zone zone = Zone.builder()
+                    .id((long) i + 1)
+                    .name("구역 " + (i + 1))
+                    .type(types[i % types.length])
+                    .capacity(capacity)
+                    .currentCapacity(current)
+                    .congestionLevel(Math.min(100, current * 100 / capacity))
+                    .coordinates(String.format(Locale.ROOT, "%.6f, %.6f", latitude, longitude))
+                    .build();
+            zones.add(zone);
+            spatialIndex.put(zone.getId(), new Coordinates(latitude, longitude));
+        }
+
+        congestedZone = zones.get(0);
+        congestedZone.setCongestionLevel(90);
+        origin = Coordinates.fromString(congestedZone.getCoordinates());
+    }
+
+    @Benchmark
+    public Zone domainServiceFindNearest() {
+        return zoneDomainService.findNearestZone(congestedZone, zones);
+    }
+
+    @Benchmark
+    public List<Zone> domainServiceRecommendAlternatives() {
+        return zoneDomainService.recommendAlternativeZones(congestedZone, zones);
+    }
+
+    @Benchmark
+    public List<ZoneSpatialIndex.Neighbor> spatialIndexNearest() {
+        long originId = congestedZone.getId();
+        return spatialIndex.nearest(origin, 5, id -> id != originId);
+    }
+
+    @Benchmark
+    public List<ZoneSpatialIndex.Neighbor> spatialIndexWithinRadius() {
+        return spatialIndex.withinRadius(origin, 0.5, null);
+    }
+}
@@ -0,0 +1,60 @@
+package com.kt.backendapp.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * 대시보드 스트림 전송용 스레드 풀
+     * 연결마다 스레드를 두지 않고, 보낼 데이터가 있는 구독자만 이 풀에서 전송
+     */
+    @Bean(name = "dashboardStreamExecutor")
+    public ThreadPoolTaskExecutor dashboardStreamExecutor(
+            @Value("${festival.stream.sender-threads:8}") int senderThreads,
+            @Value("${festival.stream.sender-queue-capacity:10000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(senderThreads);
+        executor.setMaxPoolSize(senderThreads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("dashboard-stream-");
+        // 대기열이 가득 차면 호출(디스패처) 스레드에서 직접 전송해 자연스럽게 속도를 늦춘다
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 운영 대시보드 조회 병렬 실행용 스레드 풀
+     * DB 커넥션 풀보다 작게 유지해 대시보드 조회가 다른 요청의 커넥션을 고갈시키지 않도록 한다
+     */
+    @Bean(name = "dashboardQueryExecutor")
+    public ThreadPoolTaskExecutor dashboardQueryExecutor(
+            @Value("${festival.dashboard.query-threads:4}") int queryThreads,
+            @Value("${festival.dashboard.query-queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(queryThreads);
+        executor.setMaxPoolSize(queryThreads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("dashboard-query-");
+        // 대기열이 가득 차면 요청 스레드에서 직접 조회 (순차 실행으로 후퇴)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 방문객 이동 시뮬레이션용 ForkJoinPool
+     * 공용 풀과 분리해 시뮬레이션이 병렬 스트림 등 다른 작업의 CPU 를 잠식하지 않도록 한다 (0이면 CPU 코어 수)
+     */
+    @Bean(name = "simulationPool", destroyMethod = "shutdown")
+    public ForkJoinPool simulationPool(@Value("${festival.simulation.parallelism:0}") int parallelism) {
+        return new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+}
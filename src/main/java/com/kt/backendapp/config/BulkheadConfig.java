@@ -0,0 +1,106 @@
+package com.kt.backendapp.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * 워크로드별 bulkhead 등록 (festival.bulkhead.enabled=true 일 때, virtual-threads 프로필에서 기본 활성)
+ * - 요청 워크로드 허용 수 + DB 를 쓰는 주기 작업 수 + 대시보드 병렬 조회 스레드 수가 커넥션 풀 크기를 넘지 않아야 한다
+ *   (넘으면 기동 실패: 가상 스레드에서는 이 합계가 커넥션 대기의 유일한 상한)
+ * - 가상 스레드에서는 주기 작업 스레드 풀 크기가 적용되지 않고 작업마다 따로 돌 수 있으므로 스레드 수 대신 작업 수로 센다
+ * - 수집도 축제 첫 적재/매출 축제 확인으로 DB 를 쓰므로 예산에 포함하고, 조회가 몰려도 밀리지 않도록 분리
+ * - 허용 수는 DB 를 쓰는 핸들러에만 건다. 메모리에서 답하는 조회(운영 대시보드 스냅샷, 알림, 구역 목록/상세/혼잡도/주변/대체 구역/통계/예측,
+ *   피드백 상위 이슈/추세, 공개 혼잡도 피드)는 제외 (첫 적재/이력 적재는 축제당 한 번이고, 스냅샷 재생성의 DB 조회는 query-threads 로 따로 제한)
+ * - 대시보드 스트림(SSE)은 연결이 오래 유지되므로 제외
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "festival.bulkhead", name = "enabled", havingValue = "true")
+@Slf4j
+public class BulkheadConfig implements WebMvcConfigurer {
+
+    private final WorkloadBulkheadInterceptor ingestion;
+    private final WorkloadBulkheadInterceptor zone;
+    private final WorkloadBulkheadInterceptor dashboard;
+    private final WorkloadBulkheadInterceptor catalog;
+    private final WorkloadBulkheadInterceptor feedback;
+    private final WorkloadBulkheadInterceptor simulation;
+
+    public BulkheadConfig(ObjectMapper objectMapper,
+                          MeterRegistry meterRegistry,
+                          @Value("${festival.bulkhead.acquire-timeout-ms:200}") long acquireTimeoutMillis,
+                          @Value("${festival.bulkhead.ingestion-permits:6}") int ingestionPermits,
+                          @Value("${festival.bulkhead.zone-permits:4}") int zonePermits,
+                          @Value("${festival.bulkhead.dashboard-permits:3}") int dashboardPermits,
+                          @Value("${festival.bulkhead.catalog-permits:3}") int catalogPermits,
+                          @Value("${festival.bulkhead.feedback-permits:2}") int feedbackPermits,
+                          @Value("${festival.bulkhead.simulation-permits:2}") int simulationPermits,
+                          @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize,
+                          @Value("${festival.bulkhead.scheduled-db-jobs:8}") int scheduledDbJobs,
+                          @Value("${festival.dashboard.query-threads:4}") int dashboardQueryThreads) {
+        this.ingestion = new WorkloadBulkheadInterceptor("ingestion", ingestionPermits, acquireTimeoutMillis, objectMapper);
+        this.zone = new WorkloadBulkheadInterceptor("zone", zonePermits, acquireTimeoutMillis, objectMapper);
+        this.dashboard = new WorkloadBulkheadInterceptor("dashboard", dashboardPermits, acquireTimeoutMillis, objectMapper);
+        this.catalog = new WorkloadBulkheadInterceptor("catalog", catalogPermits, acquireTimeoutMillis, objectMapper);
+        this.feedback = new WorkloadBulkheadInterceptor("feedback", feedbackPermits, acquireTimeoutMillis, objectMapper);
+        this.simulation = new WorkloadBulkheadInterceptor("simulation", simulationPermits, acquireTimeoutMillis, objectMapper);
+
+        List<WorkloadBulkheadInterceptor> bulkheads = List.of(ingestion, zone, dashboard, catalog, feedback, simulation);
+        int requestPermits = bulkheads.stream().mapToInt(WorkloadBulkheadInterceptor::getMaxPermits).sum();
+        int required = requestPermits + scheduledDbJobs + dashboardQueryThreads;
+        if (required > connectionPoolSize) {
+            throw new IllegalStateException("커넥션 풀 크기(" + connectionPoolSize + ")가 동시 DB 사용 상한보다 작습니다: 요청 "
+                    + requestPermits + " + 주기 작업 " + scheduledDbJobs + " + 대시보드 병렬 조회 " + dashboardQueryThreads
+                    + " = " + required);
+        }
+
+        for (WorkloadBulkheadInterceptor bulkhead : bulkheads) {
+            Gauge.builder("festival.bulkhead.available", bulkhead, WorkloadBulkheadInterceptor::getAvailablePermits)
+                    .description("워크로드별 남은 동시 실행 자리")
+                    .tag("workload", bulkhead.getWorkload())
+                    .register(meterRegistry);
+        }
+        log.info("워크로드별 동시 실행 제한 활성화: ingestion={}, zone={}, dashboard={}, catalog={}, feedback={}, simulation={}, "
+                        + "대기 {}ms, 커넥션 {}/{} (주기 작업 {}, 대시보드 병렬 조회 {})",
+                ingestionPermits, zonePermits, dashboardPermits, catalogPermits, feedbackPermits, simulationPermits,
+                acquireTimeoutMillis, required, connectionPoolSize, scheduledDbJobs, dashboardQueryThreads);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(ingestion)
+                .addPathPatterns("/api/festivals/*/zones/realtime/batch",
+                        "/api/festivals/*/zones/*/realtime",
+                        "/api/festivals/*/feedback/posts",
+                        "/api/dashboard/festivals/*/sales");
+        // 구역 생성/수정/삭제 (같은 경로의 목록/상세 조회는 메모리)
+        registry.addInterceptor(zone.forMethods(HttpMethod.POST, HttpMethod.PUT, HttpMethod.DELETE))
+                .addPathPatterns("/api/festivals/*/zones", "/api/festivals/*/zones/*");
+        // DB 를 읽는 구역 조회 (커서 목록, 인원 이력)
+        registry.addInterceptor(zone)
+                .addPathPatterns("/api/festivals/*/zones/scroll", "/api/festivals/*/zones/*/history");
+        registry.addInterceptor(dashboard)
+                .addPathPatterns("/api/dashboard/statistics",
+                        "/api/dashboard/festivals/*/performance",
+                        "/api/dashboard/festivals/*/performance/**");
+        registry.addInterceptor(catalog)
+                .addPathPatterns("/api/festivals", "/api/festivals/*",
+                        "/api/festivals/*/status", "/api/festivals/*/results");
+        registry.addInterceptor(feedback)
+                .addPathPatterns("/api/festivals/*/feedback/scroll",
+                        "/api/festivals/*/feedback/search",
+                        "/api/festivals/*/feedback/summary",
+                        "/api/festivals/*/feedback/statistics/**");
+        registry.addInterceptor(simulation)
+                .addPathPatterns("/api/festivals/*/simulations");
+    }
+}
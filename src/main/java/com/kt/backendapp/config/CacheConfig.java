@@ -0,0 +1,90 @@
+package com.kt.backendapp.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kt.backendapp.dto.FestivalDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+@Configuration
+@EnableCaching // 축제 기본 정보 조회 캐시
+public class CacheConfig {
+
+    /**
+     * 축제 상세 (id → FestivalDTO), 생성/수정/삭제/상태 전환 시 무효화
+     */
+    public static final String FESTIVALS = "festivals";
+
+    /**
+     * Caffeine 캐시 (크기 제한 W-TinyLFU 교체, 적중/미스 통계 기록)
+     * - 변경은 모두 명시적으로 무효화하며, 만료 시간은 DB 를 직접 수정한 경우에 대비한 안전장치
+     * - 무효화/저장은 트랜잭션 커밋 후에 실행 (커밋 전에 지우면 그 사이 다른 요청이 이전 행을 읽어 다시 캐시한다)
+     * - FestivalDTO 는 변경 가능한 객체이므로 넣을 때와 꺼낼 때 복사해, 호출자가 고쳐도 캐시 값은 바뀌지 않는다
+     */
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${festival.cache.max-size:10000}") long maxSize,
+            @Value("${festival.cache.expire-after-write-minutes:60}") long expireAfterWriteMinutes) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                return new CopyingCaffeineCache(name, cache, isAllowNullValues());
+            }
+        };
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(expireAfterWriteMinutes))
+                .recordStats());
+        cacheManager.setAllowNullValues(false);
+        cacheManager.setCacheNames(List.of(FESTIVALS));
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+    /**
+     * 값을 복사해 넣고 복사해 꺼내는 Caffeine 캐시
+     */
+    private static class CopyingCaffeineCache extends CaffeineCache {
+
+        private CopyingCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache,
+                                     boolean allowNullValues) {
+            super(name, cache, allowNullValues);
+        }
+
+        @Override
+        protected Object lookup(Object key) {
+            return copy(super.lookup(key));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T get(Object key, Callable<T> valueLoader) {
+            return (T) copy(super.get(key, () -> (T) copy(valueLoader.call())));
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            super.put(key, copy(value));
+        }
+
+        @Override
+        public ValueWrapper putIfAbsent(Object key, Object value) {
+            ValueWrapper existing = super.putIfAbsent(key, copy(value));
+            return existing != null ? new SimpleValueWrapper(copy(existing.get())) : null;
+        }
+
+        private static Object copy(Object value) {
+            return value instanceof FestivalDTO festival ? festival.toBuilder().build() : value;
+        }
+    }
+}
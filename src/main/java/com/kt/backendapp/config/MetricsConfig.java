@@ -0,0 +1,48 @@
+package com.kt.backendapp.config;
+
+import com.kt.backendapp.realtime.ZoneForecastTracker;
+import com.kt.backendapp.realtime.ZoneLiveStateStore;
+import com.kt.backendapp.service.CrowdMetricsService;
+import com.kt.backendapp.service.DashboardStreamService;
+import com.kt.backendapp.service.PublicFeedService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * 실시간 운영 대기열/구독 상태 (조회 시점에 읽는 게이지)
+     * HTTP 지연, 리포지토리 조회 시간, 커넥션 풀, 캐시 적중률은 Actuator 기본 지표를 사용
+     */
+    @Bean
+    public MeterBinder festivalRealtimeMetrics(ZoneLiveStateStore zoneLiveStateStore,
+                                               DashboardStreamService dashboardStreamService,
+                                               ZoneForecastTracker zoneForecastTracker,
+                                               PublicFeedService publicFeedService,
+                                               CrowdMetricsService crowdMetricsService) {
+        return registry -> {
+            Gauge.builder("festival.zone.pending", zoneLiveStateStore, ZoneLiveStateStore::getPendingCount)
+                    .description("DB 반영 대기 중인 구역 수")
+                    .register(registry);
+            Gauge.builder("festival.dashboard.stream.subscribers", dashboardStreamService, DashboardStreamService::getSubscriberCount)
+                    .description("대시보드 스트림 구독자 수")
+                    .register(registry);
+            Gauge.builder("festival.zone.forecast.tracked", zoneForecastTracker, ZoneForecastTracker::size)
+                    .description("예측 상태를 가진 구역 수")
+                    .register(registry);
+            Gauge.builder("festival.crowd.metrics.pending", crowdMetricsService, CrowdMetricsService::getPendingBucketCount)
+                    .description("적재 대기 중인 혼잡도 시계열 구간 수")
+                    .register(registry);
+            FunctionCounter.builder("festival.crowd.metrics.dropped", crowdMetricsService, CrowdMetricsService::getDroppedBucketCount)
+                    .description("재시도할 수 없어 폐기한 혼잡도 시계열 구간 수")
+                    .register(registry);
+            Gauge.builder("festival.public.feeds", publicFeedService, PublicFeedService::getFeedCount)
+                    .description("발행 중인 공개 혼잡도 피드 수")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,27 @@
+package com.kt.backendapp.config;
+
+import com.kt.backendapp.domain.model.CapacityAwareRecommendationScorer;
+import com.kt.backendapp.domain.model.ZoneRecommendationScorer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RecommendationConfig {
+
+    /**
+     * 대체 구역 추천 점수 (가중치는 festival.recommendation 설정으로 조정)
+     */
+    @Bean
+    public ZoneRecommendationScorer zoneRecommendationScorer(
+            @Value("${festival.recommendation.headroom-weight:0.5}") double headroomWeight,
+            @Value("${festival.recommendation.distance-weight:0.3}") double distanceWeight,
+            @Value("${festival.recommendation.absorb-weight:0.2}") double absorbWeight,
+            @Value("${festival.recommendation.walking-speed-kmh:4.5}") double walkingSpeedKmh,
+            @Value("${festival.recommendation.horizon-minutes:10}") double horizonMinutes,
+            @Value("${festival.recommendation.half-score-walking-minutes:10}") double halfScoreWalkingMinutes,
+            @Value("${festival.recommendation.absorb-saturation:1000}") int absorbSaturation) {
+        return new CapacityAwareRecommendationScorer(headroomWeight, distanceWeight, absorbWeight,
+                walkingSpeedKmh, horizonMinutes, halfScoreWalkingMinutes, absorbSaturation);
+    }
+}
@@ -0,0 +1,18 @@
+package com.kt.backendapp.config;
+
+import com.kt.backendapp.domain.model.LexiconSentimentClassifier;
+import com.kt.backendapp.domain.model.SentimentClassifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SNSIngestionConfig {
+
+    /**
+     * 감정 분류기 (사전 기반)
+     */
+    @Bean
+    public SentimentClassifier sentimentClassifier() {
+        return new LexiconSentimentClassifier();
+    }
+}
@@ -0,0 +1,9 @@
+package com.kt.backendapp.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling // 실시간 데이터 반영 등 주기 작업 활성화 (스케줄러 스레드 수는 spring.task.scheduling.pool.size)
+public class SchedulingConfig {
+}
@@ -0,0 +1,129 @@
+package com.kt.backendapp.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kt.backendapp.dto.ApiResponseDTO;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 워크로드별 동시 실행 제한 (세마포어 bulkhead)
+ * - 허용 수를 넘으면 acquire-timeout 동안만 기다리고, 그래도 자리가 없으면 503 으로 바로 거절
+ * - 가상 스레드에서는 요청 스레드 수에 한도가 없으므로, 이 제한이 커넥션 풀 대기열을 대신한다
+ * - 같은 경로에 메모리 조회와 DB 변경이 함께 있으면 forMethods 로 변경 메서드에만 적용 (허용 수는 공유)
+ */
+@Slf4j
+public class WorkloadBulkheadInterceptor implements AsyncHandlerInterceptor {
+
+    private final String workload;
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final long acquireTimeoutMillis;
+    private final ObjectMapper objectMapper;
+    private final String permitAttribute;
+    private final Set<String> methods; // null 이면 모든 메서드
+
+    public WorkloadBulkheadInterceptor(String workload, int maxPermits, long acquireTimeoutMillis, ObjectMapper objectMapper) {
+        this.workload = workload;
+        this.permits = new Semaphore(maxPermits, true);
+        this.maxPermits = maxPermits;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.objectMapper = objectMapper;
+        this.permitAttribute = WorkloadBulkheadInterceptor.class.getName() + "." + workload;
+        this.methods = null;
+    }
+
+    private WorkloadBulkheadInterceptor(WorkloadBulkheadInterceptor shared, Set<String> methods) {
+        this.workload = shared.workload;
+        this.permits = shared.permits;
+        this.maxPermits = shared.maxPermits;
+        this.acquireTimeoutMillis = shared.acquireTimeoutMillis;
+        this.objectMapper = shared.objectMapper;
+        this.permitAttribute = shared.permitAttribute;
+        this.methods = methods;
+    }
+
+    /**
+     * 같은 허용 수를 쓰면서 지정한 메서드의 요청에만 적용되는 인터셉터 (등록용, 허용 수 합계에는 다시 더하지 않는다)
+     */
+    public WorkloadBulkheadInterceptor forMethods(HttpMethod... methods) {
+        return new WorkloadBulkheadInterceptor(this, Set.copyOf(Arrays.stream(methods).map(HttpMethod::name).toList()));
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        // 비동기 처리 후 재디스패치/오류 디스패치는 이미 허용된 요청
+        if (request.getDispatcherType() != DispatcherType.REQUEST) {
+            return true;
+        }
+        if (methods != null && !methods.contains(request.getMethod())) {
+            return true;
+        }
+
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            log.warn("동시 실행 제한으로 요청 거절: workload={}, path={}", workload, request.getRequestURI());
+            reject(request, response);
+            return false;
+        }
+        request.setAttribute(permitAttribute, Boolean.TRUE);
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        release(request);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        release(request);
+    }
+
+    public String getWorkload() {
+        return workload;
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    public int getMaxPermits() {
+        return maxPermits;
+    }
+
+    private void release(HttpServletRequest request) {
+        if (request.getAttribute(permitAttribute) != null) {
+            request.removeAttribute(permitAttribute);
+            permits.release();
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(),
+                ApiResponseDTO.error("요청이 많아 잠시 후 다시 시도해주세요", "BULKHEAD_FULL", request.getRequestURI()));
+    }
+}
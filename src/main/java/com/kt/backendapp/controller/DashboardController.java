@@ -1,11 +1,22 @@
 package com.kt.backendapp.controller;
 
 import com.kt.backendapp.dto.*;
+import com.kt.backendapp.realtime.DashboardSnapshot;
+import com.kt.backendapp.service.DailyRollupService;
 import com.kt.backendapp.service.DashboardService;
+import com.kt.backendapp.service.DashboardStreamService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/dashboard")
@@ -15,9 +26,13 @@ import org.springframework.web.bind.annotation.*;
 public class DashboardController {
 
     private final DashboardService dashboardService;
+    private final DashboardStreamService dashboardStreamService;
+    private final DailyRollupService dailyRollupService;
 
     /**
      * 실시간 운영 대시보드 데이터
+     * 스냅샷 내용 해시를 ETag 로 내려주며, If-None-Match 가 같으면 304 Not Modified 응답
+     * (버전이 올라가도 내용이 같으면 ETag 는 그대로)
      */
     @GetMapping("/festivals/{festivalId}/operational")
     public ResponseEntity<ApiResponseDTO<OperationalDashboardDTO>> getOperationalDashboard(
@@ -25,8 +40,22 @@ public class DashboardController {
         
         log.info("실시간 운영 대시보드 조회 - Festival ID: {}", festivalId);
         
-        OperationalDashboardDTO dashboard = dashboardService.getOperationalDashboard(festivalId);
-        return ResponseEntity.ok(ApiResponseDTO.success("실시간 대시보드 조회 성공", dashboard));
+        DashboardSnapshot snapshot = dashboardService.getOperationalDashboardSnapshot(festivalId);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(snapshot.getETag())
+                .body(ApiResponseDTO.success("실시간 대시보드 조회 성공", snapshot.getDashboard()));
+    }
+
+    /**
+     * 실시간 운영 대시보드 변경 스트림 (SSE)
+     * 연결 직후 snapshot 이벤트, 이후 변경분만 delta 이벤트로 전송
+     */
+    @GetMapping(value = "/festivals/{festivalId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamOperationalDashboard(@PathVariable String festivalId) {
+        log.info("실시간 운영 대시보드 스트림 구독 - Festival ID: {}", festivalId);
+        
+        return dashboardStreamService.subscribe(festivalId);
     }
 
     /**
@@ -51,6 +80,17 @@ public class DashboardController {
         return ResponseEntity.ok(ApiResponseDTO.success("실시간 알림 조회 성공", alerts));
     }
 
+    /**
+     * 혼잡도 이벤트 처리량 (감지/중복 제거/폐기/발행 건수, 대기열 길이)
+     */
+    @GetMapping("/alerts/statistics")
+    public ResponseEntity<ApiResponseDTO<Map<String, Object>>> getAlertStatistics() {
+        log.info("혼잡도 이벤트 처리량 조회");
+        
+        Map<String, Object> statistics = dashboardService.getAlertStatistics();
+        return ResponseEntity.ok(ApiResponseDTO.success("혼잡도 이벤트 처리량 조회 성공", statistics));
+    }
+
     /**
      * 축제 성과 요약
      */
@@ -61,4 +101,34 @@ public class DashboardController {
         Object performance = dashboardService.getFestivalPerformance(festivalId);
         return ResponseEntity.ok(ApiResponseDTO.success("축제 성과 조회 성공", performance));
     }
+
+    /**
+     * 일별 성과 추이 (SNS 감정, 매출, 방문자)
+     * 일별 집계 테이블만 읽으며, 기간을 지정하지 않으면 축제 기간 전체
+     */
+    @GetMapping("/festivals/{festivalId}/performance/daily")
+    public ResponseEntity<ApiResponseDTO<List<DailyPerformanceDTO>>> getDailyPerformance(
+            @PathVariable String festivalId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        log.info("일별 성과 추이 조회 - Festival ID: {}, 기간: {} ~ {}", festivalId, from, to);
+        
+        List<DailyPerformanceDTO> daily = dailyRollupService.getDailyPerformance(festivalId, from, to);
+        return ResponseEntity.ok(ApiResponseDTO.success("일별 성과 추이 조회 성공", daily));
+    }
+
+    /**
+     * 매출 기록 수집
+     * 결제 시각의 날짜로 일별 매출에 더하며, 최근 보정 기간 이내의 늦은 기록도 반영
+     * 기록마다 recordId 가 필요하며 같은 recordId 는 다시 보내도 한 번만 반영
+     */
+    @PostMapping("/festivals/{festivalId}/sales")
+    public ResponseEntity<ApiResponseDTO<BulkIngestionResultDTO>> ingestSales(
+            @PathVariable String festivalId,
+            @RequestBody List<SalesRecordDTO> records) {
+        log.debug("매출 기록 수집 - Festival ID: {}, {}건", festivalId, records.size());
+        
+        BulkIngestionResultDTO result = dailyRollupService.ingestSales(festivalId, records);
+        return ResponseEntity.ok(ApiResponseDTO.success("매출 기록 수집 완료", result));
+    }
 }
@@ -38,6 +38,23 @@ public class FestivalController {
         return ResponseEntity.ok(ApiResponseDTO.success("축제 목록 조회 성공", festivals));
     }
 
+    /**
+     * 축제 목록 커서 조회 (시작일 최신순)
+     * 응답의 nextCursor 를 다음 요청의 cursor 로 전달하며, 깊은 페이지도 OFFSET 없이 이어서 조회
+     */
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponseDTO<CursorPageDTO<FestivalDTO>>> scrollFestivals(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        
+        log.info("축제 목록 커서 조회 요청 - status: {}, search: {}, size: {}", status, search, size);
+        
+        CursorPageDTO<FestivalDTO> festivals = festivalService.scrollFestivals(status, search, cursor, size);
+        return ResponseEntity.ok(ApiResponseDTO.success("축제 목록 조회 성공", festivals));
+    }
+
     /**
      * 축제 상세 조회 (구역 포함)
      */
@@ -1,13 +1,20 @@
 package com.kt.backendapp.controller;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
 import org.springframework.web.bind.annotation.*;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
 @RestController
+@RequiredArgsConstructor
 public class HealthController {
 
+    private final CacheManager cacheManager;
+
     @GetMapping("/")
     public Map<String, Object> home() {
         Map<String, Object> response = new HashMap<>();
@@ -25,7 +32,10 @@ public class HealthController {
         endpoints.put("zones", "/api/festivals/{id}/zones - 구역 관리 API");
         endpoints.put("feedback", "/api/festivals/{id}/feedback - SNS 피드백 API");
         endpoints.put("dashboard", "/api/dashboard - 대시보드 API");
+        endpoints.put("public", "/api/public/festivals/{id}/congestion - 방문객용 혼잡도 피드");
         endpoints.put("health", "/health - 헬스체크");
+        endpoints.put("cache", "/health/cache - 캐시 적중률");
+        endpoints.put("metrics", "/actuator/prometheus - 운영 지표 (Prometheus)");
         endpoints.put("db-test", "/api/db-test - DB 연결 테스트");
         
         response.put("endpoints", endpoints);
@@ -41,6 +51,30 @@ public class HealthController {
         return response;
     }
 
+    @GetMapping("/health/cache")
+    public Map<String, Object> cacheStats() {
+        Map<String, Object> caches = new HashMap<>();
+        for (String name : cacheManager.getCacheNames()) {
+            // 트랜잭션 연동 래퍼도 원래 Caffeine 캐시를 그대로 노출
+            if (!(cacheManager.getCache(name).getNativeCache() instanceof Cache<?, ?> cache)) {
+                continue;
+            }
+            CacheStats stats = cache.stats();
+            Map<String, Object> cacheInfo = new HashMap<>();
+            cacheInfo.put("size", cache.estimatedSize());
+            cacheInfo.put("hits", stats.hitCount());
+            cacheInfo.put("misses", stats.missCount());
+            cacheInfo.put("hitRate", stats.hitRate());
+            cacheInfo.put("evictions", stats.evictionCount());
+            caches.put(name, cacheInfo);
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("caches", caches);
+        response.put("timestamp", LocalDateTime.now());
+        return response;
+    }
+
     @GetMapping("/api/test")
     public Map<String, Object> apiTest() {
         Map<String, Object> response = new HashMap<>();
@@ -0,0 +1,89 @@
+package com.kt.backendapp.controller;
+
+import com.kt.backendapp.realtime.PublicFeedDocument;
+import com.kt.backendapp.service.PublicFeedService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 방문객 앱용 공개 혼잡도 피드 (미리 직렬화된 문서를 그대로 반환)
+ * - Accept 에 따라 JSON 또는 바이너리, Accept-Encoding 에 gzip 이 있으면 압축본 반환
+ * - If-None-Match 가 ETag 와 같으면 304 Not Modified
+ * - 호출량이 많아 요청별 로그는 남기지 않는다
+ */
+@RestController
+@RequestMapping("/api/public/festivals/{festivalId}/congestion")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class PublicFeedController {
+
+    // 피드 갱신 주기와 맞춰 CDN/앱이 1초 동안은 재사용
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(1, TimeUnit.SECONDS).cachePublic();
+    private static final MediaType BINARY = MediaType.parseMediaType(PublicFeedDocument.BINARY_MEDIA_TYPE);
+
+    private final PublicFeedService publicFeedService;
+
+    /**
+     * 구역 혼잡도 피드 (JSON)
+     */
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getCongestionFeed(
+            @PathVariable String festivalId,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        
+        PublicFeedDocument feed = publicFeedService.getFeed(festivalId);
+        boolean gzip = acceptsGzip(acceptEncoding);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CACHE_CONTROL)
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                .eTag(feed.getJsonETag(gzip));
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(feed.getGzipJson());
+        }
+        return response.body(feed.getJson());
+    }
+
+    /**
+     * 구역 혼잡도 피드 (바이너리, 형식은 CongestionFeedCodec 참고)
+     */
+    @GetMapping(produces = PublicFeedDocument.BINARY_MEDIA_TYPE)
+    public ResponseEntity<byte[]> getCongestionFeedBinary(@PathVariable String festivalId) {
+        PublicFeedDocument feed = publicFeedService.getFeed(festivalId);
+        return ResponseEntity.ok()
+                .contentType(BINARY)
+                .cacheControl(CACHE_CONTROL)
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                .eTag(feed.getBinaryETag())
+                .body(feed.getBinary());
+    }
+
+    /**
+     * Accept-Encoding 에 gzip 이 있고 q=0 으로 거부하지 않았는지
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (!parts[0].trim().equalsIgnoreCase("gzip")) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.startsWith("q=") && param.substring(2).trim().matches("0(\\.0*)?")) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+}
@@ -2,11 +2,16 @@ package com.kt.backendapp.controller;
 
 import com.kt.backendapp.dto.*;
 import com.kt.backendapp.service.SNSFeedbackService;
+import com.kt.backendapp.service.SNSIngestionService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
@@ -18,6 +23,7 @@ import java.util.Map;
 public class SNSFeedbackController {
 
     private final SNSFeedbackService snsService;
+    private final SNSIngestionService snsIngestionService;
 
     /**
      * 특정 축제의 모든 SNS 피드백 조회
@@ -36,16 +42,35 @@ public class SNSFeedbackController {
     }
 
     /**
-     * 상위 이슈 조회 (언급 횟수 기준)
+     * 특정 축제의 SNS 피드백 커서 조회 (최신순)
+     * 응답의 nextCursor 를 다음 요청의 cursor 로 전달
+     */
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponseDTO<CursorPageDTO<SNSFeedbackDTO>>> scrollFeedback(
+            @PathVariable String festivalId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        
+        log.info("SNS 피드백 커서 조회 - Festival ID: {}, size: {}", festivalId, size);
+        
+        CursorPageDTO<SNSFeedbackDTO> feedback = snsService.scrollFeedback(festivalId, cursor, size);
+        return ResponseEntity.ok(ApiResponseDTO.success("SNS 피드백 조회 성공", feedback));
+    }
+
+    /**
+     * 상위 이슈 조회 (sort=mentions: 언급 횟수 기준, sort=severity: 심각도 가중 언급 기준)
      */
     @GetMapping("/top-issues")
     public ResponseEntity<ApiResponseDTO<List<SNSFeedbackDTO>>> getTopIssues(
             @PathVariable String festivalId,
-            @RequestParam(defaultValue = "5") int limit) {
+            @RequestParam(defaultValue = "5") int limit,
+            @RequestParam(defaultValue = "mentions") String sort) {
         
-        log.info("상위 이슈 조회 - Festival ID: {}, limit: {}", festivalId, limit);
+        log.info("상위 이슈 조회 - Festival ID: {}, limit: {}, sort: {}", festivalId, limit, sort);
         
-        List<SNSFeedbackDTO> topIssues = snsService.getTopIssuesByMentions(festivalId, limit);
+        List<SNSFeedbackDTO> topIssues = "severity".equals(sort)
+                ? snsService.getTopIssuesBySeverity(festivalId, limit)
+                : snsService.getTopIssuesByMentions(festivalId, limit);
         return ResponseEntity.ok(ApiResponseDTO.success("상위 이슈 조회 성공", topIssues));
     }
 
@@ -132,19 +157,66 @@ public class SNSFeedbackController {
     }
 
     /**
-     * 키워드로 피드백 검색
+     * 언급 수 추세 (최근 N분 합계, 직전 구간 대비 증감, 구간별 추이)
+     */
+    @GetMapping("/trend/mentions")
+    public ResponseEntity<ApiResponseDTO<FeedbackTrendDTO>> getMentionTrend(
+            @PathVariable String festivalId,
+            @RequestParam(defaultValue = "60") int minutes,
+            @RequestParam(defaultValue = "5") int step) {
+        
+        log.info("언급 수 추세 조회 - Festival ID: {}, minutes: {}, step: {}", festivalId, minutes, step);
+        
+        FeedbackTrendDTO trend = snsService.getMentionTrend(festivalId, minutes, step);
+        return ResponseEntity.ok(ApiResponseDTO.success("언급 수 추세 조회 성공", trend));
+    }
+
+    /**
+     * 키워드로 피드백 검색 (관련도 순, 페이지 단위)
      */
     @GetMapping("/search")
-    public ResponseEntity<ApiResponseDTO<List<SNSFeedbackDTO>>> searchFeedback(
+    public ResponseEntity<ApiResponseDTO<PageDTO<SNSFeedbackDTO>>> searchFeedback(
             @PathVariable String festivalId,
-            @RequestParam String keyword) {
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
         
-        log.info("피드백 키워드 검색 - Festival ID: {}, keyword: {}", festivalId, keyword);
+        log.info("피드백 키워드 검색 - Festival ID: {}, keyword: {}, page: {}, size: {}", festivalId, keyword, page, size);
         
-        List<SNSFeedbackDTO> searchResults = snsService.searchFeedbackByKeyword(festivalId, keyword);
+        PageDTO<SNSFeedbackDTO> searchResults = snsService.searchFeedbackByKeyword(festivalId, keyword, page, size);
         return ResponseEntity.ok(ApiResponseDTO.success("키워드 검색 결과", searchResults));
     }
 
+    /**
+     * SNS 게시글 일괄 수집 (JSON 배열)
+     */
+    @PostMapping(value = "/posts", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponseDTO<BulkIngestionResultDTO>> ingestPosts(
+            @PathVariable String festivalId,
+            @RequestBody List<SNSPostDTO> posts) {
+        
+        log.debug("SNS 게시글 일괄 수집 - Festival ID: {}, 건수: {}", festivalId, posts.size());
+        
+        BulkIngestionResultDTO result = snsIngestionService.ingest(festivalId, posts);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponseDTO.success("SNS 게시글이 수집되었습니다", result));
+    }
+
+    /**
+     * SNS 게시글 일괄 수집 (NDJSON 스트림)
+     */
+    @PostMapping(value = "/posts", consumes = "application/x-ndjson")
+    public ResponseEntity<ApiResponseDTO<BulkIngestionResultDTO>> ingestPostStream(
+            @PathVariable String festivalId,
+            HttpServletRequest request) throws IOException {
+        
+        log.debug("SNS 게시글 스트림 수집 - Festival ID: {}", festivalId);
+        
+        BulkIngestionResultDTO result = snsIngestionService.ingestNdjson(festivalId, request.getInputStream());
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponseDTO.success("SNS 게시글이 수집되었습니다", result));
+    }
+
     /**
      * SNS 피드백 요약 정보
      */
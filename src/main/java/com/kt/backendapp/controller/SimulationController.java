@@ -0,0 +1,36 @@
+package com.kt.backendapp.controller;
+
+import com.kt.backendapp.dto.ApiResponseDTO;
+import com.kt.backendapp.dto.SimulationRequestDTO;
+import com.kt.backendapp.dto.SimulationResultDTO;
+import com.kt.backendapp.service.SimulationService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/festivals/{festivalId}/simulations")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*") // 개발용
+public class SimulationController {
+
+    private final SimulationService simulationService;
+
+    /**
+     * 방문객 이동 시뮬레이션 (구역 배치 what-if 검토)
+     * 현재 구역 배치에 수용 인원 변경/제외 구역을 적용해 구역별 최대 혼잡도와 수용 인원 초과 시간을 계산
+     */
+    @PostMapping
+    public ResponseEntity<ApiResponseDTO<SimulationResultDTO>> simulate(
+            @PathVariable String festivalId,
+            @Valid @RequestBody SimulationRequestDTO request) {
+        
+        log.info("방문객 이동 시뮬레이션 요청 - Festival ID: {}, 방문객: {}명", festivalId, request.getVisitors());
+        
+        SimulationResultDTO result = simulationService.simulate(festivalId, request);
+        return ResponseEntity.ok(ApiResponseDTO.success("시뮬레이션 완료", result));
+    }
+}
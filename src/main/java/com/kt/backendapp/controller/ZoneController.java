@@ -1,14 +1,23 @@
 package com.kt.backendapp.controller;
 
 import com.kt.backendapp.dto.*;
+import com.kt.backendapp.service.CrowdMetricsService;
+import com.kt.backendapp.service.ZoneForecastService;
+import com.kt.backendapp.service.ZoneIngestionService;
+import com.kt.backendapp.service.ZoneRecommendationService;
 import com.kt.backendapp.service.ZoneService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -19,6 +28,10 @@ import java.util.List;
 public class ZoneController {
 
     private final ZoneService zoneService;
+    private final ZoneIngestionService zoneIngestionService;
+    private final CrowdMetricsService crowdMetricsService;
+    private final ZoneRecommendationService zoneRecommendationService;
+    private final ZoneForecastService zoneForecastService;
 
     /**
      * 특정 축제의 모든 구역 조회
@@ -33,6 +46,22 @@ public class ZoneController {
         return ResponseEntity.ok(ApiResponseDTO.success("구역 목록 조회 성공", zones));
     }
 
+    /**
+     * 특정 축제의 구역 커서 조회 (ID 순)
+     * 응답의 nextCursor 를 다음 요청의 cursor 로 전달
+     */
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponseDTO<CursorPageDTO<ZoneDTO>>> scrollZones(
+            @PathVariable String festivalId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        
+        log.info("축제 구역 커서 조회 요청 - Festival ID: {}, size: {}", festivalId, size);
+        
+        CursorPageDTO<ZoneDTO> zones = zoneService.scrollZones(festivalId, cursor, size);
+        return ResponseEntity.ok(ApiResponseDTO.success("구역 목록 조회 성공", zones));
+    }
+
     /**
      * 구역 상세 조회
      */
@@ -107,6 +136,112 @@ public class ZoneController {
         return ResponseEntity.ok(ApiResponseDTO.success("실시간 데이터가 업데이트되었습니다", updatedZone));
     }
 
+    /**
+     * 실시간 구역 인원 일괄 수집 (게이트 센서용, JSON 배열)
+     */
+    @PostMapping(value = "/realtime/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponseDTO<BulkIngestionResultDTO>> ingestRealTimeData(
+            @PathVariable String festivalId,
+            @RequestBody List<ZoneRealTimeUpdateDTO> updates) {
+        
+        log.debug("구역 실시간 데이터 일괄 수집 - Festival ID: {}, 건수: {}", festivalId, updates.size());
+        
+        BulkIngestionResultDTO result = zoneIngestionService.ingest(festivalId, updates);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponseDTO.success("실시간 데이터가 수집되었습니다", result));
+    }
+
+    /**
+     * 실시간 구역 인원 일괄 수집 (게이트 센서용, NDJSON 스트림)
+     */
+    @PostMapping(value = "/realtime/batch", consumes = "application/x-ndjson")
+    public ResponseEntity<ApiResponseDTO<BulkIngestionResultDTO>> ingestRealTimeDataStream(
+            @PathVariable String festivalId,
+            HttpServletRequest request) throws IOException {
+        
+        log.debug("구역 실시간 데이터 스트림 수집 - Festival ID: {}", festivalId);
+        
+        BulkIngestionResultDTO result = zoneIngestionService.ingestNdjson(festivalId, request.getInputStream());
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponseDTO.success("실시간 데이터가 수집되었습니다", result));
+    }
+
+    /**
+     * 구역 혼잡도 이력 조회 (step 초 단위 집계)
+     */
+    @GetMapping("/{zoneId}/history")
+    public ResponseEntity<ApiResponseDTO<List<CrowdMetricPointDTO>>> getZoneHistory(
+            @PathVariable String festivalId,
+            @PathVariable String zoneId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "300") long step) {
+        
+        log.info("구역 혼잡도 이력 조회 - Zone ID: {}, from: {}, to: {}, step: {}s", zoneId, from, to, step);
+        
+        List<CrowdMetricPointDTO> history = crowdMetricsService.getZoneHistory(zoneId, from, to, step);
+        return ResponseEntity.ok(ApiResponseDTO.success("구역 혼잡도 이력 조회 성공", history));
+    }
+
+    /**
+     * 축제 구역별 단기 인원 예측 (수용 인원 도달이 빠른 순)
+     */
+    @GetMapping("/forecast")
+    public ResponseEntity<ApiResponseDTO<List<ZoneForecastDTO>>> getZoneForecasts(
+            @PathVariable String festivalId) {
+        
+        log.debug("구역 인원 예측 조회 - Festival ID: {}", festivalId);
+        
+        List<ZoneForecastDTO> forecasts = zoneForecastService.getForecasts(festivalId);
+        return ResponseEntity.ok(ApiResponseDTO.success("구역 인원 예측 조회 성공", forecasts));
+    }
+
+    /**
+     * 구역 단기 인원 예측
+     */
+    @GetMapping("/{zoneId}/forecast")
+    public ResponseEntity<ApiResponseDTO<ZoneForecastDTO>> getZoneForecast(
+            @PathVariable String festivalId,
+            @PathVariable String zoneId) {
+        
+        log.debug("구역 인원 예측 조회 - Zone ID: {}", zoneId);
+        
+        ZoneForecastDTO forecast = zoneForecastService.getForecast(zoneId);
+        return ResponseEntity.ok(ApiResponseDTO.success("구역 인원 예측 조회 성공", forecast));
+    }
+
+    /**
+     * 혼잡 구역의 대체 구역 추천 (여유 인원, 도보 거리, 구역 타입, 유입 추세 반영)
+     */
+    @GetMapping("/{zoneId}/alternatives")
+    public ResponseEntity<ApiResponseDTO<List<ZoneRecommendationDTO>>> getAlternativeZones(
+            @PathVariable String festivalId,
+            @PathVariable String zoneId,
+            @RequestParam(defaultValue = "3") int limit,
+            @RequestParam(defaultValue = "2.0") double maxDistanceKm) {
+        
+        log.debug("대체 구역 추천 요청 - Festival ID: {}, Zone ID: {}", festivalId, zoneId);
+        
+        List<ZoneRecommendationDTO> alternatives = zoneRecommendationService.recommendAlternatives(zoneId, limit, maxDistanceKm);
+        return ResponseEntity.ok(ApiResponseDTO.success("대체 구역 추천 성공", alternatives));
+    }
+
+    /**
+     * 주변 구역 조회 (가까운 순, radiusKm 지정 시 반경 이내만)
+     */
+    @GetMapping("/{zoneId}/nearby")
+    public ResponseEntity<ApiResponseDTO<List<NearbyZoneDTO>>> getNearbyZones(
+            @PathVariable String festivalId,
+            @PathVariable String zoneId,
+            @RequestParam(defaultValue = "5") int limit,
+            @RequestParam(required = false) Double radiusKm) {
+        
+        log.info("주변 구역 조회 요청 - Festival ID: {}, Zone ID: {}", festivalId, zoneId);
+        
+        List<NearbyZoneDTO> zones = zoneService.getNearbyZones(zoneId, limit, radiusKm);
+        return ResponseEntity.ok(ApiResponseDTO.success("주변 구역 조회 성공", zones));
+    }
+
     /**
      * 혼잡도 높은 구역 조회
      */
@@ -0,0 +1,100 @@
+package com.kt.backendapp.domain.model;
+
+import com.kt.backendapp.entity.ZoneType;
+
+/**
+ * 수용 여력 기반 기본 추천 점수
+ * - 도보 이동 시간 + 예측 구간 동안 들어올 인원을 반영한 예상 여유 인원
+ * - 도보 거리 (가까울수록 높음)
+ * - 구역 타입 호환성 (같은 타입 1.0, 비슷한 용도는 일부, VIP/주차장은 같은 타입끼리만)
+ * - 도착 시점 예상 혼잡도가 원래 구역보다 낮지 않으면 제외
+ */
+public class CapacityAwareRecommendationScorer implements ZoneRecommendationScorer {
+
+    private final double headroomWeight;
+    private final double distanceWeight;
+    private final double absorbWeight;
+    private final double walkingSpeedKmh;
+    private final double horizonMinutes;
+    private final double halfScoreWalkingMinutes;
+    private final int absorbSaturation;
+
+    /**
+     * @param headroomWeight           예상 여유율 가중치
+     * @param distanceWeight           도보 거리 가중치
+     * @param absorbWeight             예상 여유 인원(절대값) 가중치
+     * @param walkingSpeedKmh          도보 속도
+     * @param horizonMinutes           도착 후 추가로 고려할 유입 시간
+     * @param halfScoreWalkingMinutes  거리 점수가 절반이 되는 도보 시간
+     * @param absorbSaturation         여유 인원 점수가 최대가 되는 인원
+     */
+    public CapacityAwareRecommendationScorer(double headroomWeight, double distanceWeight, double absorbWeight,
+                                             double walkingSpeedKmh, double horizonMinutes,
+                                             double halfScoreWalkingMinutes, int absorbSaturation) {
+        this.headroomWeight = headroomWeight;
+        this.distanceWeight = distanceWeight;
+        this.absorbWeight = absorbWeight;
+        this.walkingSpeedKmh = walkingSpeedKmh;
+        this.horizonMinutes = horizonMinutes;
+        this.halfScoreWalkingMinutes = halfScoreWalkingMinutes;
+        this.absorbSaturation = absorbSaturation;
+    }
+
+    public static CapacityAwareRecommendationScorer defaults() {
+        return new CapacityAwareRecommendationScorer(0.5, 0.3, 0.2, 4.5, 10, 10, 1000);
+    }
+
+    @Override
+    public double score(RecommendationCandidate candidate) {
+        double compatibility = compatibility(candidate.getOriginType(), candidate.getType());
+        if (compatibility <= 0 || candidate.getCapacity() <= 0) {
+            return 0;
+        }
+
+        boolean hasDistance = !Double.isNaN(candidate.getDistanceKm());
+        double walkingMinutes = hasDistance ? walkingMinutes(candidate.getDistanceKm()) : 0;
+
+        // 도착할 때까지와 도착 후 일정 시간 동안의 유입을 반영한 예상 인원
+        double projected = Math.max(0,
+                candidate.getCurrentCapacity() + candidate.getInflowPerMinute() * (walkingMinutes + horizonMinutes));
+        double projectedHeadroom = candidate.getCapacity() - projected;
+        if (projectedHeadroom <= 0) {
+            return 0;
+        }
+        double projectedCongestion = projected * 100.0 / candidate.getCapacity();
+        if (projectedCongestion >= candidate.getOriginCongestionLevel()) {
+            return 0;
+        }
+
+        double headroomScore = projectedHeadroom / candidate.getCapacity();
+        double absorbScore = Math.min(1.0, projectedHeadroom / absorbSaturation);
+        // 좌표가 없으면 거리 점수는 중간값
+        double distanceScore = hasDistance ? 1.0 / (1.0 + walkingMinutes / halfScoreWalkingMinutes) : 0.5;
+
+        return compatibility * (headroomWeight * headroomScore
+                + distanceWeight * distanceScore
+                + absorbWeight * absorbScore);
+    }
+
+    private double walkingMinutes(double distanceKm) {
+        return distanceKm / walkingSpeedKmh * 60;
+    }
+
+    /**
+     * 구역 타입 호환성 (0 이면 추천 대상 아님)
+     */
+    static double compatibility(ZoneType from, ZoneType to) {
+        if (from == to) {
+            return 1.0;
+        }
+        if (from == ZoneType.VIP || to == ZoneType.VIP || from == ZoneType.PARKING || to == ZoneType.PARKING) {
+            return 0;
+        }
+        if ((from == ZoneType.FOOD_COURT && to == ZoneType.MERCHANDISE)
+                || (from == ZoneType.MERCHANDISE && to == ZoneType.FOOD_COURT)) {
+            return 0.6;
+        }
+        // 메인 스테이지 관람객을 편의 구역으로 분산하는 경우 등
+        return 0.4;
+    }
+}
@@ -0,0 +1,149 @@
+package com.kt.backendapp.domain.model;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 방문객 앱용 혼잡도 피드 바이너리 형식
+ * - 머리: 'F' 'C' 형식 버전(1), 축제 ID, 마지막 변경 시각(epoch ms)
+ * - 구역: 구역 수 다음에 (구역 ID, 혼잡도 1바이트, 현재 인원, 수용 인원, 이름 UTF-8) 반복
+ * - 정수는 zigzag varint 로 기록 (작은 값은 1~2바이트), 혼잡도 상태 문구는 혼잡도에서 계산하므로 싣지 않는다
+ */
+public final class CongestionFeedCodec {
+
+    private static final byte MAGIC_0 = 'F';
+    private static final byte MAGIC_1 = 'C';
+    private static final byte FORMAT_VERSION = 1;
+
+    private CongestionFeedCodec() {
+    }
+
+    public static byte[] encode(Feed feed) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 + feed.zones().size() * 24);
+        out.write(MAGIC_0);
+        out.write(MAGIC_1);
+        out.write(FORMAT_VERSION);
+        writeVarLong(out, feed.festivalId());
+        writeVarLong(out, feed.updatedAtMillis());
+        writeVarLong(out, feed.zones().size());
+        for (ZoneEntry zone : feed.zones()) {
+            if (zone.congestionLevel() < 0 || zone.congestionLevel() > 100) {
+                throw new IllegalArgumentException("혼잡도는 0 ~ 100 이어야 합니다: " + zone.congestionLevel());
+            }
+            writeVarLong(out, zone.zoneId());
+            out.write(zone.congestionLevel());
+            writeVarLong(out, zone.currentCapacity());
+            writeVarLong(out, zone.capacity());
+            byte[] name = zone.name() != null ? zone.name().getBytes(StandardCharsets.UTF_8) : new byte[0];
+            writeVarLong(out, name.length);
+            out.write(name, 0, name.length);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 잘못된 데이터
+     */
+    public static Feed decode(byte[] bytes) {
+        Reader in = new Reader(bytes);
+        if (in.readByte() != MAGIC_0 || in.readByte() != MAGIC_1 || in.readByte() != FORMAT_VERSION) {
+            throw new IllegalArgumentException("혼잡도 피드 형식이 아닙니다");
+        }
+        long festivalId = in.readVarLong();
+        long updatedAtMillis = in.readVarLong();
+        int count = in.readLength();
+        List<ZoneEntry> zones = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long zoneId = in.readVarLong();
+            int congestionLevel = in.readByte() & 0xFF;
+            int currentCapacity = (int) in.readVarLong();
+            int capacity = (int) in.readVarLong();
+            String name = in.readString();
+            zones.add(new ZoneEntry(zoneId, name, congestionLevel, currentCapacity, capacity));
+        }
+        if (in.position != bytes.length) {
+            throw new IllegalArgumentException("혼잡도 피드 뒤에 남은 데이터가 있습니다");
+        }
+        return new Feed(festivalId, updatedAtMillis, zones);
+    }
+
+    public static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, bytes.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            // 메모리 스트림이라 발생하지 않음
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        long zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            out.write((int) ((zigzag & 0x7F) | 0x80));
+            zigzag >>>= 7;
+        }
+        out.write((int) zigzag);
+    }
+
+    /**
+     * @param updatedAtMillis 구역 중 가장 최근 변경 시각 (epoch ms, 없으면 0)
+     */
+    public record Feed(long festivalId, long updatedAtMillis, List<ZoneEntry> zones) {
+    }
+
+    /**
+     * @param congestionLevel 0-100%
+     */
+    public record ZoneEntry(long zoneId, String name, int congestionLevel, int currentCapacity, int capacity) {
+    }
+
+    private static final class Reader {
+        private final byte[] bytes;
+        private int position;
+
+        private Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        private byte readByte() {
+            if (position >= bytes.length) {
+                throw new IllegalArgumentException("혼잡도 피드가 중간에 끊겼습니다");
+            }
+            return bytes[position++];
+        }
+
+        private long readVarLong() {
+            long zigzag = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = readByte();
+                zigzag |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return (zigzag >>> 1) ^ -(zigzag & 1);
+                }
+            }
+            throw new IllegalArgumentException("정수 형식이 잘못되었습니다");
+        }
+
+        private int readLength() {
+            long length = readVarLong();
+            if (length < 0 || length > bytes.length - position) {
+                throw new IllegalArgumentException("길이가 잘못되었습니다: " + length);
+            }
+            return (int) length;
+        }
+
+        private String readString() {
+            int length = readLength();
+            String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.kt.backendapp.domain.model;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+/**
+ * 내용 기반 버전 문자열 (HTTP ETag 용)
+ * 같은 내용이면 노드/재시작과 무관하게 같은 값이므로, 프로세스 안의 카운터와 달리 잘못된 304 가 나지 않는다
+ */
+public final class ContentHash {
+
+    // SHA-256 앞 96비트 (충돌 확률은 무시할 수 있고 헤더는 짧게)
+    private static final int HASH_BYTES = 12;
+
+    private ContentHash() {
+    }
+
+    public static String of(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return HexFormat.of().formatHex(Arrays.copyOf(digest, HASH_BYTES));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다", e);
+        }
+    }
+}
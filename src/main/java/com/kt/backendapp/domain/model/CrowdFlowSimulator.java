@@ -0,0 +1,365 @@
+package com.kt.backendapp.domain.model;
+
+import com.kt.backendapp.domain.vo.Coordinates;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 방문객 이동 시뮬레이션 (what-if 배치 검토용)
+ * - 방문객마다 (상태, 위치, 남은 시간, 퇴장 시각, 난수 상태)를 기본형 배열로 보관하고 고정 시간 간격으로 진행
+ * - 도착한 방문객은 구역에 머물다가 다음 구역으로 걸어서 이동하며, 퇴장 시각이 지나면 떠난다
+ * - 다음 구역은 수용 인원이 크고 가까우며 직전 간격에 덜 붐빈 구역일수록 잘 고른다
+ * - 방문객 구간을 ForkJoinPool 로 나눠 병렬 진행하고, 구간별 구역 인원을 합산
+ *   난수는 방문객마다 따로 두므로 병렬 분할과 무관하게 같은 seed 면 같은 결과
+ */
+public class CrowdFlowSimulator {
+
+    // 병렬 작업 하나가 맡는 방문객 수
+    private static final int CHUNK_SIZE = 8192;
+
+    private static final byte WAITING = 0;
+    private static final byte WALKING = 1;
+    private static final byte IN_ZONE = 2;
+    private static final byte LEFT = 3;
+
+    // 꽉 찬 구역도 완전히 배제하지는 않음 (현장에서도 일부는 들어감)
+    private static final double MIN_CROWD_FACTOR = 0.05;
+
+    private final ForkJoinPool pool;
+
+    public CrowdFlowSimulator(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    public Result run(Scenario scenario) {
+        scenario.validate();
+        return new Run(scenario).execute();
+    }
+
+    /**
+     * @param coordinates 좌표 (없으면 null, 다른 구역과의 이동 시간 0)
+     */
+    public record ZoneSpec(int capacity, Coordinates coordinates) {
+    }
+
+    /**
+     * @param arrivalsPerStep   간격별 도착 방문객 수 (steps 보다 짧으면 이후 도착 없음)
+     * @param meanDwellMinutes  한 구역에 머무는 평균 시간 (지수 분포)
+     * @param meanStayMinutes   축제장 체류 평균 시간 (지수 분포)
+     * @param distanceDecayKm   거리 선호 감쇠 (이 거리만큼 멀어질 때마다 선택 가중치 1/e)
+     */
+    public record Scenario(List<ZoneSpec> zones, int[] arrivalsPerStep, int steps, int stepMinutes,
+                           double meanDwellMinutes, double meanStayMinutes,
+                           double walkingSpeedKmh, double distanceDecayKm, long seed) {
+
+        private void validate() {
+            if (zones == null || zones.isEmpty()) {
+                throw new IllegalArgumentException("시뮬레이션할 구역이 없습니다");
+            }
+            if (steps <= 0 || stepMinutes <= 0) {
+                throw new IllegalArgumentException("시뮬레이션 간격이 올바르지 않습니다: steps=" + steps + ", stepMinutes=" + stepMinutes);
+            }
+            if (meanDwellMinutes <= 0 || meanStayMinutes <= 0 || walkingSpeedKmh <= 0 || distanceDecayKm <= 0) {
+                throw new IllegalArgumentException("시뮬레이션 매개변수는 0보다 커야 합니다");
+            }
+            for (int arrivals : arrivalsPerStep) {
+                if (arrivals < 0) {
+                    throw new IllegalArgumentException("도착 인원은 0 이상이어야 합니다: " + arrivals);
+                }
+            }
+        }
+    }
+
+    /**
+     * @param insideSeries 간격별 전체 구역 인원 합계 (이동 중 제외)
+     * @param zones        scenario.zones 순서의 구역별 결과
+     */
+    public record Result(int agents, int steps, int stepMinutes, int[] insideSeries, ZoneResult[] zones) {
+    }
+
+    /**
+     * @param peakStep      최대 인원이 처음 나온 간격
+     * @param overflowSteps 수용 인원을 넘은 간격 수
+     */
+    public record ZoneResult(int peakOccupancy, int peakStep, int overflowSteps, double averageOccupancy) {
+    }
+
+    /**
+     * 시뮬레이션 1회 실행 상태
+     */
+    private final class Run {
+
+        private final Scenario scenario;
+        private final int zoneCount;
+        private final int agents;
+        private final int chunks;
+
+        private final int[] capacity;
+        private final double[] affinity;   // [from * zoneCount + to] 수용 인원 × 거리 감쇠
+        private final int[] travelSteps;   // [from * zoneCount + to]
+        private final double[] moveTable;  // [from * zoneCount + to] 누적 선택 가중치 (간격마다 갱신)
+        private final double[] entryTable; // 입장 구역 누적 선택 가중치
+
+        private final byte[] phase;
+        private final int[] zoneOf;
+        private final int[] timer;
+        private final int[] arrivalStep;
+        private final int[] leaveStep;
+        private final long[] random;
+
+        private final int[][] chunkCounts;
+        private final int[] occupancy;
+
+        private Run(Scenario scenario) {
+            this.scenario = scenario;
+            this.zoneCount = scenario.zones().size();
+
+            long total = 0;
+            int arrivalSteps = Math.min(scenario.arrivalsPerStep().length, scenario.steps());
+            for (int s = 0; s < arrivalSteps; s++) {
+                total += scenario.arrivalsPerStep()[s];
+            }
+            if (total > Integer.MAX_VALUE - CHUNK_SIZE) {
+                throw new IllegalArgumentException("방문객 수가 너무 많습니다: " + total);
+            }
+            this.agents = (int) total;
+            this.chunks = Math.max(1, (agents + CHUNK_SIZE - 1) / CHUNK_SIZE);
+
+            this.capacity = new int[zoneCount];
+            this.affinity = new double[zoneCount * zoneCount];
+            this.travelSteps = new int[zoneCount * zoneCount];
+            this.moveTable = new double[zoneCount * zoneCount];
+            this.entryTable = new double[zoneCount];
+            buildZoneTables();
+
+            this.phase = new byte[agents];
+            this.zoneOf = new int[agents];
+            this.timer = new int[agents];
+            this.arrivalStep = new int[agents];
+            this.leaveStep = new int[agents];
+            this.random = new long[agents];
+            int agent = 0;
+            for (int s = 0; s < arrivalSteps; s++) {
+                for (int i = 0; i < scenario.arrivalsPerStep()[s]; i++) {
+                    arrivalStep[agent] = s;
+                    random[agent] = mix(scenario.seed() + agent * 0x9E3779B97F4A7C15L);
+                    agent++;
+                }
+            }
+
+            this.chunkCounts = new int[chunks][zoneCount];
+            this.occupancy = new int[zoneCount];
+        }
+
+        private void buildZoneTables() {
+            List<ZoneSpec> zones = scenario.zones();
+            double kmPerStep = scenario.walkingSpeedKmh() / 60.0 * scenario.stepMinutes();
+            for (int from = 0; from < zoneCount; from++) {
+                capacity[from] = Math.max(0, zones.get(from).capacity());
+                Coordinates origin = zones.get(from).coordinates();
+                for (int to = 0; to < zoneCount; to++) {
+                    Coordinates destination = zones.get(to).coordinates();
+                    double distanceKm = origin != null && destination != null ? origin.distanceTo(destination) : 0;
+                    int index = from * zoneCount + to;
+                    travelSteps[index] = (int) Math.round(distanceKm / kmPerStep);
+                    affinity[index] = from == to ? 0
+                            : Math.max(0, zones.get(to).capacity()) * Math.exp(-distanceKm / scenario.distanceDecayKm());
+                }
+            }
+        }
+
+        private Result execute() {
+            int steps = scenario.steps();
+            int[] insideSeries = new int[steps];
+            int[] peak = new int[zoneCount];
+            int[] peakStep = new int[zoneCount];
+            int[] overflowSteps = new int[zoneCount];
+            long[] occupancySum = new long[zoneCount];
+
+            for (int step = 0; step < steps; step++) {
+                updateChoiceTables();
+                pool.invoke(new StepTask(step, 0, chunks));
+
+                int inside = 0;
+                for (int z = 0; z < zoneCount; z++) {
+                    int count = 0;
+                    for (int[] counts : chunkCounts) {
+                        count += counts[z];
+                    }
+                    occupancy[z] = count;
+                    inside += count;
+                    occupancySum[z] += count;
+                    if (count > peak[z]) {
+                        peak[z] = count;
+                        peakStep[z] = step;
+                    }
+                    if (count > capacity[z]) {
+                        overflowSteps[z]++;
+                    }
+                }
+                insideSeries[step] = inside;
+            }
+
+            ZoneResult[] zoneResults = new ZoneResult[zoneCount];
+            for (int z = 0; z < zoneCount; z++) {
+                zoneResults[z] = new ZoneResult(peak[z], peakStep[z], overflowSteps[z], (double) occupancySum[z] / steps);
+            }
+            return new Result(agents, steps, scenario.stepMinutes(), insideSeries, zoneResults);
+        }
+
+        /**
+         * 직전 간격의 구역 인원으로 선택 가중치 갱신 (붐빌수록 낮게)
+         */
+        private void updateChoiceTables() {
+            double[] crowdFactor = new double[zoneCount];
+            double entryTotal = 0;
+            for (int z = 0; z < zoneCount; z++) {
+                double ratio = capacity[z] > 0 ? (double) occupancy[z] / capacity[z] : 1;
+                crowdFactor[z] = Math.max(MIN_CROWD_FACTOR, 1 - ratio);
+                entryTotal += capacity[z] * crowdFactor[z];
+                entryTable[z] = entryTotal;
+            }
+            for (int from = 0; from < zoneCount; from++) {
+                int row = from * zoneCount;
+                double total = 0;
+                for (int to = 0; to < zoneCount; to++) {
+                    total += affinity[row + to] * crowdFactor[to];
+                    moveTable[row + to] = total;
+                }
+            }
+        }
+
+        /**
+         * 방문객 구간 [fromChunk, toChunk) 을 한 간격 진행
+         */
+        private final class StepTask extends RecursiveAction {
+
+            private final int step;
+            private final int fromChunk;
+            private final int toChunk;
+
+            private StepTask(int step, int fromChunk, int toChunk) {
+                this.step = step;
+                this.fromChunk = fromChunk;
+                this.toChunk = toChunk;
+            }
+
+            @Override
+            protected void compute() {
+                if (toChunk - fromChunk > 1) {
+                    int middle = (fromChunk + toChunk) >>> 1;
+                    invokeAll(new StepTask(step, fromChunk, middle), new StepTask(step, middle, toChunk));
+                    return;
+                }
+                int[] counts = chunkCounts[fromChunk];
+                Arrays.fill(counts, 0);
+                int end = Math.min(agents, (fromChunk + 1) * CHUNK_SIZE);
+                for (int agent = fromChunk * CHUNK_SIZE; agent < end; agent++) {
+                    advance(agent);
+                    if (phase[agent] == IN_ZONE) {
+                        counts[zoneOf[agent]]++;
+                    }
+                }
+            }
+
+            private void advance(int agent) {
+                switch (phase[agent]) {
+                    case WAITING -> {
+                        if (arrivalStep[agent] > step) {
+                            return;
+                        }
+                        int entry = pick(entryTable, 0, agent);
+                        if (entry < 0) {
+                            phase[agent] = LEFT;
+                            return;
+                        }
+                        zoneOf[agent] = entry;
+                        phase[agent] = IN_ZONE;
+                        timer[agent] = sampleSteps(agent, scenario.meanDwellMinutes());
+                        leaveStep[agent] = step + sampleSteps(agent, scenario.meanStayMinutes());
+                    }
+                    case WALKING -> {
+                        if (--timer[agent] <= 0) {
+                            phase[agent] = IN_ZONE;
+                            timer[agent] = sampleSteps(agent, scenario.meanDwellMinutes());
+                        }
+                    }
+                    case IN_ZONE -> {
+                        if (--timer[agent] > 0) {
+                            return;
+                        }
+                        if (step >= leaveStep[agent]) {
+                            phase[agent] = LEFT;
+                            return;
+                        }
+                        int from = zoneOf[agent];
+                        int next = pick(moveTable, from * zoneCount, agent);
+                        if (next < 0) {
+                            // 갈 곳이 없으면 같은 구역에 더 머묾
+                            timer[agent] = sampleSteps(agent, scenario.meanDwellMinutes());
+                            return;
+                        }
+                        zoneOf[agent] = next;
+                        int travel = travelSteps[from * zoneCount + next];
+                        if (travel > 0) {
+                            phase[agent] = WALKING;
+                            timer[agent] = travel;
+                        } else {
+                            timer[agent] = sampleSteps(agent, scenario.meanDwellMinutes());
+                        }
+                    }
+                    default -> {
+                    }
+                }
+            }
+
+            /**
+             * 누적 가중치 table[offset, offset + zoneCount) 에서 하나 선택 (가중치 합이 0이면 -1)
+             */
+            private int pick(double[] table, int offset, int agent) {
+                double total = table[offset + zoneCount - 1];
+                if (total <= 0) {
+                    return -1;
+                }
+                double target = nextDouble(agent) * total;
+                int low = 0;
+                int high = zoneCount - 1;
+                while (low < high) {
+                    int middle = (low + high) >>> 1;
+                    if (table[offset + middle] > target) {
+                        high = middle;
+                    } else {
+                        low = middle + 1;
+                    }
+                }
+                return low;
+            }
+
+            /**
+             * 평균 meanMinutes 인 지수 분포 시간을 간격 수로 (최소 1)
+             */
+            private int sampleSteps(int agent, double meanMinutes) {
+                double minutes = -Math.log(1 - nextDouble(agent)) * meanMinutes;
+                return Math.max(1, (int) Math.ceil(minutes / scenario.stepMinutes()));
+            }
+
+            private double nextDouble(int agent) {
+                long state = random[agent] + 0x9E3779B97F4A7C15L;
+                random[agent] = state;
+                return (mix(state) >>> 11) * 0x1.0p-53;
+            }
+        }
+    }
+
+    /**
+     * SplitMix64 섞기 함수
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,58 @@
+package com.kt.backendapp.domain.model;
+
+import com.kt.backendapp.entity.SentimentType;
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+
+import java.util.Map;
+
+/**
+ * 축제 피드백 통계 (감정별/플랫폼별/전체를 한 번에 집계한 결과)
+ */
+@Value
+@Builder
+public class FeedbackStatistics {
+
+    long totalFeedback;
+    long totalMentions;
+    long unresolvedCount;
+    long severitySum;
+    long severityCount;
+
+    @Singular("sentiment")
+    Map<SentimentType, Bucket> bySentiment;
+
+    @Singular("platform")
+    Map<String, Bucket> byPlatform;
+
+    public static FeedbackStatistics empty() {
+        return FeedbackStatistics.builder().build();
+    }
+
+    public Bucket sentiment(SentimentType sentiment) {
+        return bySentiment.getOrDefault(sentiment, Bucket.EMPTY);
+    }
+
+    /**
+     * 부정 피드백 비율 (%, 피드백이 없으면 0)
+     */
+    public long getNegativeFeedbackPercentage() {
+        return totalFeedback == 0 ? 0 : Math.round(sentiment(SentimentType.NEGATIVE).getCount() * 100.0 / totalFeedback);
+    }
+
+    /**
+     * 평균 심각도 (심각도가 없으면 1)
+     */
+    public double getAverageSeverity() {
+        return severityCount == 0 ? 1.0 : (double) severitySum / severityCount;
+    }
+
+    @Value
+    public static class Bucket {
+        public static final Bucket EMPTY = new Bucket(0, 0);
+
+        long count;
+        long mentions;
+    }
+}
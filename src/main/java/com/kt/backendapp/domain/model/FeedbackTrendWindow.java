@@ -0,0 +1,161 @@
+package com.kt.backendapp.domain.model;
+
+import com.kt.backendapp.entity.SentimentType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 분 단위 언급 수 슬라이딩 윈도우 (축제 하나)
+ * - 분당 한 칸짜리 원형 버퍼에 전체/감정별/플랫폼별 언급 수를 기본형 배열로 보관
+ * - 칸마다 해당 분(epoch minute)을 함께 저장해, 오래된 칸은 따로 비우지 않아도 조회/기록 시 무시·재사용된다
+ * - 조회 비용은 요청한 분 수에 비례 (행 수와 무관)
+ */
+public class FeedbackTrendWindow {
+
+    public static final String OTHER_PLATFORM = "기타";
+
+    private static final SentimentType[] SENTIMENTS = SentimentType.values();
+
+    private final int slots;
+    private final int maxPlatforms;
+
+    private final long[] minuteOf;
+    private final int[] totals;
+    private final int[] sentiments;
+    private final int[] platforms;
+    private final List<String> platformNames = new ArrayList<>();
+
+    private long newestMinute = Long.MIN_VALUE;
+
+    /**
+     * @param minutes      보관할 분 수
+     * @param maxPlatforms 따로 집계할 최대 플랫폼 수 (나머지는 "기타")
+     */
+    public FeedbackTrendWindow(int minutes, int maxPlatforms) {
+        if (minutes <= 0 || maxPlatforms <= 1) {
+            throw new IllegalArgumentException("윈도우 크기가 올바르지 않습니다: minutes=" + minutes + ", maxPlatforms=" + maxPlatforms);
+        }
+        this.slots = minutes;
+        this.maxPlatforms = maxPlatforms;
+        this.minuteOf = new long[minutes];
+        this.totals = new int[minutes];
+        this.sentiments = new int[minutes * SENTIMENTS.length];
+        this.platforms = new int[minutes * maxPlatforms];
+        Arrays.fill(minuteOf, Long.MIN_VALUE);
+        platformNames.add(OTHER_PLATFORM);
+    }
+
+    public int getMinutes() {
+        return slots;
+    }
+
+    /**
+     * 언급 수 기록 (윈도우보다 오래된 분은 무시)
+     */
+    public synchronized void add(long epochMinute, SentimentType sentiment, String platform, int mentions) {
+        if (mentions <= 0 || (newestMinute != Long.MIN_VALUE && epochMinute <= newestMinute - slots)) {
+            return;
+        }
+        int slot = (int) Math.floorMod(epochMinute, (long) slots);
+        if (minuteOf[slot] != epochMinute) {
+            if (minuteOf[slot] > epochMinute) {
+                return;
+            }
+            reset(slot, epochMinute);
+        }
+        newestMinute = Math.max(newestMinute, epochMinute);
+
+        totals[slot] += mentions;
+        sentiments[slot * SENTIMENTS.length + sentiment.ordinal()] += mentions;
+        platforms[slot * maxPlatforms + platformIndex(platform)] += mentions;
+    }
+
+    /**
+     * nowMinute 을 포함한 최근 minutes 분의 합계
+     */
+    public synchronized Counts sum(long nowMinute, int minutes) {
+        long total = 0;
+        long[] bySentiment = new long[SENTIMENTS.length];
+        long[] byPlatform = new long[platformNames.size()];
+
+        int span = Math.min(minutes, slots);
+        for (long minute = nowMinute - span + 1; minute <= nowMinute; minute++) {
+            int slot = (int) Math.floorMod(minute, (long) slots);
+            if (minuteOf[slot] != minute) {
+                continue;
+            }
+            total += totals[slot];
+            for (int s = 0; s < SENTIMENTS.length; s++) {
+                bySentiment[s] += sentiments[slot * SENTIMENTS.length + s];
+            }
+            for (int p = 0; p < byPlatform.length; p++) {
+                byPlatform[p] += platforms[slot * maxPlatforms + p];
+            }
+        }
+
+        Map<SentimentType, Long> sentimentCounts = new EnumMap<>(SentimentType.class);
+        for (SentimentType sentiment : SENTIMENTS) {
+            sentimentCounts.put(sentiment, bySentiment[sentiment.ordinal()]);
+        }
+        Map<String, Long> platformCounts = new LinkedHashMap<>();
+        for (int p = 0; p < byPlatform.length; p++) {
+            if (byPlatform[p] > 0) {
+                platformCounts.put(platformNames.get(p), byPlatform[p]);
+            }
+        }
+        return new Counts(total, sentimentCounts, platformCounts);
+    }
+
+    /**
+     * 최근 minutes 분을 stepMinutes 단위로 나눈 언급 수 (오래된 구간부터)
+     */
+    public synchronized long[] series(long nowMinute, int minutes, int stepMinutes) {
+        int span = Math.min(minutes, slots);
+        int step = Math.max(1, Math.min(stepMinutes, span));
+        int points = (span + step - 1) / step;
+        long[] series = new long[points];
+
+        long from = nowMinute - (long) points * step + 1;
+        for (int i = 0; i < points * step; i++) {
+            long minute = from + i;
+            if (minute <= nowMinute - span) {
+                continue;
+            }
+            int slot = (int) Math.floorMod(minute, (long) slots);
+            if (minuteOf[slot] == minute) {
+                series[i / step] += totals[slot];
+            }
+        }
+        return series;
+    }
+
+    private void reset(int slot, long epochMinute) {
+        minuteOf[slot] = epochMinute;
+        totals[slot] = 0;
+        Arrays.fill(sentiments, slot * SENTIMENTS.length, (slot + 1) * SENTIMENTS.length, 0);
+        Arrays.fill(platforms, slot * maxPlatforms, (slot + 1) * maxPlatforms, 0);
+    }
+
+    private int platformIndex(String platform) {
+        if (platform == null || platform.isBlank()) {
+            return 0;
+        }
+        int index = platformNames.indexOf(platform);
+        if (index >= 0) {
+            return index;
+        }
+        if (platformNames.size() < maxPlatforms) {
+            platformNames.add(platform);
+            return platformNames.size() - 1;
+        }
+        return 0;
+    }
+
+    public record Counts(long total, Map<SentimentType, Long> bySentiment, Map<String, Long> byPlatform) {
+    }
+}
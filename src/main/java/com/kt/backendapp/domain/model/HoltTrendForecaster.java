@@ -0,0 +1,83 @@
+package com.kt.backendapp.domain.model;
+
+/**
+ * 구역 인원 단기 예측 (Holt 선형 추세, 불규칙 간격)
+ * - 상태는 (수준, 분당 추세, 관측 시각) 뿐이며 관측마다 O(1)로 갱신
+ * - 관측 간격이 일정하지 않으므로 평활 계수를 경과 시간과 시간 상수로 계산 (1 - e^(-Δt/τ))
+ * - 예측값은 수준 + 추세 × 경과 분 (0 미만은 0)
+ * - 상태는 불변이므로 호출 측은 새 상태로 교체만 하면 된다
+ */
+public class HoltTrendForecaster {
+
+    private static final double MILLIS_PER_MINUTE = 60_000.0;
+
+    private final double levelTimeConstantMinutes;
+    private final double trendTimeConstantMinutes;
+
+    /**
+     * @param levelTimeConstantMinutes 수준 평활 시간 상수 (작을수록 최근 관측을 빠르게 따라감)
+     * @param trendTimeConstantMinutes 추세 평활 시간 상수 (클수록 일시적 증감에 덜 흔들림)
+     */
+    public HoltTrendForecaster(double levelTimeConstantMinutes, double trendTimeConstantMinutes) {
+        if (levelTimeConstantMinutes <= 0 || trendTimeConstantMinutes <= 0) {
+            throw new IllegalArgumentException("시간 상수는 0보다 커야 합니다: level=" + levelTimeConstantMinutes
+                    + ", trend=" + trendTimeConstantMinutes);
+        }
+        this.levelTimeConstantMinutes = levelTimeConstantMinutes;
+        this.trendTimeConstantMinutes = trendTimeConstantMinutes;
+    }
+
+    /**
+     * 관측 반영 (state 가 null 이면 추세 0으로 시작, 이전 관측보다 오래된 관측은 무시)
+     */
+    public State update(State state, double observed, long atMillis) {
+        if (state == null) {
+            return new State(observed, 0, atMillis, 1);
+        }
+        if (atMillis < state.atMillis()) {
+            return state;
+        }
+
+        double elapsedMinutes = Math.max(1, atMillis - state.atMillis()) / MILLIS_PER_MINUTE;
+        double alpha = 1 - Math.exp(-elapsedMinutes / levelTimeConstantMinutes);
+        double beta = 1 - Math.exp(-elapsedMinutes / trendTimeConstantMinutes);
+
+        double predicted = state.level() + state.trendPerMinute() * elapsedMinutes;
+        double level = predicted + alpha * (observed - predicted);
+        double trend = state.trendPerMinute()
+                + beta * ((level - state.level()) / elapsedMinutes - state.trendPerMinute());
+        return new State(level, trend, atMillis, state.samples() + 1);
+    }
+
+    /**
+     * nowMillis 기준 minutesAhead 분 뒤의 예상 인원
+     */
+    public double forecast(State state, long nowMillis, double minutesAhead) {
+        double minutes = Math.max(0, nowMillis - state.atMillis()) / MILLIS_PER_MINUTE + minutesAhead;
+        return Math.max(0, state.level() + state.trendPerMinute() * minutes);
+    }
+
+    /**
+     * nowMillis 기준 예상 인원이 threshold 에 도달하기까지 남은 분
+     * 이미 도달했으면 0, 추세가 증가하지 않으면 Double.POSITIVE_INFINITY
+     */
+    public double minutesUntil(State state, long nowMillis, double threshold) {
+        double current = forecast(state, nowMillis, 0);
+        if (current >= threshold) {
+            return 0;
+        }
+        if (state.trendPerMinute() <= 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return (threshold - current) / state.trendPerMinute();
+    }
+
+    /**
+     * @param level          마지막 관측 시각의 평활된 인원
+     * @param trendPerMinute 분당 인원 증감 추세
+     * @param atMillis       마지막 관측 시각
+     * @param samples        반영한 관측 수
+     */
+    public record State(double level, double trendPerMinute, long atMillis, int samples) {
+    }
+}
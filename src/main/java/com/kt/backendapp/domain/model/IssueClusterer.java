@@ -0,0 +1,348 @@
+package com.kt.backendapp.domain.model;
+
+import com.kt.backendapp.entity.SentimentType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * SNS 게시글 이슈 군집화
+ * - 정규화(URL/멘션/특수문자/자음·모음 제거) 후 글자 bigram 집합으로 표현
+ *   (한글은 띄어쓰기가 불규칙해 단어 단위보다 글자 단위가 안정적)
+ * - bigram 역색인으로 겹치는 군집만 후보로 보고, Jaccard 유사도가 기준 이상인 가장 비슷한 군집에 합친다
+ *   (흔한 bigram 은 역색인 목록이 길어지므로 드문 bigram 부터 보고, 조회당 훑는 항목 수에 상한을 둔다.
+ *    상한을 넘는 목록은 훑지 않고 이미 찾은 후보가 그 bigram 을 갖는지만 확인)
+ * - 이슈 수 한도에 닿으면 오래 언급되지 않은 이슈 중 언급 수가 가장 적은 것을 내보내고 새 이슈를 만든다
+ *   (DB에 반영되지 않은 언급이 남은 이슈는 내보내지 않는다)
+ * - 스레드 안전하지 않으므로 호출 측에서 잠금
+ */
+public class IssueClusterer {
+
+    private static final Pattern URL = Pattern.compile("https?://\\S+");
+    private static final Pattern MENTION = Pattern.compile("@\\S+");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+
+    // 긴 게시글도 앞부분 bigram 만으로 비교 (게시글당 비용 상한)
+    private static final int MAX_GRAMS = 64;
+    private static final int MAX_ISSUE_LENGTH = 300;
+
+    // 유사 이슈 조회 한 번에 훑는 역색인 항목 수 상한
+    private static final int MAX_POSTINGS_SCANNED = 4096;
+    // 내보낼 이슈를 고를 때 오래된 순으로 확인하는 이슈 수 / 그중 비교할 후보 수
+    private static final int EVICTION_SCAN_LIMIT = 256;
+    private static final int EVICTION_CANDIDATES = 16;
+
+    private final double similarityThreshold;
+    private final int maxClusters;
+
+    // 마지막 언급 순 (앞쪽일수록 오래 언급되지 않은 이슈)
+    private final Set<Cluster> clusters = new LinkedHashSet<>();
+    private final Map<String, List<Cluster>> postings = new HashMap<>();
+
+    /**
+     * @param similarityThreshold 같은 이슈로 볼 최소 Jaccard 유사도 (0 ~ 1)
+     * @param maxClusters         최대 이슈 수 (초과 시 내보낼 이슈가 없으면 새 이슈는 만들지 않음)
+     */
+    public IssueClusterer(double similarityThreshold, int maxClusters) {
+        this.similarityThreshold = similarityThreshold;
+        this.maxClusters = maxClusters;
+    }
+
+    /**
+     * 이미 저장된 이슈를 군집으로 등록 (이후 게시글은 이 이슈의 언급 수로 합쳐짐)
+     */
+    public Cluster seed(long feedbackId, String issue, int mentions, SentimentType sentiment, String platform) {
+        Set<String> grams = grams(normalize(issue));
+        Cluster cluster = new Cluster(issue, grams, platform);
+        cluster.persistedId = feedbackId;
+        cluster.mentions = mentions;
+        cluster.sentimentCounts[sentiment.ordinal()] += mentions;
+        register(cluster);
+        return cluster;
+    }
+
+    /**
+     * 게시글을 가장 비슷한 이슈에 합치거나 새 이슈를 만든다
+     *
+     * @return 반영된 이슈 (내용이 없거나, 이슈 수 한도를 넘었는데 내보낼 이슈가 없으면 null)
+     */
+    public Assignment assign(String text, SentimentType sentiment, String platform) {
+        Set<String> grams = grams(normalize(text));
+        if (grams.isEmpty()) {
+            return null;
+        }
+
+        Cluster best = mostSimilar(grams);
+        boolean created = false;
+        if (best == null) {
+            if (clusters.size() >= maxClusters && !evictOne()) {
+                return null;
+            }
+            best = new Cluster(abbreviate(text.trim()), grams, platform);
+            register(best);
+            created = true;
+        } else {
+            // 최근 언급 순서 갱신
+            clusters.remove(best);
+            clusters.add(best);
+        }
+
+        best.mentions++;
+        best.pendingMentions++;
+        best.sentimentCounts[sentiment.ordinal()]++;
+        return new Assignment(best, created);
+    }
+
+    public int size() {
+        return clusters.size();
+    }
+
+    public List<Cluster> getClusters() {
+        return List.copyOf(clusters);
+    }
+
+    /**
+     * 이슈 제거 (저장할 수 없는 이슈 등, 이후 비슷한 게시글은 새 이슈가 된다)
+     */
+    public boolean remove(Cluster cluster) {
+        if (!clusters.remove(cluster)) {
+            return false;
+        }
+        for (String gram : cluster.grams) {
+            List<Cluster> posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(cluster);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+        return true;
+    }
+
+    private Cluster mostSimilar(Set<String> grams) {
+        // 목록이 짧은(드문) bigram 부터 확인해, 상한에 걸려도 구별력 있는 bigram 으로 후보를 찾도록
+        List<String> matched = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            if (postings.containsKey(gram)) {
+                matched.add(gram);
+            }
+        }
+        matched.sort(Comparator.comparingInt(gram -> postings.get(gram).size()));
+
+        Map<Cluster, Integer> shared = new HashMap<>();
+        int budget = MAX_POSTINGS_SCANNED;
+        for (String gram : matched) {
+            List<Cluster> posting = postings.get(gram);
+            if (posting.size() <= budget) {
+                for (Cluster cluster : posting) {
+                    shared.merge(cluster, 1, Integer::sum);
+                }
+                budget -= posting.size();
+            } else if (shared.isEmpty()) {
+                // 흔한 bigram 뿐이면 최근에 생긴 이슈만 후보로 본다
+                for (int i = posting.size() - budget; i < posting.size(); i++) {
+                    shared.merge(posting.get(i), 1, Integer::sum);
+                }
+                budget = 0;
+            } else {
+                // 긴 목록을 훑는 대신 이미 찾은 후보가 이 bigram 을 갖는지만 확인
+                for (Map.Entry<Cluster, Integer> entry : shared.entrySet()) {
+                    if (entry.getKey().grams.contains(gram)) {
+                        entry.setValue(entry.getValue() + 1);
+                    }
+                }
+            }
+        }
+
+        Cluster best = null;
+        double bestSimilarity = similarityThreshold;
+        for (Map.Entry<Cluster, Integer> entry : shared.entrySet()) {
+            int intersection = entry.getValue();
+            int union = grams.size() + entry.getKey().grams.size() - intersection;
+            double similarity = (double) intersection / union;
+            if (similarity >= bestSimilarity) {
+                best = entry.getKey();
+                bestSimilarity = similarity;
+            }
+        }
+        return best;
+    }
+
+    private void register(Cluster cluster) {
+        clusters.add(cluster);
+        for (String gram : cluster.grams) {
+            postings.computeIfAbsent(gram, g -> new ArrayList<>()).add(cluster);
+        }
+    }
+
+    /**
+     * 오래 언급되지 않은 이슈 몇 개 중 언급 수가 가장 적은 것을 내보냄
+     *
+     * @return 내보낸 이슈가 있으면 true
+     */
+    private boolean evictOne() {
+        Cluster victim = null;
+        int scanned = 0;
+        int candidates = 0;
+        for (Cluster cluster : clusters) {
+            if (++scanned > EVICTION_SCAN_LIMIT) {
+                break;
+            }
+            if (!cluster.isEvictable()) {
+                continue;
+            }
+            if (victim == null || cluster.mentions < victim.mentions) {
+                victim = cluster;
+            }
+            if (++candidates >= EVICTION_CANDIDATES) {
+                break;
+            }
+        }
+        return victim != null && remove(victim);
+    }
+
+    /**
+     * 비교용 정규화: 소문자, URL/멘션 제거, 한글 자음·모음(ㅋㅋ, ㅠㅠ)과 특수문자 제거
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String withoutLinks = MENTION.matcher(URL.matcher(text.toLowerCase()).replaceAll(" ")).replaceAll(" ");
+        StringBuilder sb = new StringBuilder(withoutLinks.length());
+        for (int i = 0; i < withoutLinks.length(); i++) {
+            char c = withoutLinks.charAt(i);
+            boolean jamo = c >= 'ㄱ' && c <= 'ㆎ';
+            sb.append(Character.isLetterOrDigit(c) && !jamo ? c : ' ');
+        }
+        return SPACES.matcher(sb).replaceAll(" ").trim();
+    }
+
+    /**
+     * 단어별 글자 bigram (한 글자 단어는 그대로)
+     */
+    static Set<String> grams(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (normalized.isEmpty()) {
+            return grams;
+        }
+        for (String token : normalized.split(" ")) {
+            if (token.length() == 1) {
+                grams.add(token);
+            }
+            for (int i = 0; i + 1 < token.length(); i++) {
+                grams.add(token.substring(i, i + 2));
+                if (grams.size() >= MAX_GRAMS) {
+                    return grams;
+                }
+            }
+            if (grams.size() >= MAX_GRAMS) {
+                return grams;
+            }
+        }
+        return grams;
+    }
+
+    private static String abbreviate(String text) {
+        return text.length() <= MAX_ISSUE_LENGTH ? text : text.substring(0, MAX_ISSUE_LENGTH);
+    }
+
+    public record Assignment(Cluster cluster, boolean created) {
+    }
+
+    /**
+     * 하나의 이슈 (대표 문구는 처음 들어온 게시글)
+     */
+    public static class Cluster {
+        private final String issue;
+        private final Set<String> grams;
+        private final String platform;
+        private final int[] sentimentCounts = new int[SentimentType.values().length];
+        private Long persistedId;
+        private int mentions;
+        private int pendingMentions;
+
+        private Cluster(String issue, Set<String> grams, String platform) {
+            this.issue = issue;
+            this.grams = grams;
+            this.platform = platform;
+        }
+
+        public String getIssue() {
+            return issue;
+        }
+
+        public String getPlatform() {
+            return platform;
+        }
+
+        public Long getPersistedId() {
+            return persistedId;
+        }
+
+        public void setPersistedId(Long persistedId) {
+            this.persistedId = persistedId;
+        }
+
+        public int getMentions() {
+            return mentions;
+        }
+
+        // DB에 저장되어 있고 반영할 언급이 남지 않은 이슈만 내보낼 수 있다
+        private boolean isEvictable() {
+            return persistedId != null && pendingMentions == 0;
+        }
+
+        /**
+         * 아직 저장되지 않은 언급 수를 가져가고 0으로 초기화
+         */
+        public int takePendingMentions() {
+            int pending = pendingMentions;
+            pendingMentions = 0;
+            return pending;
+        }
+
+        /**
+         * 저장 실패 시 가져간 언급 수를 되돌림
+         */
+        public void restorePendingMentions(int pending) {
+            pendingMentions += pending;
+        }
+
+        /**
+         * 언급이 가장 많은 감정 (동률이면 중립)
+         */
+        public SentimentType getSentiment() {
+            int positive = sentimentCounts[SentimentType.POSITIVE.ordinal()];
+            int negative = sentimentCounts[SentimentType.NEGATIVE.ordinal()];
+            int neutral = sentimentCounts[SentimentType.NEUTRAL.ordinal()];
+            if (negative > positive && negative >= neutral) {
+                return SentimentType.NEGATIVE;
+            }
+            if (positive > negative && positive >= neutral) {
+                return SentimentType.POSITIVE;
+            }
+            return SentimentType.NEUTRAL;
+        }
+
+        /**
+         * 심각도 (1-5): 부정 비율에 따라 1~4, 언급이 많으면 +1
+         */
+        public int getSeverityLevel() {
+            int total = 0;
+            for (int count : sentimentCounts) {
+                total += count;
+            }
+            double negativeShare = total == 0 ? 0 : (double) sentimentCounts[SentimentType.NEGATIVE.ordinal()] / total;
+            int severity = 1 + (int) Math.round(negativeShare * 3) + (mentions >= 100 ? 1 : 0);
+            return Math.min(5, severity);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.kt.backendapp.domain.model;
+
+import com.kt.backendapp.entity.SentimentType;
+
+import java.util.List;
+
+/**
+ * 감정 단어 사전 기반 기본 분류기
+ * 긍정/부정 단어 포함 수를 비교하며, 같으면 중립
+ * 부정 단어를 먼저 찾아 지운 뒤 긍정 단어를 찾는다 ("불친절", "안 좋아요" 가 긍정으로 잡히지 않도록)
+ */
+public class LexiconSentimentClassifier implements SentimentClassifier {
+
+    private static final List<String> POSITIVE_WORDS = List.of(
+            "좋", "최고", "맛있", "재밌", "재미있", "즐거", "행복", "감동", "친절", "깨끗", "추천", "만족", "편하", "대박",
+            "good", "great", "love", "awesome", "amazing");
+
+    private static final List<String> NEGATIVE_WORDS = List.of(
+            "안 좋", "안좋", "별로", "최악", "불편", "부족", "더럽", "지저분", "길어", "길다", "오래", "혼잡", "복잡", "위험", "불친절", "비싸",
+            "짜증", "실망", "늦", "bad", "worst", "terrible", "crowded", "dirty");
+
+    @Override
+    public SentimentType classify(String text) {
+        if (text == null || text.isBlank()) {
+            return SentimentType.NEUTRAL;
+        }
+        StringBuilder remaining = new StringBuilder(text.toLowerCase());
+        int negative = countAndRemove(remaining, NEGATIVE_WORDS);
+        int positive = countAndRemove(remaining, POSITIVE_WORDS);
+        int score = positive - negative;
+        if (score > 0) {
+            return SentimentType.POSITIVE;
+        }
+        if (score < 0) {
+            return SentimentType.NEGATIVE;
+        }
+        return SentimentType.NEUTRAL;
+    }
+
+    private static int countAndRemove(StringBuilder text, List<String> words) {
+        int hits = 0;
+        for (String word : words) {
+            int index = text.indexOf(word);
+            if (index < 0) {
+                continue;
+            }
+            hits++;
+            while (index >= 0) {
+                text.replace(index, index + word.length(), " ");
+                index = text.indexOf(word, index + 1);
+            }
+        }
+        return hits;
+    }
+}
@@ -0,0 +1,80 @@
+package com.kt.backendapp.domain.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이지 위치 (마지막 항목의 정렬 키 + id)
+ * - 클라이언트에는 내용을 알 수 없는 Base64url 문자열로 전달
+ * - 다음 페이지는 WHERE (key, id) 비교로 이어서 조회하므로 깊은 페이지도 비용이 같다
+ *
+ * @param key 정렬 키 (id 만으로 정렬하면 null)
+ * @param id  마지막 항목 id
+ */
+public record PageCursor(String key, long id) {
+
+    private static final String VERSION = "1";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public static PageCursor of(Object key, long id) {
+        return new PageCursor(key != null ? key.toString() : null, id);
+    }
+
+    public String encode() {
+        String raw = VERSION + ":" + id + (key != null ? ":" + key : "");
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return 커서가 없으면 null (첫 페이지)
+     * @throws IllegalArgumentException 형식이 잘못된 커서
+     */
+    public static PageCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String raw;
+        try {
+            raw = new String(DECODER.decode(cursor.trim()), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+
+        String[] parts = raw.split(":", 3);
+        if (parts.length < 2 || !VERSION.equals(parts[0])) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+        try {
+            return new PageCursor(parts.length == 3 ? parts[2] : null, Long.parseLong(parts[1]));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+    }
+
+    public LocalDate keyAsDate() {
+        try {
+            return LocalDate.parse(requireKey());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + key);
+        }
+    }
+
+    public LocalDateTime keyAsDateTime() {
+        try {
+            return LocalDateTime.parse(requireKey());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + key);
+        }
+    }
+
+    private String requireKey() {
+        if (key == null) {
+            throw new IllegalArgumentException("커서에 정렬 키가 없습니다");
+        }
+        return key;
+    }
+}
@@ -0,0 +1,26 @@
+package com.kt.backendapp.domain.model;
+
+import com.kt.backendapp.entity.ZoneType;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * 대체 구역 추천 점수 계산 입력값 (혼잡 구역 기준 후보 구역 하나)
+ */
+@Value
+@Builder
+public class RecommendationCandidate {
+    
+    // 혼잡 구역
+    ZoneType originType;
+    int originCongestionLevel;
+    
+    // 후보 구역
+    long zoneId;
+    ZoneType type;
+    int capacity;
+    int currentCapacity;
+    
+    double distanceKm;        // 좌표가 없으면 NaN
+    double inflowPerMinute;   // 최근 분당 인원 증감 (음수면 감소 중)
+}
@@ -0,0 +1,12 @@
+package com.kt.backendapp.domain.model;
+
+import com.kt.backendapp.entity.SentimentType;
+
+/**
+ * SNS 게시글 감정 분류
+ * 기본 구현은 LexiconSentimentClassifier 이며, 다른 구현을 빈으로 등록하면 교체된다
+ */
+public interface SentimentClassifier {
+
+    SentimentType classify(String text);
+}
@@ -0,0 +1,152 @@
+package com.kt.backendapp.domain.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving 상위 K 요약 (heavy hitter)
+ * - 최대 capacity 개 키만 추적하며, 가득 차면 가장 작은 항목을 새 키로 교체 (교체 전 값은 오차로 기록)
+ * - 가중치 추가는 인덱스 최소 힙으로 O(log capacity)
+ * - 상위 목록은 변경이 있을 때만 다시 정렬하고, 그 외 조회는 캐시된 목록을 그대로 반환
+ * - capacity 보다 많이 등장하는 키는 반드시 포함되며, count - error 는 실제 값의 하한
+ */
+public class SpaceSavingSummary<K> {
+
+    private static final Comparator<Entry<?>> BY_COUNT_DESC =
+            Comparator.comparingLong((Entry<?> e) -> e.count()).reversed();
+
+    private final int capacity;
+    private final Map<K, Node<K>> nodes;
+    private final List<Node<K>> heap;
+
+    private List<Entry<K>> sorted = List.of();
+    private boolean changed;
+
+    public SpaceSavingSummary(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity 는 0보다 커야 합니다: " + capacity);
+        }
+        this.capacity = capacity;
+        this.nodes = new HashMap<>(capacity * 2);
+        this.heap = new ArrayList<>(capacity);
+    }
+
+    public synchronized void add(K key, long weight) {
+        if (weight <= 0) {
+            return;
+        }
+        changed = true;
+
+        Node<K> node = nodes.get(key);
+        if (node != null) {
+            node.count += weight;
+            siftDown(node.index);
+            return;
+        }
+
+        if (heap.size() < capacity) {
+            node = new Node<>(key, weight, 0, heap.size());
+            heap.add(node);
+            nodes.put(key, node);
+            siftUp(node.index);
+            return;
+        }
+
+        // 가장 작은 항목을 새 키로 교체
+        Node<K> min = heap.get(0);
+        nodes.remove(min.key);
+        node = new Node<>(key, min.count + weight, min.count, 0);
+        heap.set(0, node);
+        nodes.put(key, node);
+        siftDown(0);
+    }
+
+    /**
+     * 값이 큰 순서의 상위 limit 개
+     */
+    public synchronized List<Entry<K>> top(int limit) {
+        if (changed) {
+            List<Entry<K>> entries = new ArrayList<>(heap.size());
+            for (Node<K> node : heap) {
+                entries.add(new Entry<>(node.key, node.count, node.error));
+            }
+            entries.sort(BY_COUNT_DESC);
+            sorted = Collections.unmodifiableList(entries);
+            changed = false;
+        }
+        return limit >= sorted.size() ? sorted : sorted.subList(0, Math.max(0, limit));
+    }
+
+    public synchronized int size() {
+        return heap.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    private void siftUp(int index) {
+        Node<K> node = heap.get(index);
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            Node<K> parentNode = heap.get(parent);
+            if (parentNode.count <= node.count) {
+                break;
+            }
+            place(parentNode, index);
+            index = parent;
+        }
+        place(node, index);
+    }
+
+    private void siftDown(int index) {
+        Node<K> node = heap.get(index);
+        int size = heap.size();
+        while (true) {
+            int child = index * 2 + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && heap.get(child + 1).count < heap.get(child).count) {
+                child++;
+            }
+            Node<K> childNode = heap.get(child);
+            if (node.count <= childNode.count) {
+                break;
+            }
+            place(childNode, index);
+            index = child;
+        }
+        place(node, index);
+    }
+
+    private void place(Node<K> node, int index) {
+        heap.set(index, node);
+        node.index = index;
+    }
+
+    /**
+     * @param count 추정 값 (실제 값 이상)
+     * @param error 교체로 물려받은 최대 과대 추정분
+     */
+    public record Entry<K>(K key, long count, long error) {
+    }
+
+    private static class Node<K> {
+        private final K key;
+        private long count;
+        private final long error;
+        private int index;
+
+        private Node(K key, long count, long error, int index) {
+            this.key = key;
+            this.count = count;
+            this.error = error;
+            this.index = index;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.kt.backendapp.domain.model;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 날짜 단위 타이밍 휠 (예약된 상태 전환 시점 관리)
+ * - 하루당 한 칸짜리 원형 버퍼에 (현재 날짜, 현재 날짜 + slots] 범위의 예약만 보관
+ *   범위를 넘는 예약은 받지 않으며, 날짜가 가까워지면 호출 측에서 다시 예약
+ * - 날짜가 바뀌지 않았으면 advance 는 바로 반환 (경계 사이에는 하는 일이 없음)
+ * - 대상마다 예약은 하나이며, 다시 예약하면 이전 예약을 대체
+ */
+public class TransitionTimeWheel {
+
+    private final int slots;
+    private final List<Set<Long>> wheel;
+    private final Set<Long> overdue = new LinkedHashSet<>();
+    private final Map<Long, Long> dayOf = new HashMap<>();
+
+    private long currentDay;
+
+    /**
+     * @param slots 보관할 일수
+     * @param today 시작 날짜 (이 날짜까지는 처리된 것으로 봄)
+     */
+    public TransitionTimeWheel(int slots, LocalDate today) {
+        if (slots <= 0) {
+            throw new IllegalArgumentException("slots 는 0보다 커야 합니다: " + slots);
+        }
+        this.slots = slots;
+        this.wheel = new ArrayList<>(slots);
+        for (int i = 0; i < slots; i++) {
+            wheel.add(new LinkedHashSet<>());
+        }
+        this.currentDay = today.toEpochDay();
+    }
+
+    /**
+     * 전환 날짜 예약 (이미 지난 날짜면 다음 advance 에서 바로 반환)
+     *
+     * @return 보관 범위를 넘어 예약하지 않았으면 false
+     */
+    public synchronized boolean schedule(long id, LocalDate day) {
+        cancel(id);
+        long epochDay = day.toEpochDay();
+        if (epochDay > currentDay + slots) {
+            return false;
+        }
+        if (epochDay <= currentDay) {
+            overdue.add(id);
+        } else {
+            slotOf(epochDay).add(id);
+        }
+        dayOf.put(id, epochDay);
+        return true;
+    }
+
+    public synchronized boolean cancel(long id) {
+        Long epochDay = dayOf.remove(id);
+        if (epochDay == null) {
+            return false;
+        }
+        if (!overdue.remove(id)) {
+            slotOf(epochDay).remove(id);
+        }
+        return true;
+    }
+
+    /**
+     * today 까지 날짜를 진행하고, 전환 날짜가 된 대상을 반환 (반환된 예약은 제거)
+     */
+    public synchronized List<Long> advance(LocalDate today) {
+        long target = today.toEpochDay();
+        if (target <= currentDay && overdue.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> due = new ArrayList<>(overdue);
+        overdue.clear();
+        if (target > currentDay) {
+            // 보관 범위의 날짜는 칸마다 하나뿐이므로, 최대 slots 칸만 비우면 된다
+            long last = Math.min(target, currentDay + slots);
+            for (long day = currentDay + 1; day <= last; day++) {
+                Set<Long> slot = slotOf(day);
+                due.addAll(slot);
+                slot.clear();
+            }
+            currentDay = target;
+        }
+        for (Long id : due) {
+            dayOf.remove(id);
+        }
+        return due;
+    }
+
+    public synchronized LocalDate getCurrentDay() {
+        return LocalDate.ofEpochDay(currentDay);
+    }
+
+    /**
+     * 보관 범위의 마지막 날짜 (이 날짜까지 예약 가능)
+     */
+    public synchronized LocalDate getHorizon() {
+        return LocalDate.ofEpochDay(currentDay + slots);
+    }
+
+    public synchronized int size() {
+        return dayOf.size();
+    }
+
+    private Set<Long> slotOf(long epochDay) {
+        return wheel.get((int) Math.floorMod(epochDay, (long) slots));
+    }
+}
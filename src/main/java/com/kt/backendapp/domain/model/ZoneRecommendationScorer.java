@@ -0,0 +1,14 @@
+package com.kt.backendapp.domain.model;
+
+/**
+ * 대체 구역 추천 점수 계산 전략
+ * 다른 기준이 필요하면 이 인터페이스를 구현한 빈을 등록하면 기본 구현 대신 사용된다
+ */
+public interface ZoneRecommendationScorer {
+    
+    /**
+     * 추천 점수 (클수록 우선, 0 이하면 추천 제외)
+     * 요청마다 후보 수만큼 호출되므로 메모리 값만으로 계산해야 한다
+     */
+    double score(RecommendationCandidate candidate);
+}
@@ -0,0 +1,414 @@
+package com.kt.backendapp.domain.model;
+
+import com.kt.backendapp.domain.vo.Coordinates;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.LongPredicate;
+
+/**
+ * 구역 좌표 공간 인덱스 (고정 크기 격자)
+ * - 좌표는 등록 시 한 번만 라디안으로 변환해 보관하고, 조회 시에는 문자열 파싱 없이 거리만 계산
+ * - k-최근접 조회는 기준 칸에서 바깥 칸으로 한 겹씩 넓혀 가며, 남은 칸이 더 가까울 수 없으면 중단
+ * - 반경 조회는 반경을 덮는 칸만 확인
+ * - 구역이 멀리 떨어져 있거나(잘못 입력된 좌표 등) 조건에 맞는 구역이 드물면 빈 칸만 계속 확인하게 되므로,
+ *   확인한 칸 수가 구역 수에 비례한 한도를 넘으면 전체 구역을 한 번 순회하는 방식으로 바꾼다 (조회 비용 O(구역 수) 상한)
+ * - 쓰기(구역 생성/수정/삭제)는 드물고 조회가 잦으므로 읽기/쓰기 잠금 사용
+ */
+public class ZoneSpatialIndex {
+
+    private static final double EARTH_RADIUS_KM = 6371;
+    private static final double KM_PER_DEGREE = 111.32;
+
+    // 확인한 칸 수가 (구역 수 x 이 값) 을 넘으면 전체 순회로 전환
+    private static final int CELL_BUDGET_PER_ENTRY = 4;
+    private static final int MIN_CELL_BUDGET = 64;
+
+    private final double cellDegrees;
+    private final double cellKm;
+
+    private final Map<Long, List<Entry>> cells = new HashMap<>();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 행/열별 구역 수 (등록된 범위를 구하고, 제거 시 범위를 줄이기 위해 유지)
+    private final TreeMap<Integer, Integer> rowCounts = new TreeMap<>();
+    private final TreeMap<Integer, Integer> colCounts = new TreeMap<>();
+
+    /**
+     * @param cellKm 격자 한 칸의 크기 (km, 위도 방향 기준)
+     */
+    public ZoneSpatialIndex(double cellKm) {
+        if (cellKm <= 0) {
+            throw new IllegalArgumentException("격자 크기는 0보다 커야 합니다: " + cellKm);
+        }
+        this.cellKm = cellKm;
+        this.cellDegrees = cellKm / KM_PER_DEGREE;
+    }
+
+    /**
+     * 구역 좌표 등록 (이미 있으면 위치 갱신)
+     */
+    public void put(long zoneId, Coordinates coordinates) {
+        Entry entry = new Entry(zoneId, coordinates.getLatitude(), coordinates.getLongitude(),
+                rowOf(coordinates.getLatitude()), colOf(coordinates.getLongitude()));
+
+        lock.writeLock().lock();
+        try {
+            Entry previous = entries.put(zoneId, entry);
+            if (previous != null) {
+                removeFromCell(previous);
+            }
+            cells.computeIfAbsent(cellKey(entry.row, entry.col), key -> new ArrayList<>()).add(entry);
+            rowCounts.merge(entry.row, 1, Integer::sum);
+            colCounts.merge(entry.col, 1, Integer::sum);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 구역 제거 (등록된 범위도 남은 구역 기준으로 줄어든다)
+     */
+    public boolean remove(long zoneId) {
+        lock.writeLock().lock();
+        try {
+            Entry removed = entries.remove(zoneId);
+            if (removed == null) {
+                return false;
+            }
+            removeFromCell(removed);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean contains(long zoneId) {
+        lock.readLock().lock();
+        try {
+            return entries.containsKey(zoneId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 등록된 구역 좌표 (없으면 null)
+     */
+    public Coordinates coordinatesOf(long zoneId) {
+        lock.readLock().lock();
+        try {
+            Entry entry = entries.get(zoneId);
+            return entry != null ? new Coordinates(entry.latitude, entry.longitude) : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 기준 좌표에서 가까운 순으로 최대 k개
+     *
+     * @param filter 후보 조건 (null 이면 전체)
+     */
+    public List<Neighbor> nearest(Coordinates origin, int k, LongPredicate filter) {
+        if (k <= 0) {
+            return List.of();
+        }
+
+        Query query = new Query(origin);
+        // 거리가 먼 후보가 맨 앞에 오도록 유지 (k개 초과 시 가장 먼 후보 제거)
+        PriorityQueue<Neighbor> best = new PriorityQueue<>(k + 1,
+                (a, b) -> Double.compare(b.distanceKm(), a.distanceKm()));
+
+        lock.readLock().lock();
+        try {
+            if (entries.isEmpty()) {
+                return List.of();
+            }
+
+            Consumer<Entry> candidate = entry -> {
+                if (filter != null && !filter.test(entry.zoneId)) {
+                    return;
+                }
+                double distance = query.distanceTo(entry);
+                if (best.size() < k) {
+                    best.add(new Neighbor(entry.zoneId, distance));
+                } else if (distance < best.peek().distanceKm()) {
+                    best.poll();
+                    best.add(new Neighbor(entry.zoneId, distance));
+                }
+            };
+
+            if (entries.size() <= k) {
+                // 전체가 결과이므로 칸을 넓혀 갈 필요가 없다
+                entries.values().forEach(candidate);
+            } else {
+                Extent extent = extent();
+                long budget = cellBudget();
+                long probed = 0;
+                int maxRing = extent.maxRingFrom(query.row, query.col);
+                for (int ring = 0; ring <= maxRing; ring++) {
+                    // 이미 k개를 찾았고, 이번 겹의 칸이 현재 k번째보다 가까울 수 없으면 중단
+                    if (best.size() == k && minDistanceOfRing(ring, origin.getLatitude()) > best.peek().distanceKm()) {
+                        break;
+                    }
+                    probed += visitRing(query.row, query.col, ring, extent, candidate);
+                    if (probed > budget) {
+                        best.clear();
+                        entries.values().forEach(candidate);
+                        break;
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Neighbor> result = new ArrayList<>(best);
+        result.sort((a, b) -> Double.compare(a.distanceKm(), b.distanceKm()));
+        return result;
+    }
+
+    /**
+     * 기준 좌표에서 반경 이내의 구역 (가까운 순)
+     *
+     * @param filter 후보 조건 (null 이면 전체)
+     */
+    public List<Neighbor> withinRadius(Coordinates origin, double radiusKm, LongPredicate filter) {
+        Query query = new Query(origin);
+        List<Neighbor> result = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            if (entries.isEmpty()) {
+                return List.of();
+            }
+
+            Consumer<Entry> candidate = entry -> {
+                if (filter != null && !filter.test(entry.zoneId)) {
+                    return;
+                }
+                double distance = query.distanceTo(entry);
+                if (distance <= radiusKm) {
+                    result.add(new Neighbor(entry.zoneId, distance));
+                }
+            };
+
+            Extent extent = extent();
+            long budget = cellBudget();
+            long probed = 0;
+            int maxRing = extent.maxRingFrom(query.row, query.col);
+            for (int ring = 0; ring <= maxRing; ring++) {
+                if (minDistanceOfRing(ring, origin.getLatitude()) > radiusKm) {
+                    break;
+                }
+                probed += visitRing(query.row, query.col, ring, extent, candidate);
+                if (probed > budget) {
+                    result.clear();
+                    entries.values().forEach(candidate);
+                    break;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        result.sort((a, b) -> Double.compare(a.distanceKm(), b.distanceKm()));
+        return result;
+    }
+
+    /**
+     * 기준 칸에서 ring 번째 겹의 칸까지의 최소 거리 (km, 보수적으로 짧게 추정)
+     */
+    private double minDistanceOfRing(int ring, double latitude) {
+        if (ring <= 1) {
+            return 0;
+        }
+        // 경도 방향 칸 크기는 위도가 높을수록 줄어들므로, 겹이 닿을 수 있는 가장 높은 위도 기준으로 계산
+        double farthestLatitude = Math.min(89.0, Math.abs(latitude) + ring * cellDegrees);
+        double lngCellKm = cellKm * Math.cos(Math.toRadians(farthestLatitude));
+        return (ring - 1) * Math.min(cellKm, lngCellKm);
+    }
+
+    private Extent extent() {
+        return new Extent(rowCounts.firstKey(), rowCounts.lastKey(), colCounts.firstKey(), colCounts.lastKey());
+    }
+
+    private long cellBudget() {
+        return Math.max(MIN_CELL_BUDGET, (long) CELL_BUDGET_PER_ENTRY * entries.size());
+    }
+
+    /**
+     * ring 번째 겹에서 등록된 범위 안의 칸만 확인
+     *
+     * @return 확인한 칸 수
+     */
+    private int visitRing(int row, int col, int ring, Extent extent, Consumer<Entry> visitor) {
+        if (ring == 0) {
+            return extent.contains(row, col) ? visitCell(row, col, visitor) : 0;
+        }
+        int probed = 0;
+        int fromCol = Math.max(col - ring, extent.minCol());
+        int toCol = Math.min(col + ring, extent.maxCol());
+        if (extent.containsRow(row - ring)) {
+            for (int c = fromCol; c <= toCol; c++) {
+                probed += visitCell(row - ring, c, visitor);
+            }
+        }
+        if (extent.containsRow(row + ring)) {
+            for (int c = fromCol; c <= toCol; c++) {
+                probed += visitCell(row + ring, c, visitor);
+            }
+        }
+        int fromRow = Math.max(row - ring + 1, extent.minRow());
+        int toRow = Math.min(row + ring - 1, extent.maxRow());
+        if (extent.containsCol(col - ring)) {
+            for (int r = fromRow; r <= toRow; r++) {
+                probed += visitCell(r, col - ring, visitor);
+            }
+        }
+        if (extent.containsCol(col + ring)) {
+            for (int r = fromRow; r <= toRow; r++) {
+                probed += visitCell(r, col + ring, visitor);
+            }
+        }
+        return probed;
+    }
+
+    private int visitCell(int row, int col, Consumer<Entry> visitor) {
+        List<Entry> cell = cells.get(cellKey(row, col));
+        if (cell != null) {
+            for (Entry entry : cell) {
+                visitor.accept(entry);
+            }
+        }
+        return 1;
+    }
+
+    private void removeFromCell(Entry entry) {
+        long key = cellKey(entry.row, entry.col);
+        List<Entry> cell = cells.get(key);
+        if (cell != null) {
+            cell.remove(entry);
+            if (cell.isEmpty()) {
+                cells.remove(key);
+            }
+        }
+        decrement(rowCounts, entry.row);
+        decrement(colCounts, entry.col);
+    }
+
+    private static void decrement(TreeMap<Integer, Integer> counts, int key) {
+        counts.computeIfPresent(key, (k, count) -> count > 1 ? count - 1 : null);
+    }
+
+    private int rowOf(double latitude) {
+        return (int) Math.floor(latitude / cellDegrees);
+    }
+
+    private int colOf(double longitude) {
+        return (int) Math.floor(longitude / cellDegrees);
+    }
+
+    private static long cellKey(int row, int col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+
+    /**
+     * 조회 결과 (구역 ID, 거리 km)
+     */
+    public record Neighbor(long zoneId, double distanceKm) {
+    }
+
+    /**
+     * 등록된 구역이 있는 행/열 범위
+     */
+    private record Extent(int minRow, int maxRow, int minCol, int maxCol) {
+
+        private boolean contains(int row, int col) {
+            return containsRow(row) && containsCol(col);
+        }
+
+        private boolean containsRow(int row) {
+            return row >= minRow && row <= maxRow;
+        }
+
+        private boolean containsCol(int col) {
+            return col >= minCol && col <= maxCol;
+        }
+
+        private int maxRingFrom(int row, int col) {
+            int rowSpan = Math.max(Math.abs(row - minRow), Math.abs(maxRow - row));
+            int colSpan = Math.max(Math.abs(col - minCol), Math.abs(maxCol - col));
+            return Math.max(rowSpan, colSpan);
+        }
+    }
+
+    private static final class Entry {
+        private final long zoneId;
+        private final double latitude;
+        private final double longitude;
+        private final double latitudeRad;
+        private final double longitudeRad;
+        private final double cosLatitude;
+        private final int row;
+        private final int col;
+
+        private Entry(long zoneId, double latitude, double longitude, int row, int col) {
+            this.zoneId = zoneId;
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.latitudeRad = Math.toRadians(latitude);
+            this.longitudeRad = Math.toRadians(longitude);
+            this.cosLatitude = Math.cos(latitudeRad);
+            this.row = row;
+            this.col = col;
+        }
+    }
+
+    /**
+     * 조회 기준점 (라디안 변환을 한 번만 수행)
+     */
+    private final class Query {
+        private final double latitudeRad;
+        private final double longitudeRad;
+        private final double cosLatitude;
+        private final int row;
+        private final int col;
+
+        private Query(Coordinates origin) {
+            this.latitudeRad = Math.toRadians(origin.getLatitude());
+            this.longitudeRad = Math.toRadians(origin.getLongitude());
+            this.cosLatitude = Math.cos(latitudeRad);
+            this.row = rowOf(origin.getLatitude());
+            this.col = colOf(origin.getLongitude());
+        }
+
+        /**
+         * Coordinates.distanceTo 와 같은 하버사인 거리 (km)
+         */
+        private double distanceTo(Entry entry) {
+            double sinLat = Math.sin((entry.latitudeRad - latitudeRad) / 2);
+            double sinLng = Math.sin((entry.longitudeRad - longitudeRad) / 2);
+            double a = sinLat * sinLat + cosLatitude * entry.cosLatitude * sinLng * sinLng;
+            return EARTH_RADIUS_KM * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+        }
+    }
+}
@@ -32,6 +32,20 @@ public class FestivalDomainService {
         }
     }
     
+    /**
+     * 다음 자동 상태 전환 날짜 (이 날짜부터 운영 중/종료로 바뀜)
+     * 운영 전이면 시작일, 운영 중이면 종료 다음 날, 종료/취소된 축제는 전환이 없어 null
+     */
+    public LocalDate nextTransitionDate(Festival festival) {
+        if (festival.getStatus() == FestivalStatus.BEFORE) {
+            return festival.getStartDate();
+        }
+        if (festival.getStatus() == FestivalStatus.DURING) {
+            return festival.getEndDate().plusDays(1);
+        }
+        return null;
+    }
+    
     /**
      * 축제 상태 변경 가능 여부 검증
      */
@@ -6,6 +6,7 @@ import com.kt.backendapp.entity.Zone;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -57,21 +58,28 @@ public class ZoneDomainService {
     
     /**
      * 가장 가까운 구역 찾기
+     * 대상 좌표는 한 번만 파싱하고, 후보마다 거리를 한 번씩만 계산
+     * (실시간 조회는 ZoneSpatialIndex 사용)
      */
     public Zone findNearestZone(Zone targetZone, List<Zone> zones) {
         if (targetZone.getCoordinates() == null) {
             throw new IllegalArgumentException("대상 구역에 좌표 정보가 없습니다");
         }
         
-        return zones.stream()
-                .filter(zone -> !zone.getId().equals(targetZone.getId()))
-                .filter(zone -> zone.getCoordinates() != null)
-                .min((z1, z2) -> {
-                    double dist1 = calculateDistance(targetZone, z1);
-                    double dist2 = calculateDistance(targetZone, z2);
-                    return Double.compare(dist1, dist2);
-                })
-                .orElse(null);
+        Coordinates target = Coordinates.fromString(targetZone.getCoordinates());
+        Zone nearest = null;
+        double nearestDistance = Double.MAX_VALUE;
+        for (Zone zone : zones) {
+            if (zone.getId().equals(targetZone.getId()) || zone.getCoordinates() == null) {
+                continue;
+            }
+            double distance = target.distanceTo(Coordinates.fromString(zone.getCoordinates()));
+            if (distance < nearestDistance) {
+                nearestDistance = distance;
+                nearest = zone;
+            }
+        }
+        return nearest;
     }
     
     /**
@@ -83,33 +91,37 @@ public class ZoneDomainService {
             return List.of(); // 혼잡하지 않으면 추천 불필요
         }
         
+        Coordinates from = congestedZone.getCoordinates() != null
+                ? Coordinates.fromString(congestedZone.getCoordinates()) : null;
+        
+        // 점수는 후보마다 한 번만 계산한 뒤 정렬
         return allZones.stream()
                 .filter(zone -> !zone.getId().equals(congestedZone.getId()))
                 .filter(zone -> zone.getType() == congestedZone.getType()) // 같은 타입
                 .filter(zone -> zone.getCongestionLevel() != null && zone.getCongestionLevel() < 50) // 여유로운 구역
-                .sorted((z1, z2) -> {
-                    // 거리와 여유도를 종합 고려
-                    double score1 = calculateRecommendationScore(congestedZone, z1);
-                    double score2 = calculateRecommendationScore(congestedZone, z2);
-                    return Double.compare(score2, score1); // 점수 높은 순
-                })
+                .map(zone -> new ScoredZone(zone, calculateRecommendationScore(from, zone)))
+                .sorted(Comparator.comparingDouble(ScoredZone::score).reversed()) // 점수 높은 순
                 .limit(3)
+                .map(ScoredZone::zone)
                 .toList();
     }
     
-    private double calculateRecommendationScore(Zone fromZone, Zone toZone) {
+    private double calculateRecommendationScore(Coordinates from, Zone toZone) {
         double capacityScore = (double) toZone.getCapacity() / 10000; // 수용인원 점수
         double congestionScore = (100 - toZone.getCongestionLevel()) / 100.0; // 여유도 점수
         
         double distanceScore = 1.0; // 기본 거리 점수
-        if (fromZone.getCoordinates() != null && toZone.getCoordinates() != null) {
-            double distance = calculateDistance(fromZone, toZone);
+        if (from != null && toZone.getCoordinates() != null) {
+            double distance = from.distanceTo(Coordinates.fromString(toZone.getCoordinates()));
             distanceScore = Math.max(0.1, 1.0 - (distance / 1000)); // 1km당 점수 감소
         }
         
         return capacityScore * 0.3 + congestionScore * 0.5 + distanceScore * 0.2;
     }
     
+    private record ScoredZone(Zone zone, double score) {
+    }
+    
     /**
      * 구역 수용인원 적정성 검증
      */
@@ -24,8 +24,26 @@ public class CongestionLevel {
             throw new IllegalArgumentException("현재 인원은 0 이상이어야 합니다");
         }
         
-        int congestion = Math.min(100, (int) ((currentCapacity * 100.0) / totalCapacity));
-        return new CongestionLevel(congestion);
+        return new CongestionLevel(percentageOf(currentCapacity, totalCapacity));
+    }
+    
+    /**
+     * 혼잡도 백분율만 계산 (객체 생성 없이 실시간 수집 경로에서 사용)
+     */
+    public static int percentageOf(int currentCapacity, int totalCapacity) {
+        if (totalCapacity <= 0 || currentCapacity <= 0) {
+            return 0;
+        }
+        return Math.min(100, (int) ((currentCapacity * 100.0) / totalCapacity));
+    }
+    
+    /**
+     * crowd_metrics.level 값 (1: 여유/보통, 2: 혼잡, 3: 매우 혼잡)
+     */
+    public static int metricLevelOf(int percentage) {
+        if (percentage >= 80) return 3;
+        if (percentage >= 60) return 2;
+        return 1;
     }
     
     public static CongestionLevel empty() {
@@ -0,0 +1,18 @@
+package com.kt.backendapp.dto;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkIngestionResultDTO {
+    
+    private Integer received; // 수신 건수
+    
+    private Integer accepted; // 반영 대기열에 적재된 건수
+    
+    private Integer dropped; // 검증 실패/대기열 초과로 버린 건수
+    
+    private Integer coalesced; // 같은 대상의 이전 값을 덮어쓴 건수
+}
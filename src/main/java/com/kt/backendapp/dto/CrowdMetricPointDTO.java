@@ -0,0 +1,24 @@
+package com.kt.backendapp.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CrowdMetricPointDTO {
+    
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime ts; // 구간 시작 시각
+    
+    private Double averageHeadcount;
+    
+    private Integer maxHeadcount;
+    
+    private Integer level; // 구간 내 최대 혼잡 단계 (1-3)
+    
+    private Long samples; // 구간에 포함된 원본 행 수
+}
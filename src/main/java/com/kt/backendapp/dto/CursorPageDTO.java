@@ -0,0 +1,20 @@
+package com.kt.backendapp.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPageDTO<T> {
+    
+    private List<T> items;
+    
+    private Integer size; // 이번 페이지 항목 수
+    
+    private Boolean hasNext;
+    
+    private String nextCursor; // 다음 페이지 요청 시 cursor 로 전달 (마지막 페이지면 null)
+}
@@ -0,0 +1,24 @@
+package com.kt.backendapp.dto;
+
+import lombok.*;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyPerformanceDTO {
+    
+    private LocalDate date;
+    
+    private Integer positive; // 긍정 게시글 수
+    
+    private Integer negative; // 부정 게시글 수
+    
+    private Integer neutral; // 중립 게시글 수
+    
+    private Long salesAmount; // 매출액 (원)
+    
+    private Integer visitors; // 방문자 수
+}
@@ -0,0 +1,49 @@
+package com.kt.backendapp.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DashboardStreamEventDTO {
+    
+    private String festivalId;
+    private Long version;
+    
+    // snapshot: 전체 구역 포함 (최초 연결, 전송 지연 후 재동기화), delta: 변경된 구역만
+    private String type;
+    
+    // 전체 통계
+    private Integer totalZones;
+    private Long totalCapacity;
+    private Long currentTotalCapacity;
+    private Double averageCongestionLevel;
+    
+    // 혼잡도별 구역 수
+    private Integer lowCongestionZones;
+    private Integer moderateCongestionZones;
+    private Integer highCongestionZones;
+    private Integer criticalCongestionZones;
+    
+    // 변경된 구역 (snapshot 이면 전체)
+    private List<ZoneChange> zones;
+    
+    // 새 알림
+    private List<OperationalDashboardDTO.Alert> alerts;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ZoneChange {
+        private String zoneId;
+        private Integer capacity;
+        private Integer currentCapacity;
+        private Integer congestionLevel;
+        private String congestionStatus;
+        private Boolean removed;
+    }
+}
@@ -0,0 +1,33 @@
+package com.kt.backendapp.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class FeedbackTrendDTO {
+    
+    private String festivalId;
+    
+    private Integer minutes; // 조회 구간 (분)
+    
+    private Integer stepMinutes; // series 한 칸의 길이 (분)
+    
+    private Long mentions; // 최근 구간 언급 수
+    
+    private Long previousMentions; // 직전 같은 길이 구간 언급 수 (구간이 보관 기간의 절반을 넘으면 생략)
+    
+    private Double changeRate; // 직전 구간 대비 증감률 (%), 직전 구간이 0이거나 생략되면 생략
+    
+    private Map<String, Long> sentiments; // positive, neutral, negative
+    
+    private Map<String, Long> platforms;
+    
+    private List<Long> series; // 오래된 구간부터
+}
@@ -0,0 +1,14 @@
+package com.kt.backendapp.dto;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NearbyZoneDTO {
+    
+    private ZoneDTO zone;
+    
+    private Double distanceKm; // 기준 구역으로부터의 직선 거리
+}
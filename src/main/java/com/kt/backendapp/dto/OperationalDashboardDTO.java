@@ -39,6 +39,9 @@ public class OperationalDashboardDTO {
     // 실시간 알림
     private List<Alert> alerts;
     
+    // 조회 지연/오류로 이전 값 또는 빈 값으로 채운 항목 (정상이면 null)
+    private List<String> degradedSections;
+    
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
@@ -0,0 +1,36 @@
+package com.kt.backendapp.dto;
+
+import lombok.*;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PageDTO<T> {
+    
+    private List<T> items;
+    
+    private Integer page; // 0부터 시작
+    
+    private Integer size; // 요청한 페이지 크기
+    
+    private Long totalElements;
+    
+    private Integer totalPages;
+    
+    private Boolean hasNext;
+    
+    public static <T> PageDTO<T> from(Page<T> page) {
+        return PageDTO.<T>builder()
+                .items(page.getContent())
+                .page(page.getNumber())
+                .size(page.getSize())
+                .totalElements(page.getTotalElements())
+                .totalPages(page.getTotalPages())
+                .hasNext(page.hasNext())
+                .build();
+    }
+}
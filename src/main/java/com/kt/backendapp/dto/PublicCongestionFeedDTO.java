@@ -0,0 +1,33 @@
+package com.kt.backendapp.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 방문객 앱용 구역 혼잡도 피드 (공개, 운영 정보 제외)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PublicCongestionFeedDTO {
+    
+    private String festivalId;
+    private LocalDateTime updatedAt; // 구역 중 가장 최근 변경 시각
+    private List<Zone> zones;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Zone {
+        private String zoneId;
+        private String name;
+        private Integer congestionLevel; // 0-100%
+        private String congestionStatus;
+        private Integer currentCapacity;
+        private Integer capacity;
+    }
+}
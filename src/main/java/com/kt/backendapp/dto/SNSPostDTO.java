@@ -0,0 +1,14 @@
+package com.kt.backendapp.dto;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SNSPostDTO {
+    
+    private String platform; // Twitter, Instagram, Facebook 등
+    
+    private String text; // 게시글 본문
+}
@@ -0,0 +1,18 @@
+package com.kt.backendapp.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SalesRecordDTO {
+    
+    private String recordId; // 결제/환불 건 고유 ID (필수, 같은 ID 는 한 번만 반영)
+    
+    private Long amount; // 결제 금액 (원, 환불은 음수)
+    
+    private LocalDateTime soldAt; // 결제 시각 (현지 시각, 없으면 수신 시각)
+}
@@ -0,0 +1,45 @@
+package com.kt.backendapp.dto;
+
+import jakarta.validation.constraints.*;
+import lombok.*;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SimulationRequestDTO {
+    
+    @NotNull(message = "방문객 수는 필수입니다")
+    @Min(value = 1, message = "방문객 수는 1명 이상이어야 합니다")
+    @Max(value = 1000000, message = "방문객 수는 1,000,000명을 초과할 수 없습니다")
+    private Integer visitors;
+    
+    @Min(value = 1, message = "시뮬레이션 시간은 1시간 이상이어야 합니다")
+    @Max(value = 72, message = "시뮬레이션 시간은 72시간을 초과할 수 없습니다")
+    private Integer durationHours;     // 기본 12시간
+    
+    @Min(value = 1, message = "시뮬레이션 간격은 1분 이상이어야 합니다")
+    @Max(value = 60, message = "시뮬레이션 간격은 60분을 초과할 수 없습니다")
+    private Integer stepMinutes;       // 기본 1분
+    
+    // 시간대별 도착 비율 (1시간 단위, 합이 1이 아니어도 됨). 없으면 초반에 몰렸다가 줄어드는 곡선
+    @Size(max = 72, message = "시간대별 도착 비율은 72개를 초과할 수 없습니다")
+    private List<@NotNull @PositiveOrZero Double> hourlyArrivalWeights;
+    
+    @Positive(message = "구역 평균 체류 시간은 0보다 커야 합니다")
+    private Double meanDwellMinutes;   // 한 구역에 머무는 평균 시간
+    
+    @Positive(message = "평균 체류 시간은 0보다 커야 합니다")
+    private Double meanStayMinutes;    // 축제장 평균 체류 시간
+    
+    private Long seed;                 // 같은 값이면 같은 결과 (없으면 무작위)
+    
+    // 배치 변경 검토용: 구역별 수용 인원 변경, 제외할 구역
+    @Size(max = 1000, message = "수용 인원 변경은 1,000개 구역을 초과할 수 없습니다")
+    private Map<Long, @NotNull @Min(0) Integer> capacityOverrides;
+    @Size(max = 1000, message = "제외 구역은 1,000개를 초과할 수 없습니다")
+    private List<Long> excludedZoneIds;
+}
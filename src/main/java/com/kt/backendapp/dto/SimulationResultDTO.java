@@ -0,0 +1,42 @@
+package com.kt.backendapp.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SimulationResultDTO {
+    
+    private String festivalId;
+    private Integer visitors;
+    private Integer durationHours;
+    private Integer stepMinutes;
+    private Long seed;
+    private Long elapsedMillis;        // 시뮬레이션 소요 시간
+    
+    private Integer peakInside;        // 전체 구역 최대 동시 인원
+    private Integer peakInsideMinute;  // 시작 후 분
+    private List<Integer> insideSeries; // 간격별 전체 구역 인원
+    
+    private Integer overflowZones;     // 수용 인원을 넘은 적이 있는 구역 수
+    private List<ZoneResult> zones;    // 최대 혼잡도 높은 순
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ZoneResult {
+        private Long zoneId;
+        private String name;
+        private String type;
+        private Integer capacity;
+        private Integer peakOccupancy;
+        private Integer peakCongestionLevel; // 수용 인원 대비 % (100 초과 가능)
+        private Integer peakMinute;
+        private Integer overflowMinutes;     // 수용 인원을 넘은 시간
+        private Double averageOccupancy;
+    }
+}
@@ -0,0 +1,37 @@
+package com.kt.backendapp.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ZoneForecastDTO {
+    
+    private Long zoneId;
+    private String name;
+    private String type;
+    
+    private Integer capacity;
+    private Integer currentCapacity;
+    private Integer congestionLevel;
+    
+    private Double trendPerMinute;     // 분당 인원 증감 추세
+    private Double minutesToCapacity;  // 수용 인원 도달까지 남은 분 (도달 예상이 없으면 null)
+    private Integer samples;           // 예측에 반영된 관측 수 (적으면 신뢰도 낮음)
+    
+    private List<Point> forecasts;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Point {
+        private Integer minutesAhead;
+        private Integer predictedCapacity;
+        private Integer predictedCongestionLevel; // 0-100%
+        private String predictedCongestionStatus;
+    }
+}
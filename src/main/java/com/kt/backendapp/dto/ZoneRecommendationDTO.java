@@ -0,0 +1,27 @@
+package com.kt.backendapp.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ZoneRecommendationDTO {
+    
+    private Long zoneId;
+    private String name;
+    private String type;
+    
+    private Integer capacity;
+    private Integer currentCapacity;
+    private Integer congestionLevel;
+    private String congestionStatus;
+    
+    private Double inflowPerMinute;  // 최근 분당 인원 증감
+    private Double distanceKm;       // 좌표가 없으면 null
+    private Double walkingMinutes;
+    
+    private Double score;
+}
@@ -0,0 +1,33 @@
+package com.kt.backendapp.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "crowd_metrics")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CrowdMetric {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "zone_id", nullable = false)
+    private Zone zone;
+
+    @Column(nullable = false)
+    private LocalDateTime ts; // 집계 구간 시작 시각
+
+    @Column(nullable = false)
+    private Short level; // 혼잡 단계 (1: 여유/보통, 2: 혼잡, 3: 매우 혼잡)
+
+    @Column
+    private Integer headcount; // 구간 평균 인원
+}
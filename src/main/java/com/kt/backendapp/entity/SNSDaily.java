@@ -0,0 +1,39 @@
+package com.kt.backendapp.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "sns_daily")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SNSDaily {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "festival_id", nullable = false)
+    private Festival festival;
+
+    @Column(name = "date", nullable = false)
+    private LocalDate statDate; // 집계 날짜
+
+    @Column
+    private Integer positive; // 긍정 게시글 수
+
+    @Column
+    private Integer negative; // 부정 게시글 수
+
+    @Column
+    private Integer neutral; // 중립 게시글 수
+
+    @Column(columnDefinition = "TEXT")
+    private String tips; // 운영 참고 사항
+}
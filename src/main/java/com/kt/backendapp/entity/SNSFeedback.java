@@ -62,6 +62,10 @@ public class SNSFeedback {
 
     // 심각도에 따른 우선순위 반환
     public String getPriorityLevel() {
+        return priorityLevelOf(severityLevel);
+    }
+
+    public static String priorityLevelOf(Integer severityLevel) {
         if (severityLevel == null) return "보통";
         
         return switch (severityLevel) {
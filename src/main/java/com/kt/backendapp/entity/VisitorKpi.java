@@ -0,0 +1,30 @@
+package com.kt.backendapp.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "visitor_kpi")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VisitorKpi {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "festival_id", nullable = false)
+    private Festival festival;
+
+    @Column(name = "date", nullable = false)
+    private LocalDate statDate; // 집계 날짜
+
+    @Column
+    private Integer visitors; // 방문자 수 (전체 구역 동시 인원의 일 최대값)
+}
@@ -0,0 +1,89 @@
+package com.kt.backendapp.realtime;
+
+import com.kt.backendapp.domain.event.FestivalStatusChangedEvent;
+import com.kt.backendapp.domain.event.HighCongestionDetectedEvent;
+import com.kt.backendapp.dto.OperationalDashboardDTO;
+import com.kt.backendapp.service.DashboardStreamService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 축제별 최근 알림 목록
+ * 도메인 이벤트를 대시보드 알림으로 바꿔 보관하고, 대시보드 버전 갱신과 스트림 전파를 함께 처리
+ */
+@Component
+@Slf4j
+public class AlertFeed {
+
+    private final DashboardSnapshotRegistry dashboardSnapshotRegistry;
+    private final DashboardStreamService dashboardStreamService;
+    private final int recentSize;
+
+    private final Map<Long, Deque<OperationalDashboardDTO.Alert>> recentAlerts = new ConcurrentHashMap<>();
+
+    public AlertFeed(DashboardSnapshotRegistry dashboardSnapshotRegistry,
+                     DashboardStreamService dashboardStreamService,
+                     @Value("${festival.alerts.recent-size:20}") int recentSize) {
+        this.dashboardSnapshotRegistry = dashboardSnapshotRegistry;
+        this.dashboardStreamService = dashboardStreamService;
+        this.recentSize = recentSize;
+    }
+
+    @EventListener
+    public void onHighCongestionDetected(HighCongestionDetectedEvent event) {
+        add(event.getFestivalId(), OperationalDashboardDTO.Alert.builder()
+                .type("congestion")
+                .severity(event.isCritical() ? "critical" : "high")
+                .message(event.getAlertMessage())
+                .zoneId(String.valueOf(event.getZoneId()))
+                .timestamp(event.getDetectedAt().toString())
+                .build());
+    }
+
+    @EventListener
+    public void onFestivalStatusChanged(FestivalStatusChangedEvent event) {
+        add(event.getFestivalId(), OperationalDashboardDTO.Alert.builder()
+                .type("system")
+                .severity("low")
+                .message(String.format("축제 '%s' 상태 변경: %s → %s",
+                        event.getFestivalName(), event.getPreviousStatus(), event.getNewStatus()))
+                .timestamp(event.getChangedAt().toString())
+                .build());
+    }
+
+    /**
+     * 최근 알림 (최신순)
+     */
+    public List<OperationalDashboardDTO.Alert> getRecentAlerts(Long festivalId) {
+        Deque<OperationalDashboardDTO.Alert> alerts = recentAlerts.get(festivalId);
+        if (alerts == null) {
+            return List.of();
+        }
+        synchronized (alerts) {
+            return new ArrayList<>(alerts);
+        }
+    }
+
+    private void add(Long festivalId, OperationalDashboardDTO.Alert alert) {
+        Deque<OperationalDashboardDTO.Alert> alerts = recentAlerts.computeIfAbsent(festivalId, id -> new ArrayDeque<>());
+        synchronized (alerts) {
+            alerts.addFirst(alert);
+            while (alerts.size() > recentSize) {
+                alerts.removeLast();
+            }
+        }
+
+        log.info("알림 발생: Festival ID={}, {}", festivalId, alert.getMessage());
+        dashboardSnapshotRegistry.touch(festivalId);
+        dashboardStreamService.publishAlert(festivalId, alert);
+    }
+}
@@ -0,0 +1,236 @@
+package com.kt.backendapp.realtime;
+
+import com.kt.backendapp.domain.event.HighCongestionDetectedEvent;
+import com.kt.backendapp.domain.vo.CongestionLevel;
+import com.kt.backendapp.entity.Festival;
+import com.kt.backendapp.repository.FestivalRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 혼잡도 이벤트 버스
+ * - 수집 스레드에서는 구역별 혼잡 단계 전이만 판정하고, 전이가 있을 때만 고정 크기 대기열에 넣는다 (블로킹 없음)
+ * - 대기열이 가득 차면 새 이벤트를 버리고 폐기 건수를 기록
+ * - 전용 스레드가 대기열을 비우며 HighCongestionDetectedEvent 를 발행 (축제명 조회 등은 이 스레드에서)
+ * - 히스테리시스: 진입 기준(80%) 이상이면 HIGH, 해제 기준(70%) 미만으로 내려가야 해제 (경계값 근처 반복 알림 방지)
+ * - 같은 구역/단계 알림은 중복 제거 구간 안에서 한 번만 발행
+ * - 처리량 카운터와 대기열 크기는 festival.alerts.* 지표로 노출 (조회 시점에 읽으므로 수집 경로 비용 없음)
+ */
+@Component
+@Slf4j
+public class CongestionEventBus implements ZoneStateListener, MeterBinder {
+
+    private final FestivalRepository festivalRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BlockingQueue<Transition> queue;
+    private final int enterPercentage;
+    private final int exitPercentage;
+    private final int criticalEnterPercentage;
+    private final int criticalExitPercentage;
+    private final long dedupWindowMillis;
+
+    // 구역별 현재 알림 단계
+    private final Map<Long, ZoneAlertState> zoneStates = new ConcurrentHashMap<>();
+
+    private final AtomicLong detected = new AtomicLong();
+    private final AtomicLong deduplicated = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread dispatcher;
+
+    public CongestionEventBus(FestivalRepository festivalRepository,
+                              ApplicationEventPublisher eventPublisher,
+                              @Value("${festival.alerts.queue-capacity:10000}") int queueCapacity,
+                              @Value("${festival.alerts.enter-percentage:80}") int enterPercentage,
+                              @Value("${festival.alerts.exit-percentage:70}") int exitPercentage,
+                              @Value("${festival.alerts.critical-enter-percentage:90}") int criticalEnterPercentage,
+                              @Value("${festival.alerts.critical-exit-percentage:85}") int criticalExitPercentage,
+                              @Value("${festival.alerts.dedup-window-ms:300000}") long dedupWindowMillis) {
+        this.festivalRepository = festivalRepository;
+        this.eventPublisher = eventPublisher;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.enterPercentage = enterPercentage;
+        this.exitPercentage = exitPercentage;
+        this.criticalEnterPercentage = criticalEnterPercentage;
+        this.criticalExitPercentage = criticalExitPercentage;
+        this.dedupWindowMillis = dedupWindowMillis;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        dispatcher = new Thread(this::dispatchLoop, "congestion-event-bus");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        dispatcher.interrupt();
+    }
+
+    @Override
+    public void onZoneStateChanged(ZoneLiveState previous, ZoneLiveState current) {
+        int percentage = current.getCongestionLevel();
+        long now = System.currentTimeMillis();
+
+        ZoneAlertState before = zoneStates.get(current.getZoneId());
+        AlertStage stageBefore = before != null ? before.stage() : AlertStage.NORMAL;
+        AlertStage stageAfter = nextStage(stageBefore, percentage);
+        if (stageAfter == stageBefore) {
+            return;
+        }
+
+        // 단계가 올라간 경우에만 알림, 같은 단계 재진입은 중복 제거 구간이 지나야 다시 알림
+        boolean escalated = stageAfter.ordinal() > stageBefore.ordinal();
+        boolean recentlyAlerted = before != null && before.alertedStage().ordinal() >= stageAfter.ordinal()
+                && now - before.alertedAtMillis() < dedupWindowMillis;
+        boolean alert = escalated && !recentlyAlerted;
+
+        ZoneAlertState after = alert
+                ? new ZoneAlertState(stageAfter, stageAfter, now)
+                : new ZoneAlertState(stageAfter,
+                        before != null ? before.alertedStage() : AlertStage.NORMAL,
+                        before != null ? before.alertedAtMillis() : 0L);
+
+        // 같은 구역의 동시 변경은 먼저 교체한 쪽만 알림
+        boolean replaced = before == null
+                ? zoneStates.putIfAbsent(current.getZoneId(), after) == null
+                : zoneStates.replace(current.getZoneId(), before, after);
+        if (!replaced || !escalated) {
+            return;
+        }
+
+        detected.incrementAndGet();
+        if (!alert) {
+            deduplicated.incrementAndGet();
+            return;
+        }
+
+        Transition transition = new Transition(current.getFestivalId(), current.getZoneId(), current.getName(),
+                percentage, current.getCurrentCapacity(), current.getCapacity());
+        if (!queue.offer(transition)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void onZoneRemoved(ZoneLiveState removed) {
+        zoneStates.remove(removed.getZoneId());
+    }
+
+    /**
+     * 처리량 통계
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("detected", detected.get());
+        stats.put("deduplicated", deduplicated.get());
+        stats.put("dropped", dropped.get());
+        stats.put("published", published.get());
+        stats.put("failed", failed.get());
+        stats.put("queued", queue.size());
+        stats.put("queueCapacity", queue.size() + queue.remainingCapacity());
+        return stats;
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindCounter(registry, "detected", detected);
+        bindCounter(registry, "deduplicated", deduplicated);
+        bindCounter(registry, "dropped", dropped);
+        bindCounter(registry, "published", published);
+        bindCounter(registry, "failed", failed);
+        Gauge.builder("festival.alerts.queue.size", queue, BlockingQueue::size)
+                .description("발행 대기 중인 혼잡도 이벤트 수")
+                .register(registry);
+        Gauge.builder("festival.alerts.queue.remaining", queue, BlockingQueue::remainingCapacity)
+                .description("혼잡도 이벤트 대기열 남은 자리")
+                .register(registry);
+    }
+
+    private void bindCounter(MeterRegistry registry, String result, AtomicLong count) {
+        FunctionCounter.builder("festival.alerts.events", count, AtomicLong::get)
+                .description("혼잡도 이벤트 처리 건수 (결과별)")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private AlertStage nextStage(AlertStage current, int percentage) {
+        return switch (current) {
+            case NORMAL -> percentage >= criticalEnterPercentage ? AlertStage.CRITICAL
+                    : percentage >= enterPercentage ? AlertStage.HIGH : AlertStage.NORMAL;
+            case HIGH -> percentage >= criticalEnterPercentage ? AlertStage.CRITICAL
+                    : percentage < exitPercentage ? AlertStage.NORMAL : AlertStage.HIGH;
+            case CRITICAL -> percentage < exitPercentage ? AlertStage.NORMAL
+                    : percentage < criticalExitPercentage ? AlertStage.HIGH : AlertStage.CRITICAL;
+        };
+    }
+
+    private void dispatchLoop() {
+        Map<Long, String> festivalNames = new ConcurrentHashMap<>();
+        while (running) {
+            Transition transition;
+            try {
+                transition = queue.poll(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (transition == null) {
+                // 유휴 시 축제명 캐시를 비워 이름 변경을 반영
+                festivalNames.clear();
+                continue;
+            }
+
+            try {
+                String festivalName = festivalNames.computeIfAbsent(transition.festivalId(),
+                        id -> festivalRepository.findById(id).map(Festival::getName).orElse(""));
+                eventPublisher.publishEvent(HighCongestionDetectedEvent.of(
+                        transition.festivalId(), festivalName,
+                        transition.zoneId(), transition.zoneName(),
+                        new CongestionLevel(transition.percentage()),
+                        transition.currentCapacity(), transition.capacity()));
+                published.incrementAndGet();
+            } catch (RuntimeException e) {
+                failed.incrementAndGet();
+                log.warn("혼잡도 이벤트 발행 실패: Zone ID={}", transition.zoneId(), e);
+            }
+        }
+    }
+
+    private enum AlertStage {
+        NORMAL, HIGH, CRITICAL
+    }
+
+    private record ZoneAlertState(AlertStage stage, AlertStage alertedStage, long alertedAtMillis) {
+    }
+
+    private record Transition(Long festivalId, Long zoneId, String zoneName,
+                              int percentage, int currentCapacity, int capacity) {
+    }
+}
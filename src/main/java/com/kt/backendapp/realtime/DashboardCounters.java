@@ -0,0 +1,26 @@
+package com.kt.backendapp.realtime;
+
+import lombok.Value;
+
+/**
+ * 축제별 대시보드 집계값 (읽기 시점의 불변 사본)
+ */
+@Value
+public class DashboardCounters {
+    
+    long version;
+    int totalZones;
+    long totalCapacity;
+    long currentTotalCapacity;
+    long congestionSum;
+    
+    // 혼잡도별 구역 수
+    int lowCongestionZones;      // 0-40%
+    int moderateCongestionZones; // 40-60%
+    int highCongestionZones;     // 60-80%
+    int criticalCongestionZones; // 80-100%
+    
+    public double getAverageCongestionLevel() {
+        return totalZones > 0 ? (double) congestionSum / totalZones : 0;
+    }
+}
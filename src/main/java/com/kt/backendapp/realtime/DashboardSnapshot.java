@@ -0,0 +1,26 @@
+package com.kt.backendapp.realtime;
+
+import com.kt.backendapp.dto.OperationalDashboardDTO;
+import lombok.Value;
+
+/**
+ * 버전이 붙은 운영 대시보드 스냅샷 (불변)
+ */
+@Value
+public class DashboardSnapshot {
+    
+    Long festivalId;
+    long version;
+    long builtAtMillis;
+    OperationalDashboardDTO dashboard;
+    boolean partial; // 일부 항목을 이전 값/빈 값으로 채운 경우
+    String contentHash; // 대시보드 직렬화 결과의 해시
+    
+    /**
+     * HTTP ETag (내용 해시이므로 재시작/다른 노드에서도 내용이 같을 때만 일치, 부분 스냅샷은 완전한 스냅샷과 구분)
+     * version 은 프로세스 안의 카운터라 캐시 판단에만 사용
+     */
+    public String getETag() {
+        return "\"" + contentHash + (partial ? "-partial" : "") + "\"";
+    }
+}
@@ -0,0 +1,220 @@
+package com.kt.backendapp.realtime;
+
+import com.kt.backendapp.dto.SNSFeedbackDTO;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 축제별 운영 대시보드 스냅샷 저장소
+ * - 구역 변경마다 합계/혼잡도 구간 카운터를 O(1)로 갱신 (전체 재계산 없음)
+ * - 카운터나 피드백/알림이 바뀌면 버전이 올라가고, 같은 버전의 조회는 캐시된 스냅샷을 그대로 사용
+ */
+@Component
+@Slf4j
+public class DashboardSnapshotRegistry implements ZoneStateListener {
+
+    private final ZoneLiveStateStore zoneLiveStateStore;
+
+    private final Map<Long, FestivalCounters> counters = new ConcurrentHashMap<>();
+    private final Map<Long, DashboardSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<Long, FeedbackSection> feedbackSections = new ConcurrentHashMap<>();
+
+    public DashboardSnapshotRegistry(ZoneLiveStateStore zoneLiveStateStore) {
+        this.zoneLiveStateStore = zoneLiveStateStore;
+    }
+
+    @Override
+    public void onZoneStateChanged(ZoneLiveState previous, ZoneLiveState current) {
+        // 아직 대시보드가 조회되지 않은 축제는 최초 조회 시 한 번에 집계
+        FestivalCounters festivalCounters = counters.get(current.getFestivalId());
+        if (festivalCounters != null) {
+            festivalCounters.apply(current);
+        }
+    }
+
+    @Override
+    public void onZoneRemoved(ZoneLiveState removed) {
+        FestivalCounters festivalCounters = counters.get(removed.getFestivalId());
+        if (festivalCounters != null) {
+            festivalCounters.remove(removed);
+        }
+    }
+
+    @Override
+    public void onFestivalRemoved(Long festivalId) {
+        // 다음 조회는 저장소에서 다시 집계하며, 삭제된 축제면 404
+        counters.remove(festivalId);
+        snapshots.remove(festivalId);
+        feedbackSections.remove(festivalId);
+    }
+
+    /**
+     * 현재 집계값 (최초 호출 시 저장소의 구역 상태로 초기화)
+     */
+    public DashboardCounters getCounters(Long festivalId) {
+        return countersOf(festivalId).read();
+    }
+
+    /**
+     * 현재 버전
+     */
+    public long getVersion(Long festivalId) {
+        return countersOf(festivalId).version();
+    }
+
+    /**
+     * 구역 외 요소(피드백, 알림) 변경 시 버전 증가
+     */
+    public void touch(Long festivalId) {
+        FestivalCounters festivalCounters = counters.get(festivalId);
+        if (festivalCounters != null) {
+            festivalCounters.touch();
+        }
+    }
+
+    public DashboardSnapshot getSnapshot(Long festivalId) {
+        return snapshots.get(festivalId);
+    }
+
+    /**
+     * 더 최신 버전의 스냅샷만 보관
+     */
+    public DashboardSnapshot storeSnapshot(DashboardSnapshot snapshot) {
+        return snapshots.merge(snapshot.getFestivalId(), snapshot,
+                (existing, incoming) -> incoming.getVersion() >= existing.getVersion() ? incoming : existing);
+    }
+
+    public FeedbackSection getFeedbackSection(Long festivalId) {
+        return feedbackSections.get(festivalId);
+    }
+
+    public void storeFeedbackSection(Long festivalId, FeedbackSection section) {
+        feedbackSections.put(festivalId, section);
+    }
+
+    /**
+     * 피드백 변경 반영 (다음 조회 시 피드백 요약을 다시 계산)
+     */
+    public void invalidateFeedback(Long festivalId) {
+        feedbackSections.remove(festivalId);
+        touch(festivalId);
+    }
+
+    public void invalidateAllFeedback() {
+        for (Long festivalId : feedbackSections.keySet()) {
+            invalidateFeedback(festivalId);
+        }
+    }
+
+    private FestivalCounters countersOf(Long festivalId) {
+        FestivalCounters festivalCounters = counters.get(festivalId);
+        if (festivalCounters != null) {
+            return festivalCounters;
+        }
+
+        // 리스너 등록 후 전체 상태를 반영하므로, 그 사이의 변경은 구역별 버전 비교로 중복 없이 합쳐진다
+        FestivalCounters created = new FestivalCounters();
+        FestivalCounters existing = counters.putIfAbsent(festivalId, created);
+        if (existing != null) {
+            return existing;
+        }
+        try {
+            for (ZoneLiveState state : zoneLiveStateStore.getZones(festivalId)) {
+                created.apply(state);
+            }
+        } catch (RuntimeException e) {
+            counters.remove(festivalId, created);
+            throw e;
+        }
+        log.debug("대시보드 집계 초기화: Festival ID={}", festivalId);
+        return created;
+    }
+
+    /**
+     * 피드백 요약 캐시
+     */
+    @Value
+    public static class FeedbackSection {
+        List<SNSFeedbackDTO> topIssues;
+        Map<String, Object> summary;
+    }
+
+    /**
+     * 축제별 누적 카운터
+     * 구역별로 마지막에 반영한 상태를 기억해 차이만 더하고, 순서가 뒤바뀐 오래된 변경은 무시한다
+     */
+    private static class FestivalCounters {
+        private final Map<Long, ZoneLiveState> applied = new HashMap<>();
+        private long version;
+        private int totalZones;
+        private long totalCapacity;
+        private long currentTotalCapacity;
+        private long congestionSum;
+        private final int[] buckets = new int[4];
+
+        private synchronized void apply(ZoneLiveState state) {
+            ZoneLiveState previous = applied.get(state.getZoneId());
+            if (previous != null && previous.getVersion() >= state.getVersion()) {
+                return;
+            }
+
+            if (previous != null) {
+                subtract(previous);
+            } else {
+                totalZones++;
+            }
+            add(state);
+            applied.put(state.getZoneId(), state);
+            version++;
+        }
+
+        private synchronized void remove(ZoneLiveState state) {
+            ZoneLiveState previous = applied.remove(state.getZoneId());
+            if (previous != null) {
+                subtract(previous);
+                totalZones--;
+                version++;
+            }
+        }
+
+        private synchronized void touch() {
+            version++;
+        }
+
+        private synchronized long version() {
+            return version;
+        }
+
+        private synchronized DashboardCounters read() {
+            return new DashboardCounters(version, totalZones, totalCapacity, currentTotalCapacity, congestionSum,
+                    buckets[0], buckets[1], buckets[2], buckets[3]);
+        }
+
+        private void add(ZoneLiveState state) {
+            totalCapacity += state.getCapacity();
+            currentTotalCapacity += state.getCurrentCapacity();
+            congestionSum += state.getCongestionLevel();
+            buckets[bucketOf(state.getCongestionLevel())]++;
+        }
+
+        private void subtract(ZoneLiveState state) {
+            totalCapacity -= state.getCapacity();
+            currentTotalCapacity -= state.getCurrentCapacity();
+            congestionSum -= state.getCongestionLevel();
+            buckets[bucketOf(state.getCongestionLevel())]--;
+        }
+
+        private static int bucketOf(int congestionLevel) {
+            if (congestionLevel < 40) return 0;
+            if (congestionLevel < 60) return 1;
+            if (congestionLevel < 80) return 2;
+            return 3;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.kt.backendapp.realtime;
+
+import com.kt.backendapp.domain.model.FeedbackStatistics;
+import com.kt.backendapp.entity.SentimentType;
+import com.kt.backendapp.repository.SNSFeedbackRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 축제별 피드백 통계 캐시
+ * - GROUPING SETS 쿼리 한 번으로 감정별/플랫폼별/전체 통계를 함께 계산
+ * - 피드백이 저장/수정되면 invalidate 로 버전을 올리며, 그 전에 시작된 조회 결과는 캐시에 남아도 사용되지 않는다
+ */
+@Component
+@Slf4j
+public class FeedbackStatisticsCache {
+
+    public static final String UNKNOWN_PLATFORM = "기타";
+
+    private final SNSFeedbackRepository snsFeedbackRepository;
+
+    private final Map<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final Map<Long, Cached> cache = new ConcurrentHashMap<>();
+
+    public FeedbackStatisticsCache(SNSFeedbackRepository snsFeedbackRepository) {
+        this.snsFeedbackRepository = snsFeedbackRepository;
+    }
+
+    public FeedbackStatistics getStatistics(Long festivalId) {
+        long version = versionOf(festivalId).get();
+        Cached cached = cache.get(festivalId);
+        if (cached != null && cached.version == version) {
+            return cached.statistics;
+        }
+
+        FeedbackStatistics statistics = load(festivalId);
+        cache.merge(festivalId, new Cached(version, statistics),
+                (previous, loaded) -> loaded.version >= previous.version ? loaded : previous);
+        return statistics;
+    }
+
+    public void invalidate(Long festivalId) {
+        versionOf(festivalId).incrementAndGet();
+    }
+
+    public void invalidateAll() {
+        versions.values().forEach(AtomicLong::incrementAndGet);
+    }
+
+    private FeedbackStatistics load(Long festivalId) {
+        log.debug("피드백 통계 집계: Festival ID={}", festivalId);
+
+        FeedbackStatistics.FeedbackStatisticsBuilder builder = FeedbackStatistics.builder();
+        List<Object[]> rows = snsFeedbackRepository.getFeedbackStatistics(festivalId);
+        for (Object[] row : rows) {
+            boolean groupedBySentiment = ((Number) row[2]).intValue() == 0;
+            boolean groupedByPlatform = ((Number) row[3]).intValue() == 0;
+            long count = ((Number) row[4]).longValue();
+            long mentions = ((Number) row[5]).longValue();
+
+            if (groupedBySentiment) {
+                builder.sentiment(SentimentType.valueOf((String) row[0]), new FeedbackStatistics.Bucket(count, mentions));
+            } else if (groupedByPlatform) {
+                String platform = row[1] != null ? (String) row[1] : UNKNOWN_PLATFORM;
+                builder.platform(platform, new FeedbackStatistics.Bucket(count, mentions));
+            } else {
+                // 전체 합계 행
+                builder.totalFeedback(count)
+                        .totalMentions(mentions)
+                        .unresolvedCount(((Number) row[6]).longValue())
+                        .severitySum(((Number) row[7]).longValue())
+                        .severityCount(((Number) row[8]).longValue());
+            }
+        }
+        return builder.build();
+    }
+
+    private AtomicLong versionOf(Long festivalId) {
+        return versions.computeIfAbsent(festivalId, id -> new AtomicLong());
+    }
+
+    private record Cached(long version, FeedbackStatistics statistics) {
+    }
+}
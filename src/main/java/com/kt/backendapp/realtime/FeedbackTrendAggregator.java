@@ -0,0 +1,142 @@
+package com.kt.backendapp.realtime;
+
+import com.kt.backendapp.domain.model.FeedbackTrendWindow;
+import com.kt.backendapp.entity.SentimentType;
+import com.kt.backendapp.repository.SNSFeedbackRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 축제별 SNS 언급 수 추세
+ * - 수집되는 게시글을 분 단위 윈도우(FeedbackTrendWindow)에 바로 더하므로 조회 시 DB를 읽지 않는다
+ * - 시작 시 윈도우 기간 안에 생성된 sns_feedback 을 불러와 재구성
+ *   (저장된 이슈는 언급 시각을 따로 갖지 않으므로 언급 수 전체를 이슈 생성 시각에 반영)
+ * - 윈도우는 수집/재구성 시에만 만들고, 수집된 적 없는 축제 조회는 빈 윈도우 기준 0 으로 응답
+ *   (조회 요청만으로 축제마다 윈도우가 생기지 않도록)
+ */
+@Component
+@Slf4j
+public class FeedbackTrendAggregator {
+
+    private static final long MILLIS_PER_MINUTE = 60_000L;
+
+    private final SNSFeedbackRepository snsFeedbackRepository;
+    private final int windowMinutes;
+    private final int maxPlatforms;
+
+    private final Map<Long, FeedbackTrendWindow> windows = new ConcurrentHashMap<>();
+    // 수집된 적 없는 축제 조회용 (기록하지 않음)
+    private final FeedbackTrendWindow emptyWindow;
+
+    public FeedbackTrendAggregator(SNSFeedbackRepository snsFeedbackRepository,
+                                   @Value("${festival.sns.trend-window-minutes:1440}") int windowMinutes,
+                                   @Value("${festival.sns.trend-max-platforms:8}") int maxPlatforms) {
+        this.snsFeedbackRepository = snsFeedbackRepository;
+        this.windowMinutes = windowMinutes;
+        this.maxPlatforms = maxPlatforms;
+        this.emptyWindow = new FeedbackTrendWindow(windowMinutes, 2);
+    }
+
+    /**
+     * 시작 시 DB의 최근 피드백으로 윈도우 재구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LocalDateTime since = LocalDateTime.now().minusMinutes(windowMinutes);
+        try {
+            List<Object[]> rows = snsFeedbackRepository.getMinuteMentionsSince(since);
+            for (Object[] row : rows) {
+                Long festivalId = ((Number) row[0]).longValue();
+                long epochMinute = epochMinuteOf(row[1]);
+                SentimentType sentiment = SentimentType.valueOf((String) row[2]);
+                String platform = (String) row[3];
+                int mentions = ((Number) row[4]).intValue();
+                windowOf(festivalId).add(epochMinute, sentiment, platform, mentions);
+            }
+            log.info("SNS 언급 추세 재구성 완료: 축제 수={}, 분 단위 집계 {}건", windows.size(), rows.size());
+        } catch (RuntimeException e) {
+            // 재구성에 실패해도 이후 수집분부터 집계
+            log.warn("SNS 언급 추세 재구성 실패", e);
+        }
+    }
+
+    /**
+     * 게시글 언급 반영 (현재 분)
+     */
+    public void record(Long festivalId, SentimentType sentiment, String platform, int mentions) {
+        windowOf(festivalId).add(currentMinute(), sentiment, platform, mentions);
+    }
+
+    /**
+     * 최근 minutes 분 합계
+     */
+    public FeedbackTrendWindow.Counts getMentions(Long festivalId, int minutes) {
+        return readWindowOf(festivalId).sum(currentMinute(), minutes);
+    }
+
+    /**
+     * 최근 minutes 분 이전의 같은 길이 구간 합계 (추세 비교용)
+     *
+     * @throws IllegalArgumentException 두 구간이 윈도우 안에 들어가지 않는 길이 (getMaxComparableMinutes 초과)
+     */
+    public FeedbackTrendWindow.Counts getPreviousMentions(Long festivalId, int minutes) {
+        if (minutes > getMaxComparableMinutes()) {
+            throw new IllegalArgumentException("직전 구간과 비교할 수 있는 최대 길이는 "
+                    + getMaxComparableMinutes() + "분입니다: " + minutes);
+        }
+        return readWindowOf(festivalId).sum(currentMinute() - minutes, minutes);
+    }
+
+    /**
+     * 최근 minutes 분을 stepMinutes 단위로 나눈 언급 수
+     */
+    public long[] getSeries(Long festivalId, int minutes, int stepMinutes) {
+        return readWindowOf(festivalId).series(currentMinute(), minutes, stepMinutes);
+    }
+
+    public int getWindowMinutes() {
+        return windowMinutes;
+    }
+
+    /**
+     * 최근 구간과 직전 구간이 모두 윈도우 안에 들어가는 최대 길이 (분)
+     */
+    public int getMaxComparableMinutes() {
+        return windowMinutes / 2;
+    }
+
+    int getWindowCount() {
+        return windows.size();
+    }
+
+    private FeedbackTrendWindow readWindowOf(Long festivalId) {
+        FeedbackTrendWindow window = windows.get(festivalId);
+        return window != null ? window : emptyWindow;
+    }
+
+    private FeedbackTrendWindow windowOf(Long festivalId) {
+        return windows.computeIfAbsent(festivalId, id -> new FeedbackTrendWindow(windowMinutes, maxPlatforms));
+    }
+
+    // 드라이버/Hibernate 설정에 따라 Timestamp 또는 LocalDateTime 으로 반환됨
+    private static long epochMinuteOf(Object value) {
+        if (value instanceof LocalDateTime localDateTime) {
+            return localDateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() / MILLIS_PER_MINUTE;
+        }
+        return ((Timestamp) value).getTime() / MILLIS_PER_MINUTE;
+    }
+
+    private static long currentMinute() {
+        return System.currentTimeMillis() / MILLIS_PER_MINUTE;
+    }
+}
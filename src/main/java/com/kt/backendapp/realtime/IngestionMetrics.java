@@ -0,0 +1,77 @@
+package com.kt.backendapp.realtime;
+
+import com.kt.backendapp.dto.BulkIngestionResultDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * 수집 처리량 지표
+ * - 요청 단위로 수집 결과 건수를 더하므로 게시글/인원 변경마다 지표를 갱신하지 않는다
+ * - 실제로 반영된 인원 변경은 수집 경로(일괄, 스트림, 단건)와 무관하게 상태 변경 시점에 센다
+ */
+@Component
+public class IngestionMetrics implements ZoneStateListener {
+
+    public static final String ZONE = "zone";
+    public static final String FEEDBACK = "feedback";
+
+    private final Counters zoneCounters;
+    private final Counters feedbackCounters;
+    private final Counter headcountUpdates;
+
+    public IngestionMetrics(MeterRegistry registry) {
+        this.zoneCounters = new Counters(registry, ZONE);
+        this.feedbackCounters = new Counters(registry, FEEDBACK);
+        this.headcountUpdates = Counter.builder("festival.zone.headcount.updates")
+                .description("메모리 상태에 반영된 구역 인원 변경 수")
+                .register(registry);
+    }
+
+    /**
+     * 수집 요청 결과 기록
+     *
+     * @return 전달받은 결과 (그대로 반환)
+     */
+    public BulkIngestionResultDTO record(String source, BulkIngestionResultDTO result) {
+        Counters counters = FEEDBACK.equals(source) ? feedbackCounters : zoneCounters;
+        counters.received.increment(valueOf(result.getReceived()));
+        counters.accepted.increment(valueOf(result.getAccepted()));
+        counters.dropped.increment(valueOf(result.getDropped()));
+        counters.coalesced.increment(valueOf(result.getCoalesced()));
+        return result;
+    }
+
+    @Override
+    public void onZoneStateChanged(ZoneLiveState previous, ZoneLiveState current) {
+        if (previous != null && previous.getCurrentCapacity() != current.getCurrentCapacity()) {
+            headcountUpdates.increment();
+        }
+    }
+
+    private static int valueOf(Integer value) {
+        return value != null ? value : 0;
+    }
+
+    private static class Counters {
+        private final Counter received;
+        private final Counter accepted;
+        private final Counter dropped;
+        private final Counter coalesced;
+
+        private Counters(MeterRegistry registry, String source) {
+            this.received = counter(registry, source, "received");
+            this.accepted = counter(registry, source, "accepted");
+            this.dropped = counter(registry, source, "dropped");
+            this.coalesced = counter(registry, source, "coalesced");
+        }
+
+        private static Counter counter(MeterRegistry registry, String source, String result) {
+            return Counter.builder("festival.ingest.records")
+                    .description("수집 요청으로 받은 건수 (결과별)")
+                    .tag("source", source)
+                    .tag("result", result)
+                    .register(registry);
+        }
+    }
+}
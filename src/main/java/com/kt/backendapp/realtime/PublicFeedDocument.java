@@ -0,0 +1,34 @@
+package com.kt.backendapp.realtime;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * 미리 직렬화한 공개 혼잡도 피드 (불변, 통째로 교체)
+ * 조회는 바이트 배열을 그대로 쓰므로 배열 내용을 수정하면 안 된다
+ */
+@Value
+public class PublicFeedDocument {
+    
+    public static final String BINARY_MEDIA_TYPE = "application/x-festival-congestion";
+    
+    Long festivalId;
+    String hash; // 내용 해시 (같은 내용이면 노드/재시작과 무관하게 같다)
+    LocalDateTime updatedAt;
+    int zoneCount;
+    byte[] json;
+    byte[] gzipJson;
+    byte[] binary;
+    
+    /**
+     * JSON 표현의 ETag (압축 여부에 따라 표현이 다르므로 구분)
+     */
+    public String getJsonETag(boolean gzip) {
+        return "\"" + hash + (gzip ? "-gz" : "") + "\"";
+    }
+    
+    public String getBinaryETag() {
+        return "\"" + hash + "-bin\"";
+    }
+}
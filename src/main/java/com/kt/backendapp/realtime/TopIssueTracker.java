@@ -0,0 +1,74 @@
+package com.kt.backendapp.realtime;
+
+import com.kt.backendapp.domain.model.IssueClusterer;
+import com.kt.backendapp.domain.model.SpaceSavingSummary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 축제별 상위 이슈 추적
+ * - 언급 수 기준, 심각도 가중(언급 수 x 심각도) 기준 Space-Saving 요약을 각각 유지
+ * - 이슈 수와 무관하게 축제당 capacity 개만 추적하며, 조회는 변경이 없으면 캐시된 정렬 결과를 반환
+ * - SNS 수집기가 이슈를 불러오거나 게시글을 반영할 때 갱신
+ */
+@Component
+public class TopIssueTracker {
+
+    private final int capacity;
+
+    private final Map<Long, FestivalTopIssues> festivals = new ConcurrentHashMap<>();
+
+    public TopIssueTracker(@Value("${festival.sns.top-issues-capacity:100}") int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * 이슈 언급 반영
+     */
+    public void record(Long festivalId, IssueClusterer.Cluster cluster, int mentions, int severityLevel) {
+        FestivalTopIssues top = festivals.computeIfAbsent(festivalId, id -> new FestivalTopIssues(capacity));
+        top.byMentions.add(cluster, mentions);
+        top.bySeverity.add(cluster, (long) mentions * severityLevel);
+    }
+
+    public boolean isTracking(Long festivalId) {
+        return festivals.containsKey(festivalId);
+    }
+
+    public List<IssueClusterer.Cluster> getTopByMentions(Long festivalId, int limit) {
+        FestivalTopIssues top = festivals.get(festivalId);
+        return top != null ? keysOf(top.byMentions.top(limit)) : List.of();
+    }
+
+    public List<IssueClusterer.Cluster> getTopBySeverity(Long festivalId, int limit) {
+        FestivalTopIssues top = festivals.get(festivalId);
+        return top != null ? keysOf(top.bySeverity.top(limit)) : List.of();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    private static List<IssueClusterer.Cluster> keysOf(List<SpaceSavingSummary.Entry<IssueClusterer.Cluster>> entries) {
+        List<IssueClusterer.Cluster> keys = new ArrayList<>(entries.size());
+        for (SpaceSavingSummary.Entry<IssueClusterer.Cluster> entry : entries) {
+            keys.add(entry.key());
+        }
+        return keys;
+    }
+
+    private static class FestivalTopIssues {
+        private final SpaceSavingSummary<IssueClusterer.Cluster> byMentions;
+        private final SpaceSavingSummary<IssueClusterer.Cluster> bySeverity;
+
+        private FestivalTopIssues(int capacity) {
+            this.byMentions = new SpaceSavingSummary<>(capacity);
+            this.bySeverity = new SpaceSavingSummary<>(capacity);
+        }
+    }
+}
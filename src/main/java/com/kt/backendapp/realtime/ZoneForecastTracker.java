@@ -0,0 +1,100 @@
+package com.kt.backendapp.realtime;
+
+import com.kt.backendapp.domain.model.HoltTrendForecaster;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 구역별 인원 예측 상태 (Holt 선형 추세)
+ * - 인원 변경마다 O(1)로 갱신하며, 구역당 상태 객체 하나만 보관
+ * - 시각은 crowd_metrics.ts 와 같은 기준을 써서 이력으로 채운 상태와 실시간 갱신이 이어지도록 한다
+ * - 인원 변경이 없던 시간도 관측으로 보고, 조회 시점에 현재 인원을 한 번 더 반영한 상태로 예측한다
+ *   (인원이 멈춘 구역에서 마지막 추세가 계속 연장되지 않도록, 이 관측은 저장하지 않음)
+ */
+@Component
+public class ZoneForecastTracker implements ZoneStateListener {
+
+    private final HoltTrendForecaster forecaster;
+
+    private final Map<Long, HoltTrendForecaster.State> states = new ConcurrentHashMap<>();
+
+    public ZoneForecastTracker(@Value("${festival.forecast.level-time-constant-minutes:3}") double levelTimeConstantMinutes,
+                               @Value("${festival.forecast.trend-time-constant-minutes:10}") double trendTimeConstantMinutes) {
+        this.forecaster = new HoltTrendForecaster(levelTimeConstantMinutes, trendTimeConstantMinutes);
+    }
+
+    @Override
+    public void onZoneStateChanged(ZoneLiveState previous, ZoneLiveState current) {
+        // 메타데이터만 바뀐 경우(인원 동일)는 관측으로 보지 않음
+        if (previous != null && previous.getCurrentCapacity() == current.getCurrentCapacity()) {
+            return;
+        }
+        long now = nowMillis();
+        int headcount = current.getCurrentCapacity();
+        states.compute(current.getZoneId(), (id, state) -> forecaster.update(state, headcount, now));
+    }
+
+    @Override
+    public void onZoneRemoved(ZoneLiveState removed) {
+        states.remove(removed.getZoneId());
+    }
+
+    /**
+     * 이력으로 예측 상태 채우기 (오래된 순, 이미 실시간 관측이 있는 구역은 건너뜀)
+     *
+     * @return 상태를 채웠으면 true
+     */
+    public boolean backfill(Long zoneId, long[] atMillis, int[] headcounts, int count) {
+        if (count == 0 || states.containsKey(zoneId)) {
+            return false;
+        }
+        HoltTrendForecaster.State state = null;
+        for (int i = 0; i < count; i++) {
+            state = forecaster.update(state, headcounts[i], atMillis[i]);
+        }
+        return states.putIfAbsent(zoneId, state) == null;
+    }
+
+    /**
+     * 구역 예측 (관측이 없으면 현재 인원이 유지된다고 봄)
+     */
+    public Forecast forecast(ZoneLiveState zone, int[] horizonsMinutes) {
+        return forecast(zone, horizonsMinutes, nowMillis());
+    }
+
+    Forecast forecast(ZoneLiveState zone, int[] horizonsMinutes, long now) {
+        HoltTrendForecaster.State stored = states.get(zone.getZoneId());
+        // 마지막 변경 이후 지금까지 현재 인원이 유지되었다는 관측 반영
+        HoltTrendForecaster.State state = forecaster.update(stored, zone.getCurrentCapacity(), now);
+
+        double[] predicted = new double[horizonsMinutes.length];
+        for (int i = 0; i < horizonsMinutes.length; i++) {
+            predicted[i] = forecaster.forecast(state, now, horizonsMinutes[i]);
+        }
+        double minutesToCapacity = zone.getCapacity() > 0
+                ? forecaster.minutesUntil(state, now, zone.getCapacity())
+                : Double.POSITIVE_INFINITY;
+        return new Forecast(state.trendPerMinute(), predicted, minutesToCapacity,
+                stored != null ? stored.samples() : state.samples());
+    }
+
+    public int size() {
+        return states.size();
+    }
+
+    private static long nowMillis() {
+        return LocalDateTime.now().toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    /**
+     * @param predicted         horizonsMinutes 순서의 예상 인원
+     * @param minutesToCapacity 수용 인원 도달까지 남은 분 (도달하지 않으면 POSITIVE_INFINITY)
+     */
+    public record Forecast(double trendPerMinute, double[] predicted, double minutesToCapacity, int samples) {
+    }
+}
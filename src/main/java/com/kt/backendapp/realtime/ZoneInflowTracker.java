@@ -0,0 +1,72 @@
+package com.kt.backendapp.realtime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 구역별 분당 인원 증감 추정 (지수 가중 이동 평균)
+ * 인원 변경마다 O(1)로 갱신되며, 시간 간격이 불규칙해도 같은 시간 상수로 감쇠한다
+ * 마지막 변경 이후 변화가 없던 시간은 증감 0 관측으로 보고 조회 시점에 감쇠시킨다
+ * (인원이 멈춘 구역의 과거 유입이 계속 남아 있지 않도록)
+ */
+@Component
+public class ZoneInflowTracker implements ZoneStateListener {
+
+    private final double timeConstantMillis;
+
+    private final Map<Long, Inflow> inflows = new ConcurrentHashMap<>();
+
+    public ZoneInflowTracker(@Value("${festival.recommendation.inflow-time-constant-ms:300000}") double timeConstantMillis) {
+        this.timeConstantMillis = timeConstantMillis;
+    }
+
+    @Override
+    public void onZoneStateChanged(ZoneLiveState previous, ZoneLiveState current) {
+        if (previous == null || previous.getCurrentCapacity() == current.getCurrentCapacity()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        int headcount = current.getCurrentCapacity();
+        inflows.compute(current.getZoneId(), (id, inflow) -> inflow == null
+                ? new Inflow(headcount, now, 0)
+                : inflow.next(headcount, now, timeConstantMillis));
+    }
+
+    @Override
+    public void onZoneRemoved(ZoneLiveState removed) {
+        inflows.remove(removed.getZoneId());
+    }
+
+    /**
+     * 최근 분당 인원 증감 (관측이 없으면 0)
+     */
+    public double getInflowPerMinute(Long zoneId) {
+        return getInflowPerMinute(zoneId, System.currentTimeMillis());
+    }
+
+    double getInflowPerMinute(Long zoneId, long now) {
+        Inflow inflow = inflows.get(zoneId);
+        return inflow != null ? inflow.perMinuteAt(now, timeConstantMillis) : 0;
+    }
+
+    private record Inflow(int headcount, long atMillis, double perMinute) {
+
+        private Inflow next(int newHeadcount, long now, double timeConstantMillis) {
+            long elapsed = Math.max(1, now - atMillis);
+            double rate = (newHeadcount - headcount) * 60_000.0 / elapsed;
+            double alpha = 1 - Math.exp(-elapsed / timeConstantMillis);
+            return new Inflow(newHeadcount, now, perMinute + alpha * (rate - perMinute));
+        }
+
+        /**
+         * 마지막 변경 이후 now 까지 증감 0 이 이어진 것으로 보고 감쇠
+         */
+        private double perMinuteAt(long now, double timeConstantMillis) {
+            long elapsed = Math.max(0, now - atMillis);
+            return perMinute * Math.exp(-elapsed / timeConstantMillis);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.kt.backendapp.realtime;
+
+import com.kt.backendapp.domain.vo.CongestionLevel;
+import com.kt.backendapp.entity.Zone;
+import com.kt.backendapp.entity.ZoneType;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * 구역의 실시간 상태 스냅샷 (불변)
+ * 변경 시 새 객체로 교체하므로 읽기 쪽은 잠금 없이 일관된 값을 본다
+ */
+@Value
+@Builder(toBuilder = true)
+public class ZoneLiveState {
+    
+    Long zoneId;
+    Long festivalId;
+    long version; // 구역별 변경 순번 (변경마다 1씩 증가)
+    String name;
+    ZoneType type;
+    int capacity;
+    String coordinates;
+    String notes;
+    
+    // 실시간 운영 데이터
+    int currentCapacity;
+    int congestionLevel; // 0-100%
+    
+    LocalDateTime createdAt;
+    LocalDateTime updatedAt;
+    
+    public static ZoneLiveState from(Zone zone) {
+        int capacity = zone.getCapacity() != null ? zone.getCapacity() : 0;
+        int currentCapacity = zone.getCurrentCapacity() != null ? zone.getCurrentCapacity() : 0;
+        
+        return ZoneLiveState.builder()
+                .zoneId(zone.getId())
+                .festivalId(zone.getFestival().getId())
+                .name(zone.getName())
+                .type(zone.getType())
+                .capacity(capacity)
+                .coordinates(zone.getCoordinates())
+                .notes(zone.getNotes())
+                .currentCapacity(currentCapacity)
+                .congestionLevel(CongestionLevel.percentageOf(currentCapacity, capacity))
+                .createdAt(zone.getCreatedAt())
+                .updatedAt(zone.getUpdatedAt())
+                .build();
+    }
+    
+    /**
+     * 현재 인원만 바꾼 새 상태
+     */
+    public ZoneLiveState withCurrentCapacity(int currentCapacity, LocalDateTime updatedAt) {
+        return toBuilder()
+                .version(version + 1)
+                .currentCapacity(currentCapacity)
+                .congestionLevel(CongestionLevel.percentageOf(currentCapacity, capacity))
+                .updatedAt(updatedAt)
+                .build();
+    }
+    
+    /**
+     * 메타데이터(이름, 수용인원 등)는 갱신하고 실시간 인원은 유지한 새 상태
+     */
+    public ZoneLiveState withMetadataOf(ZoneLiveState metadata) {
+        return metadata.toBuilder()
+                .version(version + 1)
+                .currentCapacity(currentCapacity)
+                .congestionLevel(CongestionLevel.percentageOf(currentCapacity, metadata.capacity))
+                .build();
+    }
+    
+    /**
+     * 혼잡도 상태 반환 (Zone.getCongestionStatus 와 동일한 기준)
+     */
+    public String getCongestionStatus() {
+        if (congestionLevel >= 80) return "매우 혼잡";
+        if (congestionLevel >= 60) return "혼잡";
+        if (congestionLevel >= 40) return "보통";
+        return "여유";
+    }
+}
@@ -0,0 +1,330 @@
+package com.kt.backendapp.realtime;
+
+import com.kt.backendapp.entity.Zone;
+import com.kt.backendapp.exception.ResourceNotFoundException;
+import com.kt.backendapp.repository.FestivalRepository;
+import com.kt.backendapp.repository.ZoneRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 구역 실시간 상태 저장소 (write-behind)
+ * - 모든 실시간 조회는 메모리에서 처리 (ConcurrentHashMap 조회는 잠금 없음)
+ * - 인원 변경은 변경 구역 ID만 dirty 집합에 기록하고, 주기적으로 JDBC batch로 zones 테이블에 반영
+ * - 축제별 구역은 최초 조회 시 DB에서 한 번 적재하고, 축제 삭제 시 통째로 정리
+ * - 변경 내용은 ZoneStateListener 들에게 동기 전달
+ */
+@Component
+@Slf4j
+public class ZoneLiveStateStore {
+
+    private final ZoneRepository zoneRepository;
+    private final FestivalRepository festivalRepository;
+    private final ObjectProvider<ZoneStateListener> listenerProvider;
+    private final int batchSize;
+
+    // 리스너가 저장소를 참조할 수 있으므로 최초 변경 시점에 조회
+    private volatile List<ZoneStateListener> listeners;
+
+    private final Map<Long, ZoneLiveState> zones = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> festivalZones = new ConcurrentHashMap<>();
+    private final Map<Long, Boolean> loadedFestivals = new ConcurrentHashMap<>();
+    private final Map<Long, CompletableFuture<Boolean>> loading = new ConcurrentHashMap<>();
+
+    // DB 반영 대기 중인 구역
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+
+    public ZoneLiveStateStore(ZoneRepository zoneRepository,
+                              FestivalRepository festivalRepository,
+                              ObjectProvider<ZoneStateListener> listenerProvider,
+                              @Value("${festival.realtime.batch-size:500}") int batchSize) {
+        this.zoneRepository = zoneRepository;
+        this.festivalRepository = festivalRepository;
+        this.listenerProvider = listenerProvider;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 축제의 구역 상태를 메모리에 적재 (이미 적재된 경우 무시)
+     * DB 조회는 맵 잠금 밖에서 한 번만 실행하고, 동시에 들어온 호출은 진행 중인 적재를 기다린다
+     * (computeIfAbsent 안에서 I/O 를 하면 같은 bin 의 다른 키가 막히고 가상 스레드가 캐리어에 고정된다)
+     */
+    public void ensureLoaded(Long festivalId) {
+        if (loadedFestivals.containsKey(festivalId)) {
+            return;
+        }
+
+        CompletableFuture<Boolean> created = new CompletableFuture<>();
+        CompletableFuture<Boolean> inFlight = loading.putIfAbsent(festivalId, created);
+        if (inFlight != null) {
+            awaitLoad(inFlight);
+            return;
+        }
+
+        try {
+            if (!loadedFestivals.containsKey(festivalId)) {
+                load(festivalId);
+                loadedFestivals.put(festivalId, Boolean.TRUE);
+            }
+            created.complete(Boolean.TRUE);
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(festivalId, created);
+        }
+    }
+
+    /**
+     * 축제의 모든 구역 상태 (ID 순)
+     */
+    public List<ZoneLiveState> getZones(Long festivalId) {
+        ensureLoaded(festivalId);
+
+        Set<Long> zoneIds = festivalZones.getOrDefault(festivalId, Set.of());
+        List<ZoneLiveState> result = new ArrayList<>(zoneIds.size());
+        for (Long zoneId : zoneIds) {
+            ZoneLiveState state = zones.get(zoneId);
+            if (state != null) {
+                result.add(state);
+            }
+        }
+        result.sort(Comparator.comparing(ZoneLiveState::getZoneId));
+        return result;
+    }
+
+    /**
+     * 구역 상태 조회 (메모리에 없으면 소속 축제를 적재)
+     */
+    public Optional<ZoneLiveState> getZone(Long zoneId) {
+        ZoneLiveState state = zones.get(zoneId);
+        if (state != null) {
+            return Optional.of(state);
+        }
+
+        Optional<Zone> zone = zoneRepository.findById(zoneId);
+        zone.ifPresent(z -> ensureLoaded(z.getFestival().getId()));
+        return Optional.ofNullable(zones.get(zoneId));
+    }
+
+    /**
+     * 적재된 상태만 조회 (DB 접근 없음, 수집 경로용)
+     */
+    public ZoneLiveState peek(Long zoneId) {
+        return zones.get(zoneId);
+    }
+
+    /**
+     * 현재 인원 반영 (원자적 교체 후 dirty 표시)
+     *
+     * @return 변경된 상태, 적재되지 않은 구역이면 null
+     */
+    public ZoneLiveState applyHeadcount(Long zoneId, int currentCapacity) {
+        LocalDateTime now = LocalDateTime.now();
+        while (true) {
+            ZoneLiveState previous = zones.get(zoneId);
+            if (previous == null) {
+                return null;
+            }
+
+            ZoneLiveState updated = previous.withCurrentCapacity(currentCapacity, now);
+            // 같은 구역에 대한 동시 변경은 CAS 재시도로 직렬화
+            if (zones.replace(zoneId, previous, updated)) {
+                dirty.add(zoneId);
+                notifyChanged(previous, updated);
+                return updated;
+            }
+        }
+    }
+
+    /**
+     * 구역 생성/수정 반영 (실시간 인원은 메모리 값을 유지)
+     */
+    public ZoneLiveState register(Zone zone) {
+        ZoneLiveState metadata = ZoneLiveState.from(zone);
+        ZoneLiveState previous = zones.get(zone.getId());
+        ZoneLiveState merged = zones.merge(zone.getId(), metadata,
+                (existing, incoming) -> existing.withMetadataOf(incoming));
+        zoneIdsOf(merged.getFestivalId()).add(zone.getId());
+
+        // 수용인원 변경으로 혼잡도가 달라졌을 수 있으므로 다시 반영
+        dirty.add(zone.getId());
+        notifyChanged(previous, merged);
+        return merged;
+    }
+
+    /**
+     * 구역 삭제 반영
+     */
+    public void remove(Long zoneId) {
+        ZoneLiveState removed = zones.remove(zoneId);
+        dirty.remove(zoneId);
+        if (removed != null) {
+            Set<Long> zoneIds = festivalZones.get(removed.getFestivalId());
+            if (zoneIds != null) {
+                zoneIds.remove(zoneId);
+            }
+            for (ZoneStateListener listener : listeners()) {
+                try {
+                    listener.onZoneRemoved(removed);
+                } catch (RuntimeException e) {
+                    log.warn("구역 삭제 알림 처리 실패: listener={}", listener.getClass().getSimpleName(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 축제 삭제 반영 (삭제 트랜잭션 커밋 후 호출)
+     * 적재 표시와 구역 상태를 지워 이후 조회는 DB 를 다시 확인해 404 가 되고, 수집과 DB 반영 대상에서도 빠진다
+     */
+    public void removeFestival(Long festivalId) {
+        loadedFestivals.remove(festivalId);
+        Set<Long> zoneIds = festivalZones.remove(festivalId);
+        if (zoneIds != null) {
+            for (Long zoneId : zoneIds) {
+                remove(zoneId);
+            }
+        }
+        for (ZoneStateListener listener : listeners()) {
+            try {
+                listener.onFestivalRemoved(festivalId);
+            } catch (RuntimeException e) {
+                log.warn("축제 삭제 알림 처리 실패: listener={}", listener.getClass().getSimpleName(), e);
+            }
+        }
+        log.info("구역 실시간 상태 정리: Festival ID={}, 구역 수={}", festivalId, zoneIds != null ? zoneIds.size() : 0);
+    }
+
+    public boolean isPending(Long zoneId) {
+        return dirty.contains(zoneId);
+    }
+
+    public int getPendingCount() {
+        return dirty.size();
+    }
+
+    @Scheduled(fixedDelayString = "${festival.realtime.flush-interval-ms:1000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    /**
+     * dirty 구역을 JDBC batch로 zones 테이블에 반영
+     * 수집 스레드는 dirty 집합에 추가만 하므로 반영 중에도 막히지 않는다
+     */
+    public int flush() {
+        if (dirty.isEmpty()) {
+            return 0;
+        }
+
+        long[] zoneIds = new long[batchSize];
+        int[] currentCapacities = new int[batchSize];
+        int[] congestionLevels = new int[batchSize];
+        int count = 0;
+        int flushed = 0;
+
+        for (Long zoneId : dirty) {
+            // 제거 후 읽어야 반영 중 들어온 변경이 다음 주기에 다시 잡힌다
+            dirty.remove(zoneId);
+            ZoneLiveState state = zones.get(zoneId);
+            if (state == null) {
+                continue;
+            }
+
+            zoneIds[count] = zoneId;
+            currentCapacities[count] = state.getCurrentCapacity();
+            congestionLevels[count] = state.getCongestionLevel();
+            count++;
+
+            if (count == batchSize) {
+                flushed += writeBatch(zoneIds, currentCapacities, congestionLevels, count);
+                count = 0;
+            }
+        }
+        flushed += writeBatch(zoneIds, currentCapacities, congestionLevels, count);
+
+        log.debug("구역 실시간 상태 DB 반영 완료: {}건", flushed);
+        return flushed;
+    }
+
+    private int writeBatch(long[] zoneIds, int[] currentCapacities, int[] congestionLevels, int count) {
+        if (count == 0) {
+            return 0;
+        }
+
+        try {
+            return zoneRepository.batchUpdateRealTimeData(zoneIds, currentCapacities, congestionLevels, count);
+        } catch (RuntimeException e) {
+            // 다음 주기에 최신 상태로 다시 반영
+            for (int i = 0; i < count; i++) {
+                dirty.add(zoneIds[i]);
+            }
+            log.error("구역 실시간 상태 DB 반영 실패: {}건 재시도 예정", count, e);
+            return 0;
+        }
+    }
+
+    private void notifyChanged(ZoneLiveState previous, ZoneLiveState current) {
+        for (ZoneStateListener listener : listeners()) {
+            try {
+                listener.onZoneStateChanged(previous, current);
+            } catch (RuntimeException e) {
+                // 한 수신자의 오류가 수집 경로를 막지 않도록 기록만 남김
+                log.warn("구역 상태 변경 알림 처리 실패: listener={}", listener.getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+    private List<ZoneStateListener> listeners() {
+        List<ZoneStateListener> resolved = listeners;
+        if (resolved == null) {
+            resolved = listenerProvider.orderedStream().toList();
+            listeners = resolved;
+        }
+        return resolved;
+    }
+
+    private void load(Long festivalId) {
+        if (!festivalRepository.existsById(festivalId)) {
+            throw new ResourceNotFoundException("축제를 찾을 수 없습니다: " + festivalId);
+        }
+
+        List<Zone> loaded = zoneRepository.findByFestivalId(festivalId);
+        for (Zone zone : loaded) {
+            // 적재 전에 들어온 변경이 있으면 메모리 값을 유지
+            zones.putIfAbsent(zone.getId(), ZoneLiveState.from(zone));
+            zoneIdsOf(festivalId).add(zone.getId());
+        }
+        log.info("구역 실시간 상태 적재: Festival ID={}, 구역 수={}", festivalId, loaded.size());
+    }
+
+    private static void awaitLoad(CompletableFuture<Boolean> inFlight) {
+        try {
+            inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private Set<Long> zoneIdsOf(Long festivalId) {
+        return festivalZones.computeIfAbsent(festivalId, id -> ConcurrentHashMap.newKeySet());
+    }
+}
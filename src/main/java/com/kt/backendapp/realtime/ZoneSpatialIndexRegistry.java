@@ -0,0 +1,138 @@
+package com.kt.backendapp.realtime;
+
+import com.kt.backendapp.domain.model.ZoneSpatialIndex;
+import com.kt.backendapp.domain.vo.Coordinates;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 축제별 구역 공간 인덱스
+ * - 최초 조회 시 구역 상태 저장소로부터 생성 (생성이 끝나기 전에는 다른 조회에 내주지 않음)
+ * - 구역 생성/수정(좌표 변경)/삭제를 리스너로 받아 갱신 (인원 변경은 좌표가 같으므로 바로 무시)
+ */
+@Component
+@Slf4j
+public class ZoneSpatialIndexRegistry implements ZoneStateListener {
+
+    private final ZoneLiveStateStore zoneLiveStateStore;
+    private final double cellKm;
+
+    private final Map<Long, FestivalIndex> indexes = new ConcurrentHashMap<>();
+
+    public ZoneSpatialIndexRegistry(ZoneLiveStateStore zoneLiveStateStore,
+                                    @Value("${festival.spatial.cell-km:0.2}") double cellKm) {
+        this.zoneLiveStateStore = zoneLiveStateStore;
+        this.cellKm = cellKm;
+    }
+
+    @Override
+    public void onZoneStateChanged(ZoneLiveState previous, ZoneLiveState current) {
+        if (previous != null && Objects.equals(previous.getCoordinates(), current.getCoordinates())) {
+            return;
+        }
+        FestivalIndex index = indexes.get(current.getFestivalId());
+        if (index != null) {
+            index.apply(current);
+        }
+    }
+
+    @Override
+    public void onZoneRemoved(ZoneLiveState removed) {
+        FestivalIndex index = indexes.get(removed.getFestivalId());
+        if (index != null) {
+            index.remove(removed);
+        }
+    }
+
+    /**
+     * 축제의 공간 인덱스 (최초 호출 시 생성)
+     */
+    public ZoneSpatialIndex getIndex(Long festivalId) {
+        FestivalIndex index = indexes.get(festivalId);
+        if (index != null) {
+            return index.await();
+        }
+
+        // 먼저 등록해 생성 중 들어온 변경도 받고 (구역별 버전 비교로 합쳐짐),
+        // 전체 상태를 반영할 때까지 다른 조회는 ready 를 기다린다
+        FestivalIndex created = new FestivalIndex(new ZoneSpatialIndex(cellKm));
+        FestivalIndex existing = indexes.putIfAbsent(festivalId, created);
+        if (existing != null) {
+            return existing.await();
+        }
+        try {
+            for (ZoneLiveState state : zoneLiveStateStore.getZones(festivalId)) {
+                created.apply(state);
+            }
+        } catch (RuntimeException e) {
+            indexes.remove(festivalId, created);
+            created.ready.completeExceptionally(e);
+            throw e;
+        }
+        created.ready.complete(Boolean.TRUE);
+        log.info("구역 공간 인덱스 생성: Festival ID={}, 구역 수={}", festivalId, created.spatialIndex.size());
+        return created.spatialIndex;
+    }
+
+    private static class FestivalIndex {
+        private final ZoneSpatialIndex spatialIndex;
+        private final Map<Long, Long> versions = new HashMap<>();
+        private final CompletableFuture<Boolean> ready = new CompletableFuture<>();
+
+        private FestivalIndex(ZoneSpatialIndex spatialIndex) {
+            this.spatialIndex = spatialIndex;
+        }
+
+        private ZoneSpatialIndex await() {
+            try {
+                ready.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+            return spatialIndex;
+        }
+
+        private synchronized void apply(ZoneLiveState state) {
+            Long appliedVersion = versions.get(state.getZoneId());
+            if (appliedVersion != null && appliedVersion >= state.getVersion()) {
+                return;
+            }
+            versions.put(state.getZoneId(), state.getVersion());
+
+            Coordinates coordinates = parse(state.getCoordinates());
+            if (coordinates != null) {
+                spatialIndex.put(state.getZoneId(), coordinates);
+            } else {
+                // 좌표가 없거나 잘못된 구역은 공간 조회 대상에서 제외
+                spatialIndex.remove(state.getZoneId());
+            }
+        }
+
+        private synchronized void remove(ZoneLiveState state) {
+            versions.remove(state.getZoneId());
+            spatialIndex.remove(state.getZoneId());
+        }
+
+        private static Coordinates parse(String coordinates) {
+            if (coordinates == null || coordinates.isBlank()) {
+                return null;
+            }
+            try {
+                return Coordinates.fromString(coordinates);
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.kt.backendapp.realtime;
+
+/**
+ * 구역 실시간 상태 변경 수신자
+ * 수집 스레드에서 동기 호출되므로 구현체는 O(1)로 끝나야 하며 블로킹 작업을 하면 안 된다
+ */
+public interface ZoneStateListener {
+    
+    /**
+     * 구역 상태 변경 (previous 가 null 이면 새로 등록된 구역)
+     */
+    void onZoneStateChanged(ZoneLiveState previous, ZoneLiveState current);
+    
+    /**
+     * 구역 삭제
+     */
+    default void onZoneRemoved(ZoneLiveState removed) {
+    }
+    
+    /**
+     * 축제 삭제 (소속 구역마다 onZoneRemoved 를 먼저 호출한 뒤, 구역이 없던 축제도 한 번 호출)
+     */
+    default void onFestivalRemoved(Long festivalId) {
+    }
+}
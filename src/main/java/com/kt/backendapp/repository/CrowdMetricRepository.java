@@ -0,0 +1,63 @@
+package com.kt.backendapp.repository;
+
+import com.kt.backendapp.entity.CrowdMetric;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface CrowdMetricRepository extends JpaRepository<CrowdMetric, Long>, CrowdMetricRepositoryCustom {
+
+    // 구간별 집계 조회 (step 초 단위로 묶어 평균/최대 인원, 최대 혼잡 단계 반환)
+    @Query(value = "SELECT to_timestamp(floor(extract(epoch FROM m.ts) / :step) * :step) AT TIME ZONE 'UTC' AS bucket, " +
+                   "AVG(m.headcount), MAX(m.headcount), MAX(m.level), COUNT(*) " +
+                   "FROM crowd_metrics m WHERE m.zone_id = :zoneId AND m.ts >= :fromTs AND m.ts < :toTs " +
+                   "GROUP BY bucket ORDER BY bucket",
+           nativeQuery = true)
+    List<Object[]> aggregateHistory(@Param("zoneId") Long zoneId,
+                                    @Param("fromTs") LocalDateTime from,
+                                    @Param("toTs") LocalDateTime to,
+                                    @Param("step") long stepSeconds);
+
+    // 오래된 분 단위 데이터를 시간 단위로 롤업 (이미 롤업된 시간은 같은 값으로 덮어씀)
+    @Modifying
+    @Query(value = "INSERT INTO crowd_metrics (zone_id, ts, level, headcount) " +
+                   "SELECT m.zone_id, date_trunc('hour', m.ts), MAX(m.level), ROUND(AVG(m.headcount)) " +
+                   "FROM crowd_metrics m WHERE m.ts >= :fromTs AND m.ts < :toTs " +
+                   "GROUP BY m.zone_id, date_trunc('hour', m.ts) " +
+                   "ON CONFLICT (zone_id, ts) DO UPDATE SET level = EXCLUDED.level, headcount = EXCLUDED.headcount",
+           nativeQuery = true)
+    int rollupToHourly(@Param("fromTs") LocalDateTime from, @Param("toTs") LocalDateTime to);
+
+    // 아직 롤업되지 않은 가장 오래된 분 단위 행 시각 (드라이버 시각 타입 그대로, 없으면 null)
+    @Query(value = "SELECT MIN(m.ts) FROM crowd_metrics m WHERE m.ts < :toTs AND m.ts <> date_trunc('hour', m.ts)",
+           nativeQuery = true)
+    Object findOldestSubHourlyBefore(@Param("toTs") LocalDateTime to);
+
+    // 롤업 후 남은 분 단위 행 삭제
+    @Modifying
+    @Query(value = "DELETE FROM crowd_metrics m WHERE m.ts >= :fromTs AND m.ts < :toTs AND m.ts <> date_trunc('hour', m.ts)",
+           nativeQuery = true)
+    int deleteSubHourly(@Param("fromTs") LocalDateTime from, @Param("toTs") LocalDateTime to);
+
+    // 보존 기간이 지난 데이터 삭제
+    @Modifying
+    @Query(value = "DELETE FROM crowd_metrics m WHERE m.ts < :cutoff", nativeQuery = true)
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+
+    // 축제 전체 구역의 최근 인원 (구역별 시간순, 예측 상태 채우기용)
+    @Query(value = "SELECT m.zone_id, m.ts, m.headcount FROM crowd_metrics m JOIN zones z ON z.id = m.zone_id " +
+                   "WHERE z.festival_id = :festivalId AND m.ts >= :since AND m.headcount IS NOT NULL " +
+                   "ORDER BY m.zone_id, m.ts",
+           nativeQuery = true)
+    List<Object[]> findHeadcountsByFestivalSince(@Param("festivalId") Long festivalId, @Param("since") LocalDateTime since);
+
+    // 특정 구역의 최근 데이터 조회
+    @Query("SELECT m FROM CrowdMetric m WHERE m.zone.id = :zoneId AND m.ts >= :since ORDER BY m.ts ASC")
+    List<CrowdMetric> findRecentByZoneId(@Param("zoneId") Long zoneId, @Param("since") LocalDateTime since);
+}
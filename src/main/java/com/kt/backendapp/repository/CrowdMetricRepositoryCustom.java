@@ -0,0 +1,17 @@
+package com.kt.backendapp.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * crowd_metrics 대량 적재용 커스텀 리포지토리
+ */
+public interface CrowdMetricRepositoryCustom {
+
+    /**
+     * 구간 집계 결과를 multi-row INSERT ... ON CONFLICT 로 적재
+     * 같은 (zone_id, ts) 가 이미 있으면 값을 덮어써 재시도에도 중복이 생기지 않는다
+     *
+     * @return 적재된 행 수
+     */
+    int upsertBuckets(long[] zoneIds, LocalDateTime[] timestamps, int[] levels, int[] headcounts, int count);
+}
@@ -0,0 +1,49 @@
+package com.kt.backendapp.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+@RequiredArgsConstructor
+public class CrowdMetricRepositoryCustomImpl implements CrowdMetricRepositoryCustom {
+
+    private static final String INSERT_PREFIX = "INSERT INTO crowd_metrics (zone_id, ts, level, headcount) VALUES ";
+    private static final String UPSERT_SUFFIX =
+            " ON CONFLICT (zone_id, ts) DO UPDATE SET level = EXCLUDED.level, headcount = EXCLUDED.headcount";
+
+    // 한 문장당 행 수 (PostgreSQL 바인드 파라미터 한도 32767 이내)
+    private static final int ROWS_PER_STATEMENT = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public int upsertBuckets(long[] zoneIds, LocalDateTime[] timestamps, int[] levels, int[] headcounts, int count) {
+        int written = 0;
+        for (int from = 0; from < count; from += ROWS_PER_STATEMENT) {
+            int rows = Math.min(ROWS_PER_STATEMENT, count - from);
+
+            StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rows * 14 + UPSERT_SUFFIX.length());
+            sql.append(INSERT_PREFIX);
+            Object[] args = new Object[rows * 4];
+            for (int i = 0; i < rows; i++) {
+                if (i > 0) {
+                    sql.append(',');
+                }
+                sql.append("(?,?,?,?)");
+                int row = from + i;
+                args[i * 4] = zoneIds[row];
+                args[i * 4 + 1] = Timestamp.valueOf(timestamps[row]);
+                args[i * 4 + 2] = (short) levels[row];
+                args[i * 4 + 3] = headcounts[row];
+            }
+            sql.append(UPSERT_SUFFIX);
+
+            written += jdbcTemplate.update(sql.toString(), args);
+        }
+        return written;
+    }
+}
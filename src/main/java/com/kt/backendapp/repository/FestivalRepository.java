@@ -3,16 +3,19 @@ package com.kt.backendapp.repository;
 import com.kt.backendapp.entity.Festival;
 import com.kt.backendapp.entity.FestivalStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface FestivalRepository extends JpaRepository<Festival, Long> {
+public interface FestivalRepository extends JpaRepository<Festival, Long>, JpaSpecificationExecutor<Festival> {
 
     // 상태별 축제 조회
     List<Festival> findByStatus(FestivalStatus status);
@@ -35,6 +38,21 @@ public interface FestivalRepository extends JpaRepository<Festival, Long> {
     @Query("SELECT f FROM Festival f WHERE f.status = 'BEFORE' AND f.startDate > :currentDate ORDER BY f.startDate ASC")
     List<Festival> findUpcomingFestivals(@Param("currentDate") LocalDate currentDate);
 
+    // 상태 전환 대상 조회 (시작일/종료일 범위, (status, 날짜) 인덱스 사용)
+    List<Festival> findByStatusAndStartDateLessThanEqual(FestivalStatus status, LocalDate date);
+    List<Festival> findByStatusAndEndDateLessThan(FestivalStatus status, LocalDate date);
+    List<Festival> findByStatusAndStartDateBetween(FestivalStatus status, LocalDate from, LocalDate to);
+    List<Festival> findByStatusAndEndDateBetween(FestivalStatus status, LocalDate from, LocalDate to);
+
+    // 상태 일괄 전환 (그사이 상태가 바뀐 축제는 제외)
+    @Modifying
+    @Transactional
+    @Query("UPDATE Festival f SET f.status = :newStatus, f.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE f.id IN :ids AND f.status = :previousStatus")
+    int updateStatus(@Param("ids") List<Long> ids,
+                     @Param("previousStatus") FestivalStatus previousStatus,
+                     @Param("newStatus") FestivalStatus newStatus);
+
     // 종료된 축제 조회 (최신순)
     @Query("SELECT f FROM Festival f WHERE f.status = 'ENDED' ORDER BY f.endDate DESC")
     List<Festival> findEndedFestivalsOrderByEndDateDesc();
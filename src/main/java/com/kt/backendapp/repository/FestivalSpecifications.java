@@ -0,0 +1,60 @@
+package com.kt.backendapp.repository;
+
+import com.kt.backendapp.entity.Festival;
+import com.kt.backendapp.entity.FestivalStatus;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 축제 목록 조회 조건
+ * - 상태는 (status, start_date) 인덱스, 검색어는 lower(name)/lower(location) trigram 인덱스를 타도록 구성
+ * - 커서 페이지는 (start_date, id) 비교로 이어서 조회
+ */
+public final class FestivalSpecifications {
+
+    private FestivalSpecifications() {
+    }
+
+    /**
+     * @param status  상태 (null 이면 전체)
+     * @param keyword 축제명/위치 부분 일치 검색어 (null 이거나 비어있으면 전체)
+     */
+    public static Specification<Festival> catalog(FestivalStatus status, String keyword) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>(2);
+            if (status != null) {
+                predicates.add(cb.equal(root.get("status"), status));
+            }
+            if (keyword != null && !keyword.isBlank()) {
+                String pattern = "%" + escapeLike(keyword.trim().toLowerCase()) + "%";
+                predicates.add(cb.or(
+                        cb.like(cb.lower(root.get("name")), pattern, '\\'),
+                        cb.like(cb.lower(root.get("location")), pattern, '\\')));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * 커서 다음 페이지 조건 (시작일 내림차순, id 내림차순 정렬 기준)
+     * (start_date, id) < (:startDate, :id) 를 풀어 쓰고, 인덱스 범위 조건으로 start_date <= :startDate 를 함께 건다
+     */
+    public static Specification<Festival> startsBefore(LocalDate startDate, long id) {
+        return (root, query, cb) -> {
+            Path<LocalDate> start = root.get("startDate");
+            Path<Long> festivalId = root.get("id");
+            return cb.and(
+                    cb.lessThanOrEqualTo(start, startDate),
+                    cb.or(cb.lessThan(start, startDate), cb.lessThan(festivalId, id)));
+        };
+    }
+
+    private static String escapeLike(String keyword) {
+        return keyword.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,39 @@
+package com.kt.backendapp.repository;
+
+import com.kt.backendapp.entity.SNSDaily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface SNSDailyRepository extends JpaRepository<SNSDaily, Long> {
+
+    // 기간별 일별 감정 집계 조회 (날짜 오름차순)
+    List<SNSDaily> findByFestivalIdAndStatDateBetweenOrderByStatDateAsc(Long festivalId, LocalDate from, LocalDate to);
+
+    // 감정별 게시글 수 증분 반영 (해당 날짜 행이 없으면 생성)
+    // 직전에 더한 배치와 같은 번호면 이미 반영된 재시도이므로 건너뜀 (0 반환)
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO sns_daily (festival_id, date, positive, negative, neutral, last_batch_id) " +
+                   "VALUES (:festivalId, :date, :positive, :negative, :neutral, :batchId) " +
+                   "ON CONFLICT (festival_id, date) DO UPDATE SET " +
+                   "positive = COALESCE(sns_daily.positive, 0) + EXCLUDED.positive, " +
+                   "negative = COALESCE(sns_daily.negative, 0) + EXCLUDED.negative, " +
+                   "neutral = COALESCE(sns_daily.neutral, 0) + EXCLUDED.neutral, " +
+                   "last_batch_id = EXCLUDED.last_batch_id " +
+                   "WHERE sns_daily.last_batch_id IS DISTINCT FROM EXCLUDED.last_batch_id",
+           nativeQuery = true)
+    int addSentimentCounts(@Param("festivalId") Long festivalId,
+                           @Param("date") LocalDate date,
+                           @Param("positive") int positive,
+                           @Param("negative") int negative,
+                           @Param("neutral") int neutral,
+                           @Param("batchId") long batchId);
+}
@@ -2,6 +2,8 @@ package com.kt.backendapp.repository;
 
 import com.kt.backendapp.entity.SNSFeedback;
 import com.kt.backendapp.entity.SentimentType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,7 +13,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
-public interface SNSFeedbackRepository extends JpaRepository<SNSFeedback, Long> {
+public interface SNSFeedbackRepository extends JpaRepository<SNSFeedback, Long>, SNSFeedbackRepositoryCustom {
 
     // 특정 축제의 모든 피드백 조회
     List<SNSFeedback> findByFestivalId(Long festivalId);
@@ -24,6 +26,22 @@ public interface SNSFeedbackRepository extends JpaRepository<SNSFeedback, Long>
     @Query("SELECT s FROM SNSFeedback s WHERE s.festival.id = :festivalId ORDER BY s.mentions DESC LIMIT :limit")
     List<SNSFeedback> findTopIssuesByMentions(@Param("festivalId") Long festivalId, @Param("limit") int limit);
 
+    // 커서 페이지 첫 페이지 (최신순)
+    @Query(value = "SELECT * FROM sns_feedback s WHERE s.festival_id = :festivalId " +
+                   "ORDER BY s.created_at DESC, s.id DESC LIMIT :limit",
+           nativeQuery = true)
+    List<SNSFeedback> findLatestPage(@Param("festivalId") Long festivalId, @Param("limit") int limit);
+
+    // 커서 페이지 다음 페이지 ((created_at, id) 가 커서보다 이전인 행부터)
+    @Query(value = "SELECT * FROM sns_feedback s WHERE s.festival_id = :festivalId " +
+                   "AND (s.created_at, s.id) < (:createdAt, :id) " +
+                   "ORDER BY s.created_at DESC, s.id DESC LIMIT :limit",
+           nativeQuery = true)
+    List<SNSFeedback> findLatestPageBefore(@Param("festivalId") Long festivalId,
+                                           @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") long id,
+                                           @Param("limit") int limit);
+
     // 감정별 피드백 조회
     List<SNSFeedback> findByFestivalIdAndSentiment(Long festivalId, SentimentType sentiment);
 
@@ -40,47 +58,47 @@ public interface SNSFeedbackRepository extends JpaRepository<SNSFeedback, Long>
                                                    @Param("startTime") LocalDateTime startTime, 
                                                    @Param("endTime") LocalDateTime endTime);
 
-    // 축제별 총 언급 수 계산
-    @Query("SELECT SUM(s.mentions) FROM SNSFeedback s WHERE s.festival.id = :festivalId")
-    Long getTotalMentionsByFestivalId(@Param("festivalId") Long festivalId);
-
-    // 감정별 통계 조회
-    @Query("SELECT s.sentiment, COUNT(s), SUM(s.mentions) FROM SNSFeedback s WHERE s.festival.id = :festivalId GROUP BY s.sentiment")
-    List<Object[]> getSentimentStatistics(@Param("festivalId") Long festivalId);
+    // 피드백 통계 한 번에 집계 (감정별 / 플랫폼별 / 전체)
+    // 컬럼: sentiment, platform, GROUPING(sentiment), GROUPING(platform), 건수, 언급 수, 미해결 수, 심각도 합, 심각도 건수
+    @Query(value = "SELECT s.sentiment, s.platform, GROUPING(s.sentiment), GROUPING(s.platform), " +
+                   "COUNT(*), COALESCE(SUM(s.mentions), 0), COUNT(*) FILTER (WHERE s.is_resolved IS NOT TRUE), " +
+                   "COALESCE(SUM(s.severity_level), 0), COUNT(s.severity_level) " +
+                   "FROM sns_feedback s WHERE s.festival_id = :festivalId " +
+                   "GROUP BY GROUPING SETS ((s.sentiment), (s.platform), ())",
+           nativeQuery = true)
+    List<Object[]> getFeedbackStatistics(@Param("festivalId") Long festivalId);
 
     // 해결된 이슈 조회
     List<SNSFeedback> findByFestivalIdAndIsResolvedTrue(Long festivalId);
 
-    // 미해결 이슈 수 조회
-    @Query("SELECT COUNT(s) FROM SNSFeedback s WHERE s.festival.id = :festivalId AND s.isResolved = false")
-    Long countUnresolvedIssues(@Param("festivalId") Long festivalId);
-
-    // 평균 심각도 계산
-    @Query("SELECT AVG(s.severityLevel) FROM SNSFeedback s WHERE s.festival.id = :festivalId AND s.severityLevel IS NOT NULL")
-    Double getAverageSeverityLevel(@Param("festivalId") Long festivalId);
-
-    // 부정적 피드백 비율 계산
-    @Query("SELECT " +
-           "(SELECT COUNT(s1) FROM SNSFeedback s1 WHERE s1.festival.id = :festivalId AND s1.sentiment = 'NEGATIVE') * 100.0 / " +
-           "(SELECT COUNT(s2) FROM SNSFeedback s2 WHERE s2.festival.id = :festivalId)")
-    Double getNegativeFeedbackPercentage(@Param("festivalId") Long festivalId);
-
     // 최근 생성된 피드백 조회 (실시간 모니터링용)
     @Query("SELECT s FROM SNSFeedback s WHERE s.festival.id = :festivalId AND s.createdAt >= :since ORDER BY s.createdAt DESC")
     List<SNSFeedback> findRecentFeedback(@Param("festivalId") Long festivalId, @Param("since") LocalDateTime since);
 
-    // 키워드로 이슈 검색
-    @Query("SELECT s FROM SNSFeedback s WHERE s.festival.id = :festivalId AND LOWER(s.issue) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    List<SNSFeedback> findByFestivalIdAndIssueContaining(@Param("festivalId") Long festivalId, @Param("keyword") String keyword);
-
-    // 플랫폼별 통계
-    @Query("SELECT s.platform, COUNT(s), SUM(s.mentions) FROM SNSFeedback s WHERE s.festival.id = :festivalId GROUP BY s.platform")
-    List<Object[]> getPlatformStatistics(@Param("festivalId") Long festivalId);
+    // 키워드로 이슈 검색 (idx_sns_feedback_issue_trgm 사용)
+    // 부분 일치(ILIKE) 또는 단어 유사도(<%) 로 찾고, 유사도 > 언급 횟수 순으로 정렬
+    @Query(value = "SELECT s.* FROM sns_feedback s " +
+                   "WHERE s.festival_id = :festivalId AND (s.issue ILIKE :pattern OR :keyword <% s.issue) " +
+                   "ORDER BY word_similarity(:keyword, s.issue) DESC, s.mentions DESC, s.id DESC",
+           countQuery = "SELECT COUNT(*) FROM sns_feedback s " +
+                        "WHERE s.festival_id = :festivalId AND (s.issue ILIKE :pattern OR :keyword <% s.issue)",
+           nativeQuery = true)
+    Page<SNSFeedback> searchByIssue(@Param("festivalId") Long festivalId,
+                                    @Param("keyword") String keyword,
+                                    @Param("pattern") String pattern,
+                                    Pageable pageable);
 
     // 시간대별 피드백 트렌드 (시간별 그룹화)
     @Query("SELECT HOUR(s.createdAt), COUNT(s), SUM(s.mentions) FROM SNSFeedback s WHERE s.festival.id = :festivalId AND DATE(s.createdAt) = DATE(:date) GROUP BY HOUR(s.createdAt) ORDER BY HOUR(s.createdAt)")
     List<Object[]> getHourlyFeedbackTrend(@Param("festivalId") Long festivalId, @Param("date") LocalDateTime date);
 
+    // 분 단위 감정/플랫폼별 언급 수 (언급 추세 재구성용)
+    @Query(value = "SELECT s.festival_id, date_trunc('minute', s.created_at) AS minute, s.sentiment, s.platform, SUM(s.mentions) " +
+                   "FROM sns_feedback s WHERE s.created_at >= :since " +
+                   "GROUP BY s.festival_id, minute, s.sentiment, s.platform",
+           nativeQuery = true)
+    List<Object[]> getMinuteMentionsSince(@Param("since") LocalDateTime since);
+
     // 해결 시간 평균 계산 (해결된 이슈만)
     @Query("SELECT AVG(TIMESTAMPDIFF(HOUR, s.createdAt, s.resolvedAt)) FROM SNSFeedback s WHERE s.festival.id = :festivalId AND s.isResolved = true AND s.resolvedAt IS NOT NULL")
     Double getAverageResolutionTimeInHours(@Param("festivalId") Long festivalId);
@@ -0,0 +1,23 @@
+package com.kt.backendapp.repository;
+
+/**
+ * SNS 이슈 대량 반영용 커스텀 리포지토리
+ */
+public interface SNSFeedbackRepositoryCustom {
+
+    /**
+     * 새 이슈를 multi-row INSERT 로 저장
+     *
+     * @return 입력 순서대로 생성된 ID
+     */
+    long[] insertIssues(long festivalId, String[] issues, int[] mentions, String[] sentiments,
+                        String[] platforms, int[] severityLevels, int count);
+
+    /**
+     * 기존 이슈에 언급 수를 더하고 감정/심각도를 갱신 (JDBC batch)
+     * 증가분만 더하므로 여러 노드에서 동시에 반영해도 언급 수가 유실되지 않는다
+     *
+     * @return 실제로 갱신된 행 수
+     */
+    int addMentions(long[] feedbackIds, int[] deltas, String[] sentiments, int[] severityLevels, int count);
+}
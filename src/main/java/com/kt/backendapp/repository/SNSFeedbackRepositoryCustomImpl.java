@@ -0,0 +1,92 @@
+package com.kt.backendapp.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class SNSFeedbackRepositoryCustomImpl implements SNSFeedbackRepositoryCustom {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO sns_feedback (festival_id, issue, mentions, sentiment, platform, severity_level, is_resolved) VALUES ";
+    private static final String INSERT_SUFFIX = " RETURNING id";
+
+    private static final String ADD_MENTIONS_SQL =
+            "UPDATE sns_feedback SET mentions = mentions + ?, sentiment = ?, severity_level = ? WHERE id = ?";
+
+    // 한 문장당 행 수 (PostgreSQL 바인드 파라미터 한도 32767 이내)
+    private static final int ROWS_PER_STATEMENT = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public long[] insertIssues(long festivalId, String[] issues, int[] mentions, String[] sentiments,
+                               String[] platforms, int[] severityLevels, int count) {
+        long[] ids = new long[count];
+        for (int from = 0; from < count; from += ROWS_PER_STATEMENT) {
+            int rows = Math.min(ROWS_PER_STATEMENT, count - from);
+
+            StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rows * 24 + INSERT_SUFFIX.length());
+            sql.append(INSERT_PREFIX);
+            Object[] args = new Object[rows * 6];
+            for (int i = 0; i < rows; i++) {
+                if (i > 0) {
+                    sql.append(',');
+                }
+                sql.append("(?,?,?,?,?,?,false)");
+                int row = from + i;
+                args[i * 6] = festivalId;
+                args[i * 6 + 1] = issues[row];
+                args[i * 6 + 2] = mentions[row];
+                args[i * 6 + 3] = sentiments[row];
+                args[i * 6 + 4] = platforms[row];
+                args[i * 6 + 5] = severityLevels[row];
+            }
+            sql.append(INSERT_SUFFIX);
+
+            // 단일 VALUES 목록의 RETURNING 은 입력 순서대로 반환된다
+            List<Long> generated = jdbcTemplate.queryForList(sql.toString(), Long.class, args);
+            for (int i = 0; i < generated.size(); i++) {
+                ids[from + i] = generated.get(i);
+            }
+        }
+        return ids;
+    }
+
+    @Override
+    @Transactional
+    public int addMentions(long[] feedbackIds, int[] deltas, String[] sentiments, int[] severityLevels, int count) {
+        if (count == 0) {
+            return 0;
+        }
+
+        int[] results = jdbcTemplate.batchUpdate(ADD_MENTIONS_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setInt(1, deltas[i]);
+                ps.setString(2, sentiments[i]);
+                ps.setInt(3, severityLevels[i]);
+                ps.setLong(4, feedbackIds[i]);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return count;
+            }
+        });
+
+        int updated = 0;
+        for (int result : results) {
+            // 드라이버가 SUCCESS_NO_INFO(-2)를 반환하는 경우도 성공으로 간주
+            updated += result > 0 ? result : (result == Statement.SUCCESS_NO_INFO ? 1 : 0);
+        }
+        return updated;
+    }
+}
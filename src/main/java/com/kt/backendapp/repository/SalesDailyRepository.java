@@ -0,0 +1,25 @@
+package com.kt.backendapp.repository;
+
+import com.kt.backendapp.entity.SalesDaily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface SalesDailyRepository extends JpaRepository<SalesDaily, Long>, SalesDailyRepositoryCustom {
+
+    // 기간별 일별 매출 조회 (날짜 오름차순)
+    List<SalesDaily> findByFestivalIdAndStatDateBetweenOrderByStatDateAsc(Long festivalId, LocalDate from, LocalDate to);
+
+    // 보정 기간이 지난 매출 기록 정리 (더 이상 중복 확인이 필요 없음)
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM sales_records WHERE date < :before", nativeQuery = true)
+    int deleteRecordsBefore(@Param("before") LocalDate before);
+}
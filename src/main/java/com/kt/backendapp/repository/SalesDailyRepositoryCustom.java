@@ -0,0 +1,17 @@
+package com.kt.backendapp.repository;
+
+import java.time.LocalDate;
+
+/**
+ * 매출 기록 반영용 커스텀 리포지토리
+ */
+public interface SalesDailyRepositoryCustom {
+
+    /**
+     * 매출 기록을 sales_records 에 남기고, 처음 들어온 기록의 금액만 일별 매출에 더한다 (한 문장으로 처리)
+     * 같은 (festival_id, record_id) 는 ON CONFLICT DO NOTHING 으로 건너뛰므로 재전송/재시도에도 중복 반영되지 않는다
+     *
+     * @return 새로 반영된 기록 수
+     */
+    int addRecords(long festivalId, String[] recordIds, LocalDate[] dates, long[] amounts, int count);
+}
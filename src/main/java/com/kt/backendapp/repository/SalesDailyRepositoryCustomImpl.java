@@ -0,0 +1,55 @@
+package com.kt.backendapp.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+@RequiredArgsConstructor
+public class SalesDailyRepositoryCustomImpl implements SalesDailyRepositoryCustom {
+
+    private static final String INSERT_PREFIX =
+            "WITH inserted AS (INSERT INTO sales_records (festival_id, record_id, date, amount) VALUES ";
+    private static final String INSERT_SUFFIX =
+            " ON CONFLICT (festival_id, record_id) DO NOTHING RETURNING festival_id, date, amount), " +
+            "added AS (INSERT INTO sales_daily (festival_id, date, amount) " +
+            "SELECT festival_id, date, SUM(amount) FROM inserted GROUP BY festival_id, date " +
+            "ON CONFLICT (festival_id, date) DO UPDATE SET amount = COALESCE(sales_daily.amount, 0) + EXCLUDED.amount) " +
+            "SELECT COUNT(*) FROM inserted";
+
+    // 한 문장당 행 수 (PostgreSQL 바인드 파라미터 한도 32767 이내)
+    private static final int ROWS_PER_STATEMENT = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public int addRecords(long festivalId, String[] recordIds, LocalDate[] dates, long[] amounts, int count) {
+        int added = 0;
+        for (int from = 0; from < count; from += ROWS_PER_STATEMENT) {
+            int rows = Math.min(ROWS_PER_STATEMENT, count - from);
+
+            StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rows * 10 + INSERT_SUFFIX.length());
+            sql.append(INSERT_PREFIX);
+            Object[] args = new Object[rows * 4];
+            for (int i = 0; i < rows; i++) {
+                if (i > 0) {
+                    sql.append(',');
+                }
+                sql.append("(?,?,?,?)");
+                int row = from + i;
+                args[i * 4] = festivalId;
+                args[i * 4 + 1] = recordIds[row];
+                args[i * 4 + 2] = Date.valueOf(dates[row]);
+                args[i * 4 + 3] = amounts[row];
+            }
+            sql.append(INSERT_SUFFIX);
+
+            Integer inserted = jdbcTemplate.queryForObject(sql.toString(), Integer.class, args);
+            added += inserted != null ? inserted : 0;
+        }
+        return added;
+    }
+}
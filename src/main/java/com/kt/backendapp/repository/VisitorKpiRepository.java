@@ -0,0 +1,37 @@
+package com.kt.backendapp.repository;
+
+import com.kt.backendapp.entity.VisitorKpi;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface VisitorKpiRepository extends JpaRepository<VisitorKpi, Long> {
+
+    // 기간별 일별 방문자 조회 (날짜 오름차순)
+    List<VisitorKpi> findByFestivalIdAndStatDateBetweenOrderByStatDateAsc(Long festivalId, LocalDate from, LocalDate to);
+
+    // 혼잡도 시계열로 하루의 방문자 재계산 (구간별 전체 구역 인원 합의 최대값, 같은 날짜는 새 값으로 덮어씀)
+    // crowd_metrics.ts 는 서버 로컬 시각이므로 날짜 경계도 서버 로컬 시각으로 받는다
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO visitor_kpi (festival_id, date, visitors) " +
+                   "SELECT t.festival_id, :day, MAX(t.total) FROM (" +
+                   "  SELECT z.festival_id, m.ts, SUM(m.headcount) AS total " +
+                   "  FROM crowd_metrics m JOIN zones z ON z.id = m.zone_id " +
+                   "  WHERE m.ts >= :fromTs AND m.ts < :toTs AND m.headcount IS NOT NULL " +
+                   "  GROUP BY z.festival_id, m.ts) t " +
+                   "GROUP BY t.festival_id " +
+                   "ON CONFLICT (festival_id, date) DO UPDATE SET visitors = EXCLUDED.visitors",
+           nativeQuery = true)
+    int refreshDayFromCrowdMetrics(@Param("day") LocalDate day,
+                                   @Param("fromTs") LocalDateTime fromTs,
+                                   @Param("toTs") LocalDateTime toTs);
+}
@@ -13,11 +13,15 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ZoneRepository extends JpaRepository<Zone, Long> {
+public interface ZoneRepository extends JpaRepository<Zone, Long>, ZoneRepositoryCustom {
 
     // 특정 축제의 모든 구역 조회
     List<Zone> findByFestivalId(Long festivalId);
 
+    // 커서 페이지용 구역 ID 조회 (afterId 다음부터 ID 순)
+    @Query("SELECT z.id FROM Zone z WHERE z.festival.id = :festivalId AND z.id > :afterId ORDER BY z.id ASC LIMIT :limit")
+    List<Long> findIdsByFestivalIdAfter(@Param("festivalId") Long festivalId, @Param("afterId") long afterId, @Param("limit") int limit);
+
     // 특정 축제의 구역을 타입별로 조회
     List<Zone> findByFestivalIdAndType(Long festivalId, ZoneType type);
 
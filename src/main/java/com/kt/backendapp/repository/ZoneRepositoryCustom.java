@@ -0,0 +1,15 @@
+package com.kt.backendapp.repository;
+
+/**
+ * JPA로 표현하기 어려운 구역 대량 처리용 커스텀 리포지토리
+ */
+public interface ZoneRepositoryCustom {
+
+    /**
+     * 실시간 데이터 일괄 업데이트 (JDBC batch)
+     * updateRealTimeData(zoneId, currentCapacity, congestionLevel)와 동일한 갱신을 count개 행에 대해 한 번에 수행
+     *
+     * @return 실제로 갱신된 행 수
+     */
+    int batchUpdateRealTimeData(long[] zoneIds, int[] currentCapacities, int[] congestionLevels, int count);
+}
@@ -0,0 +1,49 @@
+package com.kt.backendapp.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+@RequiredArgsConstructor
+public class ZoneRepositoryCustomImpl implements ZoneRepositoryCustom {
+
+    // ZoneRepository.updateRealTimeData 와 동일한 갱신 (updated_at 포함)
+    private static final String UPDATE_REAL_TIME_SQL =
+            "UPDATE zones SET current_capacity = ?, congestion_level = ?, updated_at = now() WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public int batchUpdateRealTimeData(long[] zoneIds, int[] currentCapacities, int[] congestionLevels, int count) {
+        if (count == 0) {
+            return 0;
+        }
+
+        int[] results = jdbcTemplate.batchUpdate(UPDATE_REAL_TIME_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setInt(1, currentCapacities[i]);
+                ps.setInt(2, congestionLevels[i]);
+                ps.setLong(3, zoneIds[i]);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return count;
+            }
+        });
+
+        int updated = 0;
+        for (int result : results) {
+            // 드라이버가 SUCCESS_NO_INFO(-2)를 반환하는 경우도 성공으로 간주
+            updated += result > 0 ? result : (result == Statement.SUCCESS_NO_INFO ? 1 : 0);
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,24 @@
+package com.kt.backendapp.service;
+
+import com.kt.backendapp.dto.CrowdMetricPointDTO;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface CrowdMetricsService {
+    
+    // 이력 조회 (step 초 단위 집계)
+    List<CrowdMetricPointDTO> getZoneHistory(String zoneId, LocalDateTime from, LocalDateTime to, long stepSeconds);
+    
+    // 닫힌 구간 적재
+    int flushClosedBuckets();
+    
+    // 재시도할 수 없어 폐기한 구간 수 (무결성 오류, 대기열 초과)
+    long getDroppedBucketCount();
+    
+    // 적재 대기 중인 구간 수
+    int getPendingBucketCount();
+    
+    // 보존/롤업 정책 적용
+    void applyRetentionPolicy();
+}
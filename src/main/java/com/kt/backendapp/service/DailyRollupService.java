@@ -0,0 +1,25 @@
+package com.kt.backendapp.service;
+
+import com.kt.backendapp.dto.BulkIngestionResultDTO;
+import com.kt.backendapp.dto.DailyPerformanceDTO;
+import com.kt.backendapp.dto.SalesRecordDTO;
+import com.kt.backendapp.entity.SentimentType;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DailyRollupService {
+    
+    // 일별 집계 증분 기록 (주기적으로 모아 반영)
+    void recordFeedback(Long festivalId, SentimentType sentiment, int count);
+    BulkIngestionResultDTO ingestSales(String festivalId, List<SalesRecordDTO> records);
+    
+    // 누적된 증분 DB 반영
+    int flush();
+    
+    // 최근 기간의 방문자 KPI 재계산 (늦게 들어온 혼잡도 데이터 반영)
+    int refreshVisitorKpi();
+    
+    // 기간별 일별 성과 (from/to 가 없으면 축제 기간)
+    List<DailyPerformanceDTO> getDailyPerformance(String festivalId, LocalDate from, LocalDate to);
+}
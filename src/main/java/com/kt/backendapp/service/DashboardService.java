@@ -1,12 +1,17 @@
 package com.kt.backendapp.service;
 
 import com.kt.backendapp.dto.*;
+import com.kt.backendapp.realtime.DashboardSnapshot;
+
+import java.util.Map;
 
 public interface DashboardService {
     
     // 대시보드 데이터
     OperationalDashboardDTO getOperationalDashboard(String festivalId);
+    DashboardSnapshot getOperationalDashboardSnapshot(String festivalId); // 버전(ETag) 포함
     FestivalStatisticsDTO getStatisticsDashboard();
     Object getRealtimeAlerts(String festivalId);
+    Map<String, Object> getAlertStatistics(); // 혼잡도 이벤트 처리량
     Object getFestivalPerformance(String festivalId);
 }
@@ -0,0 +1,16 @@
+package com.kt.backendapp.service;
+
+import com.kt.backendapp.dto.OperationalDashboardDTO;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface DashboardStreamService {
+    
+    // 대시보드 변경 스트림 구독 (SSE)
+    SseEmitter subscribe(String festivalId);
+    
+    // 알림 전파
+    void publishAlert(Long festivalId, OperationalDashboardDTO.Alert alert);
+    
+    // 현재 구독자 수
+    int getSubscriberCount();
+}
@@ -10,6 +10,7 @@ public interface FestivalService {
     
     // 기본 CRUD
     Page<FestivalDTO> getAllFestivals(Pageable pageable, String status, String search);
+    CursorPageDTO<FestivalDTO> scrollFestivals(String status, String search, String cursor, int size); // 커서 페이지 (시작일 최신순)
     FestivalDTO getFestivalById(Long id);
     FestivalDTO createFestival(FestivalRequestDTO requestDTO);
     FestivalDTO updateFestival(Long id, FestivalRequestDTO requestDTO);
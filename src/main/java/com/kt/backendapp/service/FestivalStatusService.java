@@ -0,0 +1,13 @@
+package com.kt.backendapp.service;
+
+import com.kt.backendapp.entity.Festival;
+
+public interface FestivalStatusService {
+    
+    // 날짜 경계가 지난 축제 상태 자동 전환 (전환된 축제 수)
+    int applyDueTransitions();
+    
+    // 축제 생성/수정 후 다음 전환 시점 다시 예약
+    void reschedule(Festival festival);
+    void unschedule(Long festivalId);
+}
@@ -0,0 +1,12 @@
+package com.kt.backendapp.service;
+
+import com.kt.backendapp.realtime.PublicFeedDocument;
+
+public interface PublicFeedService {
+    
+    // 축제 공개 혼잡도 피드 (최초 조회 시 생성, 이후 주기적으로 교체)
+    PublicFeedDocument getFeed(String festivalId);
+    
+    // 발행 중인 축제 수
+    int getFeedCount();
+}
@@ -1,5 +1,8 @@
 package com.kt.backendapp.service;
 
+import com.kt.backendapp.dto.CursorPageDTO;
+import com.kt.backendapp.dto.FeedbackTrendDTO;
+import com.kt.backendapp.dto.PageDTO;
 import com.kt.backendapp.dto.SNSFeedbackDTO;
 
 import java.util.List;
@@ -9,7 +12,9 @@ public interface SNSFeedbackService {
     
     // 기본 조회
     List<SNSFeedbackDTO> getFeedbackByFestival(String festivalId, String sentiment, Boolean resolved);
+    CursorPageDTO<SNSFeedbackDTO> scrollFeedback(String festivalId, String cursor, int size); // 커서 페이지 (최신순)
     List<SNSFeedbackDTO> getTopIssuesByMentions(String festivalId, int limit);
+    List<SNSFeedbackDTO> getTopIssuesBySeverity(String festivalId, int limit);
     List<SNSFeedbackDTO> getUnresolvedIssues(String festivalId);
     List<SNSFeedbackDTO> getHighSeverityIssues(String festivalId, int severityLevel);
     
@@ -20,6 +25,7 @@ public interface SNSFeedbackService {
     Map<String, Object> getSentimentStatistics(String festivalId);
     Map<String, Object> getPlatformStatistics(String festivalId);
     List<SNSFeedbackDTO> getRecentFeedback(String festivalId, int hours);
-    List<SNSFeedbackDTO> searchFeedbackByKeyword(String festivalId, String keyword);
+    FeedbackTrendDTO getMentionTrend(String festivalId, int minutes, int stepMinutes);
+    PageDTO<SNSFeedbackDTO> searchFeedbackByKeyword(String festivalId, String keyword, int page, int size);
     Map<String, Object> getFeedbackSummary(String festivalId);
 }
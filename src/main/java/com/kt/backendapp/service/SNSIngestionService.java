@@ -0,0 +1,20 @@
+package com.kt.backendapp.service;
+
+import com.kt.backendapp.dto.BulkIngestionResultDTO;
+import com.kt.backendapp.dto.SNSPostDTO;
+
+import java.io.InputStream;
+import java.util.List;
+
+public interface SNSIngestionService {
+    
+    // SNS 게시글 수집 (이슈 군집화 + 감정 분류)
+    BulkIngestionResultDTO ingest(String festivalId, List<SNSPostDTO> posts);
+    BulkIngestionResultDTO ingestNdjson(String festivalId, InputStream ndjson);
+    
+    // 축제의 저장된 미해결 이슈를 불러와 집계 시작 (이미 불러온 경우 무시)
+    void ensureLoaded(String festivalId);
+    
+    // 누적된 언급 수 DB 반영
+    int flush();
+}
@@ -0,0 +1,10 @@
+package com.kt.backendapp.service;
+
+import com.kt.backendapp.dto.SimulationRequestDTO;
+import com.kt.backendapp.dto.SimulationResultDTO;
+
+public interface SimulationService {
+    
+    // 축제 구역 배치로 방문객 이동 시뮬레이션 (구역별 최대 혼잡도, 수용 인원 초과 시간)
+    SimulationResultDTO simulate(String festivalId, SimulationRequestDTO request);
+}
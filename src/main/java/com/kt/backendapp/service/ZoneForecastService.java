@@ -0,0 +1,17 @@
+package com.kt.backendapp.service;
+
+import com.kt.backendapp.dto.ZoneForecastDTO;
+
+import java.util.List;
+
+public interface ZoneForecastService {
+    
+    // 축제 구역별 단기 인원 예측 (수용 인원 도달이 빠른 순)
+    List<ZoneForecastDTO> getForecasts(String festivalId);
+    
+    // 구역 단기 인원 예측
+    ZoneForecastDTO getForecast(String zoneId);
+    
+    // crowd_metrics 이력으로 예측 상태 채우기 (실시간 관측이 있는 구역 제외, 채운 구역 수 반환)
+    int backfill(Long festivalId);
+}
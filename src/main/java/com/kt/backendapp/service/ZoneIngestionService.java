@@ -0,0 +1,17 @@
+package com.kt.backendapp.service;
+
+import com.kt.backendapp.dto.BulkIngestionResultDTO;
+import com.kt.backendapp.dto.ZoneRealTimeUpdateDTO;
+
+import java.io.InputStream;
+import java.util.List;
+
+public interface ZoneIngestionService {
+    
+    // 대량 실시간 인원 수집
+    BulkIngestionResultDTO ingest(String festivalId, List<ZoneRealTimeUpdateDTO> updates);
+    BulkIngestionResultDTO ingestNdjson(String festivalId, InputStream ndjson);
+    
+    // 적재된 변경분 DB 반영
+    int flush();
+}
@@ -0,0 +1,11 @@
+package com.kt.backendapp.service;
+
+import com.kt.backendapp.dto.ZoneRecommendationDTO;
+
+import java.util.List;
+
+public interface ZoneRecommendationService {
+    
+    // 혼잡 구역의 대체 구역 추천 (점수 높은 순, maxDistanceKm 이내)
+    List<ZoneRecommendationDTO> recommendAlternatives(String zoneId, int limit, double maxDistanceKm);
+}
@@ -8,6 +8,7 @@ public interface ZoneService {
     
     // 기본 CRUD
     List<ZoneDTO> getZonesByFestivalId(String festivalId);
+    CursorPageDTO<ZoneDTO> scrollZones(String festivalId, String cursor, int size); // 커서 페이지 (ID 순)
     ZoneDTO getZoneById(String zoneId);
     ZoneDTO createZone(String festivalId, ZoneRequestDTO requestDTO);
     ZoneDTO updateZone(String zoneId, ZoneRequestDTO requestDTO);
@@ -20,6 +21,9 @@ public interface ZoneService {
     List<ZoneDTO> getHighCongestionZones(String festivalId, int threshold);
     List<ZoneDTO> getLowCongestionZones(String festivalId, int threshold);
     
+    // 위치 기반 조회 (limit 개까지, radiusKm 가 있으면 반경 이내만)
+    List<NearbyZoneDTO> getNearbyZones(String zoneId, int limit, Double radiusKm);
+    
     // 분류 및 통계
     List<ZoneDTO> getZonesByType(String festivalId, String type);
     Object getZoneStatistics(String festivalId);
@@ -0,0 +1,333 @@
+package com.kt.backendapp.service.impl;
+
+import com.kt.backendapp.domain.vo.CongestionLevel;
+import com.kt.backendapp.dto.CrowdMetricPointDTO;
+import com.kt.backendapp.realtime.ZoneLiveState;
+import com.kt.backendapp.realtime.ZoneStateListener;
+import com.kt.backendapp.repository.CrowdMetricRepository;
+import com.kt.backendapp.service.CrowdMetricsService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 혼잡도 시계열(crowd_metrics) 적재/조회
+ * - 실시간 인원 변경을 구역별 시간 구간(bucket)으로 다운샘플링해 구간당 한 행만 기록
+ * - 닫힌 구간은 주기적으로 multi-row upsert 로 적재
+ *   일시적 오류는 다음 주기에 재시도하고, 무결성 오류(삭제된 구역의 FK 위반 등)는 배치를 나눠 문제 행만 폐기
+ *   적재 대기 구간 수에 상한을 두어 DB 장애가 길어져도 메모리가 무한히 늘지 않도록 한다 (초과 시 오래된 구간부터 폐기)
+ * - 일정 기간이 지난 데이터는 시간 단위로 롤업하고, 보존 기간이 지나면 삭제
+ */
+@Service
+@Slf4j
+public class CrowdMetricsServiceImpl implements CrowdMetricsService, ZoneStateListener {
+
+    // 조회 한 번에 반환할 수 있는 최대 구간 수
+    private static final long MAX_POINTS = 5000;
+
+    private final CrowdMetricRepository crowdMetricRepository;
+    private final long bucketSeconds;
+    private final int rollupAfterDays;
+    private final int retentionDays;
+    private final int maxPendingBuckets;
+
+    // 구역별 진행 중인 구간
+    private final Map<Long, Bucket> openBuckets = new ConcurrentHashMap<>();
+
+    // 적재 대기 중인 닫힌 구간
+    private final Queue<ClosedBucket> closedBuckets = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    public CrowdMetricsServiceImpl(CrowdMetricRepository crowdMetricRepository,
+                                   @Value("${festival.crowd-metrics.bucket-seconds:60}") long bucketSeconds,
+                                   @Value("${festival.crowd-metrics.rollup-after-days:7}") int rollupAfterDays,
+                                   @Value("${festival.crowd-metrics.retention-days:90}") int retentionDays,
+                                   @Value("${festival.crowd-metrics.max-pending-buckets:100000}") int maxPendingBuckets) {
+        this.crowdMetricRepository = crowdMetricRepository;
+        this.bucketSeconds = bucketSeconds;
+        this.rollupAfterDays = rollupAfterDays;
+        this.retentionDays = retentionDays;
+        this.maxPendingBuckets = maxPendingBuckets;
+    }
+
+    @Override
+    public void onZoneStateChanged(ZoneLiveState previous, ZoneLiveState current) {
+        // 메타데이터만 바뀐 경우(인원 동일)는 기록하지 않음
+        if (previous != null && previous.getCurrentCapacity() == current.getCurrentCapacity()
+                && previous.getCongestionLevel() == current.getCongestionLevel()) {
+            return;
+        }
+
+        long bucketStart = bucketStartOf(nowEpochSecond());
+        Bucket bucket = openBuckets.computeIfAbsent(current.getZoneId(), id -> new Bucket(bucketStart));
+        ClosedBucket closed = bucket.add(bucketStart, current.getCurrentCapacity(),
+                CongestionLevel.metricLevelOf(current.getCongestionLevel()), current.getZoneId());
+        if (closed != null) {
+            enqueue(closed);
+        }
+    }
+
+    @Override
+    public void onZoneRemoved(ZoneLiveState removed) {
+        openBuckets.remove(removed.getZoneId());
+        // 삭제된 구역의 대기 구간은 적재 시 FK 위반이 되므로 미리 제거
+        long zoneId = removed.getZoneId();
+        for (Iterator<ClosedBucket> it = closedBuckets.iterator(); it.hasNext(); ) {
+            if (it.next().zoneId() == zoneId) {
+                it.remove();
+                pendingCount.decrementAndGet();
+            }
+        }
+    }
+
+    @Override
+    public List<CrowdMetricPointDTO> getZoneHistory(String zoneId, LocalDateTime from, LocalDateTime to, long stepSeconds) {
+        log.info("구역 혼잡도 이력 조회: Zone ID={}, from={}, to={}, step={}s", zoneId, from, to, stepSeconds);
+
+        LocalDateTime toTs = to != null ? to : LocalDateTime.now();
+        LocalDateTime fromTs = from != null ? from : toTs.minusHours(1);
+        long step = Math.max(stepSeconds, bucketSeconds);
+
+        if (!fromTs.isBefore(toTs)) {
+            throw new IllegalArgumentException("조회 시작 시각은 종료 시각보다 빨라야 합니다");
+        }
+        if (ChronoUnit.SECONDS.between(fromTs, toTs) / step > MAX_POINTS) {
+            throw new IllegalArgumentException("조회 구간이 너무 많습니다. step 을 늘려주세요 (최대 " + MAX_POINTS + "개)");
+        }
+
+        List<Object[]> rows = crowdMetricRepository.aggregateHistory(Long.parseLong(zoneId), fromTs, toTs, step);
+        List<CrowdMetricPointDTO> points = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            points.add(CrowdMetricPointDTO.builder()
+                    .ts(toLocalDateTime(row[0]))
+                    .averageHeadcount(row[1] != null ? Math.round(((Number) row[1]).doubleValue() * 10.0) / 10.0 : null)
+                    .maxHeadcount(row[2] != null ? ((Number) row[2]).intValue() : null)
+                    .level(((Number) row[3]).intValue())
+                    .samples(((Number) row[4]).longValue())
+                    .build());
+        }
+        return points;
+    }
+
+    @Scheduled(fixedDelayString = "${festival.crowd-metrics.flush-interval-ms:10000}")
+    public void scheduledFlush() {
+        flushClosedBuckets();
+    }
+
+    @Override
+    public int flushClosedBuckets() {
+        // 갱신이 끊긴 구역의 지난 구간도 닫는다
+        long currentBucket = bucketStartOf(nowEpochSecond());
+        openBuckets.forEach((zoneId, bucket) -> {
+            ClosedBucket closed = bucket.closeIfBefore(currentBucket, zoneId);
+            if (closed != null) {
+                enqueue(closed);
+            }
+        });
+
+        int size = pendingCount.get();
+        if (size <= 0) {
+            return 0;
+        }
+
+        List<ClosedBucket> batch = new ArrayList<>(size);
+        ClosedBucket closed;
+        while (batch.size() < size && (closed = closedBuckets.poll()) != null) {
+            pendingCount.decrementAndGet();
+            batch.add(closed);
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            int written = write(batch);
+            log.debug("혼잡도 시계열 적재 완료: {}건", written);
+            return written;
+        } catch (RuntimeException e) {
+            // 일시적 오류: upsert 이므로 다음 주기에 그대로 재시도해도 중복되지 않는다
+            for (ClosedBucket bucket : batch) {
+                enqueue(bucket);
+            }
+            log.error("혼잡도 시계열 적재 실패: {}건 재시도 예정", batch.size(), e);
+            return 0;
+        }
+    }
+
+    @Override
+    public long getDroppedBucketCount() {
+        return droppedCount.get();
+    }
+
+    @Override
+    public int getPendingBucketCount() {
+        return Math.max(0, pendingCount.get());
+    }
+
+    /**
+     * 무결성 오류는 다시 시도해도 실패하므로 배치를 반으로 나눠 문제 행만 골라 폐기
+     * (나머지 오류는 호출 측에서 배치 전체를 재시도)
+     */
+    private int write(List<ClosedBucket> rows) {
+        try {
+            return upsert(rows);
+        } catch (DataIntegrityViolationException e) {
+            if (rows.size() == 1) {
+                ClosedBucket row = rows.get(0);
+                droppedCount.incrementAndGet();
+                log.warn("혼잡도 시계열 구간 폐기 (재시도 불가): Zone ID={}, ts={}, 원인={}",
+                        row.zoneId(), toTimestamp(row.bucketStart()), e.getMostSpecificCause().getMessage());
+                return 0;
+            }
+            int middle = rows.size() / 2;
+            return write(rows.subList(0, middle)) + write(rows.subList(middle, rows.size()));
+        }
+    }
+
+    private int upsert(List<ClosedBucket> rows) {
+        int count = rows.size();
+        long[] zoneIds = new long[count];
+        LocalDateTime[] timestamps = new LocalDateTime[count];
+        int[] levels = new int[count];
+        int[] headcounts = new int[count];
+        for (int i = 0; i < count; i++) {
+            ClosedBucket row = rows.get(i);
+            zoneIds[i] = row.zoneId();
+            timestamps[i] = toTimestamp(row.bucketStart());
+            levels[i] = row.level();
+            headcounts[i] = row.headcount();
+        }
+        return crowdMetricRepository.upsertBuckets(zoneIds, timestamps, levels, headcounts, count);
+    }
+
+    /**
+     * 적재 대기열에 추가 (상한을 넘으면 가장 오래된 구간 폐기)
+     */
+    private void enqueue(ClosedBucket bucket) {
+        closedBuckets.add(bucket);
+        if (pendingCount.incrementAndGet() > maxPendingBuckets && closedBuckets.poll() != null) {
+            pendingCount.decrementAndGet();
+            if (droppedCount.incrementAndGet() % 1000 == 1) {
+                log.warn("혼잡도 시계열 적재 대기열 초과로 오래된 구간 폐기 (누적 {}건)", droppedCount.get());
+            }
+        }
+    }
+
+    @Scheduled(cron = "${festival.crowd-metrics.retention-cron:0 15 * * * *}")
+    @Override
+    @Transactional
+    public void applyRetentionPolicy() {
+        int expired = crowdMetricRepository.deleteOlderThan(LocalDateTime.now().minusDays(retentionDays));
+
+        // 기준 이전에 분 단위 행이 남은 시간은 모두 롤업 (실행이 멈췄거나 실패해 건너뛴 시간도 다음 실행에서 처리)
+        LocalDateTime rollupCutoff = LocalDateTime.now().minusDays(rollupAfterDays).truncatedTo(ChronoUnit.HOURS);
+        Object oldest = crowdMetricRepository.findOldestSubHourlyBefore(rollupCutoff);
+        int rolledUp = 0;
+        int compacted = 0;
+        if (oldest != null) {
+            LocalDateTime rollupFrom = toLocalDateTime(oldest).truncatedTo(ChronoUnit.HOURS);
+            rolledUp = crowdMetricRepository.rollupToHourly(rollupFrom, rollupCutoff);
+            compacted = crowdMetricRepository.deleteSubHourly(rollupFrom, rollupCutoff);
+        }
+
+        log.info("혼잡도 시계열 보존 정책 적용: 롤업={}건, 정리={}건, 만료 삭제={}건", rolledUp, compacted, expired);
+    }
+
+    // ts 컬럼은 서버 로컬 시각으로 저장하므로 벽시계 시각을 그대로 초 단위로 사용
+    private long nowEpochSecond() {
+        return LocalDateTime.now().toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static LocalDateTime toTimestamp(long bucketStart) {
+        return LocalDateTime.ofEpochSecond(bucketStart, 0, ZoneOffset.UTC);
+    }
+
+    private long bucketStartOf(long epochSecond) {
+        return epochSecond - Math.floorMod(epochSecond, bucketSeconds);
+    }
+
+    private LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof LocalDateTime localDateTime) {
+            return localDateTime;
+        }
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        if (value instanceof OffsetDateTime offsetDateTime) {
+            return offsetDateTime.toLocalDateTime();
+        }
+        if (value instanceof Instant instant) {
+            return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+        }
+        throw new IllegalStateException("지원하지 않는 시각 타입입니다: " + value);
+    }
+
+    /**
+     * 구역별 진행 중인 구간 누적값 (구역 단위 잠금)
+     */
+    private static class Bucket {
+        private long start;
+        private long sum;
+        private int samples;
+        private int maxLevel;
+
+        private Bucket(long start) {
+            this.start = start;
+        }
+
+        private synchronized ClosedBucket add(long bucketStart, int headcount, int level, Long zoneId) {
+            ClosedBucket closed = null;
+            if (bucketStart != start) {
+                closed = close(zoneId);
+                start = bucketStart;
+            }
+            sum += headcount;
+            samples++;
+            maxLevel = Math.max(maxLevel, level);
+            return closed;
+        }
+
+        private synchronized ClosedBucket closeIfBefore(long bucketStart, Long zoneId) {
+            if (start >= bucketStart) {
+                return null;
+            }
+            ClosedBucket closed = close(zoneId);
+            start = bucketStart;
+            return closed;
+        }
+
+        private ClosedBucket close(Long zoneId) {
+            if (samples == 0) {
+                return null;
+            }
+            ClosedBucket closed = new ClosedBucket(zoneId, start, maxLevel, (int) Math.round((double) sum / samples));
+            sum = 0;
+            samples = 0;
+            maxLevel = 0;
+            return closed;
+        }
+    }
+
+    private record ClosedBucket(long zoneId, long bucketStart, int level, int headcount) {
+    }
+}
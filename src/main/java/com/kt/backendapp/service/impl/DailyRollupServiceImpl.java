@@ -0,0 +1,369 @@
+package com.kt.backendapp.service.impl;
+
+import com.kt.backendapp.dto.BulkIngestionResultDTO;
+import com.kt.backendapp.dto.DailyPerformanceDTO;
+import com.kt.backendapp.dto.SalesRecordDTO;
+import com.kt.backendapp.entity.Festival;
+import com.kt.backendapp.entity.SNSDaily;
+import com.kt.backendapp.entity.SalesDaily;
+import com.kt.backendapp.entity.SentimentType;
+import com.kt.backendapp.entity.VisitorKpi;
+import com.kt.backendapp.repository.FestivalRepository;
+import com.kt.backendapp.repository.SNSDailyRepository;
+import com.kt.backendapp.repository.SalesDailyRepository;
+import com.kt.backendapp.repository.VisitorKpiRepository;
+import com.kt.backendapp.service.DailyRollupService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 일별 성과 집계 (sns_daily, sales_daily, visitor_kpi)
+ * - SNS 감정 건수는 (축제, 날짜)별 증분을 메모리에 모았다가 주기적으로 upsert (기존 값에 더함)
+ *   증분마다 배치 번호를 붙여 보내고, 반영에 실패한 배치는 새 증분과 합치지 않고 같은 번호로 다시 보낸다
+ *   (실제로는 커밋됐는데 실패로 보고된 배치를 재시도해도 DB 에서 걸러져 두 번 더해지지 않음)
+ * - 매출은 기록 ID 별로 모았다가 주기적으로 sales_records 에 남기면서 처음 들어온 기록만 일별 매출에 더한다
+ *   (같은 기록이 재전송되거나 반영을 재시도해도 한 번만 더해짐, 기록은 보정 기간이 지나면 정리)
+ * - 반영 대기 매출 기록은 max-pending-sales 건까지만 받고, 넘치면 폐기로 응답해 재전송하도록 한다
+ * - 매출은 결제 시각의 날짜로 집계하며, 늦게 들어온 건도 최근 late-days 일 이내면 해당 날짜에 더한다
+ * - 방문자 KPI 는 혼잡도 시계열에서 최근 late-days 일을 주기적으로 다시 계산해 덮어쓴다 (여러 번 실행해도 같은 결과)
+ *   crowd_metrics.ts 는 서버 로컬 시각으로 기록되므로 집계 시간대의 하루를 서버 로컬 시각 범위로 바꿔 날짜별로 계산
+ * - 차트 조회는 집계 테이블만 읽는다
+ */
+@Service
+@Slf4j
+public class DailyRollupServiceImpl implements DailyRollupService {
+
+    private static final int MAX_RANGE_DAYS = 366;
+    private static final int MAX_RECORD_ID_LENGTH = 100;
+
+    private final SNSDailyRepository snsDailyRepository;
+    private final SalesDailyRepository salesDailyRepository;
+    private final VisitorKpiRepository visitorKpiRepository;
+    private final FestivalRepository festivalRepository;
+    private final ZoneId timeZone;
+    // crowd_metrics.ts 를 기록하는 시간대 (CrowdMetricsServiceImpl 은 서버 로컬 벽시계 시각을 저장)
+    private final ZoneId metricsTimeZone = ZoneId.systemDefault();
+    private final int lateDays;
+    private final int maxPendingSales;
+
+    private final Map<DayKey, Delta> pending = new ConcurrentHashMap<>();
+    private final Map<SaleKey, Sale> pendingSales = new ConcurrentHashMap<>();
+
+    // 반영에 실패해 같은 번호로 재시도할 배치 (flush 에서만 접근)
+    private final Map<DayKey, Batch> retryBatches = new HashMap<>();
+    // 재시작 후에도 이전 실행의 배치 번호와 겹치지 않도록 시각에서 시작
+    private long nextBatchId = System.currentTimeMillis();
+
+    public DailyRollupServiceImpl(SNSDailyRepository snsDailyRepository,
+                                  SalesDailyRepository salesDailyRepository,
+                                  VisitorKpiRepository visitorKpiRepository,
+                                  FestivalRepository festivalRepository,
+                                  @Value("${festival.rollup.time-zone:Asia/Seoul}") String timeZone,
+                                  @Value("${festival.rollup.late-days:3}") int lateDays,
+                                  @Value("${festival.rollup.max-pending-sales:100000}") int maxPendingSales) {
+        this.snsDailyRepository = snsDailyRepository;
+        this.salesDailyRepository = salesDailyRepository;
+        this.visitorKpiRepository = visitorKpiRepository;
+        this.festivalRepository = festivalRepository;
+        this.timeZone = ZoneId.of(timeZone);
+        this.lateDays = lateDays;
+        this.maxPendingSales = maxPendingSales;
+    }
+
+    @Override
+    public void recordFeedback(Long festivalId, SentimentType sentiment, int count) {
+        if (count <= 0) {
+            return;
+        }
+        DayKey key = new DayKey(festivalId, LocalDate.now(timeZone));
+        pending.merge(key, Delta.ofSentiment(sentiment, count), Delta::plus);
+    }
+
+    @Override
+    public BulkIngestionResultDTO ingestSales(String festivalId, List<SalesRecordDTO> records) {
+        Long festivalIdLong = Long.parseLong(festivalId);
+        if (!festivalRepository.existsById(festivalIdLong)) {
+            throw new RuntimeException("축제를 찾을 수 없습니다: " + festivalId);
+        }
+
+        LocalDate today = LocalDate.now(timeZone);
+        LocalDate oldest = today.minusDays(lateDays);
+        int accepted = 0;
+        int dropped = 0;
+        int coalesced = 0;
+        for (SalesRecordDTO record : records) {
+            if (record == null || record.getAmount() == null || record.getAmount() == 0
+                    || !isValidRecordId(record.getRecordId())) {
+                dropped++;
+                continue;
+            }
+            LocalDate date = record.getSoldAt() != null ? record.getSoldAt().toLocalDate() : today;
+            // 보정 기간이 지났거나 미래 날짜인 건은 버림
+            if (date.isBefore(oldest) || date.isAfter(today)) {
+                dropped++;
+                continue;
+            }
+            SaleKey key = new SaleKey(festivalIdLong, record.getRecordId());
+            // 대기 건수가 상한에 이르면 새 기록은 버림 (재전송된 기록은 기록 ID 로 중복이 걸러짐)
+            if (!pendingSales.containsKey(key) && pendingSales.size() >= maxPendingSales) {
+                dropped++;
+                continue;
+            }
+            // 아직 반영 전인 같은 기록은 한 번만 (이미 반영된 기록은 DB에서 걸러짐)
+            if (pendingSales.putIfAbsent(key, new Sale(date, record.getAmount())) != null) {
+                coalesced++;
+                continue;
+            }
+            accepted++;
+        }
+
+        log.debug("매출 수집: Festival={}, 수신={}, 반영={}, 폐기={}, 중복={}",
+                festivalId, records.size(), accepted, dropped, coalesced);
+        return BulkIngestionResultDTO.builder()
+                .received(records.size())
+                .accepted(accepted)
+                .dropped(dropped)
+                .coalesced(coalesced)
+                .build();
+    }
+
+    @Scheduled(fixedDelayString = "${festival.rollup.flush-interval-ms:10000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    @Override
+    public synchronized int flush() {
+        int flushed = 0;
+        // 실패했던 배치를 먼저 같은 번호로 재시도 (성공하기 전까지 같은 날짜의 새 증분은 pending 에 모아둠)
+        for (Map.Entry<DayKey, Batch> entry : new ArrayList<>(retryBatches.entrySet())) {
+            if (writeFeedback(entry.getKey(), entry.getValue())) {
+                retryBatches.remove(entry.getKey());
+                flushed++;
+            }
+        }
+        for (DayKey key : new ArrayList<>(pending.keySet())) {
+            if (retryBatches.containsKey(key)) {
+                continue;
+            }
+            Delta delta = pending.remove(key);
+            if (delta == null || delta.isEmpty()) {
+                continue;
+            }
+            Batch batch = new Batch(nextBatchId++, delta);
+            if (writeFeedback(key, batch)) {
+                flushed++;
+            } else {
+                retryBatches.put(key, batch);
+            }
+        }
+        flushed += writeSales();
+        if (flushed > 0) {
+            log.debug("일별 집계 DB 반영 완료: {}건", flushed);
+        }
+        return flushed;
+    }
+
+    /**
+     * 보정 기간이 지난 매출 기록 정리 (그보다 오래된 기록은 수집 단계에서 버리므로 중복 확인이 필요 없음)
+     */
+    @Scheduled(cron = "${festival.rollup.sales-record-cleanup-cron:0 20 * * * *}")
+    public void cleanupSalesRecords() {
+        LocalDate before = LocalDate.now(timeZone).minusDays(lateDays + 1L);
+        int deleted = salesDailyRepository.deleteRecordsBefore(before);
+        if (deleted > 0) {
+            log.debug("매출 기록 정리: {}건 ({} 이전)", deleted, before);
+        }
+    }
+
+    @Scheduled(cron = "${festival.rollup.visitor-refresh-cron:0 */10 * * * *}")
+    public void scheduledRefreshVisitorKpi() {
+        refreshVisitorKpi();
+    }
+
+    @Override
+    public int refreshVisitorKpi() {
+        // 집계 시간대 기준 late-days 일 전부터 오늘까지 하루씩 (서머타임이 있어도 날짜 경계가 맞도록 자바에서 변환)
+        LocalDate today = LocalDate.now(timeZone);
+        LocalDate oldest = today.minusDays(lateDays);
+        int refreshed = 0;
+        for (LocalDate day = oldest; !day.isAfter(today); day = day.plusDays(1)) {
+            refreshed += visitorKpiRepository.refreshDayFromCrowdMetrics(day,
+                    toMetricsTime(day.atStartOfDay(timeZone)),
+                    toMetricsTime(day.plusDays(1).atStartOfDay(timeZone)));
+        }
+        log.debug("방문자 KPI 재계산 완료: {}건 ({} ~ {})", refreshed, oldest, today);
+        return refreshed;
+    }
+
+    @Override
+    public List<DailyPerformanceDTO> getDailyPerformance(String festivalId, LocalDate from, LocalDate to) {
+        Long festivalIdLong = Long.parseLong(festivalId);
+        if (from == null || to == null) {
+            Festival festival = festivalRepository.findById(festivalIdLong)
+                    .orElseThrow(() -> new RuntimeException("축제를 찾을 수 없습니다: " + festivalId));
+            from = from != null ? from : festival.getStartDate();
+            to = to != null ? to : festival.getEndDate();
+        }
+        if (from.isAfter(to)) {
+            throw new RuntimeException("조회 기간이 올바르지 않습니다: " + from + " ~ " + to);
+        }
+        long days = ChronoUnit.DAYS.between(from, to) + 1;
+        if (days > MAX_RANGE_DAYS) {
+            throw new RuntimeException("조회 기간은 최대 " + MAX_RANGE_DAYS + "일입니다: " + days + "일");
+        }
+
+        // 빈 날짜도 0으로 채워 차트 x축이 끊기지 않도록
+        List<DailyPerformanceDTO> series = new ArrayList<>((int) days);
+        for (int i = 0; i < days; i++) {
+            series.add(DailyPerformanceDTO.builder()
+                    .date(from.plusDays(i))
+                    .positive(0)
+                    .negative(0)
+                    .neutral(0)
+                    .salesAmount(0L)
+                    .visitors(0)
+                    .build());
+        }
+
+        for (SNSDaily row : snsDailyRepository.findByFestivalIdAndStatDateBetweenOrderByStatDateAsc(festivalIdLong, from, to)) {
+            DailyPerformanceDTO point = series.get((int) ChronoUnit.DAYS.between(from, row.getStatDate()));
+            point.setPositive(point.getPositive() + valueOf(row.getPositive()));
+            point.setNegative(point.getNegative() + valueOf(row.getNegative()));
+            point.setNeutral(point.getNeutral() + valueOf(row.getNeutral()));
+        }
+        for (SalesDaily row : salesDailyRepository.findByFestivalIdAndStatDateBetweenOrderByStatDateAsc(festivalIdLong, from, to)) {
+            DailyPerformanceDTO point = series.get((int) ChronoUnit.DAYS.between(from, row.getStatDate()));
+            point.setSalesAmount(point.getSalesAmount() + (row.getAmount() != null ? row.getAmount() : 0L));
+        }
+        for (VisitorKpi row : visitorKpiRepository.findByFestivalIdAndStatDateBetweenOrderByStatDateAsc(festivalIdLong, from, to)) {
+            DailyPerformanceDTO point = series.get((int) ChronoUnit.DAYS.between(from, row.getStatDate()));
+            point.setVisitors(Math.max(point.getVisitors(), valueOf(row.getVisitors())));
+        }
+        return series;
+    }
+
+    /**
+     * 배치 하나를 반영 (이미 반영된 배치면 DB 에서 건너뜀)
+     *
+     * @return 반영 성공 여부, 실패하면 호출자가 같은 배치를 재시도
+     */
+    private boolean writeFeedback(DayKey key, Batch batch) {
+        Delta delta = batch.delta();
+        try {
+            int updated = snsDailyRepository.addSentimentCounts(key.festivalId(), key.date(),
+                    delta.positive(), delta.negative(), delta.neutral(), batch.id());
+            if (updated == 0) {
+                log.debug("이미 반영된 SNS 일별 집계 배치: Festival={}, 날짜={}, 배치={}", key.festivalId(), key.date(), batch.id());
+            }
+            return true;
+        } catch (RuntimeException e) {
+            log.error("SNS 일별 집계 반영 실패: Festival={}, 날짜={}, 배치={} 재시도 예정",
+                    key.festivalId(), key.date(), batch.id(), e);
+            return false;
+        }
+    }
+
+    /**
+     * 모인 매출 기록을 축제별로 반영
+     *
+     * @return 반영한 축제 수
+     */
+    private int writeSales() {
+        if (pendingSales.isEmpty()) {
+            return 0;
+        }
+        Map<Long, Map<String, Sale>> byFestival = new HashMap<>();
+        for (SaleKey key : new ArrayList<>(pendingSales.keySet())) {
+            Sale sale = pendingSales.remove(key);
+            if (sale != null) {
+                byFestival.computeIfAbsent(key.festivalId(), id -> new HashMap<>()).put(key.recordId(), sale);
+            }
+        }
+
+        int written = 0;
+        for (Map.Entry<Long, Map<String, Sale>> entry : byFestival.entrySet()) {
+            Long festivalId = entry.getKey();
+            Map<String, Sale> sales = entry.getValue();
+            int count = sales.size();
+            String[] recordIds = new String[count];
+            LocalDate[] dates = new LocalDate[count];
+            long[] amounts = new long[count];
+            int i = 0;
+            for (Map.Entry<String, Sale> sale : sales.entrySet()) {
+                recordIds[i] = sale.getKey();
+                dates[i] = sale.getValue().date();
+                amounts[i] = sale.getValue().amount();
+                i++;
+            }
+            try {
+                int added = salesDailyRepository.addRecords(festivalId, recordIds, dates, amounts, count);
+                if (added < count) {
+                    log.debug("이미 반영된 매출 기록 제외: Festival={}, {}건", festivalId, count - added);
+                }
+                written++;
+            } catch (RuntimeException e) {
+                // 기록 ID 로 중복이 걸러지므로 그대로 다시 반영해도 안전
+                sales.forEach((recordId, sale) -> pendingSales.putIfAbsent(new SaleKey(festivalId, recordId), sale));
+                log.error("매출 일별 집계 반영 실패: Festival={}, {}건 재시도 예정", festivalId, count, e);
+            }
+        }
+        return written;
+    }
+
+    private static boolean isValidRecordId(String recordId) {
+        return recordId != null && !recordId.isBlank() && recordId.length() <= MAX_RECORD_ID_LENGTH;
+    }
+
+    private LocalDateTime toMetricsTime(ZonedDateTime time) {
+        return time.withZoneSameInstant(metricsTimeZone).toLocalDateTime();
+    }
+
+    private static int valueOf(Integer value) {
+        return value != null ? value : 0;
+    }
+
+    private record DayKey(Long festivalId, LocalDate date) {
+    }
+
+    private record SaleKey(Long festivalId, String recordId) {
+    }
+
+    private record Sale(LocalDate date, long amount) {
+    }
+
+    private record Batch(long id, Delta delta) {
+    }
+
+    private record Delta(int positive, int negative, int neutral) {
+
+        private static Delta ofSentiment(SentimentType sentiment, int count) {
+            return switch (sentiment) {
+                case POSITIVE -> new Delta(count, 0, 0);
+                case NEGATIVE -> new Delta(0, count, 0);
+                case NEUTRAL -> new Delta(0, 0, count);
+            };
+        }
+
+        private boolean isEmpty() {
+            return positive == 0 && negative == 0 && neutral == 0;
+        }
+
+        private Delta plus(Delta other) {
+            return new Delta(positive + other.positive, negative + other.negative, neutral + other.neutral);
+        }
+    }
+}
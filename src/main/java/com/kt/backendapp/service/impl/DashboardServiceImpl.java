@@ -1,68 +1,232 @@
 package com.kt.backendapp.service.impl;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kt.backendapp.domain.model.ContentHash;
 import com.kt.backendapp.dto.*;
+import com.kt.backendapp.realtime.AlertFeed;
+import com.kt.backendapp.realtime.CongestionEventBus;
+import com.kt.backendapp.realtime.DashboardCounters;
+import com.kt.backendapp.realtime.DashboardSnapshot;
+import com.kt.backendapp.realtime.DashboardSnapshotRegistry;
+import com.kt.backendapp.service.DailyRollupService;
 import com.kt.backendapp.service.DashboardService;
 import com.kt.backendapp.service.FestivalService;
 import com.kt.backendapp.service.ZoneService;
 import com.kt.backendapp.service.SNSFeedbackService;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
+/**
+ * 대시보드 서비스
+ * - 운영 대시보드는 DashboardSnapshotRegistry 의 증분 카운터로 합계/혼잡도 구간을 채우고,
+ *   버전이 바뀐 경우에만 스냅샷을 다시 만든다
+ * - 스냅샷을 만들 때 축제/구역/피드백 조회는 동시에 실행하고, 느리거나 실패한 항목은 이전 값으로 대체
+ * - 축제별로 한 번에 하나만 다시 만들고, 그동안 들어온 조회는 이전 스냅샷을 받거나(있으면) 진행 중인 결과를 기다린다
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class DashboardServiceImpl implements DashboardService {
 
     private final FestivalService festivalService;
     private final ZoneService zoneService;
     private final SNSFeedbackService snsService;
+    private final DailyRollupService dailyRollupService;
+    private final DashboardSnapshotRegistry dashboardSnapshotRegistry;
+    private final AlertFeed alertFeed;
+    private final CongestionEventBus congestionEventBus;
+    private final Executor dashboardQueryExecutor;
+    private final long minRefreshMillis;
+    private final long branchTimeoutMillis;
+    private final ObjectMapper objectMapper;
+
+    // 축제별 진행 중인 스냅샷 생성
+    private final Map<Long, CompletableFuture<DashboardSnapshot>> rebuilding = new ConcurrentHashMap<>();
+
+    public DashboardServiceImpl(FestivalService festivalService,
+                                ZoneService zoneService,
+                                SNSFeedbackService snsService,
+                                DailyRollupService dailyRollupService,
+                                DashboardSnapshotRegistry dashboardSnapshotRegistry,
+                                AlertFeed alertFeed,
+                                CongestionEventBus congestionEventBus,
+                                @Qualifier("dashboardQueryExecutor") Executor dashboardQueryExecutor,
+                                @Value("${festival.dashboard.min-refresh-ms:500}") long minRefreshMillis,
+                                @Value("${festival.dashboard.branch-timeout-ms:800}") long branchTimeoutMillis,
+                                ObjectMapper objectMapper) {
+        this.festivalService = festivalService;
+        this.zoneService = zoneService;
+        this.snsService = snsService;
+        this.dailyRollupService = dailyRollupService;
+        this.dashboardSnapshotRegistry = dashboardSnapshotRegistry;
+        this.alertFeed = alertFeed;
+        this.congestionEventBus = congestionEventBus;
+        this.dashboardQueryExecutor = dashboardQueryExecutor;
+        this.minRefreshMillis = minRefreshMillis;
+        this.branchTimeoutMillis = branchTimeoutMillis;
+        this.objectMapper = objectMapper;
+    }
 
     @Override
     public OperationalDashboardDTO getOperationalDashboard(String festivalId) {
-        log.info("실시간 운영 대시보드 조회: Festival ID={}", festivalId);
-        
-        FestivalDTO festival = festivalService.getFestivalById(Long.parseLong(festivalId));
-        List<ZoneDTO> zones = zoneService.getZonesByFestivalId(festivalId);
-        List<SNSFeedbackDTO> topIssues = snsService.getTopIssuesByMentions(festivalId, 3);
-        Map<String, Object> feedbackSummary = snsService.getFeedbackSummary(festivalId);
-        
-        // 혼잡도별 구역 수 계산
-        int lowCongestion = 0, moderate = 0, high = 0, critical = 0;
-        for (ZoneDTO zone : zones) {
-            if (zone.getCongestionLevel() != null) {
-                if (zone.getCongestionLevel() < 40) lowCongestion++;
-                else if (zone.getCongestionLevel() < 60) moderate++;
-                else if (zone.getCongestionLevel() < 80) high++;
-                else critical++;
+        return getOperationalDashboardSnapshot(festivalId).getDashboard();
+    }
+
+    @Override
+    public DashboardSnapshot getOperationalDashboardSnapshot(String festivalId) {
+        Long festivalIdLong = Long.parseLong(festivalId);
+        long version = dashboardSnapshotRegistry.getVersion(festivalIdLong);
+
+        // 버전이 같거나, 최소 갱신 간격 이내면 캐시된 스냅샷을 그대로 사용
+        DashboardSnapshot cached = dashboardSnapshotRegistry.getSnapshot(festivalIdLong);
+        if (cached != null && (cached.getVersion() == version
+                || System.currentTimeMillis() - cached.getBuiltAtMillis() < minRefreshMillis)) {
+            return cached;
+        }
+
+        CompletableFuture<DashboardSnapshot> created = new CompletableFuture<>();
+        CompletableFuture<DashboardSnapshot> inFlight = rebuilding.putIfAbsent(festivalIdLong, created);
+        if (inFlight != null) {
+            // 다른 요청이 만드는 중: 이전 스냅샷이 있으면 바로 반환하고, 없으면 같은 결과를 기다린다
+            return cached != null ? cached : await(inFlight);
+        }
+
+        try {
+            log.info("실시간 운영 대시보드 스냅샷 갱신: Festival ID={}, version={}", festivalId, version);
+            DashboardSnapshot snapshot = buildSnapshot(festivalIdLong);
+            // 일부 항목이 대체 값인 스냅샷은 캐시하지 않아 다음 조회에서 다시 시도
+            DashboardSnapshot result = snapshot.isPartial() ? snapshot : dashboardSnapshotRegistry.storeSnapshot(snapshot);
+            created.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            rebuilding.remove(festivalIdLong, created);
+        }
+    }
+
+    private static DashboardSnapshot await(CompletableFuture<DashboardSnapshot> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
             }
+            throw e;
         }
-        
-        // 실시간 알림 생성
-        List<OperationalDashboardDTO.Alert> alerts = generateMockAlerts();
-        
-        return OperationalDashboardDTO.builder()
-                .festivalId(festivalId)
+    }
+
+    private DashboardSnapshot buildSnapshot(Long festivalId) {
+        String festivalIdString = String.valueOf(festivalId);
+        DashboardSnapshot previous = dashboardSnapshotRegistry.getSnapshot(festivalId);
+        OperationalDashboardDTO fallback = previous != null ? previous.getDashboard() : null;
+        Set<String> degraded = ConcurrentHashMap.newKeySet();
+
+        // 서로 독립적인 조회를 동시에 시작 (지연 시간 = 가장 느린 조회, 조회별 시간 제한)
+        CompletableFuture<FestivalDTO> festivalFuture = fetch("festival",
+                () -> festivalService.getFestivalById(festivalId),
+                fallback != null ? FestivalDTO.builder().name(fallback.getFestivalName()).status(fallback.getStatus()).build()
+                        : FestivalDTO.builder().build(),
+                degraded);
+        CompletableFuture<List<ZoneDTO>> zonesFuture = fetch("zones",
+                () -> zoneService.getZonesByFestivalId(festivalIdString),
+                fallback != null ? fallback.getZones() : List.of(),
+                degraded);
+
+        DashboardSnapshotRegistry.FeedbackSection cachedFeedback = dashboardSnapshotRegistry.getFeedbackSection(festivalId);
+        CompletableFuture<List<SNSFeedbackDTO>> topIssuesFuture = cachedFeedback != null
+                ? CompletableFuture.completedFuture(cachedFeedback.getTopIssues())
+                : fetch("topIssues", () -> snsService.getTopIssuesByMentions(festivalIdString, 3),
+                        fallback != null ? fallback.getTopIssues() : List.of(), degraded);
+        CompletableFuture<Map<String, Object>> summaryFuture = cachedFeedback != null
+                ? CompletableFuture.completedFuture(cachedFeedback.getSummary())
+                : fetch("feedbackSummary", () -> snsService.getFeedbackSummary(festivalIdString),
+                        fallbackSummaryOf(fallback), degraded);
+
+        // 카운터는 메모리 값이므로 조회를 기다리는 동안 읽는다
+        DashboardCounters counters = dashboardSnapshotRegistry.getCounters(festivalId);
+
+        CompletableFuture.allOf(festivalFuture, zonesFuture, topIssuesFuture, summaryFuture).join();
+        FestivalDTO festival = festivalFuture.join();
+        List<SNSFeedbackDTO> topIssues = topIssuesFuture.join();
+        Map<String, Object> feedbackSummary = summaryFuture.join();
+
+        // 두 조회가 모두 정상일 때만 피드백 요약을 캐시
+        if (cachedFeedback == null && !degraded.contains("topIssues") && !degraded.contains("feedbackSummary")) {
+            dashboardSnapshotRegistry.storeFeedbackSection(festivalId,
+                    new DashboardSnapshotRegistry.FeedbackSection(topIssues, feedbackSummary));
+        }
+
+        OperationalDashboardDTO dashboard = OperationalDashboardDTO.builder()
+                .festivalId(festivalIdString)
                 .festivalName(festival.getName())
                 .status(festival.getStatus())
-                .totalZones(zones.size())
-                .totalCapacity(zones.stream().mapToLong(ZoneDTO::getCapacity).sum())
-                .currentTotalCapacity(zones.stream().mapToLong(z -> z.getCurrentCapacity() != null ? z.getCurrentCapacity() : 0).sum())
-                .averageCongestionLevel(zones.stream().mapToInt(z -> z.getCongestionLevel() != null ? z.getCongestionLevel() : 0).average().orElse(0))
-                .zones(zones)
-                .lowCongestionZones(lowCongestion)
-                .moderateCongestionZones(moderate)
-                .highCongestionZones(high)
-                .criticalCongestionZones(critical)
-                .totalMentions((Long) feedbackSummary.get("totalMentions"))
-                .unresolvedIssues((Long) feedbackSummary.get("unresolvedCount"))
-                .negativeFeedbackPercentage(((Number) feedbackSummary.get("negativeFeedbackPercentage")).doubleValue())
+                .totalZones(counters.getTotalZones())
+                .totalCapacity(counters.getTotalCapacity())
+                .currentTotalCapacity(counters.getCurrentTotalCapacity())
+                .averageCongestionLevel(counters.getAverageCongestionLevel())
+                .zones(zonesFuture.join())
+                .lowCongestionZones(counters.getLowCongestionZones())
+                .moderateCongestionZones(counters.getModerateCongestionZones())
+                .highCongestionZones(counters.getHighCongestionZones())
+                .criticalCongestionZones(counters.getCriticalCongestionZones())
+                .totalMentions(longOf(feedbackSummary.get("totalMentions")))
+                .unresolvedIssues(longOf(feedbackSummary.get("unresolvedCount")))
+                .negativeFeedbackPercentage(feedbackSummary.get("negativeFeedbackPercentage") != null
+                        ? ((Number) feedbackSummary.get("negativeFeedbackPercentage")).doubleValue() : null)
                 .topIssues(topIssues)
-                .alerts(alerts)
+                .alerts(alertFeed.getRecentAlerts(festivalId))
+                .degradedSections(degraded.isEmpty() ? null : new ArrayList<>(degraded))
                 .build();
+
+        return new DashboardSnapshot(festivalId, counters.getVersion(), System.currentTimeMillis(), dashboard,
+                !degraded.isEmpty(), hashOf(dashboard));
+    }
+
+    private String hashOf(OperationalDashboardDTO dashboard) {
+        try {
+            return ContentHash.of(objectMapper.writeValueAsBytes(dashboard));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("대시보드 스냅샷 직렬화 실패", e);
+        }
+    }
+
+    /**
+     * 전용 스레드 풀에서 조회하고, 시간 초과/오류 시 대체 값으로 채운 뒤 항목명을 기록
+     */
+    private <T> CompletableFuture<T> fetch(String section, Supplier<T> supplier, T fallbackValue, Set<String> degraded) {
+        return CompletableFuture.supplyAsync(supplier, dashboardQueryExecutor)
+                .orTimeout(branchTimeoutMillis, TimeUnit.MILLISECONDS)
+                .exceptionally(e -> {
+                    log.warn("대시보드 항목 조회 실패, 이전 값으로 대체: section={}, cause={}", section, e.toString());
+                    degraded.add(section);
+                    return fallbackValue;
+                });
+    }
+
+    private Map<String, Object> fallbackSummaryOf(OperationalDashboardDTO fallback) {
+        Map<String, Object> summary = new HashMap<>();
+        if (fallback != null) {
+            summary.put("totalMentions", fallback.getTotalMentions());
+            summary.put("unresolvedCount", fallback.getUnresolvedIssues());
+            summary.put("negativeFeedbackPercentage", fallback.getNegativeFeedbackPercentage());
+        }
+        return summary;
+    }
+
+    private Long longOf(Object value) {
+        return value != null ? ((Number) value).longValue() : null;
     }
 
     @Override
@@ -72,7 +236,12 @@ public class DashboardServiceImpl implements DashboardService {
 
     @Override
     public Object getRealtimeAlerts(String festivalId) {
-        return generateMockAlerts();
+        return alertFeed.getRecentAlerts(Long.parseLong(festivalId));
+    }
+
+    @Override
+    public Map<String, Object> getAlertStatistics() {
+        return congestionEventBus.getStatistics();
     }
 
     @Override
@@ -89,34 +258,8 @@ public class DashboardServiceImpl implements DashboardService {
         performance.put("satisfactionScore", festival.getSatisfactionScore());
         performance.put("totalRevenue", festival.getTotalRevenue());
         performance.put("durationDays", festival.getDurationDays());
+        performance.put("daily", dailyRollupService.getDailyPerformance(festivalId, festival.getStartDate(), festival.getEndDate()));
         
         return performance;
     }
-
-    private List<OperationalDashboardDTO.Alert> generateMockAlerts() {
-        return Arrays.asList(
-                OperationalDashboardDTO.Alert.builder()
-                        .type("congestion")
-                        .severity("high")
-                        .message("메인 스테이지 구역 혼잡도 84% - 주의 필요")
-                        .zoneId("1")
-                        .timestamp(LocalDateTime.now().minusMinutes(5).toString())
-                        .build(),
-                
-                OperationalDashboardDTO.Alert.builder()
-                        .type("feedback")
-                        .severity("medium")
-                        .message("SNS에서 화장실 청결도 관련 불만 급증")
-                        .timestamp(LocalDateTime.now().minusMinutes(15).toString())
-                        .build(),
-                
-                OperationalDashboardDTO.Alert.builder()
-                        .type("system")
-                        .severity("low")
-                        .message("VIP 구역 여유 공간 있음 - 추가 고객 유치 가능")
-                        .zoneId("3")
-                        .timestamp(LocalDateTime.now().minusMinutes(30).toString())
-                        .build()
-        );
-    }
 }
@@ -0,0 +1,436 @@
+package com.kt.backendapp.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kt.backendapp.dto.DashboardStreamEventDTO;
+import com.kt.backendapp.dto.OperationalDashboardDTO;
+import com.kt.backendapp.realtime.DashboardCounters;
+import com.kt.backendapp.realtime.DashboardSnapshotRegistry;
+import com.kt.backendapp.realtime.ZoneLiveState;
+import com.kt.backendapp.realtime.ZoneLiveStateStore;
+import com.kt.backendapp.realtime.ZoneStateListener;
+import com.kt.backendapp.service.DashboardStreamService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 운영 대시보드 변경 스트림 (SSE)
+ * - 구역 변경은 축제별로 구역당 최신 값만 모아(coalescing) 주기마다 한 번 직렬화해 모든 구독자에게 공유
+ * - 구독자마다 미전송 이벤트 한 칸만 유지하고, 전송이 밀려 덮어쓰게 되면 다음 전송을 전체 스냅샷으로 대체
+ * - 연결마다 스레드를 두지 않고, 보낼 데이터가 있는 구독자만 전송 스레드 풀에서 처리
+ * - 이벤트의 값은 모두 절대값이므로 클라이언트는 version 이 이전보다 작은 이벤트만 무시하면 된다
+ * - 전송은 블로킹이므로 느린 구독자가 전송 스레드를 잡아두지 않도록, 한 번의 전송이 send-timeout-ms 를 넘기거나
+ *   전송이 밀려 연속 max-missed-dispatches 번 이벤트를 덮어쓴 구독자는 끊는다 (클라이언트는 재연결 후 스냅샷부터 받음)
+ */
+@Service
+@Slf4j
+public class DashboardStreamServiceImpl implements DashboardStreamService, ZoneStateListener {
+
+    private static final String EVENT_SNAPSHOT = "snapshot";
+    private static final String EVENT_DELTA = "delta";
+
+    // 전송 주기 사이에 쌓일 수 있는 축제별 최대 알림 수 (초과분은 오래된 것부터 폐기)
+    private static final int MAX_PENDING_ALERTS = 100;
+
+    private final ZoneLiveStateStore zoneLiveStateStore;
+    private final DashboardSnapshotRegistry dashboardSnapshotRegistry;
+    private final ObjectMapper objectMapper;
+    private final Executor senderExecutor;
+    private final long emitterTimeoutMillis;
+    private final long heartbeatMillis;
+    private final int maxSubscribers;
+    private final long sendTimeoutMillis;
+    private final int maxMissedDispatches;
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    // 다음 전송 주기에 보낼 축제별 구역 변경 (구역당 최신 값)
+    private final Map<Long, Map<Long, DashboardStreamEventDTO.ZoneChange>> pendingZones = new ConcurrentHashMap<>();
+    private final Map<Long, Queue<OperationalDashboardDTO.Alert>> pendingAlerts = new ConcurrentHashMap<>();
+
+    // 버전별 전체 스냅샷 직렬화 결과 (재동기화 구독자끼리 공유)
+    private final Map<Long, Payload> snapshotPayloads = new ConcurrentHashMap<>();
+
+    public DashboardStreamServiceImpl(ZoneLiveStateStore zoneLiveStateStore,
+                                      DashboardSnapshotRegistry dashboardSnapshotRegistry,
+                                      ObjectMapper objectMapper,
+                                      @Qualifier("dashboardStreamExecutor") Executor senderExecutor,
+                                      @Value("${festival.stream.timeout-ms:1800000}") long emitterTimeoutMillis,
+                                      @Value("${festival.stream.heartbeat-ms:15000}") long heartbeatMillis,
+                                      @Value("${festival.stream.max-subscribers:10000}") int maxSubscribers,
+                                      @Value("${festival.stream.send-timeout-ms:5000}") long sendTimeoutMillis,
+                                      @Value("${festival.stream.max-missed-dispatches:10}") int maxMissedDispatches) {
+        this.zoneLiveStateStore = zoneLiveStateStore;
+        this.dashboardSnapshotRegistry = dashboardSnapshotRegistry;
+        this.objectMapper = objectMapper;
+        this.senderExecutor = senderExecutor;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.heartbeatMillis = heartbeatMillis;
+        this.maxSubscribers = maxSubscribers;
+        this.sendTimeoutMillis = sendTimeoutMillis;
+        this.maxMissedDispatches = maxMissedDispatches;
+    }
+
+    @Override
+    public SseEmitter subscribe(String festivalId) {
+        Long festivalIdLong = Long.parseLong(festivalId);
+        zoneLiveStateStore.ensureLoaded(festivalIdLong);
+
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new IllegalStateException("대시보드 스트림 구독자 수가 최대치를 초과했습니다: " + maxSubscribers);
+        }
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        Subscriber subscriber = new Subscriber(festivalIdLong, emitter);
+        // 빈 축제 정리(dispatch)와 겹치지 않도록 compute 안에서 추가
+        subscribers.compute(festivalIdLong, (id, festivalSubscribers) -> {
+            Set<Subscriber> result = festivalSubscribers != null ? festivalSubscribers : ConcurrentHashMap.newKeySet();
+            result.add(subscriber);
+            return result;
+        });
+
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+
+        // 첫 이벤트는 전체 스냅샷
+        subscriber.resync = true;
+        schedule(subscriber);
+
+        log.info("대시보드 스트림 구독: Festival ID={}, 전체 구독자={}", festivalId, subscriberCount.get());
+        return emitter;
+    }
+
+    @Override
+    public void publishAlert(Long festivalId, OperationalDashboardDTO.Alert alert) {
+        if (!hasSubscribers(festivalId)) {
+            return;
+        }
+        Queue<OperationalDashboardDTO.Alert> alerts =
+                pendingAlerts.computeIfAbsent(festivalId, id -> new ConcurrentLinkedQueue<>());
+        alerts.add(alert);
+        while (alerts.size() > MAX_PENDING_ALERTS) {
+            alerts.poll();
+        }
+    }
+
+    @Override
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @Override
+    public void onZoneStateChanged(ZoneLiveState previous, ZoneLiveState current) {
+        if (hasSubscribers(current.getFestivalId())) {
+            pendingZonesOf(current.getFestivalId()).put(current.getZoneId(), toZoneChange(current, false));
+        }
+    }
+
+    @Override
+    public void onZoneRemoved(ZoneLiveState removed) {
+        if (hasSubscribers(removed.getFestivalId())) {
+            pendingZonesOf(removed.getFestivalId()).put(removed.getZoneId(), toZoneChange(removed, true));
+        }
+    }
+
+    /**
+     * 모인 변경을 축제별로 한 번 직렬화해 구독자 칸에 넣고 전송을 예약
+     */
+    @Scheduled(fixedDelayString = "${festival.stream.dispatch-interval-ms:500}")
+    public void dispatch() {
+        long now = System.currentTimeMillis();
+
+        for (Map.Entry<Long, Set<Subscriber>> entry : subscribers.entrySet()) {
+            Long festivalId = entry.getKey();
+            Set<Subscriber> festivalSubscribers = entry.getValue();
+            if (festivalSubscribers.isEmpty()) {
+                continue;
+            }
+
+            Payload delta = drainDelta(festivalId);
+            for (Subscriber subscriber : festivalSubscribers) {
+                if (subscriber.isStalled(now)) {
+                    subscriber.abandon("전송 " + sendTimeoutMillis + "ms 초과");
+                    continue;
+                }
+                if (delta != null) {
+                    if (subscriber.offer(delta) >= maxMissedDispatches) {
+                        subscriber.abandon("연속 " + maxMissedDispatches + "회 전송 지연");
+                        continue;
+                    }
+                } else if (now - subscriber.lastSentMillis >= heartbeatMillis) {
+                    // 끊긴 연결을 감지하기 위한 주석 이벤트
+                    subscriber.heartbeat = true;
+                }
+                if (subscriber.hasWork()) {
+                    schedule(subscriber);
+                }
+            }
+        }
+
+        // 구독자가 모두 떠난 축제 정리
+        for (Long festivalId : subscribers.keySet()) {
+            subscribers.computeIfPresent(festivalId, (id, festivalSubscribers) -> {
+                if (!festivalSubscribers.isEmpty()) {
+                    return festivalSubscribers;
+                }
+                pendingZones.remove(id);
+                pendingAlerts.remove(id);
+                snapshotPayloads.remove(id);
+                return null;
+            });
+        }
+    }
+
+    private Payload drainDelta(Long festivalId) {
+        Map<Long, DashboardStreamEventDTO.ZoneChange> changes = pendingZones.remove(festivalId);
+        List<OperationalDashboardDTO.Alert> alerts = drainAlerts(festivalId);
+        if ((changes == null || changes.isEmpty()) && alerts.isEmpty()) {
+            return null;
+        }
+
+        List<DashboardStreamEventDTO.ZoneChange> zones =
+                changes != null ? new ArrayList<>(changes.values()) : List.of();
+        return serialize(buildEvent(festivalId, EVENT_DELTA, zones, alerts));
+    }
+
+    private List<OperationalDashboardDTO.Alert> drainAlerts(Long festivalId) {
+        Queue<OperationalDashboardDTO.Alert> queue = pendingAlerts.get(festivalId);
+        if (queue == null || queue.isEmpty()) {
+            return List.of();
+        }
+        List<OperationalDashboardDTO.Alert> alerts = new ArrayList<>();
+        OperationalDashboardDTO.Alert alert;
+        while ((alert = queue.poll()) != null) {
+            alerts.add(alert);
+        }
+        return alerts;
+    }
+
+    private Payload snapshotPayload(Long festivalId) {
+        long version = dashboardSnapshotRegistry.getVersion(festivalId);
+        Payload cached = snapshotPayloads.get(festivalId);
+        if (cached != null && cached.version() == version) {
+            return cached;
+        }
+
+        List<ZoneLiveState> states = zoneLiveStateStore.getZones(festivalId);
+        List<DashboardStreamEventDTO.ZoneChange> zones = new ArrayList<>(states.size());
+        for (ZoneLiveState state : states) {
+            zones.add(toZoneChange(state, false));
+        }
+        Payload payload = serialize(buildEvent(festivalId, EVENT_SNAPSHOT, zones, List.of()));
+        snapshotPayloads.put(festivalId, payload);
+        return payload;
+    }
+
+    private DashboardStreamEventDTO buildEvent(Long festivalId, String type,
+                                               Collection<DashboardStreamEventDTO.ZoneChange> zones,
+                                               List<OperationalDashboardDTO.Alert> alerts) {
+        DashboardCounters counters = dashboardSnapshotRegistry.getCounters(festivalId);
+        return DashboardStreamEventDTO.builder()
+                .festivalId(String.valueOf(festivalId))
+                .version(counters.getVersion())
+                .type(type)
+                .totalZones(counters.getTotalZones())
+                .totalCapacity(counters.getTotalCapacity())
+                .currentTotalCapacity(counters.getCurrentTotalCapacity())
+                .averageCongestionLevel(counters.getAverageCongestionLevel())
+                .lowCongestionZones(counters.getLowCongestionZones())
+                .moderateCongestionZones(counters.getModerateCongestionZones())
+                .highCongestionZones(counters.getHighCongestionZones())
+                .criticalCongestionZones(counters.getCriticalCongestionZones())
+                .zones(new ArrayList<>(zones))
+                .alerts(alerts)
+                .build();
+    }
+
+    private Payload serialize(DashboardStreamEventDTO event) {
+        try {
+            return new Payload(event.getType(), event.getVersion(), objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("대시보드 스트림 이벤트 직렬화 실패", e);
+        }
+    }
+
+    private DashboardStreamEventDTO.ZoneChange toZoneChange(ZoneLiveState state, boolean removed) {
+        return DashboardStreamEventDTO.ZoneChange.builder()
+                .zoneId(String.valueOf(state.getZoneId()))
+                .capacity(state.getCapacity())
+                .currentCapacity(state.getCurrentCapacity())
+                .congestionLevel(state.getCongestionLevel())
+                .congestionStatus(state.getCongestionStatus())
+                .removed(removed)
+                .build();
+    }
+
+    private boolean hasSubscribers(Long festivalId) {
+        Set<Subscriber> festivalSubscribers = subscribers.get(festivalId);
+        return festivalSubscribers != null && !festivalSubscribers.isEmpty();
+    }
+
+    private Map<Long, DashboardStreamEventDTO.ZoneChange> pendingZonesOf(Long festivalId) {
+        return pendingZones.computeIfAbsent(festivalId, id -> new ConcurrentHashMap<>());
+    }
+
+    private void schedule(Subscriber subscriber) {
+        // 구독자당 전송 작업은 최대 하나만 (전송 순서 보장, 느린 구독자가 여러 스레드를 점유하지 않음)
+        if (subscriber.scheduled.compareAndSet(false, true)) {
+            senderExecutor.execute(subscriber::drain);
+        }
+    }
+
+    private record Payload(String type, long version, String json) {
+    }
+
+    /**
+     * 구독자별 전송 상태
+     */
+    private final class Subscriber {
+        private final Long festivalId;
+        private final SseEmitter emitter;
+
+        // 아직 보내지 못한 최신 이벤트 한 칸
+        private final AtomicReference<Payload> slot = new AtomicReference<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private volatile boolean resync;
+        private volatile boolean heartbeat;
+        private volatile long lastSentMillis = System.currentTimeMillis();
+        private volatile long sendingSinceMillis; // 전송 중이면 시작 시각, 아니면 0
+        private volatile boolean abandoned;
+
+        // 보내기 전에 덮어쓴 연속 횟수 (디스패처 스레드에서만 변경)
+        private int missed;
+
+        private Subscriber(Long festivalId, SseEmitter emitter) {
+            this.festivalId = festivalId;
+            this.emitter = emitter;
+        }
+
+        /**
+         * @return 보내기 전에 덮어쓴 연속 횟수
+         */
+        private int offer(Payload payload) {
+            // 이전 이벤트를 보내기 전에 덮어쓰면 변경이 빠지므로 다음 전송은 전체 스냅샷으로 대체
+            if (slot.getAndSet(payload) != null) {
+                resync = true;
+                return ++missed;
+            }
+            missed = 0;
+            return 0;
+        }
+
+        private boolean isStalled(long now) {
+            long since = sendingSinceMillis;
+            return since != 0 && now - since > sendTimeoutMillis;
+        }
+
+        /**
+         * 느린 구독자 종료: 더 이상 작업을 주지 않고, 막혀 있던 전송이 끝나면 그 스레드에서 연결을 닫는다
+         */
+        private void abandon(String reason) {
+            if (closed.get()) {
+                return;
+            }
+            abandoned = true;
+            close();
+            log.warn("느린 대시보드 스트림 구독자 종료: Festival ID={}, 사유={}", festivalId, reason);
+            // 전송 중이 아니면 전송 스레드에서 바로 연결을 닫는다
+            if (scheduled.compareAndSet(false, true)) {
+                senderExecutor.execute(this::drain);
+            }
+        }
+
+        private boolean hasWork() {
+            return !closed.get() && (resync || heartbeat || slot.get() != null);
+        }
+
+        private void drain() {
+            try {
+                while (!closed.get()) {
+                    if (resync) {
+                        resync = false;
+                        slot.set(null);
+                        send(snapshotPayload(festivalId));
+                        continue;
+                    }
+                    Payload payload = slot.getAndSet(null);
+                    if (payload != null) {
+                        send(payload);
+                        continue;
+                    }
+                    if (heartbeat) {
+                        heartbeat = false;
+                        write(SseEmitter.event().comment("ping"));
+                        continue;
+                    }
+                    break;
+                }
+                if (abandoned) {
+                    emitter.complete();
+                }
+            } catch (IOException | RuntimeException e) {
+                log.debug("대시보드 스트림 전송 실패, 구독 종료: Festival ID={}", festivalId, e);
+                close();
+                emitter.completeWithError(e);
+            } finally {
+                scheduled.set(false);
+                // 전송을 마치는 사이에 들어온 이벤트 처리
+                if (hasWork()) {
+                    schedule(this);
+                }
+            }
+        }
+
+        private void send(Payload payload) throws IOException {
+            write(SseEmitter.event()
+                    .id(String.valueOf(payload.version()))
+                    .name(payload.type())
+                    .data(payload.json()));
+        }
+
+        private void write(SseEmitter.SseEventBuilder event) throws IOException {
+            // 디스패처가 막힌 전송을 감지할 수 있도록 시작 시각을 남긴다
+            sendingSinceMillis = System.currentTimeMillis();
+            try {
+                emitter.send(event);
+            } finally {
+                sendingSinceMillis = 0;
+            }
+            lastSentMillis = System.currentTimeMillis();
+        }
+
+        private void close() {
+            if (closed.compareAndSet(false, true)) {
+                Set<Subscriber> festivalSubscribers = subscribers.get(festivalId);
+                if (festivalSubscribers != null) {
+                    festivalSubscribers.remove(this);
+                }
+                subscriberCount.decrementAndGet();
+                log.debug("대시보드 스트림 구독 종료: Festival ID={}", festivalId);
+            }
+        }
+    }
+}
@@ -1,16 +1,30 @@
 package com.kt.backendapp.service.impl;
 
+import com.kt.backendapp.config.CacheConfig;
+import com.kt.backendapp.domain.event.FestivalStatusChangedEvent;
+import com.kt.backendapp.domain.model.PageCursor;
 import com.kt.backendapp.dto.*;
 import com.kt.backendapp.entity.*;
 import com.kt.backendapp.repository.FestivalRepository;
+import com.kt.backendapp.repository.FestivalSpecifications;
+import com.kt.backendapp.realtime.DashboardSnapshotRegistry;
+import com.kt.backendapp.realtime.ZoneLiveStateStore;
 import com.kt.backendapp.service.FestivalService;
+import com.kt.backendapp.service.FestivalStatusService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -22,7 +36,17 @@ import java.util.*;
 @Transactional
 public class FestivalServiceImpl implements FestivalService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_LENGTH = 100;
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("id", "name", "startDate", "endDate", "status", "createdAt");
+    private static final Sort DEFAULT_CATALOG_SORT = Sort.by(Sort.Direction.DESC, "startDate");
+    private static final Sort SCROLL_SORT = Sort.by(Sort.Direction.DESC, "startDate", "id");
+
     private final FestivalRepository festivalRepository;
+    private final DashboardSnapshotRegistry dashboardSnapshotRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final FestivalStatusService festivalStatusService;
+    private final ZoneLiveStateStore zoneLiveStateStore;
     
     // Entity를 DTO로 변환하는 메서드
     private FestivalDTO convertToDTO(Festival festival) {
@@ -44,28 +68,66 @@ public class FestivalServiceImpl implements FestivalService {
     @Override
     @Transactional(readOnly = true)
     public Page<FestivalDTO> getAllFestivals(Pageable pageable, String status, String search) {
-        // Mock 데이터로 빠른 구현
-        List<FestivalDTO> mockFestivals = createMockFestivals();
-        
-        // 필터링 적용
-        if (status != null) {
-            mockFestivals = mockFestivals.stream()
-                    .filter(f -> status.equals(f.getStatus()))
-                    .toList();
+        Specification<Festival> spec = FestivalSpecifications.catalog(parseStatus(status), validateSearch(search));
+        return festivalRepository.findAll(spec, catalogPageable(pageable))
+                .map(this::convertToDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<FestivalDTO> scrollFestivals(String status, String search, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Specification<Festival> spec = FestivalSpecifications.catalog(parseStatus(status), validateSearch(search));
+        PageCursor after = PageCursor.decode(cursor);
+        if (after != null) {
+            spec = spec.and(FestivalSpecifications.startsBefore(after.keyAsDate(), after.id()));
         }
         
-        if (search != null && !search.isEmpty()) {
-            mockFestivals = mockFestivals.stream()
-                    .filter(f -> f.getName().toLowerCase().contains(search.toLowerCase()) ||
-                                f.getLocation().toLowerCase().contains(search.toLowerCase()))
-                    .toList();
-        }
+        // 한 건 더 읽어 다음 페이지 존재 여부 확인 (count 쿼리 없음)
+        List<Festival> rows = festivalRepository.findBy(spec, query -> query.sortBy(SCROLL_SORT).limit(pageSize + 1).all());
+        boolean hasNext = rows.size() > pageSize;
+        List<Festival> page = hasNext ? rows.subList(0, pageSize) : rows;
+        Festival last = hasNext ? page.get(page.size() - 1) : null;
         
-        return new PageImpl<>(mockFestivals, pageable, mockFestivals.size());
+        return CursorPageDTO.<FestivalDTO>builder()
+                .items(page.stream().map(this::convertToDTO).toList())
+                .size(page.size())
+                .hasNext(hasNext)
+                .nextCursor(last != null ? PageCursor.of(last.getStartDate(), last.getId()).encode() : null)
+                .build();
+    }
+
+    private FestivalStatus parseStatus(String status) {
+        return status != null && !status.isBlank() ? FestivalStatus.fromCode(status.trim().toLowerCase()) : null;
+    }
+
+    private String validateSearch(String search) {
+        if (search != null && search.length() > MAX_SEARCH_LENGTH) {
+            throw new RuntimeException("검색어가 너무 깁니다: " + search.length() + "자");
+        }
+        return search;
+    }
+
+    // 허용된 항목으로만 정렬하고, 같은 값끼리 순서가 바뀌지 않도록 id 를 마지막 정렬 기준으로 추가
+    private Pageable catalogPageable(Pageable pageable) {
+        Sort sort = pageable.getSort().isSorted() ? pageable.getSort() : DEFAULT_CATALOG_SORT;
+        Sort.Direction tieBreak = Sort.Direction.DESC;
+        for (Sort.Order order : sort) {
+            if (!SORTABLE_PROPERTIES.contains(order.getProperty())) {
+                throw new RuntimeException("정렬할 수 없는 항목입니다: " + order.getProperty());
+            }
+            tieBreak = order.getDirection();
+        }
+        if (sort.getOrderFor("id") == null) {
+            sort = sort.and(Sort.by(tieBreak, "id"));
+        }
+        int size = Math.min(pageable.getPageSize(), MAX_PAGE_SIZE);
+        return PageRequest.of(pageable.getPageNumber(), size, sort);
     }
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.FESTIVALS, key = "#id")
     public FestivalDTO getFestivalById(Long id) {
         Festival festival = festivalRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("축제를 찾을 수 없습니다: " + id));
@@ -90,12 +152,14 @@ public class FestivalServiceImpl implements FestivalService {
         
         // 데이터베이스에 저장
         Festival savedFestival = festivalRepository.save(festival);
+        festivalStatusService.reschedule(savedFestival); // 시작일에 운영 중으로 자동 전환
         
         // DTO로 변환하여 반환
         return convertToDTO(savedFestival);
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.FESTIVALS, key = "#id")
     public FestivalDTO updateFestival(Long id, FestivalRequestDTO requestDTO) {
         log.info("축제 수정: ID={}, Name={}", id, requestDTO.getName());
         
@@ -108,30 +172,63 @@ public class FestivalServiceImpl implements FestivalService {
         festival.setEndDate(requestDTO.getEndDate());
         festival.setTarget(requestDTO.getTarget());
         festival.setDescription(requestDTO.getDescription());
+        FestivalStatus previousStatus = festival.getStatus();
         festival.setStatus(FestivalStatus.valueOf(requestDTO.getStatus().toUpperCase()));
         
         Festival savedFestival = festivalRepository.save(festival);
+        dashboardSnapshotRegistry.touch(id); // 대시보드의 축제명/상태 갱신
+        publishStatusChange(savedFestival, previousStatus, "축제 정보 수정");
+        festivalStatusService.reschedule(savedFestival); // 기간이 바뀌었을 수 있으므로 다시 예약
         return convertToDTO(savedFestival);
     }
 
+    private void publishStatusChange(Festival festival, FestivalStatus previousStatus, String reason) {
+        if (previousStatus != festival.getStatus()) {
+            eventPublisher.publishEvent(FestivalStatusChangedEvent.of(
+                    festival.getId(), festival.getName(), previousStatus, festival.getStatus(), reason));
+        }
+    }
+
     @Override
+    @CacheEvict(cacheNames = CacheConfig.FESTIVALS, key = "#id")
     public void deleteFestival(Long id) {
         log.info("축제 삭제: ID={}", id);
         if (!festivalRepository.existsById(id)) {
             throw new RuntimeException("축제를 찾을 수 없습니다: " + id);
         }
         festivalRepository.deleteById(id);
+        festivalStatusService.unschedule(id);
+        // 롤백되면 메모리 상태를 유지해야 하므로 커밋 후 정리
+        afterCommit(() -> zoneLiveStateStore.removeFestival(id));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.FESTIVALS, key = "#id")
     public FestivalDTO updateFestivalStatus(Long id, String status) {
         log.info("축제 상태 변경: ID={}, Status={}", id, status);
         
         Festival festival = festivalRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("축제를 찾을 수 없습니다: " + id));
         
+        FestivalStatus previousStatus = festival.getStatus();
         festival.setStatus(FestivalStatus.valueOf(status.toUpperCase()));
         Festival savedFestival = festivalRepository.save(festival);
+        dashboardSnapshotRegistry.touch(id);
+        publishStatusChange(savedFestival, previousStatus, "상태 수동 변경");
+        festivalStatusService.reschedule(savedFestival);
         
         return convertToDTO(savedFestival);
     }
@@ -162,16 +259,16 @@ public class FestivalServiceImpl implements FestivalService {
     @Override
     @Transactional(readOnly = true)
     public List<FestivalDTO> getCurrentlyRunningFestivals() {
-        return createMockFestivals().stream()
-                .filter(f -> "during".equals(f.getStatus()))
+        return festivalRepository.findCurrentlyRunningFestivals(LocalDate.now()).stream()
+                .map(this::convertToDTO)
                 .toList();
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<FestivalDTO> getUpcomingFestivals() {
-        return createMockFestivals().stream()
-                .filter(f -> "before".equals(f.getStatus()))
+        return festivalRepository.findUpcomingFestivals(LocalDate.now()).stream()
+                .map(this::convertToDTO)
                 .toList();
     }
 
@@ -0,0 +1,195 @@
+package com.kt.backendapp.service.impl;
+
+import com.kt.backendapp.config.CacheConfig;
+import com.kt.backendapp.domain.event.FestivalStatusChangedEvent;
+import com.kt.backendapp.domain.model.TransitionTimeWheel;
+import com.kt.backendapp.domain.service.FestivalDomainService;
+import com.kt.backendapp.entity.Festival;
+import com.kt.backendapp.entity.FestivalStatus;
+import com.kt.backendapp.realtime.DashboardSnapshotRegistry;
+import com.kt.backendapp.repository.FestivalRepository;
+import com.kt.backendapp.service.FestivalStatusService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 축제 상태 자동 전환 (운영 전 → 운영 중 → 종료)
+ * - 축제마다 다음 전환 날짜를 TransitionTimeWheel 에 예약해 두고, 주기 확인 시 날짜가 바뀌지 않았으면 메모리 확인만 한다
+ * - 휠에는 horizon-days 이내의 전환만 보관하고, 날짜가 지나며 새로 범위에 들어온 날의 전환은 (status, 날짜) 인덱스 범위 조회로 적재
+ * - 시작 시 서버가 멈춘 동안 지난 전환을 먼저 처리
+ * - 전환은 (이전 상태, 새 상태)별로 묶어 일괄 UPDATE 하고, 축제마다 FestivalStatusChangedEvent 발행
+ */
+@Service
+@Slf4j
+public class FestivalStatusServiceImpl implements FestivalStatusService {
+
+    private static final String REASON = "축제 기간에 따른 자동 전환";
+
+    private final FestivalRepository festivalRepository;
+    private final FestivalDomainService festivalDomainService;
+    private final DashboardSnapshotRegistry dashboardSnapshotRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Cache festivalCache;
+    private final ZoneId timeZone;
+    private final int horizonDays;
+    private final int batchSize;
+    private final TransitionTimeWheel wheel;
+
+    public FestivalStatusServiceImpl(FestivalRepository festivalRepository,
+                                     FestivalDomainService festivalDomainService,
+                                     DashboardSnapshotRegistry dashboardSnapshotRegistry,
+                                     ApplicationEventPublisher eventPublisher,
+                                     CacheManager cacheManager,
+                                     @Value("${festival.status.time-zone:Asia/Seoul}") String timeZone,
+                                     @Value("${festival.status.horizon-days:60}") int horizonDays,
+                                     @Value("${festival.status.batch-size:500}") int batchSize) {
+        this.festivalRepository = festivalRepository;
+        this.festivalDomainService = festivalDomainService;
+        this.dashboardSnapshotRegistry = dashboardSnapshotRegistry;
+        this.eventPublisher = eventPublisher;
+        this.festivalCache = cacheManager.getCache(CacheConfig.FESTIVALS);
+        this.timeZone = ZoneId.of(timeZone);
+        this.horizonDays = horizonDays;
+        this.batchSize = batchSize;
+        this.wheel = new TransitionTimeWheel(horizonDays, LocalDate.now(this.timeZone));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void initialize() {
+        LocalDate today = wheel.getCurrentDay();
+
+        // 서버가 멈춘 동안 지난 전환
+        List<Festival> overdue = new ArrayList<>(
+                festivalRepository.findByStatusAndStartDateLessThanEqual(FestivalStatus.BEFORE, today));
+        overdue.addAll(festivalRepository.findByStatusAndEndDateLessThan(FestivalStatus.DURING, today));
+        int changed = 0;
+        for (int i = 0; i < overdue.size(); i += batchSize) {
+            changed += apply(overdue.subList(i, Math.min(i + batchSize, overdue.size())), today);
+        }
+
+        int scheduled = loadHorizon(today.plusDays(1), wheel.getHorizon());
+        log.info("축제 상태 자동 전환 시작: 밀린 전환 {}건 처리, {}일 이내 전환 {}건 예약", changed, horizonDays, scheduled);
+    }
+
+    @Scheduled(fixedDelayString = "${festival.status.check-interval-ms:60000}")
+    public void scheduledCheck() {
+        applyDueTransitions();
+    }
+
+    @Override
+    public synchronized int applyDueTransitions() {
+        LocalDate today = LocalDate.now(timeZone);
+        LocalDate previousHorizon = wheel.getHorizon();
+        List<Long> due = wheel.advance(today);
+
+        // 날짜가 바뀌어 새로 보관 범위에 들어온 날의 전환 적재
+        if (wheel.getHorizon().isAfter(previousHorizon)) {
+            LocalDate from = previousHorizon.plusDays(1);
+            if (from.isBefore(today.plusDays(1))) {
+                from = today.plusDays(1);
+            }
+            loadHorizon(from, wheel.getHorizon());
+        }
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        int changed = 0;
+        for (int i = 0; i < due.size(); i += batchSize) {
+            changed += apply(festivalRepository.findAllById(due.subList(i, Math.min(i + batchSize, due.size()))), today);
+        }
+        log.info("축제 상태 자동 전환: 대상 {}건, 전환 {}건", due.size(), changed);
+        return changed;
+    }
+
+    @Override
+    public void reschedule(Festival festival) {
+        LocalDate next = festivalDomainService.nextTransitionDate(festival);
+        if (next == null) {
+            wheel.cancel(festival.getId());
+        } else {
+            // 보관 범위 밖이면 예약하지 않고, 날짜가 가까워지면 범위 조회로 적재
+            wheel.schedule(festival.getId(), next);
+        }
+    }
+
+    @Override
+    public void unschedule(Long festivalId) {
+        wheel.cancel(festivalId);
+    }
+
+    private int loadHorizon(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            return 0;
+        }
+        // 운영 전: 시작일이 범위 안, 운영 중: 종료 다음 날이 범위 안
+        List<Festival> festivals = new ArrayList<>(
+                festivalRepository.findByStatusAndStartDateBetween(FestivalStatus.BEFORE, from, to));
+        festivals.addAll(festivalRepository.findByStatusAndEndDateBetween(FestivalStatus.DURING, from.minusDays(1), to.minusDays(1)));
+        for (Festival festival : festivals) {
+            reschedule(festival);
+        }
+        return festivals.size();
+    }
+
+    private int apply(List<Festival> festivals, LocalDate today) {
+        Map<Transition, List<Festival>> transitions = new LinkedHashMap<>();
+        for (Festival festival : festivals) {
+            FestivalStatus newStatus = festivalDomainService.determineStatus(festival, today);
+            if (newStatus != festival.getStatus() && festivalDomainService.canChangeStatusTo(festival, newStatus, today)) {
+                transitions.computeIfAbsent(new Transition(festival.getStatus(), newStatus), t -> new ArrayList<>()).add(festival);
+            } else {
+                // 기간이 바뀌어 아직 전환할 때가 아니면 다시 예약
+                reschedule(festival);
+            }
+        }
+
+        int changed = 0;
+        for (Map.Entry<Transition, List<Festival>> entry : transitions.entrySet()) {
+            changed += applyTransition(entry.getKey(), entry.getValue());
+        }
+        return changed;
+    }
+
+    private int applyTransition(Transition transition, List<Festival> festivals) {
+        List<Long> ids = festivals.stream().map(Festival::getId).toList();
+        int updated = festivalRepository.updateStatus(ids, transition.previousStatus(), transition.newStatus());
+        ids.forEach(festivalCache::evict); // 일괄 UPDATE 는 @CacheEvict 를 거치지 않으므로 직접 무효화
+
+        List<Festival> changed = festivals;
+        if (updated != ids.size()) {
+            // 그사이 수동으로 상태가 바뀐 축제는 제외하고 실제로 전환된 축제만 다시 확인
+            log.warn("축제 상태 자동 전환 중 {}건은 이미 변경되어 제외: {} → {}",
+                    ids.size() - updated, transition.previousStatus(), transition.newStatus());
+            changed = festivalRepository.findAllById(ids).stream()
+                    .filter(festival -> festival.getStatus() == transition.newStatus())
+                    .toList();
+        }
+
+        for (Festival festival : changed) {
+            festival.setStatus(transition.newStatus());
+            dashboardSnapshotRegistry.touch(festival.getId());
+            eventPublisher.publishEvent(FestivalStatusChangedEvent.of(festival.getId(), festival.getName(),
+                    transition.previousStatus(), transition.newStatus(), REASON));
+            reschedule(festival);
+        }
+        return changed.size();
+    }
+
+    private record Transition(FestivalStatus previousStatus, FestivalStatus newStatus) {
+    }
+}
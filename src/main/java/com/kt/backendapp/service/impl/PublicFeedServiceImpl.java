@@ -0,0 +1,227 @@
+package com.kt.backendapp.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kt.backendapp.domain.model.CongestionFeedCodec;
+import com.kt.backendapp.domain.model.ContentHash;
+import com.kt.backendapp.dto.PublicCongestionFeedDTO;
+import com.kt.backendapp.exception.ResourceNotFoundException;
+import com.kt.backendapp.realtime.PublicFeedDocument;
+import com.kt.backendapp.realtime.ZoneLiveState;
+import com.kt.backendapp.realtime.ZoneLiveStateStore;
+import com.kt.backendapp.realtime.ZoneStateListener;
+import com.kt.backendapp.service.PublicFeedService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 방문객 앱용 공개 혼잡도 피드
+ * - 축제별로 JSON, gzip JSON, 바이너리 표현을 미리 만들어 두고 조회는 바이트 배열만 반환
+ * - 구역 변경은 축제에 변경 표시만 남기고, 주기(기본 1초)마다 변경된 축제만 다시 만들어 통째로 교체
+ *   (조회 수와 무관하게 축제당 초당 최대 한 번 직렬화)
+ * - 내용이 같으면 교체하지 않으므로 ETag 가 유지되어 클라이언트는 304 를 받는다
+ * - 한동안 조회되지 않은 축제의 피드는 정리하고, 삭제된 축제의 피드는 삭제 알림을 받는 즉시 정리
+ * - 없는 축제 ID 는 일정 시간 기억해 두고 DB 를 거치지 않고 404 (없는 ID 반복 조회가 매번 DB 로 가지 않도록)
+ */
+@Service
+@Slf4j
+public class PublicFeedServiceImpl implements PublicFeedService, ZoneStateListener {
+
+    private final ZoneLiveStateStore zoneLiveStateStore;
+    private final ObjectMapper objectMapper;
+
+    private final Map<Long, FeedSlot> feeds = new ConcurrentHashMap<>();
+    // 없는 축제 ID (임의 ID 로 채워도 크기 제한, 그 사이 생성된 축제는 만료 후 조회됨)
+    private final Cache<Long, Boolean> missingFestivals;
+
+    public PublicFeedServiceImpl(ZoneLiveStateStore zoneLiveStateStore, ObjectMapper objectMapper,
+                                 @Value("${festival.public-feed.missing-ttl-ms:30000}") long missingTtlMillis,
+                                 @Value("${festival.public-feed.missing-max-size:10000}") long missingMaxSize) {
+        this.zoneLiveStateStore = zoneLiveStateStore;
+        this.objectMapper = objectMapper;
+        this.missingFestivals = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(missingTtlMillis))
+                .maximumSize(missingMaxSize)
+                .build();
+    }
+
+    @Override
+    public PublicFeedDocument getFeed(String festivalId) {
+        Long festivalIdLong = parseId(festivalId);
+        FeedSlot slot = feeds.get(festivalIdLong);
+        if (slot == null) {
+            if (missingFestivals.getIfPresent(festivalIdLong) != null) {
+                throw new ResourceNotFoundException("축제를 찾을 수 없습니다: " + festivalId);
+            }
+            try {
+                slot = feeds.computeIfAbsent(festivalIdLong, id -> new FeedSlot(build(id)));
+            } catch (ResourceNotFoundException e) {
+                missingFestivals.put(festivalIdLong, Boolean.TRUE);
+                throw e;
+            }
+        }
+        // 조회마다 쓰지 않도록 (여러 코어가 같은 필드를 계속 쓰면 캐시 라인 경합)
+        if (!slot.read) {
+            slot.read = true;
+        }
+        return slot.document;
+    }
+
+    @Override
+    public int getFeedCount() {
+        return feeds.size();
+    }
+
+    @Override
+    public void onZoneStateChanged(ZoneLiveState previous, ZoneLiveState current) {
+        markDirty(current.getFestivalId());
+    }
+
+    @Override
+    public void onZoneRemoved(ZoneLiveState removed) {
+        markDirty(removed.getFestivalId());
+    }
+
+    @Override
+    public void onFestivalRemoved(Long festivalId) {
+        // 조회가 계속되는 피드는 유휴 정리에 걸리지 않으므로 삭제 시점에 바로 정리
+        missingFestivals.put(festivalId, Boolean.TRUE);
+        if (feeds.remove(festivalId) != null) {
+            log.info("삭제된 축제의 공개 혼잡도 피드 정리: Festival ID={}", festivalId);
+        }
+    }
+
+    /**
+     * 변경된 축제의 피드를 다시 만들어 교체
+     */
+    @Scheduled(fixedDelayString = "${festival.public-feed.refresh-interval-ms:1000}")
+    public void refresh() {
+        for (Map.Entry<Long, FeedSlot> entry : feeds.entrySet()) {
+            FeedSlot slot = entry.getValue();
+            if (!slot.dirty) {
+                continue;
+            }
+            // 만드는 도중 들어온 변경은 다음 주기에 반영되도록 먼저 표시를 지운다
+            slot.dirty = false;
+            try {
+                PublicFeedDocument rebuilt = build(entry.getKey());
+                if (!rebuilt.getHash().equals(slot.document.getHash())) {
+                    slot.document = rebuilt;
+                }
+            } catch (ResourceNotFoundException e) {
+                // 삭제 알림보다 먼저 갱신 주기가 돈 경우
+                feeds.remove(entry.getKey(), slot);
+                missingFestivals.put(entry.getKey(), Boolean.TRUE);
+                log.info("삭제된 축제의 공개 혼잡도 피드 정리: Festival ID={}", entry.getKey());
+            } catch (RuntimeException e) {
+                slot.dirty = true;
+                log.warn("공개 혼잡도 피드 갱신 실패: Festival ID={} 다음 주기에 재시도", entry.getKey(), e);
+            }
+        }
+    }
+
+    /**
+     * 정리 주기 동안 한 번도 조회되지 않은 축제의 피드 제거 (다음 조회 시 다시 생성)
+     */
+    @Scheduled(fixedDelayString = "${festival.public-feed.idle-evict-ms:600000}")
+    public void evictIdle() {
+        feeds.entrySet().removeIf(entry -> {
+            FeedSlot slot = entry.getValue();
+            if (slot.read) {
+                slot.read = false;
+                return false;
+            }
+            log.debug("조회가 없는 공개 혼잡도 피드 정리: Festival ID={}", entry.getKey());
+            return true;
+        });
+    }
+
+    private void markDirty(Long festivalId) {
+        FeedSlot slot = feeds.get(festivalId);
+        if (slot != null && !slot.dirty) {
+            slot.dirty = true;
+        }
+    }
+
+    private static Long parseId(String festivalId) {
+        try {
+            return Long.parseLong(festivalId);
+        } catch (NumberFormatException e) {
+            throw new ResourceNotFoundException("축제를 찾을 수 없습니다: " + festivalId);
+        }
+    }
+
+    private PublicFeedDocument build(Long festivalId) {
+        List<ZoneLiveState> states = zoneLiveStateStore.getZones(festivalId);
+
+        LocalDateTime updatedAt = null;
+        List<PublicCongestionFeedDTO.Zone> zones = new ArrayList<>(states.size());
+        List<CongestionFeedCodec.ZoneEntry> entries = new ArrayList<>(states.size());
+        for (ZoneLiveState state : states) {
+            zones.add(PublicCongestionFeedDTO.Zone.builder()
+                    .zoneId(String.valueOf(state.getZoneId()))
+                    .name(state.getName())
+                    .congestionLevel(state.getCongestionLevel())
+                    .congestionStatus(state.getCongestionStatus())
+                    .currentCapacity(state.getCurrentCapacity())
+                    .capacity(state.getCapacity())
+                    .build());
+            entries.add(new CongestionFeedCodec.ZoneEntry(state.getZoneId(), state.getName(),
+                    state.getCongestionLevel(), state.getCurrentCapacity(), state.getCapacity()));
+            if (state.getUpdatedAt() != null && (updatedAt == null || state.getUpdatedAt().isAfter(updatedAt))) {
+                updatedAt = state.getUpdatedAt();
+            }
+        }
+
+        // 바이너리와 같은 정밀도로 맞춰 두 표현의 내용을 일치시킨다
+        long updatedAtMillis = 0L;
+        if (updatedAt != null) {
+            updatedAt = updatedAt.truncatedTo(ChronoUnit.MILLIS);
+            updatedAtMillis = updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        }
+        byte[] binary = CongestionFeedCodec.encode(new CongestionFeedCodec.Feed(festivalId, updatedAtMillis, entries));
+        byte[] json = serialize(PublicCongestionFeedDTO.builder()
+                .festivalId(String.valueOf(festivalId))
+                .updatedAt(updatedAt)
+                .zones(zones)
+                .build());
+
+        // JSON 의 모든 값이 바이너리에서 결정되므로 바이너리 해시를 두 표현 모두의 버전으로 사용
+        return new PublicFeedDocument(festivalId, ContentHash.of(binary), updatedAt, zones.size(),
+                json, CongestionFeedCodec.gzip(json), binary);
+    }
+
+    private byte[] serialize(PublicCongestionFeedDTO feed) {
+        try {
+            return objectMapper.writeValueAsBytes(feed);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("공개 혼잡도 피드 직렬화 실패", e);
+        }
+    }
+
+    /**
+     * 축제별 현재 피드 (dirty/read 는 경합해도 다음 주기에 바로잡히므로 volatile 로 충분)
+     */
+    private static final class FeedSlot {
+        private volatile PublicFeedDocument document;
+        private volatile boolean dirty = true; // 생성 도중 놓친 변경이 있을 수 있으므로 첫 주기에 다시 만든다
+        private volatile boolean read = true;
+
+        private FeedSlot(PublicFeedDocument document) {
+            this.document = document;
+        }
+    }
+}
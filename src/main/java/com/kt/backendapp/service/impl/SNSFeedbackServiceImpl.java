@@ -1,9 +1,26 @@
 package com.kt.backendapp.service.impl;
 
+import com.kt.backendapp.domain.model.FeedbackStatistics;
+import com.kt.backendapp.domain.model.FeedbackTrendWindow;
+import com.kt.backendapp.domain.model.IssueClusterer;
+import com.kt.backendapp.domain.model.PageCursor;
+import com.kt.backendapp.dto.CursorPageDTO;
+import com.kt.backendapp.dto.FeedbackTrendDTO;
+import com.kt.backendapp.dto.PageDTO;
 import com.kt.backendapp.dto.SNSFeedbackDTO;
+import com.kt.backendapp.entity.SNSFeedback;
+import com.kt.backendapp.entity.SentimentType;
+import com.kt.backendapp.realtime.DashboardSnapshotRegistry;
+import com.kt.backendapp.realtime.FeedbackStatisticsCache;
+import com.kt.backendapp.realtime.FeedbackTrendAggregator;
+import com.kt.backendapp.realtime.TopIssueTracker;
+import com.kt.backendapp.repository.SNSFeedbackRepository;
 import com.kt.backendapp.service.SNSFeedbackService;
+import com.kt.backendapp.service.SNSIngestionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -14,6 +31,19 @@ import java.util.*;
 @Slf4j
 public class SNSFeedbackServiceImpl implements SNSFeedbackService {
 
+    // 검색 한 페이지 최대 크기
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    private static final int MAX_KEYWORD_LENGTH = 100;
+    // 커서 조회 한 페이지 최대 크기
+    private static final int MAX_SCROLL_SIZE = 100;
+
+    private final DashboardSnapshotRegistry dashboardSnapshotRegistry;
+    private final SNSFeedbackRepository snsFeedbackRepository;
+    private final FeedbackTrendAggregator feedbackTrendAggregator;
+    private final TopIssueTracker topIssueTracker;
+    private final SNSIngestionService snsIngestionService;
+    private final FeedbackStatisticsCache feedbackStatisticsCache;
+
     @Override
     public List<SNSFeedbackDTO> getFeedbackByFestival(String festivalId, String sentiment, Boolean resolved) {
         List<SNSFeedbackDTO> feedback = createMockFeedback(festivalId);
@@ -29,12 +59,38 @@ public class SNSFeedbackServiceImpl implements SNSFeedbackService {
         return feedback;
     }
 
+    @Override
+    public CursorPageDTO<SNSFeedbackDTO> scrollFeedback(String festivalId, String cursor, int size) {
+        Long festivalIdLong = Long.parseLong(festivalId);
+        int pageSize = Math.max(1, Math.min(size, MAX_SCROLL_SIZE));
+        PageCursor after = PageCursor.decode(cursor);
+        
+        // 한 건 더 읽어 다음 페이지 존재 여부 확인
+        List<SNSFeedback> rows = after == null
+                ? snsFeedbackRepository.findLatestPage(festivalIdLong, pageSize + 1)
+                : snsFeedbackRepository.findLatestPageBefore(festivalIdLong, after.keyAsDateTime(), after.id(), pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<SNSFeedback> page = hasNext ? rows.subList(0, pageSize) : rows;
+        SNSFeedback last = hasNext ? page.get(page.size() - 1) : null;
+        
+        return CursorPageDTO.<SNSFeedbackDTO>builder()
+                .items(page.stream().map(this::toDTO).toList())
+                .size(page.size())
+                .hasNext(hasNext)
+                .nextCursor(last != null ? PageCursor.of(last.getCreatedAt(), last.getId()).encode() : null)
+                .build();
+    }
+
     @Override
     public List<SNSFeedbackDTO> getTopIssuesByMentions(String festivalId, int limit) {
-        return createMockFeedback(festivalId).stream()
-                .sorted((a, b) -> Integer.compare(b.getMentions(), a.getMentions()))
-                .limit(limit)
-                .toList();
+        snsIngestionService.ensureLoaded(festivalId);
+        return toDTOs(festivalId, topIssueTracker.getTopByMentions(Long.parseLong(festivalId), limit));
+    }
+
+    @Override
+    public List<SNSFeedbackDTO> getTopIssuesBySeverity(String festivalId, int limit) {
+        snsIngestionService.ensureLoaded(festivalId);
+        return toDTOs(festivalId, topIssueTracker.getTopBySeverity(Long.parseLong(festivalId), limit));
     }
 
     @Override
@@ -64,29 +120,34 @@ public class SNSFeedbackServiceImpl implements SNSFeedbackService {
         feedback.setResolution(resolution);
         feedback.setResolvedAt(LocalDateTime.now());
         
+        // 피드백 ID만으로는 축제를 알 수 없으므로 캐시된 피드백 요약/통계를 모두 무효화
+        dashboardSnapshotRegistry.invalidateAllFeedback();
+        feedbackStatisticsCache.invalidateAll();
+        
         return feedback;
     }
 
     @Override
     public Map<String, Object> getSentimentStatistics(String festivalId) {
-        List<SNSFeedbackDTO> feedback = createMockFeedback(festivalId);
+        FeedbackStatistics statistics = feedbackStatisticsCache.getStatistics(Long.parseLong(festivalId));
         
         Map<String, Object> stats = new HashMap<>();
-        stats.put("total", feedback.size());
-        stats.put("positive", feedback.stream().filter(f -> "positive".equals(f.getSentiment())).count());
-        stats.put("neutral", feedback.stream().filter(f -> "neutral".equals(f.getSentiment())).count());
-        stats.put("negative", feedback.stream().filter(f -> "negative".equals(f.getSentiment())).count());
-        stats.put("totalMentions", feedback.stream().mapToInt(SNSFeedbackDTO::getMentions).sum());
+        stats.put("total", statistics.getTotalFeedback());
+        for (SentimentType sentiment : SentimentType.values()) {
+            stats.put(sentiment.getCode(), statistics.sentiment(sentiment).getCount());
+        }
+        stats.put("totalMentions", statistics.getTotalMentions());
         
         return stats;
     }
 
     @Override
     public Map<String, Object> getPlatformStatistics(String festivalId) {
+        FeedbackStatistics statistics = feedbackStatisticsCache.getStatistics(Long.parseLong(festivalId));
+        
         Map<String, Object> stats = new HashMap<>();
-        stats.put("Twitter", Map.of("count", 45, "mentions", 892));
-        stats.put("Instagram", Map.of("count", 38, "mentions", 567));
-        stats.put("Facebook", Map.of("count", 22, "mentions", 334));
+        statistics.getByPlatform().forEach((platform, bucket) ->
+                stats.put(platform, Map.of("count", bucket.getCount(), "mentions", bucket.getMentions())));
         
         return stats;
     }
@@ -99,28 +160,113 @@ public class SNSFeedbackServiceImpl implements SNSFeedbackService {
     }
 
     @Override
-    public List<SNSFeedbackDTO> searchFeedbackByKeyword(String festivalId, String keyword) {
-        return createMockFeedback(festivalId).stream()
-                .filter(f -> f.getIssue().toLowerCase().contains(keyword.toLowerCase()))
-                .toList();
+    public FeedbackTrendDTO getMentionTrend(String festivalId, int minutes, int stepMinutes) {
+        Long festivalIdLong = Long.parseLong(festivalId);
+        int span = Math.max(1, Math.min(minutes, feedbackTrendAggregator.getWindowMinutes()));
+        int step = Math.max(1, Math.min(stepMinutes, span));
+
+        FeedbackTrendWindow.Counts current = feedbackTrendAggregator.getMentions(festivalIdLong, span);
+        // 직전 구간이 윈도우 밖으로 나가면 일부만 합산되므로 비교하지 않음
+        FeedbackTrendWindow.Counts previous = span <= feedbackTrendAggregator.getMaxComparableMinutes()
+                ? feedbackTrendAggregator.getPreviousMentions(festivalIdLong, span)
+                : null;
+
+        Map<String, Long> sentiments = new LinkedHashMap<>();
+        current.bySentiment().forEach((sentiment, count) -> sentiments.put(sentiment.getCode(), count));
+
+        List<Long> series = new ArrayList<>();
+        for (long count : feedbackTrendAggregator.getSeries(festivalIdLong, span, step)) {
+            series.add(count);
+        }
+
+        return FeedbackTrendDTO.builder()
+                .festivalId(festivalId)
+                .minutes(span)
+                .stepMinutes(step)
+                .mentions(current.total())
+                .previousMentions(previous != null ? previous.total() : null)
+                .changeRate(previous != null && previous.total() > 0
+                        ? Math.round((current.total() - previous.total()) * 1000.0 / previous.total()) / 10.0
+                        : null)
+                .sentiments(sentiments)
+                .platforms(current.byPlatform())
+                .series(series)
+                .build();
+    }
+
+    @Override
+    public PageDTO<SNSFeedbackDTO> searchFeedbackByKeyword(String festivalId, String keyword, int page, int size) {
+        String trimmed = keyword == null ? "" : keyword.trim();
+        if (trimmed.isEmpty()) {
+            throw new RuntimeException("검색어가 비어있습니다");
+        }
+        if (trimmed.length() > MAX_KEYWORD_LENGTH) {
+            throw new RuntimeException("검색어가 너무 깁니다: " + trimmed.length() + "자");
+        }
+
+        Pageable pageable = PageRequest.of(Math.max(0, page), Math.max(1, Math.min(size, MAX_SEARCH_PAGE_SIZE)));
+        String pattern = "%" + escapeLike(trimmed) + "%";
+
+        return PageDTO.from(snsFeedbackRepository.searchByIssue(Long.parseLong(festivalId), trimmed, pattern, pageable)
+                .map(this::toDTO));
     }
 
     @Override
     public Map<String, Object> getFeedbackSummary(String festivalId) {
-        List<SNSFeedbackDTO> feedback = createMockFeedback(festivalId);
+        FeedbackStatistics statistics = feedbackStatisticsCache.getStatistics(Long.parseLong(festivalId));
         
         Map<String, Object> summary = new HashMap<>();
-        summary.put("totalFeedback", feedback.size());
-        summary.put("totalMentions", feedback.stream().mapToInt(SNSFeedbackDTO::getMentions).sum());
-        summary.put("unresolvedCount", feedback.stream().filter(f -> !f.getIsResolved()).count());
-        summary.put("negativeFeedbackPercentage", 
-                Math.round(feedback.stream().filter(f -> "negative".equals(f.getSentiment())).count() * 100.0 / feedback.size()));
-        summary.put("averageSeverity", 
-                feedback.stream().mapToInt(f -> f.getSeverityLevel() != null ? f.getSeverityLevel() : 1).average().orElse(1.0));
+        summary.put("totalFeedback", statistics.getTotalFeedback());
+        summary.put("totalMentions", statistics.getTotalMentions());
+        summary.put("unresolvedCount", statistics.getUnresolvedCount());
+        summary.put("negativeFeedbackPercentage", statistics.getNegativeFeedbackPercentage());
+        summary.put("averageSeverity", statistics.getAverageSeverity());
         
         return summary;
     }
 
+    // LIKE 패턴 문자(%, _)와 이스케이프 문자를 일반 문자로 처리
+    private static String escapeLike(String keyword) {
+        return keyword.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    // 수집 중인 이슈 (아직 저장 전이면 id 없음)
+    private List<SNSFeedbackDTO> toDTOs(String festivalId, List<IssueClusterer.Cluster> clusters) {
+        List<SNSFeedbackDTO> result = new ArrayList<>(clusters.size());
+        for (IssueClusterer.Cluster cluster : clusters) {
+            int severityLevel = cluster.getSeverityLevel();
+            result.add(SNSFeedbackDTO.builder()
+                    .id(cluster.getPersistedId() != null ? cluster.getPersistedId().toString() : null)
+                    .festivalId(festivalId)
+                    .issue(cluster.getIssue())
+                    .mentions(cluster.getMentions())
+                    .sentiment(cluster.getSentiment().getCode())
+                    .platform(cluster.getPlatform())
+                    .severityLevel(severityLevel)
+                    .isResolved(false)
+                    .priorityLevel(SNSFeedback.priorityLevelOf(severityLevel))
+                    .build());
+        }
+        return result;
+    }
+
+    private SNSFeedbackDTO toDTO(SNSFeedback feedback) {
+        return SNSFeedbackDTO.builder()
+                .id(feedback.getId().toString())
+                .festivalId(feedback.getFestival().getId().toString())
+                .issue(feedback.getIssue())
+                .mentions(feedback.getMentions())
+                .sentiment(feedback.getSentiment().getCode())
+                .platform(feedback.getPlatform())
+                .severityLevel(feedback.getSeverityLevel())
+                .isResolved(feedback.getIsResolved())
+                .resolution(feedback.getResolution())
+                .priorityLevel(feedback.getPriorityLevel())
+                .createdAt(feedback.getCreatedAt())
+                .resolvedAt(feedback.getResolvedAt())
+                .build();
+    }
+
     private List<SNSFeedbackDTO> createMockFeedback(String festivalId) {
         return Arrays.asList(
                 SNSFeedbackDTO.builder()
@@ -0,0 +1,420 @@
+package com.kt.backendapp.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.kt.backendapp.domain.model.IssueClusterer;
+import com.kt.backendapp.domain.model.SentimentClassifier;
+import com.kt.backendapp.dto.BulkIngestionResultDTO;
+import com.kt.backendapp.dto.SNSPostDTO;
+import com.kt.backendapp.entity.SNSFeedback;
+import com.kt.backendapp.entity.SentimentType;
+import com.kt.backendapp.realtime.DashboardSnapshotRegistry;
+import com.kt.backendapp.realtime.FeedbackStatisticsCache;
+import com.kt.backendapp.realtime.FeedbackTrendAggregator;
+import com.kt.backendapp.realtime.IngestionMetrics;
+import com.kt.backendapp.realtime.TopIssueTracker;
+import com.kt.backendapp.repository.FestivalRepository;
+import com.kt.backendapp.repository.SNSFeedbackRepository;
+import com.kt.backendapp.service.DailyRollupService;
+import com.kt.backendapp.service.SNSIngestionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SNS 게시글 수집기
+ * - 게시글마다 감정을 분류하고 축제별 IssueClusterer 로 비슷한 이슈에 합쳐 언급 수를 센다
+ * - 요청마다 DB에 쓰지 않고, 변경된 이슈만 주기적으로 모아 반영 (새 이슈는 multi-row INSERT, 기존 이슈는 증가분 batch UPDATE)
+ * - 축제의 첫 게시글이 들어올 때 미해결 이슈를 불러와 이어서 집계
+ * - 게시글은 이슈에 합쳐지지 않았더라도 FeedbackTrendAggregator 의 분 단위 추세와 DailyRollupService 의
+ *   일별 감정 집계에 더하고, 이슈에 반영된 게시글은 TopIssueTracker 의 상위 이슈에도 더한다
+ * - DB 반영 실패 시 축제가 삭제되었으면 해당 축제의 집계를 버리고, 제약 조건 위반이면 나눠서 다시 저장해
+ *   저장할 수 없는 이슈만 버린다 (그 외 오류는 다음 주기에 재시도)
+ */
+@Service
+@Slf4j
+public class SNSIngestionServiceImpl implements SNSIngestionService {
+
+    private final SNSFeedbackRepository snsFeedbackRepository;
+    private final FestivalRepository festivalRepository;
+    private final DashboardSnapshotRegistry dashboardSnapshotRegistry;
+    private final FeedbackTrendAggregator feedbackTrendAggregator;
+    private final TopIssueTracker topIssueTracker;
+    private final FeedbackStatisticsCache feedbackStatisticsCache;
+    private final DailyRollupService dailyRollupService;
+    private final IngestionMetrics ingestionMetrics;
+    private final SentimentClassifier sentimentClassifier;
+    private final ObjectReader postReader;
+    private final double similarityThreshold;
+    private final int maxIssuesPerFestival;
+
+    private final Map<Long, FestivalIssues> festivals = new ConcurrentHashMap<>();
+
+    public SNSIngestionServiceImpl(SNSFeedbackRepository snsFeedbackRepository,
+                                   FestivalRepository festivalRepository,
+                                   DashboardSnapshotRegistry dashboardSnapshotRegistry,
+                                   FeedbackTrendAggregator feedbackTrendAggregator,
+                                   TopIssueTracker topIssueTracker,
+                                   FeedbackStatisticsCache feedbackStatisticsCache,
+                                   DailyRollupService dailyRollupService,
+                                   IngestionMetrics ingestionMetrics,
+                                   SentimentClassifier sentimentClassifier,
+                                   ObjectMapper objectMapper,
+                                   @Value("${festival.sns.similarity-threshold:0.45}") double similarityThreshold,
+                                   @Value("${festival.sns.max-issues-per-festival:5000}") int maxIssuesPerFestival) {
+        this.snsFeedbackRepository = snsFeedbackRepository;
+        this.festivalRepository = festivalRepository;
+        this.dashboardSnapshotRegistry = dashboardSnapshotRegistry;
+        this.feedbackTrendAggregator = feedbackTrendAggregator;
+        this.topIssueTracker = topIssueTracker;
+        this.feedbackStatisticsCache = feedbackStatisticsCache;
+        this.dailyRollupService = dailyRollupService;
+        this.ingestionMetrics = ingestionMetrics;
+        this.sentimentClassifier = sentimentClassifier;
+        this.postReader = objectMapper.readerFor(SNSPostDTO.class);
+        this.similarityThreshold = similarityThreshold;
+        this.maxIssuesPerFestival = maxIssuesPerFestival;
+    }
+
+    @Override
+    public BulkIngestionResultDTO ingest(String festivalId, List<SNSPostDTO> posts) {
+        FestivalIssues issues = issuesOf(Long.parseLong(festivalId));
+
+        Counter counter = new Counter();
+        for (SNSPostDTO post : posts) {
+            offer(issues, post, counter);
+        }
+
+        log.debug("SNS 게시글 일괄 수집: Festival={}, 수신={}, 반영={}, 폐기={}, 새 이슈={}",
+                festivalId, counter.received, counter.accepted, counter.dropped, counter.created);
+        return ingestionMetrics.record(IngestionMetrics.FEEDBACK, counter.toResult());
+    }
+
+    @Override
+    public BulkIngestionResultDTO ingestNdjson(String festivalId, InputStream ndjson) {
+        FestivalIssues issues = issuesOf(Long.parseLong(festivalId));
+
+        Counter counter = new Counter();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                SNSPostDTO post;
+                try {
+                    post = postReader.readValue(line);
+                } catch (IOException e) {
+                    // 잘못된 줄은 버리고 계속 진행
+                    counter.received++;
+                    counter.dropped++;
+                    continue;
+                }
+                offer(issues, post, counter);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("NDJSON 스트림을 읽는 중 오류가 발생했습니다", e);
+        }
+
+        log.debug("SNS 게시글 스트림 수집: Festival={}, 수신={}, 반영={}, 폐기={}, 새 이슈={}",
+                festivalId, counter.received, counter.accepted, counter.dropped, counter.created);
+        return ingestionMetrics.record(IngestionMetrics.FEEDBACK, counter.toResult());
+    }
+
+    @Override
+    public void ensureLoaded(String festivalId) {
+        issuesOf(Long.parseLong(festivalId));
+    }
+
+    @Scheduled(fixedDelayString = "${festival.sns.flush-interval-ms:5000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    @Override
+    public synchronized int flush() {
+        int flushed = 0;
+        for (Map.Entry<Long, FestivalIssues> entry : festivals.entrySet()) {
+            int written = flush(entry.getKey(), entry.getValue());
+            if (written > 0) {
+                dashboardSnapshotRegistry.invalidateFeedback(entry.getKey());
+                feedbackStatisticsCache.invalidate(entry.getKey());
+            }
+            flushed += written;
+        }
+        if (flushed > 0) {
+            log.debug("SNS 이슈 DB 반영 완료: {}건", flushed);
+        }
+        return flushed;
+    }
+
+    private void offer(FestivalIssues issues, SNSPostDTO post, Counter counter) {
+        counter.received++;
+        if (post == null || post.getText() == null || post.getText().isBlank()) {
+            counter.dropped++;
+            return;
+        }
+
+        // 분류는 잠금 밖에서 수행
+        SentimentType sentiment = sentimentClassifier.classify(post.getText());
+        IssueClusterer.Assignment assignment;
+        synchronized (issues) {
+            assignment = issues.clusterer.assign(post.getText(), sentiment, post.getPlatform());
+            if (assignment != null) {
+                issues.dirty.add(assignment.cluster());
+                topIssueTracker.record(issues.festivalId, assignment.cluster(), 1,
+                        assignment.cluster().getSeverityLevel());
+            }
+        }
+
+        // 이슈로 묶이지 않은 게시글도 언급 추세와 일별 감정 집계에는 포함
+        feedbackTrendAggregator.record(issues.festivalId, sentiment, post.getPlatform(), 1);
+        dailyRollupService.recordFeedback(issues.festivalId, sentiment, 1);
+
+        // 내용이 특수문자뿐이거나 이슈 수 한도를 넘은 경우
+        if (assignment == null) {
+            counter.dropped++;
+            return;
+        }
+        counter.accepted++;
+        if (assignment.created()) {
+            counter.created++;
+        } else {
+            counter.coalesced++;
+        }
+    }
+
+    private FestivalIssues issuesOf(Long festivalId) {
+        FestivalIssues issues = festivals.get(festivalId);
+        if (issues != null) {
+            return issues;
+        }
+        if (!festivalRepository.existsById(festivalId)) {
+            throw new RuntimeException("축제를 찾을 수 없습니다: " + festivalId);
+        }
+
+        FestivalIssues loaded = new FestivalIssues(festivalId, new IssueClusterer(similarityThreshold, maxIssuesPerFestival));
+        for (SNSFeedback feedback : snsFeedbackRepository.findUnresolvedIssuesByFestivalId(festivalId)) {
+            loaded.clusterer.seed(feedback.getId(), feedback.getIssue(), feedback.getMentions(),
+                    feedback.getSentiment(), feedback.getPlatform());
+        }
+        FestivalIssues existing = festivals.putIfAbsent(festivalId, loaded);
+        if (existing != null) {
+            return existing;
+        }
+        synchronized (loaded) {
+            for (IssueClusterer.Cluster cluster : loaded.clusterer.getClusters()) {
+                topIssueTracker.record(festivalId, cluster, cluster.getMentions(), cluster.getSeverityLevel());
+            }
+        }
+        log.info("SNS 이슈 군집 적재: Festival ID={}, 이슈 수={}", festivalId, loaded.clusterer.size());
+        return loaded;
+    }
+
+    private int flush(Long festivalId, FestivalIssues issues) {
+        List<PendingIssue> created = new ArrayList<>();
+        List<PendingIssue> updated = new ArrayList<>();
+        synchronized (issues) {
+            if (issues.dirty.isEmpty()) {
+                return 0;
+            }
+            for (IssueClusterer.Cluster cluster : issues.dirty) {
+                int delta = cluster.takePendingMentions();
+                if (delta == 0) {
+                    continue;
+                }
+                PendingIssue pending = new PendingIssue(cluster, delta,
+                        cluster.getSentiment().name(), cluster.getSeverityLevel());
+                (cluster.getPersistedId() == null ? created : updated).add(pending);
+            }
+            issues.dirty.clear();
+        }
+
+        int written = insertCreated(festivalId, issues, created);
+        if (festivals.get(festivalId) != issues) {
+            // 저장 중 축제 삭제가 확인되어 집계를 버린 경우
+            return written;
+        }
+        return written + updateExisting(festivalId, issues, updated);
+    }
+
+    /**
+     * 새 이슈 저장 (제약 조건 위반이면 반씩 나눠 다시 저장하고, 한 건만 남으면 그 이슈를 버림)
+     */
+    private int insertCreated(Long festivalId, FestivalIssues issues, List<PendingIssue> created) {
+        int count = created.size();
+        if (count == 0) {
+            return 0;
+        }
+
+        String[] texts = new String[count];
+        int[] mentions = new int[count];
+        String[] sentiments = new String[count];
+        String[] platforms = new String[count];
+        int[] severityLevels = new int[count];
+        for (int i = 0; i < count; i++) {
+            PendingIssue pending = created.get(i);
+            texts[i] = pending.cluster().getIssue();
+            mentions[i] = pending.delta();
+            sentiments[i] = pending.sentiment();
+            platforms[i] = pending.cluster().getPlatform();
+            severityLevels[i] = pending.severityLevel();
+        }
+
+        try {
+            long[] ids = snsFeedbackRepository.insertIssues(festivalId, texts, mentions, sentiments,
+                    platforms, severityLevels, count);
+            synchronized (issues) {
+                for (int i = 0; i < count; i++) {
+                    created.get(i).cluster().setPersistedId(ids[i]);
+                }
+            }
+            return count;
+        } catch (DataIntegrityViolationException e) {
+            if (dropIfFestivalDeleted(festivalId, issues, count)) {
+                return 0;
+            }
+            if (count == 1) {
+                PendingIssue rejected = created.get(0);
+                synchronized (issues) {
+                    issues.clusterer.remove(rejected.cluster());
+                }
+                log.warn("저장할 수 없는 SNS 이슈 폐기: Festival ID={}, 언급 {}건, 이슈={}",
+                        festivalId, rejected.delta(), rejected.cluster().getIssue(), e);
+                return 0;
+            }
+            int half = count / 2;
+            return insertCreated(festivalId, issues, created.subList(0, half))
+                    + insertCreated(festivalId, issues, created.subList(half, count));
+        } catch (RuntimeException e) {
+            restore(issues, created);
+            log.error("새 SNS 이슈 저장 실패: {}건 재시도 예정", count, e);
+            return 0;
+        }
+    }
+
+    /**
+     * 기존 이슈에 언급 수 반영 (제약 조건 위반이면 반씩 나눠 다시 반영하고, 한 건만 남으면 그 증가분을 버림)
+     */
+    private int updateExisting(Long festivalId, FestivalIssues issues, List<PendingIssue> updated) {
+        int count = updated.size();
+        if (count == 0) {
+            return 0;
+        }
+
+        long[] ids = new long[count];
+        int[] deltas = new int[count];
+        String[] sentiments = new String[count];
+        int[] severityLevels = new int[count];
+        for (int i = 0; i < count; i++) {
+            PendingIssue pending = updated.get(i);
+            ids[i] = pending.cluster().getPersistedId();
+            deltas[i] = pending.delta();
+            sentiments[i] = pending.sentiment();
+            severityLevels[i] = pending.severityLevel();
+        }
+
+        try {
+            int written = snsFeedbackRepository.addMentions(ids, deltas, sentiments, severityLevels, count);
+            // 축제와 함께 이슈가 삭제되면 갱신되는 행이 없다
+            if (written < count) {
+                dropIfFestivalDeleted(festivalId, issues, count - written);
+            }
+            return written;
+        } catch (DataIntegrityViolationException e) {
+            if (dropIfFestivalDeleted(festivalId, issues, count)) {
+                return 0;
+            }
+            if (count == 1) {
+                log.warn("반영할 수 없는 SNS 이슈 언급 수 폐기: Feedback ID={}, 언급 {}건", ids[0], deltas[0], e);
+                return 0;
+            }
+            int half = count / 2;
+            return updateExisting(festivalId, issues, updated.subList(0, half))
+                    + updateExisting(festivalId, issues, updated.subList(half, count));
+        } catch (RuntimeException e) {
+            restore(issues, updated);
+            log.error("SNS 이슈 언급 수 반영 실패: {}건 재시도 예정", count, e);
+            return 0;
+        }
+    }
+
+    /**
+     * 축제가 삭제되었으면 집계 상태를 버림 (반영할 곳이 없으므로 재시도하지 않음)
+     *
+     * @return 축제가 삭제되어 버린 경우 true
+     */
+    private boolean dropIfFestivalDeleted(Long festivalId, FestivalIssues issues, int count) {
+        boolean exists;
+        try {
+            exists = festivalRepository.existsById(festivalId);
+        } catch (RuntimeException e) {
+            // 확인할 수 없으면 삭제되지 않은 것으로 본다
+            return false;
+        }
+        if (exists) {
+            return false;
+        }
+        festivals.remove(festivalId, issues);
+        synchronized (issues) {
+            issues.dirty.clear();
+        }
+        log.warn("삭제된 축제의 SNS 이슈 {}건 폐기: Festival ID={}", count, festivalId);
+        return true;
+    }
+
+    // 다음 주기에 다시 반영되도록 가져간 언급 수를 되돌림
+    private void restore(FestivalIssues issues, List<PendingIssue> pendings) {
+        synchronized (issues) {
+            for (PendingIssue pending : pendings) {
+                pending.cluster().restorePendingMentions(pending.delta());
+                issues.dirty.add(pending.cluster());
+            }
+        }
+    }
+
+    private static class FestivalIssues {
+        private final Long festivalId;
+        private final IssueClusterer clusterer;
+        private final Set<IssueClusterer.Cluster> dirty = new LinkedHashSet<>();
+
+        private FestivalIssues(Long festivalId, IssueClusterer clusterer) {
+            this.festivalId = festivalId;
+            this.clusterer = clusterer;
+        }
+    }
+
+    private record PendingIssue(IssueClusterer.Cluster cluster, int delta, String sentiment, int severityLevel) {
+    }
+
+    private static class Counter {
+        private int received;
+        private int accepted;
+        private int dropped;
+        private int coalesced;
+        private int created;
+
+        private BulkIngestionResultDTO toResult() {
+            return BulkIngestionResultDTO.builder()
+                    .received(received)
+                    .accepted(accepted)
+                    .dropped(dropped)
+                    .coalesced(coalesced)
+                    .build();
+        }
+    }
+}
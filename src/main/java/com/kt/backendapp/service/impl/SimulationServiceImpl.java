@@ -0,0 +1,242 @@
+package com.kt.backendapp.service.impl;
+
+import com.kt.backendapp.domain.model.CrowdFlowSimulator;
+import com.kt.backendapp.domain.vo.Coordinates;
+import com.kt.backendapp.dto.SimulationRequestDTO;
+import com.kt.backendapp.dto.SimulationResultDTO;
+import com.kt.backendapp.realtime.ZoneLiveState;
+import com.kt.backendapp.realtime.ZoneLiveStateStore;
+import com.kt.backendapp.service.SimulationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 방문객 이동 시뮬레이션 (구역 배치 what-if 검토)
+ * - 현재 구역 배치(메모리 상태)에 요청의 수용 인원 변경/제외 구역을 적용해 CrowdFlowSimulator 로 실행
+ * - CPU 를 많이 쓰므로 전용 ForkJoinPool 에서 실행하고, 동시에 실행할 수 있는 시뮬레이션 수를 제한
+ */
+@Service
+@Slf4j
+public class SimulationServiceImpl implements SimulationService {
+
+    private static final int DEFAULT_DURATION_HOURS = 12;
+    private static final int DEFAULT_STEP_MINUTES = 1;
+
+    private final ZoneLiveStateStore zoneLiveStateStore;
+    private final CrowdFlowSimulator simulator;
+    private final Semaphore permits;
+    private final int maxZones;
+    private final double defaultDwellMinutes;
+    private final double defaultStayMinutes;
+    private final double walkingSpeedKmh;
+    private final double distanceDecayKm;
+
+    public SimulationServiceImpl(ZoneLiveStateStore zoneLiveStateStore,
+                                 @Qualifier("simulationPool") ForkJoinPool simulationPool,
+                                 @Value("${festival.simulation.max-concurrent:2}") int maxConcurrent,
+                                 @Value("${festival.simulation.max-zones:1000}") int maxZones,
+                                 @Value("${festival.simulation.mean-dwell-minutes:30}") double defaultDwellMinutes,
+                                 @Value("${festival.simulation.mean-stay-minutes:180}") double defaultStayMinutes,
+                                 @Value("${festival.recommendation.walking-speed-kmh:4.5}") double walkingSpeedKmh,
+                                 @Value("${festival.simulation.distance-decay-km:0.5}") double distanceDecayKm) {
+        this.zoneLiveStateStore = zoneLiveStateStore;
+        this.simulator = new CrowdFlowSimulator(simulationPool);
+        this.permits = new Semaphore(maxConcurrent);
+        this.maxZones = maxZones;
+        this.defaultDwellMinutes = defaultDwellMinutes;
+        this.defaultStayMinutes = defaultStayMinutes;
+        this.walkingSpeedKmh = walkingSpeedKmh;
+        this.distanceDecayKm = distanceDecayKm;
+    }
+
+    @Override
+    public SimulationResultDTO simulate(String festivalId, SimulationRequestDTO request) {
+        int durationHours = request.getDurationHours() != null ? request.getDurationHours() : DEFAULT_DURATION_HOURS;
+        int stepMinutes = request.getStepMinutes() != null ? request.getStepMinutes() : DEFAULT_STEP_MINUTES;
+        long seed = request.getSeed() != null ? request.getSeed() : ThreadLocalRandom.current().nextLong();
+        int steps = durationHours * 60 / stepMinutes;
+
+        List<ZoneLiveState> zones = applyLayout(zoneLiveStateStore.getZones(Long.parseLong(festivalId)), request);
+        if (zones.isEmpty()) {
+            throw new RuntimeException("시뮬레이션할 구역이 없습니다: " + festivalId);
+        }
+        // 구역 쌍마다 선택 가중치/이동 시간을 두므로 메모리가 구역 수의 제곱에 비례
+        if (zones.size() > maxZones) {
+            throw new RuntimeException("시뮬레이션할 수 있는 구역은 최대 " + maxZones + "개입니다: " + zones.size() + "개");
+        }
+        List<CrowdFlowSimulator.ZoneSpec> specs = new ArrayList<>(zones.size());
+        for (ZoneLiveState zone : zones) {
+            specs.add(new CrowdFlowSimulator.ZoneSpec(zone.getCapacity(), parse(zone.getCoordinates())));
+        }
+
+        int[] arrivals = arrivalsPerStep(request.getVisitors(), arrivalWeights(request, durationHours), steps, stepMinutes);
+        CrowdFlowSimulator.Scenario scenario;
+        try {
+            scenario = new CrowdFlowSimulator.Scenario(specs, arrivals, steps, stepMinutes,
+                    request.getMeanDwellMinutes() != null ? request.getMeanDwellMinutes() : defaultDwellMinutes,
+                    request.getMeanStayMinutes() != null ? request.getMeanStayMinutes() : defaultStayMinutes,
+                    walkingSpeedKmh, distanceDecayKm, seed);
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("시뮬레이션 조건이 올바르지 않습니다: " + e.getMessage(), e);
+        }
+
+        if (!permits.tryAcquire()) {
+            throw new RuntimeException("실행 중인 시뮬레이션이 많습니다. 잠시 후 다시 시도해주세요");
+        }
+        CrowdFlowSimulator.Result result;
+        long started = System.currentTimeMillis();
+        try {
+            result = simulator.run(scenario);
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("시뮬레이션 조건이 올바르지 않습니다: " + e.getMessage(), e);
+        } finally {
+            permits.release();
+        }
+        long elapsed = System.currentTimeMillis() - started;
+        log.info("방문객 이동 시뮬레이션 완료: Festival ID={}, 방문객 {}명, 구역 {}개, {}간격, {}ms",
+                festivalId, result.agents(), zones.size(), steps, elapsed);
+
+        return toDTO(festivalId, durationHours, seed, elapsed, zones, result);
+    }
+
+    private List<ZoneLiveState> applyLayout(List<ZoneLiveState> zones, SimulationRequestDTO request) {
+        Set<Long> excluded = request.getExcludedZoneIds() != null ? new HashSet<>(request.getExcludedZoneIds()) : Set.of();
+        Map<Long, Integer> overrides = request.getCapacityOverrides() != null ? request.getCapacityOverrides() : Map.of();
+
+        List<ZoneLiveState> layout = new ArrayList<>(zones.size());
+        for (ZoneLiveState zone : zones) {
+            if (excluded.contains(zone.getZoneId())) {
+                continue;
+            }
+            Integer capacity = overrides.get(zone.getZoneId());
+            layout.add(capacity != null ? zone.toBuilder().capacity(capacity).build() : zone);
+        }
+        return layout;
+    }
+
+    /**
+     * 시간대별 도착 비율 (요청 값이 없으면 전체 시간의 1/4 지점에 정점이 있는 삼각형 곡선)
+     */
+    private double[] arrivalWeights(SimulationRequestDTO request, int durationHours) {
+        List<Double> requested = request.getHourlyArrivalWeights();
+        if (requested != null && !requested.isEmpty()) {
+            if (requested.size() > durationHours) {
+                throw new RuntimeException("시간대별 도착 비율이 시뮬레이션 시간보다 깁니다: " + requested.size() + "시간");
+            }
+            return requested.stream().mapToDouble(Double::doubleValue).toArray();
+        }
+
+        double[] weights = new double[durationHours];
+        double peak = Math.max(1, durationHours / 4.0);
+        for (int hour = 0; hour < durationHours; hour++) {
+            double middle = hour + 0.5;
+            weights[hour] = middle <= peak ? middle / peak : Math.max(0, (durationHours - middle) / (durationHours - peak));
+        }
+        return weights;
+    }
+
+    /**
+     * 시간대별 비율을 간격별 도착 인원으로 (누적값 반올림으로 합계가 정확히 visitors)
+     */
+    private int[] arrivalsPerStep(int visitors, double[] hourlyWeights, int steps, int stepMinutes) {
+        double[] stepWeights = new double[steps];
+        double total = 0;
+        for (int step = 0; step < steps; step++) {
+            int hour = step * stepMinutes / 60;
+            if (hour < hourlyWeights.length) {
+                stepWeights[step] = hourlyWeights[hour];
+                total += hourlyWeights[hour];
+            }
+        }
+        if (total <= 0) {
+            throw new RuntimeException("시간대별 도착 비율의 합이 0입니다");
+        }
+
+        int[] arrivals = new int[steps];
+        double cumulative = 0;
+        long assigned = 0;
+        for (int step = 0; step < steps; step++) {
+            cumulative += stepWeights[step];
+            long target = Math.round(cumulative / total * visitors);
+            arrivals[step] = (int) (target - assigned);
+            assigned = target;
+        }
+        return arrivals;
+    }
+
+    private SimulationResultDTO toDTO(String festivalId, int durationHours, long seed, long elapsed,
+                                      List<ZoneLiveState> zones, CrowdFlowSimulator.Result result) {
+        int stepMinutes = result.stepMinutes();
+        List<SimulationResultDTO.ZoneResult> zoneResults = new ArrayList<>(zones.size());
+        int overflowZones = 0;
+        for (int i = 0; i < zones.size(); i++) {
+            ZoneLiveState zone = zones.get(i);
+            CrowdFlowSimulator.ZoneResult zoneResult = result.zones()[i];
+            if (zoneResult.overflowSteps() > 0) {
+                overflowZones++;
+            }
+            zoneResults.add(SimulationResultDTO.ZoneResult.builder()
+                    .zoneId(zone.getZoneId())
+                    .name(zone.getName())
+                    .type(zone.getType().getCode())
+                    .capacity(zone.getCapacity())
+                    .peakOccupancy(zoneResult.peakOccupancy())
+                    .peakCongestionLevel(zone.getCapacity() > 0
+                            ? (int) Math.round(zoneResult.peakOccupancy() * 100.0 / zone.getCapacity())
+                            : null)
+                    .peakMinute(zoneResult.peakStep() * stepMinutes)
+                    .overflowMinutes(zoneResult.overflowSteps() * stepMinutes)
+                    .averageOccupancy(Math.round(zoneResult.averageOccupancy() * 10.0) / 10.0)
+                    .build());
+        }
+        zoneResults.sort(Comparator.comparing(SimulationResultDTO.ZoneResult::getPeakCongestionLevel,
+                Comparator.nullsLast(Comparator.reverseOrder())));
+
+        int[] inside = result.insideSeries();
+        int peakStep = 0;
+        List<Integer> insideSeries = new ArrayList<>(inside.length);
+        for (int step = 0; step < inside.length; step++) {
+            insideSeries.add(inside[step]);
+            if (inside[step] > inside[peakStep]) {
+                peakStep = step;
+            }
+        }
+
+        return SimulationResultDTO.builder()
+                .festivalId(festivalId)
+                .visitors(result.agents())
+                .durationHours(durationHours)
+                .stepMinutes(stepMinutes)
+                .seed(seed)
+                .elapsedMillis(elapsed)
+                .peakInside(inside.length > 0 ? inside[peakStep] : 0)
+                .peakInsideMinute(peakStep * stepMinutes)
+                .insideSeries(insideSeries)
+                .overflowZones(overflowZones)
+                .zones(zoneResults)
+                .build();
+    }
+
+    private static Coordinates parse(String coordinates) {
+        if (coordinates == null || coordinates.isBlank()) {
+            return null;
+        }
+        try {
+            return Coordinates.fromString(coordinates);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
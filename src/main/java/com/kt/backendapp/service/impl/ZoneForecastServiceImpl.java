@@ -0,0 +1,191 @@
+package com.kt.backendapp.service.impl;
+
+import com.kt.backendapp.domain.vo.CongestionLevel;
+import com.kt.backendapp.dto.ZoneForecastDTO;
+import com.kt.backendapp.realtime.ZoneForecastTracker;
+import com.kt.backendapp.realtime.ZoneLiveState;
+import com.kt.backendapp.realtime.ZoneLiveStateStore;
+import com.kt.backendapp.repository.CrowdMetricRepository;
+import com.kt.backendapp.service.ZoneForecastService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 구역 단기 인원 예측 (5/15/30분 뒤 예상 인원, 수용 인원 도달 예상 시간)
+ * - 예측 상태는 ZoneForecastTracker 가 실시간 인원 변경마다 갱신 (DB 접근 없음)
+ * - 축제를 처음 조회할 때 crowd_metrics 최근 이력으로 관측이 없는 구역의 상태를 채운다
+ */
+@Service
+@Slf4j
+public class ZoneForecastServiceImpl implements ZoneForecastService {
+
+    private static final Comparator<ZoneForecastDTO> BY_MINUTES_TO_CAPACITY = Comparator.comparing(
+            ZoneForecastDTO::getMinutesToCapacity, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final ZoneLiveStateStore zoneLiveStateStore;
+    private final ZoneForecastTracker zoneForecastTracker;
+    private final CrowdMetricRepository crowdMetricRepository;
+    private final int[] horizonsMinutes;
+    private final int backfillMinutes;
+
+    // 이력으로 상태를 채운 축제 (채우기가 끝난 뒤에만 추가)
+    private final Set<Long> backfilledFestivals = ConcurrentHashMap.newKeySet();
+    private final Map<Long, CompletableFuture<Void>> backfilling = new ConcurrentHashMap<>();
+
+    public ZoneForecastServiceImpl(ZoneLiveStateStore zoneLiveStateStore,
+                                   ZoneForecastTracker zoneForecastTracker,
+                                   CrowdMetricRepository crowdMetricRepository,
+                                   @Value("${festival.forecast.horizons-minutes:5,15,30}") int[] horizonsMinutes,
+                                   @Value("${festival.forecast.backfill-minutes:60}") int backfillMinutes) {
+        this.zoneLiveStateStore = zoneLiveStateStore;
+        this.zoneForecastTracker = zoneForecastTracker;
+        this.crowdMetricRepository = crowdMetricRepository;
+        this.horizonsMinutes = horizonsMinutes;
+        this.backfillMinutes = backfillMinutes;
+    }
+
+    @Override
+    public List<ZoneForecastDTO> getForecasts(String festivalId) {
+        Long festivalIdLong = Long.parseLong(festivalId);
+        List<ZoneLiveState> zones = zoneLiveStateStore.getZones(festivalIdLong);
+        ensureBackfilled(festivalIdLong);
+
+        List<ZoneForecastDTO> result = new ArrayList<>(zones.size());
+        for (ZoneLiveState zone : zones) {
+            result.add(toDTO(zone));
+        }
+        result.sort(BY_MINUTES_TO_CAPACITY);
+        return result;
+    }
+
+    @Override
+    public ZoneForecastDTO getForecast(String zoneId) {
+        ZoneLiveState zone = zoneLiveStateStore.getZone(Long.parseLong(zoneId))
+                .orElseThrow(() -> new RuntimeException("구역을 찾을 수 없습니다: " + zoneId));
+        ensureBackfilled(zone.getFestivalId());
+        return toDTO(zone);
+    }
+
+    @Override
+    public int backfill(Long festivalId) {
+        LocalDateTime since = LocalDateTime.now().minusMinutes(backfillMinutes);
+        List<Object[]> rows = crowdMetricRepository.findHeadcountsByFestivalSince(festivalId, since);
+
+        // 구역별 시간순으로 정렬되어 있으므로 구역이 바뀔 때마다 반영
+        int filled = 0;
+        long[] atMillis = new long[rows.size()];
+        int[] headcounts = new int[rows.size()];
+        int count = 0;
+        Long currentZoneId = null;
+        for (Object[] row : rows) {
+            Long zoneId = ((Number) row[0]).longValue();
+            if (!zoneId.equals(currentZoneId)) {
+                if (currentZoneId != null && zoneForecastTracker.backfill(currentZoneId, atMillis, headcounts, count)) {
+                    filled++;
+                }
+                currentZoneId = zoneId;
+                count = 0;
+            }
+            atMillis[count] = toLocalDateTime(row[1]).toInstant(ZoneOffset.UTC).toEpochMilli();
+            headcounts[count] = ((Number) row[2]).intValue();
+            count++;
+        }
+        if (currentZoneId != null && zoneForecastTracker.backfill(currentZoneId, atMillis, headcounts, count)) {
+            filled++;
+        }
+
+        log.info("구역 예측 상태 이력 반영: Festival ID={}, 이력 {}건, 구역 {}개", festivalId, rows.size(), filled);
+        return filled;
+    }
+
+    /**
+     * 축제의 예측 상태를 이력으로 한 번만 채움
+     * 동시에 들어온 조회는 진행 중인 채우기가 끝날 때까지 기다려, 이력이 반영되기 전 상태로 예측하지 않는다
+     */
+    private void ensureBackfilled(Long festivalId) {
+        if (backfilledFestivals.contains(festivalId)) {
+            return;
+        }
+
+        CompletableFuture<Void> created = new CompletableFuture<>();
+        CompletableFuture<Void> inFlight = backfilling.putIfAbsent(festivalId, created);
+        if (inFlight != null) {
+            // 실패해도 정상 완료되므로 예외 없이 대기만 한다
+            inFlight.join();
+            return;
+        }
+
+        try {
+            if (!backfilledFestivals.contains(festivalId)) {
+                backfill(festivalId);
+                backfilledFestivals.add(festivalId);
+            }
+        } catch (RuntimeException e) {
+            // 이력 없이도 실시간 관측만으로 예측 가능하므로 다음 조회 때 다시 시도
+            log.warn("구역 예측 상태 이력 반영 실패: Festival ID={}", festivalId, e);
+        } finally {
+            created.complete(null);
+            backfilling.remove(festivalId, created);
+        }
+    }
+
+    private ZoneForecastDTO toDTO(ZoneLiveState zone) {
+        ZoneForecastTracker.Forecast forecast = zoneForecastTracker.forecast(zone, horizonsMinutes);
+
+        List<ZoneForecastDTO.Point> points = new ArrayList<>(horizonsMinutes.length);
+        for (int i = 0; i < horizonsMinutes.length; i++) {
+            int predicted = (int) Math.round(forecast.predicted()[i]);
+            int percentage = CongestionLevel.percentageOf(predicted, zone.getCapacity());
+            points.add(ZoneForecastDTO.Point.builder()
+                    .minutesAhead(horizonsMinutes[i])
+                    .predictedCapacity(predicted)
+                    .predictedCongestionLevel(percentage)
+                    .predictedCongestionStatus(new CongestionLevel(percentage).getStatus())
+                    .build());
+        }
+
+        boolean reachesCapacity = !Double.isInfinite(forecast.minutesToCapacity());
+        return ZoneForecastDTO.builder()
+                .zoneId(zone.getZoneId())
+                .name(zone.getName())
+                .type(zone.getType().getCode())
+                .capacity(zone.getCapacity())
+                .currentCapacity(zone.getCurrentCapacity())
+                .congestionLevel(zone.getCongestionLevel())
+                .trendPerMinute(Math.round(forecast.trendPerMinute() * 10.0) / 10.0)
+                .minutesToCapacity(reachesCapacity ? Math.round(forecast.minutesToCapacity() * 10.0) / 10.0 : null)
+                .samples(forecast.samples())
+                .forecasts(points)
+                .build();
+    }
+
+    private LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof LocalDateTime localDateTime) {
+            return localDateTime;
+        }
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        if (value instanceof OffsetDateTime offsetDateTime) {
+            return offsetDateTime.toLocalDateTime();
+        }
+        if (value instanceof Instant instant) {
+            return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+        }
+        throw new IllegalStateException("지원하지 않는 시각 타입입니다: " + value);
+    }
+}
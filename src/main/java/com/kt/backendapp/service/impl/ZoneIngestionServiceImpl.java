@@ -0,0 +1,151 @@
+package com.kt.backendapp.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.kt.backendapp.dto.BulkIngestionResultDTO;
+import com.kt.backendapp.dto.ZoneRealTimeUpdateDTO;
+import com.kt.backendapp.realtime.IngestionMetrics;
+import com.kt.backendapp.realtime.ZoneLiveState;
+import com.kt.backendapp.realtime.ZoneLiveStateStore;
+import com.kt.backendapp.service.ZoneIngestionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 게이트 센서 인원 수집기
+ * - 요청마다 DB를 조회/저장하지 않고 ZoneLiveStateStore 에 구역별 최신 값만 반영(coalescing)
+ * - DB 반영은 ZoneLiveStateStore 의 write-behind 주기에 맡긴다
+ */
+@Service
+@Slf4j
+public class ZoneIngestionServiceImpl implements ZoneIngestionService {
+
+    private final ZoneLiveStateStore zoneLiveStateStore;
+    private final IngestionMetrics ingestionMetrics;
+    private final ObjectReader updateReader;
+    private final int maxPendingZones;
+
+    public ZoneIngestionServiceImpl(ZoneLiveStateStore zoneLiveStateStore,
+                                    IngestionMetrics ingestionMetrics,
+                                    ObjectMapper objectMapper,
+                                    @Value("${festival.ingestion.max-pending-zones:100000}") int maxPendingZones) {
+        this.zoneLiveStateStore = zoneLiveStateStore;
+        this.ingestionMetrics = ingestionMetrics;
+        this.updateReader = objectMapper.readerFor(ZoneRealTimeUpdateDTO.class);
+        this.maxPendingZones = maxPendingZones;
+    }
+
+    @Override
+    public BulkIngestionResultDTO ingest(String festivalId, List<ZoneRealTimeUpdateDTO> updates) {
+        Long festivalIdLong = Long.parseLong(festivalId);
+        zoneLiveStateStore.ensureLoaded(festivalIdLong);
+
+        Counter counter = new Counter();
+        for (ZoneRealTimeUpdateDTO update : updates) {
+            offer(festivalIdLong, update, counter);
+        }
+
+        log.debug("실시간 인원 일괄 수집: Festival={}, 수신={}, 적재={}, 폐기={}",
+                festivalId, counter.received, counter.accepted, counter.dropped);
+        return ingestionMetrics.record(IngestionMetrics.ZONE, counter.toResult());
+    }
+
+    @Override
+    public BulkIngestionResultDTO ingestNdjson(String festivalId, InputStream ndjson) {
+        Long festivalIdLong = Long.parseLong(festivalId);
+        zoneLiveStateStore.ensureLoaded(festivalIdLong);
+
+        Counter counter = new Counter();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                ZoneRealTimeUpdateDTO update;
+                try {
+                    update = updateReader.readValue(line);
+                } catch (IOException e) {
+                    // 잘못된 줄은 버리고 계속 진행
+                    counter.received++;
+                    counter.dropped++;
+                    continue;
+                }
+                offer(festivalIdLong, update, counter);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("NDJSON 스트림을 읽는 중 오류가 발생했습니다", e);
+        }
+
+        log.debug("실시간 인원 스트림 수집: Festival={}, 수신={}, 적재={}, 폐기={}",
+                festivalId, counter.received, counter.accepted, counter.dropped);
+        return ingestionMetrics.record(IngestionMetrics.ZONE, counter.toResult());
+    }
+
+    @Override
+    public int flush() {
+        return zoneLiveStateStore.flush();
+    }
+
+    private void offer(Long festivalId, ZoneRealTimeUpdateDTO update, Counter counter) {
+        counter.received++;
+
+        Long zoneId = parseZoneId(update);
+        Integer currentCapacity = update != null ? update.getCurrentCapacity() : null;
+        ZoneLiveState state = zoneId != null ? zoneLiveStateStore.peek(zoneId) : null;
+
+        if (currentCapacity == null || currentCapacity < 0
+                || state == null || !state.getFestivalId().equals(festivalId)) {
+            counter.dropped++;
+            return;
+        }
+
+        // 반영 대기열이 가득 찬 경우 새 구역은 버리고, 이미 대기 중인 구역은 최신 값으로 덮어씀
+        boolean alreadyPending = zoneLiveStateStore.isPending(zoneId);
+        if (!alreadyPending && zoneLiveStateStore.getPendingCount() >= maxPendingZones) {
+            counter.dropped++;
+            return;
+        }
+
+        zoneLiveStateStore.applyHeadcount(zoneId, currentCapacity);
+        if (alreadyPending) {
+            counter.coalesced++;
+        }
+        counter.accepted++;
+    }
+
+    private Long parseZoneId(ZoneRealTimeUpdateDTO update) {
+        if (update == null || update.getZoneId() == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(update.getZoneId().trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static class Counter {
+        private int received;
+        private int accepted;
+        private int dropped;
+        private int coalesced;
+
+        private BulkIngestionResultDTO toResult() {
+            return BulkIngestionResultDTO.builder()
+                    .received(received)
+                    .accepted(accepted)
+                    .dropped(dropped)
+                    .coalesced(coalesced)
+                    .build();
+        }
+    }
+}
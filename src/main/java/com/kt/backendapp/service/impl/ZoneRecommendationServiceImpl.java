@@ -0,0 +1,141 @@
+package com.kt.backendapp.service.impl;
+
+import com.kt.backendapp.domain.model.RecommendationCandidate;
+import com.kt.backendapp.domain.model.ZoneRecommendationScorer;
+import com.kt.backendapp.domain.model.ZoneSpatialIndex;
+import com.kt.backendapp.domain.vo.Coordinates;
+import com.kt.backendapp.dto.ZoneRecommendationDTO;
+import com.kt.backendapp.realtime.ZoneInflowTracker;
+import com.kt.backendapp.realtime.ZoneLiveState;
+import com.kt.backendapp.realtime.ZoneLiveStateStore;
+import com.kt.backendapp.realtime.ZoneSpatialIndexRegistry;
+import com.kt.backendapp.service.ZoneRecommendationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 혼잡 구역 대체 구역 추천
+ * - 후보는 공간 인덱스로 가까운 구역부터 최대 max-candidates 개만 확인 (DB 접근 없음)
+ * - 점수 계산은 ZoneRecommendationScorer 에 위임
+ */
+@Service
+@Slf4j
+public class ZoneRecommendationServiceImpl implements ZoneRecommendationService {
+
+    // 한 번에 반환할 최대 추천 수
+    private static final int MAX_LIMIT = 20;
+
+    private final ZoneLiveStateStore zoneLiveStateStore;
+    private final ZoneSpatialIndexRegistry zoneSpatialIndexRegistry;
+    private final ZoneInflowTracker zoneInflowTracker;
+    private final ZoneRecommendationScorer scorer;
+    private final int maxCandidates;
+    private final double walkingSpeedKmh;
+
+    public ZoneRecommendationServiceImpl(ZoneLiveStateStore zoneLiveStateStore,
+                                         ZoneSpatialIndexRegistry zoneSpatialIndexRegistry,
+                                         ZoneInflowTracker zoneInflowTracker,
+                                         ZoneRecommendationScorer scorer,
+                                         @Value("${festival.recommendation.max-candidates:200}") int maxCandidates,
+                                         @Value("${festival.recommendation.walking-speed-kmh:4.5}") double walkingSpeedKmh) {
+        this.zoneLiveStateStore = zoneLiveStateStore;
+        this.zoneSpatialIndexRegistry = zoneSpatialIndexRegistry;
+        this.zoneInflowTracker = zoneInflowTracker;
+        this.scorer = scorer;
+        this.maxCandidates = maxCandidates;
+        this.walkingSpeedKmh = walkingSpeedKmh;
+    }
+
+    @Override
+    public List<ZoneRecommendationDTO> recommendAlternatives(String zoneId, int limit, double maxDistanceKm) {
+        log.debug("대체 구역 추천: Zone ID={}, limit={}, maxDistanceKm={}", zoneId, limit, maxDistanceKm);
+
+        Long zoneIdLong = Long.parseLong(zoneId);
+        ZoneLiveState origin = zoneLiveStateStore.getZone(zoneIdLong)
+                .orElseThrow(() -> new RuntimeException("구역을 찾을 수 없습니다: " + zoneId));
+        int k = Math.max(1, Math.min(limit, MAX_LIMIT));
+
+        // 점수가 가장 낮은 추천이 맨 앞 (k개 초과 시 제거)
+        PriorityQueue<Scored> best = new PriorityQueue<>(k + 1, Comparator.comparingDouble(Scored::score));
+
+        ZoneSpatialIndex index = zoneSpatialIndexRegistry.getIndex(origin.getFestivalId());
+        Coordinates originCoordinates = index.coordinatesOf(zoneIdLong);
+        if (originCoordinates != null) {
+            for (ZoneSpatialIndex.Neighbor neighbor : index.nearest(originCoordinates, maxCandidates, id -> id != zoneIdLong)) {
+                if (neighbor.distanceKm() > maxDistanceKm) {
+                    break;
+                }
+                ZoneLiveState candidate = zoneLiveStateStore.peek(neighbor.zoneId());
+                if (candidate != null) {
+                    offer(best, k, origin, candidate, neighbor.distanceKm());
+                }
+            }
+        } else {
+            // 좌표가 없는 구역은 거리 없이 같은 축제의 구역 전체를 후보로
+            for (ZoneLiveState candidate : zoneLiveStateStore.getZones(origin.getFestivalId())) {
+                if (!candidate.getZoneId().equals(zoneIdLong)) {
+                    offer(best, k, origin, candidate, Double.NaN);
+                }
+            }
+        }
+
+        List<Scored> ranked = new ArrayList<>(best);
+        ranked.sort(Comparator.comparingDouble(Scored::score).reversed());
+
+        List<ZoneRecommendationDTO> result = new ArrayList<>(ranked.size());
+        for (Scored scored : ranked) {
+            result.add(toDTO(scored));
+        }
+        return result;
+    }
+
+    private void offer(PriorityQueue<Scored> best, int k, ZoneLiveState origin, ZoneLiveState candidate, double distanceKm) {
+        double inflow = zoneInflowTracker.getInflowPerMinute(candidate.getZoneId());
+        double score = scorer.score(RecommendationCandidate.builder()
+                .originType(origin.getType())
+                .originCongestionLevel(origin.getCongestionLevel())
+                .zoneId(candidate.getZoneId())
+                .type(candidate.getType())
+                .capacity(candidate.getCapacity())
+                .currentCapacity(candidate.getCurrentCapacity())
+                .distanceKm(distanceKm)
+                .inflowPerMinute(inflow)
+                .build());
+        if (score <= 0) {
+            return;
+        }
+        if (best.size() < k) {
+            best.add(new Scored(candidate, distanceKm, inflow, score));
+        } else if (score > best.peek().score()) {
+            best.poll();
+            best.add(new Scored(candidate, distanceKm, inflow, score));
+        }
+    }
+
+    private ZoneRecommendationDTO toDTO(Scored scored) {
+        ZoneLiveState state = scored.state();
+        boolean hasDistance = !Double.isNaN(scored.distanceKm());
+        return ZoneRecommendationDTO.builder()
+                .zoneId(state.getZoneId())
+                .name(state.getName())
+                .type(state.getType().getCode())
+                .capacity(state.getCapacity())
+                .currentCapacity(state.getCurrentCapacity())
+                .congestionLevel(state.getCongestionLevel())
+                .congestionStatus(state.getCongestionStatus())
+                .inflowPerMinute(Math.round(scored.inflow() * 10.0) / 10.0)
+                .distanceKm(hasDistance ? Math.round(scored.distanceKm() * 1000.0) / 1000.0 : null)
+                .walkingMinutes(hasDistance ? Math.round(scored.distanceKm() / walkingSpeedKmh * 600.0) / 10.0 : null)
+                .score(Math.round(scored.score() * 1000.0) / 1000.0)
+                .build();
+    }
+
+    private record Scored(ZoneLiveState state, double distanceKm, double inflow, double score) {
+    }
+}
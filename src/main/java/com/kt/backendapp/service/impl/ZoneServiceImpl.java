@@ -1,9 +1,16 @@
 package com.kt.backendapp.service.impl;
 
+import com.kt.backendapp.domain.model.PageCursor;
+import com.kt.backendapp.domain.model.ZoneSpatialIndex;
+import com.kt.backendapp.domain.vo.Coordinates;
 import com.kt.backendapp.dto.*;
 import com.kt.backendapp.entity.Festival;
 import com.kt.backendapp.entity.Zone;
 import com.kt.backendapp.entity.ZoneType;
+import com.kt.backendapp.exception.ResourceNotFoundException;
+import com.kt.backendapp.realtime.ZoneLiveState;
+import com.kt.backendapp.realtime.ZoneLiveStateStore;
+import com.kt.backendapp.realtime.ZoneSpatialIndexRegistry;
 import com.kt.backendapp.repository.FestivalRepository;
 import com.kt.backendapp.repository.ZoneRepository;
 import com.kt.backendapp.service.ZoneService;
@@ -21,22 +28,21 @@ public class ZoneServiceImpl implements ZoneService {
 
     private final ZoneRepository zoneRepository;
     private final FestivalRepository festivalRepository;
+    private final ZoneLiveStateStore zoneLiveStateStore;
+    private final ZoneSpatialIndexRegistry zoneSpatialIndexRegistry;
+    
+    // 위치 기반 조회 한 번에 반환할 최대 구역 수
+    private static final int MAX_NEARBY_ZONES = 50;
+    
+    // 커서 조회 한 페이지 최대 구역 수
+    private static final int MAX_SCROLL_SIZE = 200;
 
     @Override
     public List<ZoneDTO> getZonesByFestivalId(String festivalId) {
         log.info("축제 구역 목록 조회: Festival ID={}", festivalId);
         
-        // 1. Festival 존재 확인
-        Long festivalIdLong = Long.parseLong(festivalId);
-        if (!festivalRepository.existsById(festivalIdLong)) {
-            throw new RuntimeException("축제를 찾을 수 없습니다: " + festivalId);
-        }
-        
-        // 2. 해당 축제의 모든 구역 조회
-        List<Zone> zones = zoneRepository.findByFestivalId(festivalIdLong);
-        
-        // 3. Entity를 DTO로 변환
-        List<ZoneDTO> zoneDTOs = zones.stream()
+        // 실시간 상태 저장소에서 조회 (축제 존재 확인 및 최초 적재 포함)
+        List<ZoneDTO> zoneDTOs = zoneLiveStateStore.getZones(Long.parseLong(festivalId)).stream()
                 .map(this::convertToDTO)
                 .toList();
         
@@ -44,14 +50,42 @@ public class ZoneServiceImpl implements ZoneService {
         return zoneDTOs;
     }
 
+    @Override
+    public CursorPageDTO<ZoneDTO> scrollZones(String festivalId, String cursor, int size) {
+        Long festivalIdLong = Long.parseLong(festivalId);
+        int pageSize = Math.max(1, Math.min(size, MAX_SCROLL_SIZE));
+        PageCursor after = PageCursor.decode(cursor);
+        zoneLiveStateStore.ensureLoaded(festivalIdLong);
+        
+        // 순서는 DB 인덱스 (festival_id, id) 로 정하고, 현재 인원 등은 실시간 상태로 채움
+        List<Long> zoneIds = zoneRepository.findIdsByFestivalIdAfter(festivalIdLong, after != null ? after.id() : 0L, pageSize + 1);
+        boolean hasNext = zoneIds.size() > pageSize;
+        List<Long> pageIds = hasNext ? zoneIds.subList(0, pageSize) : zoneIds;
+        
+        List<ZoneDTO> zones = new ArrayList<>(pageIds.size());
+        for (Long zoneId : pageIds) {
+            ZoneLiveState state = zoneLiveStateStore.peek(zoneId);
+            if (state != null) {
+                zones.add(convertToDTO(state));
+            }
+        }
+        
+        return CursorPageDTO.<ZoneDTO>builder()
+                .items(zones)
+                .size(zones.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? PageCursor.of(null, pageIds.get(pageIds.size() - 1)).encode() : null)
+                .build();
+    }
+
     @Override
     public ZoneDTO getZoneById(String zoneId) {
         log.info("구역 상세 조회: Zone ID={}", zoneId);
         
-        Zone zone = zoneRepository.findById(Long.parseLong(zoneId))
-                .orElseThrow(() -> new RuntimeException("구역을 찾을 수 없습니다: " + zoneId));
+        ZoneLiveState state = zoneLiveStateStore.getZone(Long.parseLong(zoneId))
+                .orElseThrow(() -> new ResourceNotFoundException("구역을 찾을 수 없습니다: " + zoneId));
         
-        return convertToDTO(zone);
+        return convertToDTO(state);
     }
 
     @Override
@@ -60,7 +94,7 @@ public class ZoneServiceImpl implements ZoneService {
         
         // 1. Festival 존재 확인
         Festival festival = festivalRepository.findById(Long.parseLong(festivalId))
-                .orElseThrow(() -> new RuntimeException("축제를 찾을 수 없습니다: " + festivalId));
+                .orElseThrow(() -> new ResourceNotFoundException("축제를 찾을 수 없습니다: " + festivalId));
         
         // 2. 동일한 축제에서 구역명 중복 체크
         if (zoneRepository.existsByFestivalIdAndName(Long.parseLong(festivalId), requestDTO.getName())) {
@@ -81,10 +115,11 @@ public class ZoneServiceImpl implements ZoneService {
         
         // 4. DB에 저장
         Zone savedZone = zoneRepository.save(zone);
+        ZoneLiveState state = zoneLiveStateStore.register(savedZone);
         log.info("구역 생성 완료: ID={}, Name={}", savedZone.getId(), savedZone.getName());
         
-        // 5. Entity를 DTO로 변환하여 반환
-        return convertToDTO(savedZone);
+        // 5. 실시간 상태를 DTO로 변환하여 반환
+        return convertToDTO(state);
     }
 
     @Override
@@ -92,7 +127,7 @@ public class ZoneServiceImpl implements ZoneService {
         log.info("구역 수정: ID={}", zoneId);
         
         Zone zone = zoneRepository.findById(Long.parseLong(zoneId))
-                .orElseThrow(() -> new RuntimeException("구역을 찾을 수 없습니다: " + zoneId));
+                .orElseThrow(() -> new ResourceNotFoundException("구역을 찾을 수 없습니다: " + zoneId));
         
         // 구역명 중복 체크 (동일한 축제 내에서, 현재 구역 제외)
         if (zoneRepository.existsByFestivalIdAndName(zone.getFestival().getId(), requestDTO.getName()) 
@@ -108,9 +143,10 @@ public class ZoneServiceImpl implements ZoneService {
         zone.setNotes(requestDTO.getNotes());
         
         Zone savedZone = zoneRepository.save(zone);
+        ZoneLiveState state = zoneLiveStateStore.register(savedZone);
         log.info("구역 수정 완료: ID={}, Name={}", savedZone.getId(), savedZone.getName());
         
-        return convertToDTO(savedZone);
+        return convertToDTO(state);
     }
 
     @Override
@@ -118,10 +154,11 @@ public class ZoneServiceImpl implements ZoneService {
         log.info("구역 삭제: ID={}", zoneId);
         
         if (!zoneRepository.existsById(Long.parseLong(zoneId))) {
-            throw new RuntimeException("구역을 찾을 수 없습니다: " + zoneId);
+            throw new ResourceNotFoundException("구역을 찾을 수 없습니다: " + zoneId);
         }
         
         zoneRepository.deleteById(Long.parseLong(zoneId));
+        zoneLiveStateStore.remove(Long.parseLong(zoneId));
         log.info("구역 삭제 완료: ID={}", zoneId);
     }
 
@@ -129,27 +166,29 @@ public class ZoneServiceImpl implements ZoneService {
     public ZoneDTO updateRealTimeData(String zoneId, ZoneRealTimeUpdateDTO updateDTO) {
         log.info("실시간 데이터 업데이트: Zone={}, Capacity={}", zoneId, updateDTO.getCurrentCapacity());
         
-        Zone zone = zoneRepository.findById(Long.parseLong(zoneId))
-                .orElseThrow(() -> new RuntimeException("구역을 찾을 수 없습니다: " + zoneId));
-        
-        // 실시간 데이터 업데이트
-        zone.updateRealTimeData(updateDTO.getCurrentCapacity());
+        // 메모리 상태만 갱신하고 DB 반영은 write-behind 주기에 맡김
+        Long zoneIdLong = Long.parseLong(zoneId);
+        zoneLiveStateStore.getZone(zoneIdLong)
+                .orElseThrow(() -> new ResourceNotFoundException("구역을 찾을 수 없습니다: " + zoneId));
+        ZoneLiveState state = zoneLiveStateStore.applyHeadcount(zoneIdLong, updateDTO.getCurrentCapacity());
+        if (state == null) {
+            // 조회와 반영 사이에 삭제된 구역
+            throw new ResourceNotFoundException("구역을 찾을 수 없습니다: " + zoneId);
+        }
         
-        Zone savedZone = zoneRepository.save(zone);
         log.info("실시간 데이터 업데이트 완료: Zone={}, Capacity={}, Congestion={}%", 
-                zoneId, savedZone.getCurrentCapacity(), savedZone.getCongestionLevel());
+                zoneId, state.getCurrentCapacity(), state.getCongestionLevel());
         
-        return convertToDTO(savedZone);
+        return convertToDTO(state);
     }
 
     @Override
     public List<ZoneDTO> getHighCongestionZones(String festivalId, int threshold) {
         log.info("혼잡 구역 조회: Festival ID={}, Threshold={}%", festivalId, threshold);
         
-        Long festivalIdLong = Long.parseLong(festivalId);
-        List<Zone> zones = zoneRepository.findHighCongestionZones(festivalIdLong, threshold);
-        
-        return zones.stream()
+        return zoneLiveStateStore.getZones(Long.parseLong(festivalId)).stream()
+                .filter(state -> state.getCongestionLevel() >= threshold)
+                .sorted(Comparator.comparingInt(ZoneLiveState::getCongestionLevel).reversed())
                 .map(this::convertToDTO)
                 .toList();
     }
@@ -158,10 +197,9 @@ public class ZoneServiceImpl implements ZoneService {
     public List<ZoneDTO> getLowCongestionZones(String festivalId, int threshold) {
         log.info("여유 구역 조회: Festival ID={}, Threshold={}%", festivalId, threshold);
         
-        Long festivalIdLong = Long.parseLong(festivalId);
-        List<Zone> zones = zoneRepository.findLowCongestionZones(festivalIdLong, threshold);
-        
-        return zones.stream()
+        return zoneLiveStateStore.getZones(Long.parseLong(festivalId)).stream()
+                .filter(state -> state.getCongestionLevel() < threshold)
+                .sorted(Comparator.comparingInt(ZoneLiveState::getCongestionLevel))
                 .map(this::convertToDTO)
                 .toList();
     }
@@ -170,41 +208,78 @@ public class ZoneServiceImpl implements ZoneService {
     public List<ZoneDTO> getZonesByType(String festivalId, String type) {
         log.info("타입별 구역 조회: Festival ID={}, Type={}", festivalId, type);
         
-        Long festivalIdLong = Long.parseLong(festivalId);
         ZoneType zoneType = ZoneType.fromCode(type);
-        List<Zone> zones = zoneRepository.findByFestivalIdAndType(festivalIdLong, zoneType);
-        
-        return zones.stream()
+        return zoneLiveStateStore.getZones(Long.parseLong(festivalId)).stream()
+                .filter(state -> state.getType() == zoneType)
                 .map(this::convertToDTO)
                 .toList();
     }
 
+    @Override
+    public List<NearbyZoneDTO> getNearbyZones(String zoneId, int limit, Double radiusKm) {
+        log.info("주변 구역 조회: Zone ID={}, limit={}, radiusKm={}", zoneId, limit, radiusKm);
+        
+        Long zoneIdLong = Long.parseLong(zoneId);
+        ZoneLiveState origin = zoneLiveStateStore.getZone(zoneIdLong)
+                .orElseThrow(() -> new ResourceNotFoundException("구역을 찾을 수 없습니다: " + zoneId));
+        
+        ZoneSpatialIndex index = zoneSpatialIndexRegistry.getIndex(origin.getFestivalId());
+        Coordinates originCoordinates = index.coordinatesOf(zoneIdLong);
+        if (originCoordinates == null) {
+            throw new IllegalArgumentException("대상 구역에 좌표 정보가 없습니다: " + zoneId);
+        }
+        
+        int k = Math.max(1, Math.min(limit, MAX_NEARBY_ZONES));
+        List<ZoneSpatialIndex.Neighbor> neighbors = radiusKm != null
+                ? index.withinRadius(originCoordinates, radiusKm, id -> id != zoneIdLong)
+                : index.nearest(originCoordinates, k, id -> id != zoneIdLong);
+        
+        List<NearbyZoneDTO> result = new ArrayList<>(Math.min(neighbors.size(), k));
+        for (ZoneSpatialIndex.Neighbor neighbor : neighbors) {
+            if (result.size() == k) {
+                break;
+            }
+            ZoneLiveState state = zoneLiveStateStore.peek(neighbor.zoneId());
+            if (state != null) {
+                result.add(NearbyZoneDTO.builder()
+                        .zone(convertToDTO(state))
+                        .distanceKm(Math.round(neighbor.distanceKm() * 1000.0) / 1000.0)
+                        .build());
+            }
+        }
+        return result;
+    }
+
     @Override
     public Object getZoneStatistics(String festivalId) {
         log.info("구역 통계 조회: Festival ID={}", festivalId);
         
         Long festivalIdLong = Long.parseLong(festivalId);
         
-        // Repository 메서드들을 사용한 통계 계산
-        Long totalZones = zoneRepository.countByFestivalId(festivalIdLong);
-        Long totalCapacity = zoneRepository.getTotalCapacityByFestivalId(festivalIdLong);
-        Long currentCapacity = zoneRepository.getCurrentTotalCapacityByFestivalId(festivalIdLong);
-        Double averageCongestion = zoneRepository.getAverageCongestionLevel(festivalIdLong);
+        // 실시간 값과 타입별 구역 수 모두 메모리 상태에서 계산 (DB 조회 없음)
+        List<ZoneLiveState> states = zoneLiveStateStore.getZones(festivalIdLong);
+        long totalZones = states.size();
+        long totalCapacity = 0;
+        long currentCapacity = 0;
+        long congestionSum = 0;
+        Map<String, Long> typeStatistics = new HashMap<>();
+        for (ZoneLiveState state : states) {
+            totalCapacity += state.getCapacity();
+            currentCapacity += state.getCurrentCapacity();
+            congestionSum += state.getCongestionLevel();
+            if (state.getType() != null) {
+                typeStatistics.merge(state.getType().getCode(), 1L, Long::sum);
+            }
+        }
+        double averageCongestion = totalZones > 0 ? (double) congestionSum / totalZones : 0;
         
         Map<String, Object> stats = new HashMap<>();
-        stats.put("totalZones", totalZones != null ? totalZones : 0);
-        stats.put("totalCapacity", totalCapacity != null ? totalCapacity : 0);
-        stats.put("currentCapacity", currentCapacity != null ? currentCapacity : 0);
-        stats.put("averageCongestion", averageCongestion != null ? Math.round(averageCongestion * 100.0) / 100.0 : 0);
+        stats.put("totalZones", totalZones);
+        stats.put("totalCapacity", totalCapacity);
+        stats.put("currentCapacity", currentCapacity);
+        stats.put("averageCongestion", Math.round(averageCongestion * 100.0) / 100.0);
         
         // 타입별 통계
-        List<Object[]> typeStats = zoneRepository.getZoneTypeStatistics(festivalIdLong);
-        Map<String, Long> typeStatistics = new HashMap<>();
-        for (Object[] stat : typeStats) {
-            ZoneType type = (ZoneType) stat[0];
-            Long count = (Long) stat[1];
-            typeStatistics.put(type.getCode(), count);
-        }
         stats.put("typeStatistics", typeStatistics);
         
         log.info("구역 통계 조회 완료: Festival ID={}, Total Zones={}", festivalId, totalZones);
@@ -255,21 +330,21 @@ public class ZoneServiceImpl implements ZoneService {
     }
     
     /**
-     * Zone Entity를 ZoneDTO로 변환
+     * 구역 실시간 상태를 ZoneDTO로 변환
      */
-    private ZoneDTO convertToDTO(Zone zone) {
+    private ZoneDTO convertToDTO(ZoneLiveState state) {
         return ZoneDTO.builder()
-                .id(zone.getId())
-                .name(zone.getName())
-                .type(zone.getType().getCode())
-                .capacity(zone.getCapacity())
-                .currentCapacity(zone.getCurrentCapacity())
-                .congestionLevel(zone.getCongestionLevel())
-                .congestionStatus(zone.getCongestionStatus())
-                .coordinates(zone.getCoordinates())
-                .notes(zone.getNotes())
-                .createdAt(zone.getCreatedAt())
-                .updatedAt(zone.getUpdatedAt())
+                .id(state.getZoneId())
+                .name(state.getName())
+                .type(state.getType().getCode())
+                .capacity(state.getCapacity())
+                .currentCapacity(state.getCurrentCapacity())
+                .congestionLevel(state.getCongestionLevel())
+                .congestionStatus(state.getCongestionStatus())
+                .coordinates(state.getCoordinates())
+                .notes(state.getNotes())
+                .createdAt(state.getCreatedAt())
+                .updatedAt(state.getUpdatedAt())
                 .build();
     }
 }
@@ -55,6 +55,23 @@ CREATE TABLE IF NOT EXISTS sns_feedback (
   resolved_at TIMESTAMP
 );
 
+-- 이슈 키워드 검색용 trigram 인덱스 (축제 조건 + 부분 일치/유사도, 한글 포함)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+CREATE INDEX IF NOT EXISTS idx_sns_feedback_issue_trgm
+  ON sns_feedback USING gin (festival_id, issue gin_trgm_ops);
+
+-- 축제 목록 조회 (상태별 시작일 정렬, 축제명/위치 부분 일치 검색), 상태 자동 전환 대상 조회
+CREATE INDEX IF NOT EXISTS idx_festivals_status_start_date ON festivals (status, start_date, id);
+CREATE INDEX IF NOT EXISTS idx_festivals_start_date ON festivals (start_date, id);
+CREATE INDEX IF NOT EXISTS idx_festivals_status_end_date ON festivals (status, end_date, id);
+CREATE INDEX IF NOT EXISTS idx_festivals_name_trgm ON festivals USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_festivals_location_trgm ON festivals USING gin (lower(location) gin_trgm_ops);
+
+-- 커서 페이지 조회 (축제별 구역 ID 순, 피드백 최신순)
+CREATE INDEX IF NOT EXISTS idx_zones_festival_id ON zones (festival_id, id);
+CREATE INDEX IF NOT EXISTS idx_sns_feedback_festival_created ON sns_feedback (festival_id, created_at DESC, id DESC);
+
 -- SNS 일별 데이터
 CREATE TABLE IF NOT EXISTS sns_daily (
   id BIGSERIAL PRIMARY KEY,
@@ -63,7 +80,8 @@ CREATE TABLE IF NOT EXISTS sns_daily (
   positive INTEGER DEFAULT 0,
   negative INTEGER DEFAULT 0,
   neutral INTEGER DEFAULT 0,
-  tips TEXT
+  tips TEXT,
+  last_batch_id BIGINT -- 마지막으로 더한 증분 배치 (같은 배치를 재시도해도 한 번만 더해지도록)
 );
 
 -- 매출 일별
@@ -74,6 +92,16 @@ CREATE TABLE IF NOT EXISTS sales_daily (
   amount BIGINT DEFAULT 0
 );
 
+-- 반영된 매출 기록 (재전송된 기록을 중복 반영하지 않도록 보정 기간 동안 보관)
+CREATE TABLE IF NOT EXISTS sales_records (
+  festival_id BIGINT NOT NULL REFERENCES festivals(id) ON DELETE CASCADE,
+  record_id VARCHAR(100) NOT NULL,
+  date DATE NOT NULL,
+  amount BIGINT NOT NULL,
+  PRIMARY KEY (festival_id, record_id)
+);
+CREATE INDEX IF NOT EXISTS idx_sales_records_date ON sales_records (date);
+
 -- 방문자 KPI
 CREATE TABLE IF NOT EXISTS visitor_kpi (
   id BIGSERIAL PRIMARY KEY,
@@ -81,3 +109,8 @@ CREATE TABLE IF NOT EXISTS visitor_kpi (
   date DATE NOT NULL,
   visitors INTEGER DEFAULT 0
 );
+
+-- 일별 집계는 (축제, 날짜)당 1행 (증분 upsert 대상)
+CREATE UNIQUE INDEX IF NOT EXISTS uq_sns_daily_festival_date ON sns_daily (festival_id, date);
+CREATE UNIQUE INDEX IF NOT EXISTS uq_sales_daily_festival_date ON sales_daily (festival_id, date);
+CREATE UNIQUE INDEX IF NOT EXISTS uq_visitor_kpi_festival_date ON visitor_kpi (festival_id, date);
@@ -0,0 +1,38 @@
+package com.kt.backendapp.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkheadConfigTest {
+
+    @Test
+    @DisplayName("요청 허용 수 + 주기 작업 수 + 대시보드 병렬 조회 수가 커넥션 풀보다 크면 기동 실패")
+    void failsWhenBudgetExceedsConnectionPool() {
+        // when & then (요청 1 x 6 + 주기 작업 3 + 병렬 조회 2 = 11 > 10)
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> config(10, 3, 2));
+        assertTrue(e.getMessage().contains("= 11"));
+    }
+
+    @Test
+    @DisplayName("합계가 커넥션 풀 크기 이하면 워크로드별 남은 자리 지표를 등록")
+    void registersGaugesWithinBudget() {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        // when
+        new BulkheadConfig(new ObjectMapper(), meterRegistry, 200, 1, 1, 1, 1, 1, 1, 11, 3, 2);
+
+        // then
+        assertEquals(6, meterRegistry.find("festival.bulkhead.available").gauges().size());
+        assertEquals(1.0, meterRegistry.get("festival.bulkhead.available").tag("workload", "zone").gauge().value());
+    }
+
+    private static BulkheadConfig config(int connectionPoolSize, int scheduledDbJobs, int dashboardQueryThreads) {
+        return new BulkheadConfig(new ObjectMapper(), new SimpleMeterRegistry(), 200, 1, 1, 1, 1, 1, 1,
+                connectionPoolSize, scheduledDbJobs, dashboardQueryThreads);
+    }
+}
@@ -0,0 +1,179 @@
+package com.kt.backendapp.config;
+
+import com.kt.backendapp.dto.FestivalDTO;
+import com.kt.backendapp.dto.FestivalRequestDTO;
+import com.kt.backendapp.entity.Festival;
+import com.kt.backendapp.entity.FestivalStatus;
+import com.kt.backendapp.realtime.DashboardSnapshotRegistry;
+import com.kt.backendapp.realtime.ZoneLiveStateStore;
+import com.kt.backendapp.repository.FestivalRepository;
+import com.kt.backendapp.service.FestivalService;
+import com.kt.backendapp.service.FestivalStatusService;
+import com.kt.backendapp.service.impl.FestivalServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig
+class CacheConfigTest {
+
+    private static final Long FESTIVAL_ID = 1L;
+
+    @Autowired
+    private FestivalService festivalService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private FestivalRepository festivalRepository;
+
+    @MockBean
+    private DashboardSnapshotRegistry dashboardSnapshotRegistry;
+
+    @MockBean
+    private FestivalStatusService festivalStatusService;
+
+    @MockBean
+    private ZoneLiveStateStore zoneLiveStateStore;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CacheConfig.FESTIVALS).clear();
+        when(festivalRepository.findById(FESTIVAL_ID)).thenAnswer(invocation -> Optional.of(festival("여름 축제")));
+        when(festivalRepository.save(any())).then(returnsFirstArg());
+    }
+
+    @Test
+    @DisplayName("같은 축제는 한 번만 DB에서 읽고, 꺼낸 값을 고쳐도 캐시 값은 그대로")
+    void cachesCopies() {
+        // given
+        FestivalDTO first = festivalService.getFestivalById(FESTIVAL_ID);
+
+        // when
+        first.setName("고친 이름");
+        FestivalDTO second = festivalService.getFestivalById(FESTIVAL_ID);
+
+        // then
+        assertEquals("여름 축제", second.getName());
+        assertNotSame(first, second);
+        verify(festivalRepository, times(1)).findById(FESTIVAL_ID);
+    }
+
+    @Test
+    @DisplayName("축제 수정은 커밋된 뒤에 캐시를 무효화하고, 이후 조회는 새 값")
+    void updateEvictsAfterCommit() {
+        // given
+        festivalService.getFestivalById(FESTIVAL_ID);
+        Cache cache = cacheManager.getCache(CacheConfig.FESTIVALS);
+
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            when(festivalRepository.findById(FESTIVAL_ID)).thenAnswer(invocation -> Optional.of(festival("가을 축제")));
+            festivalService.updateFestival(FESTIVAL_ID, request("가을 축제"));
+            assertNotNull(cache.get(FESTIVAL_ID), "커밋 전에는 무효화하지 않음");
+        });
+
+        // then
+        assertNull(cache.get(FESTIVAL_ID));
+        assertEquals("가을 축제", festivalService.getFestivalById(FESTIVAL_ID).getName());
+    }
+
+    @Test
+    @DisplayName("롤백된 수정은 캐시를 무효화하지 않음")
+    void rolledBackUpdateKeepsCache() {
+        // given
+        festivalService.getFestivalById(FESTIVAL_ID);
+
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            festivalService.updateFestival(FESTIVAL_ID, request("가을 축제"));
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertNotNull(cacheManager.getCache(CacheConfig.FESTIVALS).get(FESTIVAL_ID));
+    }
+
+    private static Festival festival(String name) {
+        return Festival.builder()
+                .id(FESTIVAL_ID)
+                .name(name)
+                .location("서울특별시")
+                .startDate(LocalDate.of(2024, 7, 15))
+                .endDate(LocalDate.of(2024, 7, 17))
+                .target("50,000명")
+                .status(FestivalStatus.BEFORE)
+                .build();
+    }
+
+    private static FestivalRequestDTO request(String name) {
+        return FestivalRequestDTO.builder()
+                .name(name)
+                .location("서울특별시")
+                .startDate(LocalDate.of(2024, 7, 15))
+                .endDate(LocalDate.of(2024, 7, 17))
+                .target("50,000명")
+                .status("before")
+                .build();
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    @Import({CacheConfig.class, FestivalServiceImpl.class})
+    static class TestConfig {
+
+        @Bean
+        PlatformTransactionManager transactionManager() {
+            return new TestTransactionManager();
+        }
+    }
+
+    /**
+     * DB 없이 트랜잭션 동기화(커밋/롤백 후 콜백)만 지원하는 트랜잭션 관리자
+     */
+    static class TestTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
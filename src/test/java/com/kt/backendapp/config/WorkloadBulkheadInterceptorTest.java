@@ -0,0 +1,79 @@
+package com.kt.backendapp.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorkloadBulkheadInterceptorTest {
+
+    private static final String PATH = "/api/festivals/1/zones";
+
+    private final WorkloadBulkheadInterceptor bulkhead =
+            new WorkloadBulkheadInterceptor("zone", 1, 10, new ObjectMapper().findAndRegisterModules());
+
+    @Test
+    @DisplayName("허용 수를 모두 쓰고 있으면 대기 시간 후 503 으로 거절하고, 끝난 요청이 자리를 돌려주면 다시 허용")
+    void rejectsWithServiceUnavailableWhenFull() throws Exception {
+        // given
+        MockHttpServletRequest first = request("POST");
+        assertTrue(bulkhead.preHandle(first, new MockHttpServletResponse(), null));
+
+        // when
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        boolean secondAllowed = bulkhead.preHandle(request("POST"), rejected, null);
+
+        // then
+        assertFalse(secondAllowed);
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), rejected.getStatus());
+        assertEquals("1", rejected.getHeader(HttpHeaders.RETRY_AFTER));
+        assertTrue(rejected.getContentAsString().contains("BULKHEAD_FULL"));
+
+        bulkhead.afterCompletion(first, new MockHttpServletResponse(), null, null);
+        bulkhead.afterCompletion(first, new MockHttpServletResponse(), null, null); // 두 번 불려도 한 번만 반납
+        assertEquals(1, bulkhead.getAvailablePermits());
+        assertTrue(bulkhead.preHandle(request("POST"), new MockHttpServletResponse(), null));
+    }
+
+    @Test
+    @DisplayName("forMethods 로 만든 인터셉터는 지정한 메서드에만 허용 수를 적용하고, 허용 수는 원래 인터셉터와 공유")
+    void forMethodsSkipsOtherMethodsAndSharesPermits() throws Exception {
+        // given
+        WorkloadBulkheadInterceptor writes = bulkhead.forMethods(HttpMethod.POST, HttpMethod.PUT, HttpMethod.DELETE);
+        assertTrue(bulkhead.preHandle(request("GET"), new MockHttpServletResponse(), null));
+
+        // when
+        boolean readAllowed = writes.preHandle(request("GET"), new MockHttpServletResponse(), null);
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        boolean writeAllowed = writes.preHandle(request("PUT"), rejected, null);
+
+        // then
+        assertTrue(readAllowed);
+        assertFalse(writeAllowed);
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), rejected.getStatus());
+        assertEquals(0, writes.getAvailablePermits());
+    }
+
+    @Test
+    @DisplayName("비동기 재디스패치는 이미 허용된 요청이므로 허용 수를 다시 쓰지 않음")
+    void asyncRedispatchDoesNotTakePermit() throws Exception {
+        // given
+        MockHttpServletRequest redispatch = request("POST");
+        redispatch.setDispatcherType(DispatcherType.ASYNC);
+
+        // when & then
+        assertTrue(bulkhead.preHandle(redispatch, new MockHttpServletResponse(), null));
+        assertEquals(1, bulkhead.getAvailablePermits());
+    }
+
+    private static MockHttpServletRequest request(String method) {
+        return new MockHttpServletRequest(method, PATH);
+    }
+}
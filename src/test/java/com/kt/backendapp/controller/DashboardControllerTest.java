@@ -0,0 +1,71 @@
+package com.kt.backendapp.controller;
+
+import com.kt.backendapp.dto.OperationalDashboardDTO;
+import com.kt.backendapp.realtime.DashboardSnapshot;
+import com.kt.backendapp.service.DailyRollupService;
+import com.kt.backendapp.service.DashboardService;
+import com.kt.backendapp.service.DashboardStreamService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(DashboardController.class)
+class DashboardControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private DashboardService dashboardService;
+
+    @MockBean
+    private DashboardStreamService dashboardStreamService;
+
+    @MockBean
+    private DailyRollupService dailyRollupService;
+
+    @BeforeEach
+    void setUp() {
+        OperationalDashboardDTO dashboard = OperationalDashboardDTO.builder()
+                .festivalId("1")
+                .festivalName("테스트 축제")
+                .build();
+        when(dashboardService.getOperationalDashboardSnapshot("1"))
+                .thenReturn(new DashboardSnapshot(1L, 3, System.currentTimeMillis(), dashboard, false, "abc"));
+    }
+
+    @Test
+    @DisplayName("운영 대시보드 조회 API - 스냅샷 해시를 ETag 로 반환")
+    void returnsETag() throws Exception {
+        mockMvc.perform(get("/api/dashboard/festivals/1/operational"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc\""))
+                .andExpect(jsonPath("$.data.festivalName").value("테스트 축제"));
+    }
+
+    @Test
+    @DisplayName("운영 대시보드 조회 API - ETag 가 같으면 304")
+    void notModifiedWhenETagMatches() throws Exception {
+        mockMvc.perform(get("/api/dashboard/festivals/1/operational")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"abc\""))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("운영 대시보드 조회 API - ETag 가 다르면 새 내용 반환")
+    void returnsBodyWhenETagDiffers() throws Exception {
+        mockMvc.perform(get("/api/dashboard/festivals/1/operational")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"old\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc\""));
+    }
+}
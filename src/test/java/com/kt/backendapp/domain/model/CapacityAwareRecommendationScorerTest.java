@@ -0,0 +1,67 @@
+package com.kt.backendapp.domain.model;
+
+import com.kt.backendapp.entity.ZoneType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CapacityAwareRecommendationScorerTest {
+
+    private final CapacityAwareRecommendationScorer scorer = CapacityAwareRecommendationScorer.defaults();
+
+    @Test
+    @DisplayName("여유 인원이 같으면 가까운 구역이 더 높은 점수")
+    void closerZoneScoresHigher() {
+        // given
+        RecommendationCandidate near = candidate(ZoneType.FOOD_COURT, 1000, 300, 0.2, 0);
+        RecommendationCandidate far = candidate(ZoneType.FOOD_COURT, 1000, 300, 1.5, 0);
+
+        // when & then
+        assertTrue(scorer.score(near) > scorer.score(far));
+    }
+
+    @Test
+    @DisplayName("유입이 많아 도착 시점에 가득 찰 구역은 제외")
+    void zoneFilledByInflowIsExcluded() {
+        // given: 현재 50%지만 분당 50명씩 늘어나는 구역
+        RecommendationCandidate filling = candidate(ZoneType.FOOD_COURT, 1000, 500, 0.5, 50);
+
+        // when & then
+        assertEquals(0, scorer.score(filling));
+    }
+
+    @Test
+    @DisplayName("VIP 구역은 다른 타입 구역의 대체 구역으로 추천하지 않음")
+    void vipIsNotAlternativeForOtherTypes() {
+        // given
+        RecommendationCandidate vip = candidate(ZoneType.VIP, 500, 0, 0.1, 0);
+
+        // when & then
+        assertEquals(0, scorer.score(vip));
+    }
+
+    @Test
+    @DisplayName("같은 타입이 다른 타입보다 우선")
+    void sameTypePreferred() {
+        // given
+        RecommendationCandidate sameType = candidate(ZoneType.FOOD_COURT, 1000, 300, 0.5, 0);
+        RecommendationCandidate otherType = candidate(ZoneType.MERCHANDISE, 1000, 300, 0.5, 0);
+
+        // when & then
+        assertTrue(scorer.score(sameType) > scorer.score(otherType));
+    }
+
+    private RecommendationCandidate candidate(ZoneType type, int capacity, int current,
+                                              double distanceKm, double inflowPerMinute) {
+        return RecommendationCandidate.builder()
+                .originType(ZoneType.FOOD_COURT)
+                .originCongestionLevel(90)
+                .zoneId(2L)
+                .type(type)
+                .capacity(capacity)
+                .currentCapacity(current)
+                .distanceKm(distanceKm)
+                .inflowPerMinute(inflowPerMinute)
+                .build();
+    }
+}
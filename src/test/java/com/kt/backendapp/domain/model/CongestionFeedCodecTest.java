@@ -0,0 +1,108 @@
+package com.kt.backendapp.domain.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CongestionFeedCodecTest {
+
+    private static final long UPDATED_AT = 1_700_000_000_000L;
+
+    @Test
+    @DisplayName("인코딩한 피드를 그대로 복원")
+    void roundTrip() {
+        // given
+        CongestionFeedCodec.Feed feed = new CongestionFeedCodec.Feed(7, UPDATED_AT, List.of(
+                new CongestionFeedCodec.ZoneEntry(1, "메인 무대", 85, 4250, 5000),
+                new CongestionFeedCodec.ZoneEntry(2, "푸드트럭 A", 0, 0, 300),
+                new CongestionFeedCodec.ZoneEntry(Long.MAX_VALUE, "", 100, 1200, 1000)));
+
+        // when
+        CongestionFeedCodec.Feed decoded = CongestionFeedCodec.decode(CongestionFeedCodec.encode(feed));
+
+        // then
+        assertEquals(feed, decoded);
+    }
+
+    @Test
+    @DisplayName("구역이 없는 피드도 복원")
+    void emptyFeed() {
+        // given
+        CongestionFeedCodec.Feed feed = new CongestionFeedCodec.Feed(3, 0, List.of());
+
+        // when
+        byte[] encoded = CongestionFeedCodec.encode(feed);
+
+        // then
+        assertEquals(feed, CongestionFeedCodec.decode(encoded));
+        assertTrue(encoded.length < 16);
+    }
+
+    @Test
+    @DisplayName("작은 값은 구역당 몇 바이트로 기록")
+    void compactEncoding() {
+        // given: 구역 200개
+        List<CongestionFeedCodec.ZoneEntry> zones = new ArrayList<>();
+        for (int i = 1; i <= 200; i++) {
+            zones.add(new CongestionFeedCodec.ZoneEntry(i, "Z" + i, i % 101, i * 10, 3000));
+        }
+
+        // when
+        byte[] encoded = CongestionFeedCodec.encode(new CongestionFeedCodec.Feed(1, UPDATED_AT, zones));
+
+        // then: 이름 포함 구역당 평균 12바이트 이하
+        assertTrue(encoded.length <= 200 * 12, "크기: " + encoded.length);
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 혼잡도는 거부")
+    void rejectsInvalidCongestionLevel() {
+        // given
+        CongestionFeedCodec.Feed feed = new CongestionFeedCodec.Feed(1, UPDATED_AT, List.of(
+                new CongestionFeedCodec.ZoneEntry(1, "무대", 101, 10, 10)));
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> CongestionFeedCodec.encode(feed));
+    }
+
+    @Test
+    @DisplayName("형식이 다르거나 잘린 데이터는 거부")
+    void rejectsMalformedInput() {
+        // given
+        byte[] encoded = CongestionFeedCodec.encode(new CongestionFeedCodec.Feed(1, UPDATED_AT, List.of(
+                new CongestionFeedCodec.ZoneEntry(1, "메인 무대", 50, 10, 20))));
+
+        // when & then
+        assertThrows(IllegalArgumentException.class,
+                () -> CongestionFeedCodec.decode("{}".getBytes(StandardCharsets.UTF_8)));
+        assertThrows(IllegalArgumentException.class,
+                () -> CongestionFeedCodec.decode(Arrays.copyOf(encoded, encoded.length - 1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> CongestionFeedCodec.decode(Arrays.copyOf(encoded, encoded.length + 1)));
+    }
+
+    @Test
+    @DisplayName("gzip 결과는 표준 GZIP 으로 풀림")
+    void gzipIsStandard() throws IOException {
+        // given
+        byte[] json = "{\"zones\":[]}".repeat(50).getBytes(StandardCharsets.UTF_8);
+
+        // when
+        byte[] compressed = CongestionFeedCodec.gzip(json);
+
+        // then
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            assertArrayEquals(json, in.readAllBytes());
+        }
+        assertTrue(compressed.length < json.length);
+    }
+}
@@ -0,0 +1,112 @@
+package com.kt.backendapp.domain.model;
+
+import com.kt.backendapp.domain.vo.Coordinates;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CrowdFlowSimulatorTest {
+
+    private static CrowdFlowSimulator.Scenario scenario(List<CrowdFlowSimulator.ZoneSpec> zones, int[] arrivals,
+                                                        int steps, double meanStayMinutes) {
+        return new CrowdFlowSimulator.Scenario(zones, arrivals, steps, 1, 20, meanStayMinutes, 4.5, 0.5, 42L);
+    }
+
+    private static List<CrowdFlowSimulator.ZoneSpec> grid(int count, int capacity) {
+        List<CrowdFlowSimulator.ZoneSpec> zones = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            zones.add(new CrowdFlowSimulator.ZoneSpec(capacity, new Coordinates(37.5 + (i / 5) * 0.002, 127.0 + (i % 5) * 0.002)));
+        }
+        return zones;
+    }
+
+    @Test
+    @DisplayName("같은 seed 면 병렬도와 무관하게 같은 결과")
+    void deterministicAcrossParallelism() {
+        // given: 2만 명이 2시간에 걸쳐 도착
+        int[] arrivals = new int[120];
+        Arrays.fill(arrivals, 200);
+        CrowdFlowSimulator.Scenario scenario = scenario(grid(10, 3000), arrivals, 240, 90);
+
+        // when
+        CrowdFlowSimulator.Result single = new CrowdFlowSimulator(new ForkJoinPool(1)).run(scenario);
+        CrowdFlowSimulator.Result parallel = new CrowdFlowSimulator(new ForkJoinPool(4)).run(scenario);
+
+        // then
+        assertEquals(24000, single.agents());
+        assertArrayEquals(single.insideSeries(), parallel.insideSeries());
+        assertArrayEquals(single.zones(), parallel.zones());
+    }
+
+    @Test
+    @DisplayName("도착 전에는 구역이 비어 있고, 체류 시간이 지나면 모두 떠남")
+    void arrivalAndDeparture() {
+        // given: 5분 뒤에 500명 도착, 평균 10분 체류
+        int[] arrivals = new int[6];
+        arrivals[5] = 500;
+        CrowdFlowSimulator.Scenario scenario = scenario(grid(3, 1000), arrivals, 600, 10);
+
+        // when
+        CrowdFlowSimulator.Result result = new CrowdFlowSimulator(ForkJoinPool.commonPool()).run(scenario);
+
+        // then
+        assertEquals(0, result.insideSeries()[4]);
+        assertTrue(result.insideSeries()[5] > 0);
+        assertEquals(0, result.insideSeries()[599]);
+    }
+
+    @Test
+    @DisplayName("수용 인원을 넘은 시간 집계")
+    void overflowSteps() {
+        // given: 수용 인원 합계 300명인 축제에 3000명 도착
+        CrowdFlowSimulator.Scenario crowded = scenario(grid(3, 100), new int[]{3000}, 60, 600);
+        CrowdFlowSimulator.Scenario spacious = scenario(grid(3, 10000), new int[]{3000}, 60, 600);
+
+        // when
+        CrowdFlowSimulator.Result crowdedResult = new CrowdFlowSimulator(ForkJoinPool.commonPool()).run(crowded);
+        CrowdFlowSimulator.Result spaciousResult = new CrowdFlowSimulator(ForkJoinPool.commonPool()).run(spacious);
+
+        // then
+        for (CrowdFlowSimulator.ZoneResult zone : crowdedResult.zones()) {
+            assertTrue(zone.peakOccupancy() > 100);
+            assertTrue(zone.overflowSteps() > 0);
+        }
+        for (CrowdFlowSimulator.ZoneResult zone : spaciousResult.zones()) {
+            assertEquals(0, zone.overflowSteps());
+        }
+    }
+
+    @Test
+    @DisplayName("수용 인원이 큰 구역에 더 많은 방문객이 머묾")
+    void largerZoneAttractsMore() {
+        // given
+        List<CrowdFlowSimulator.ZoneSpec> zones = List.of(
+                new CrowdFlowSimulator.ZoneSpec(500, null),
+                new CrowdFlowSimulator.ZoneSpec(5000, null),
+                new CrowdFlowSimulator.ZoneSpec(500, null));
+
+        // when
+        CrowdFlowSimulator.Result result = new CrowdFlowSimulator(ForkJoinPool.commonPool())
+                .run(scenario(zones, new int[]{3000}, 120, 600));
+
+        // then
+        assertTrue(result.zones()[1].averageOccupancy() > result.zones()[0].averageOccupancy());
+        assertTrue(result.zones()[1].averageOccupancy() > result.zones()[2].averageOccupancy());
+    }
+
+    @Test
+    @DisplayName("구역이 없거나 매개변수가 잘못되면 예외")
+    void invalidScenario() {
+        CrowdFlowSimulator simulator = new CrowdFlowSimulator(ForkJoinPool.commonPool());
+
+        assertThrows(IllegalArgumentException.class, () -> simulator.run(scenario(List.of(), new int[]{10}, 10, 60)));
+        assertThrows(IllegalArgumentException.class, () -> simulator.run(scenario(grid(2, 100), new int[]{-1}, 10, 60)));
+        assertThrows(IllegalArgumentException.class, () -> simulator.run(scenario(grid(2, 100), new int[]{10}, 0, 60)));
+    }
+}
@@ -0,0 +1,98 @@
+package com.kt.backendapp.domain.model;
+
+import com.kt.backendapp.entity.SentimentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+class FeedbackTrendWindowTest {
+
+    private static final long NOW = 29_000_000L;
+
+    private FeedbackTrendWindow window;
+
+    @BeforeEach
+    void setUp() {
+        window = new FeedbackTrendWindow(60, 3);
+    }
+
+    @Test
+    @DisplayName("최근 N분 합계와 감정/플랫폼별 집계")
+    void sumsRecentMinutes() {
+        // given
+        window.add(NOW, SentimentType.NEGATIVE, "Twitter", 3);
+        window.add(NOW - 4, SentimentType.POSITIVE, "Instagram", 2);
+        window.add(NOW - 10, SentimentType.NEGATIVE, "Twitter", 5);
+
+        // when
+        FeedbackTrendWindow.Counts counts = window.sum(NOW, 5);
+
+        // then
+        assertEquals(5, counts.total());
+        assertEquals(3L, counts.bySentiment().get(SentimentType.NEGATIVE));
+        assertEquals(2L, counts.bySentiment().get(SentimentType.POSITIVE));
+        assertEquals(3L, counts.byPlatform().get("Twitter"));
+        assertEquals(2L, counts.byPlatform().get("Instagram"));
+    }
+
+    @Test
+    @DisplayName("윈도우 크기를 지나 재사용된 칸에는 이전 값이 남지 않음")
+    void wrappedSlotIsReset() {
+        // given
+        window.add(NOW - 60, SentimentType.NEGATIVE, "Twitter", 7);
+
+        // when: 같은 칸을 쓰는 60분 뒤
+        window.add(NOW, SentimentType.NEUTRAL, "Twitter", 1);
+
+        // then
+        assertEquals(1, window.sum(NOW, 60).total());
+        assertEquals(0L, window.sum(NOW, 60).bySentiment().get(SentimentType.NEGATIVE));
+    }
+
+    @Test
+    @DisplayName("윈도우보다 오래된 기록은 무시")
+    void tooOldIsIgnored() {
+        // given
+        window.add(NOW, SentimentType.NEUTRAL, "Twitter", 1);
+
+        // when
+        window.add(NOW - 60, SentimentType.NEGATIVE, "Twitter", 7);
+
+        // then
+        assertEquals(1, window.sum(NOW, 60).total());
+    }
+
+    @Test
+    @DisplayName("플랫폼 수 한도를 넘으면 기타로 집계")
+    void extraPlatformsGoToOther() {
+        // given: 한도 3 = 기타 + 2개
+        window.add(NOW, SentimentType.NEUTRAL, "Twitter", 1);
+        window.add(NOW, SentimentType.NEUTRAL, "Instagram", 1);
+        window.add(NOW, SentimentType.NEUTRAL, "Facebook", 1);
+        window.add(NOW, SentimentType.NEUTRAL, null, 1);
+
+        // when
+        FeedbackTrendWindow.Counts counts = window.sum(NOW, 1);
+
+        // then
+        assertEquals(2L, counts.byPlatform().get(FeedbackTrendWindow.OTHER_PLATFORM));
+        assertFalse(counts.byPlatform().containsKey("Facebook"));
+    }
+
+    @Test
+    @DisplayName("구간별 추이는 오래된 구간부터 step 분 단위로 합산")
+    void seriesIsBucketedByStep() {
+        // given
+        window.add(NOW, SentimentType.NEUTRAL, "Twitter", 1);
+        window.add(NOW - 1, SentimentType.NEUTRAL, "Twitter", 2);
+        window.add(NOW - 5, SentimentType.NEUTRAL, "Twitter", 4);
+        window.add(NOW - 9, SentimentType.NEUTRAL, "Twitter", 8);
+
+        // when
+        long[] series = window.series(NOW, 10, 5);
+
+        // then
+        assertArrayEquals(new long[]{12, 3}, series);
+    }
+}
@@ -0,0 +1,108 @@
+package com.kt.backendapp.domain.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+class HoltTrendForecasterTest {
+
+    private static final long MINUTE = 60_000L;
+    private static final long START = 1_700_000_000_000L;
+
+    private HoltTrendForecaster forecaster;
+
+    @BeforeEach
+    void setUp() {
+        forecaster = new HoltTrendForecaster(2, 10);
+    }
+
+    @Test
+    @DisplayName("첫 관측은 추세 0으로 시작")
+    void firstObservationStartsFlat() {
+        // when
+        HoltTrendForecaster.State state = forecaster.update(null, 500, START);
+
+        // then
+        assertEquals(500, state.level());
+        assertEquals(0, state.trendPerMinute());
+        assertEquals(1, state.samples());
+        assertEquals(500, forecaster.forecast(state, START, 30));
+    }
+
+    @Test
+    @DisplayName("일정하게 늘어나는 인원은 분당 증가량을 추세로 학습")
+    void learnsLinearTrend() {
+        // given: 분당 10명씩 증가
+        HoltTrendForecaster.State state = null;
+        for (int minute = 0; minute <= 120; minute++) {
+            state = forecaster.update(state, 100 + 10 * minute, START + minute * MINUTE);
+        }
+        long now = START + 120 * MINUTE;
+
+        // then
+        assertEquals(10, state.trendPerMinute(), 0.1);
+        assertEquals(1300 + 150, forecaster.forecast(state, now, 15), 5);
+    }
+
+    @Test
+    @DisplayName("관측 간격이 불규칙해도 같은 추세로 수렴")
+    void irregularIntervals() {
+        // given: 분당 5명씩 증가, 20초 ~ 3분 간격으로 관측
+        long[] gaps = {20_000L, 180_000L, 45_000L, 90_000L, 30_000L};
+        HoltTrendForecaster.State state = null;
+        long at = START;
+        for (int i = 0; i < 200; i++) {
+            state = forecaster.update(state, 1000 + 5.0 * (at - START) / MINUTE, at);
+            at += gaps[i % gaps.length];
+        }
+
+        // then
+        assertEquals(5, state.trendPerMinute(), 0.1);
+    }
+
+    @Test
+    @DisplayName("이전 관측보다 오래된 관측은 무시")
+    void olderObservationIsIgnored() {
+        // given
+        HoltTrendForecaster.State state = forecaster.update(null, 500, START);
+
+        // when
+        HoltTrendForecaster.State next = forecaster.update(state, 9000, START - MINUTE);
+
+        // then
+        assertSame(state, next);
+    }
+
+    @Test
+    @DisplayName("수용 인원 도달 예상 시간")
+    void minutesUntilCapacity() {
+        // given: 현재 1000명, 분당 20명 증가
+        HoltTrendForecaster.State rising = new HoltTrendForecaster.State(1000, 20, START, 10);
+        HoltTrendForecaster.State falling = new HoltTrendForecaster.State(1000, -5, START, 10);
+
+        // then
+        assertEquals(50, forecaster.minutesUntil(rising, START, 2000), 1e-9);
+        assertEquals(45, forecaster.minutesUntil(rising, START + 5 * MINUTE, 2000), 1e-9);
+        assertEquals(0, forecaster.minutesUntil(rising, START, 800));
+        assertEquals(Double.POSITIVE_INFINITY, forecaster.minutesUntil(falling, START, 2000));
+    }
+
+    @Test
+    @DisplayName("감소 추세의 예측 인원은 0 미만으로 내려가지 않음")
+    void forecastIsNotNegative() {
+        // given
+        HoltTrendForecaster.State state = new HoltTrendForecaster.State(100, -10, START, 10);
+
+        // then
+        assertEquals(50, forecaster.forecast(state, START, 5), 1e-9);
+        assertEquals(0, forecaster.forecast(state, START, 30));
+    }
+
+    @Test
+    @DisplayName("시간 상수가 0 이하이면 예외")
+    void invalidTimeConstant() {
+        assertThrows(IllegalArgumentException.class, () -> new HoltTrendForecaster(0, 10));
+        assertThrows(IllegalArgumentException.class, () -> new HoltTrendForecaster(2, -1));
+    }
+}
@@ -0,0 +1,147 @@
+package com.kt.backendapp.domain.model;
+
+import com.kt.backendapp.entity.SentimentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IssueClustererTest {
+
+    private IssueClusterer clusterer;
+
+    @BeforeEach
+    void setUp() {
+        clusterer = new IssueClusterer(0.45, 100);
+    }
+
+    @Test
+    @DisplayName("띄어쓰기와 어미가 달라도 같은 이슈로 합쳐짐")
+    void similarPostsMerge() {
+        // given
+        IssueClusterer.Assignment first = clusterer.assign("메인 스테이지 대기줄 너무 길어요 ㅠㅠ", SentimentType.NEGATIVE, "Twitter");
+
+        // when
+        IssueClusterer.Assignment second = clusterer.assign("메인스테이지 대기줄이 너무 길다", SentimentType.NEGATIVE, "Instagram");
+
+        // then
+        assertTrue(first.created());
+        assertFalse(second.created());
+        assertSame(first.cluster(), second.cluster());
+        assertEquals(2, second.cluster().getMentions());
+        assertEquals(1, clusterer.size());
+    }
+
+    @Test
+    @DisplayName("다른 내용은 별도 이슈로 생성")
+    void differentPostsStaySeparate() {
+        // given
+        clusterer.assign("메인 스테이지 대기줄 너무 길어요", SentimentType.NEGATIVE, "Twitter");
+
+        // when
+        IssueClusterer.Assignment other = clusterer.assign("푸드코트 화장실이 더러워요", SentimentType.NEGATIVE, "Twitter");
+
+        // then
+        assertTrue(other.created());
+        assertEquals(2, clusterer.size());
+    }
+
+    @Test
+    @DisplayName("저장된 이슈에 이어서 언급 수가 누적되고 저장 대기 수만 따로 집계")
+    void seededIssueAccumulatesPendingMentions() {
+        // given
+        IssueClusterer.Cluster seeded = clusterer.seed(7L, "화장실이 부족한 것 같아요", 23, SentimentType.NEGATIVE, "Facebook");
+
+        // when
+        IssueClusterer.Assignment assignment = clusterer.assign("화장실이 부족한 것 같네요", SentimentType.NEGATIVE, "Twitter");
+
+        // then
+        assertSame(seeded, assignment.cluster());
+        assertEquals(24, seeded.getMentions());
+        assertEquals(1, seeded.takePendingMentions());
+        assertEquals(0, seeded.takePendingMentions());
+        assertEquals(7L, seeded.getPersistedId());
+    }
+
+    @Test
+    @DisplayName("URL, 멘션, 자음만 있는 게시글은 반영하지 않음")
+    void noiseOnlyPostIsIgnored() {
+        // when
+        IssueClusterer.Assignment assignment = clusterer.assign("ㅋㅋㅋㅋ @someone https://t.co/abc !!", SentimentType.NEUTRAL, "Twitter");
+
+        // then
+        assertNull(assignment);
+        assertEquals(0, clusterer.size());
+    }
+
+    @Test
+    @DisplayName("이슈 수 한도를 넘으면 새 이슈를 만들지 않음")
+    void maxClustersIsEnforced() {
+        // given
+        IssueClusterer small = new IssueClusterer(0.45, 1);
+        small.assign("메인 스테이지 대기줄", SentimentType.NEGATIVE, "Twitter");
+
+        // when & then
+        assertNull(small.assign("주차장 안내가 부족해요", SentimentType.NEGATIVE, "Twitter"));
+        assertNotNull(small.assign("메인 스테이지 대기줄", SentimentType.NEGATIVE, "Twitter"));
+    }
+
+    @Test
+    @DisplayName("이슈 수 한도에서는 저장된 이슈 중 언급이 적은 것을 내보내고 새 이슈를 만듦")
+    void evictsLowMentionPersistedCluster() {
+        // given
+        IssueClusterer small = new IssueClusterer(0.45, 2);
+        small.seed(1L, "메인 스테이지 대기줄", 50, SentimentType.NEGATIVE, "Twitter");
+        small.seed(2L, "주차장 안내가 부족해요", 3, SentimentType.NEGATIVE, "Twitter");
+
+        // when
+        IssueClusterer.Assignment assignment = small.assign("화장실이 더러워요", SentimentType.NEGATIVE, "Twitter");
+
+        // then
+        assertNotNull(assignment);
+        assertTrue(assignment.created());
+        assertEquals(2, small.size());
+        List<Long> persistedIds = small.getClusters().stream().map(IssueClusterer.Cluster::getPersistedId).toList();
+        assertTrue(persistedIds.contains(1L));
+        assertFalse(persistedIds.contains(2L));
+    }
+
+    @Test
+    @DisplayName("모든 이슈에 공통인 bigram 이 있어도 가장 비슷한 이슈를 찾음")
+    void commonGramsDoNotHideBestMatch() {
+        // given: 모든 이슈가 '축제' 를 포함 (역색인 목록이 조회 상한보다 김)
+        IssueClusterer large = new IssueClusterer(0.45, 10_000);
+        for (int i = 0; i < 5000; i++) {
+            large.seed(i, "축제 " + uniqueWord(i), 1, SentimentType.NEUTRAL, "Twitter");
+        }
+
+        // when
+        IssueClusterer.Assignment assignment = large.assign("축제 " + uniqueWord(4500), SentimentType.NEUTRAL, "Twitter");
+
+        // then
+        assertFalse(assignment.created());
+        assertEquals(4500L, assignment.cluster().getPersistedId());
+        assertEquals(5000, large.size());
+    }
+
+    @Test
+    @DisplayName("감정은 다수결, 부정 비율이 높을수록 심각도 상승")
+    void sentimentAndSeverityFollowMentions() {
+        // given
+        IssueClusterer.Cluster cluster = clusterer.assign("음향 시설 품질", SentimentType.POSITIVE, "Facebook").cluster();
+        clusterer.assign("음향 시설 품질 별로", SentimentType.NEGATIVE, "Facebook");
+        clusterer.assign("음향 시설 품질이 최악", SentimentType.NEGATIVE, "Facebook");
+
+        // when & then
+        assertEquals(SentimentType.NEGATIVE, cluster.getSentiment());
+        assertEquals(3, cluster.getSeverityLevel());
+    }
+
+    // 이슈마다 다른 두 글자 단어
+    private static String uniqueWord(int i) {
+        return new String(new char[]{(char) ('가' + i), (char) ('가' + 5000 + i)});
+    }
+}
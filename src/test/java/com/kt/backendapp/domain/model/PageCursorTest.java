@@ -0,0 +1,68 @@
+package com.kt.backendapp.domain.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PageCursorTest {
+
+    @Test
+    @DisplayName("정렬 키와 id 를 인코딩한 커서를 그대로 복원")
+    void roundTripsKeyAndId() {
+        // given
+        PageCursor cursor = PageCursor.of(LocalDateTime.of(2025, 12, 1, 10, 30, 15, 123456000), 42L);
+
+        // when
+        PageCursor decoded = PageCursor.decode(cursor.encode());
+
+        // then
+        assertEquals(cursor, decoded);
+        assertEquals(LocalDateTime.of(2025, 12, 1, 10, 30, 15, 123456000), decoded.keyAsDateTime());
+        assertEquals(42L, decoded.id());
+    }
+
+    @Test
+    @DisplayName("정렬 키 없이 id 만 있는 커서")
+    void idOnlyCursor() {
+        // when
+        PageCursor decoded = PageCursor.decode(PageCursor.of(null, 7L).encode());
+
+        // then
+        assertNull(decoded.key());
+        assertEquals(7L, decoded.id());
+        assertThrows(IllegalArgumentException.class, decoded::keyAsDate);
+    }
+
+    @Test
+    @DisplayName("커서는 URL 에 그대로 넣을 수 있는 문자만 사용")
+    void encodedCursorIsUrlSafe() {
+        // when
+        String encoded = PageCursor.of(LocalDate.of(2025, 12, 1), Long.MAX_VALUE).encode();
+
+        // then
+        assertTrue(encoded.matches("[A-Za-z0-9_-]+"));
+        assertEquals(LocalDate.of(2025, 12, 1), PageCursor.decode(encoded).keyAsDate());
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지 (null)")
+    void blankCursorMeansFirstPage() {
+        // when & then
+        assertNull(PageCursor.decode(null));
+        assertNull(PageCursor.decode(" "));
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 거부")
+    void malformedCursorIsRejected() {
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode("@@@"));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode("bm90LWEtY3Vyc29y"));
+        assertThrows(IllegalArgumentException.class,
+                () -> PageCursor.decode(PageCursor.of("not-a-date", 1L).encode()).keyAsDate());
+    }
+}
@@ -0,0 +1,79 @@
+package com.kt.backendapp.domain.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+class SpaceSavingSummaryTest {
+
+    @Test
+    @DisplayName("추적 가능한 키 수 이하에서는 정확한 값과 순서")
+    void exactWhenUnderCapacity() {
+        // given
+        SpaceSavingSummary<String> summary = new SpaceSavingSummary<>(10);
+        summary.add("대기줄", 5);
+        summary.add("화장실", 3);
+        summary.add("주차장", 8);
+        summary.add("대기줄", 4);
+
+        // when
+        List<SpaceSavingSummary.Entry<String>> top = summary.top(2);
+
+        // then
+        assertEquals(2, top.size());
+        assertEquals("대기줄", top.get(0).key());
+        assertEquals(9, top.get(0).count());
+        assertEquals(0, top.get(0).error());
+        assertEquals("주차장", top.get(1).key());
+    }
+
+    @Test
+    @DisplayName("키 종류가 많아도 크기는 고정되고 빈번한 키는 상위에 남음")
+    void heavyHittersSurviveManyRareKeys() {
+        // given: 빈번한 이슈 3개 + 한두 번 언급되는 이슈 수만 개
+        SpaceSavingSummary<String> summary = new SpaceSavingSummary<>(50);
+        Random random = new Random(42);
+        Map<String, Long> exact = new HashMap<>();
+        for (int i = 0; i < 100_000; i++) {
+            String key = random.nextInt(10) < 3 ? "heavy-" + random.nextInt(3) : "rare-" + random.nextInt(50_000);
+            summary.add(key, 1);
+            exact.merge(key, 1L, Long::sum);
+        }
+
+        // when
+        List<SpaceSavingSummary.Entry<String>> top = summary.top(3);
+
+        // then
+        assertEquals(50, summary.size());
+        for (SpaceSavingSummary.Entry<String> entry : top) {
+            assertTrue(entry.key().startsWith("heavy-"), entry.key());
+            long actual = exact.get(entry.key());
+            assertTrue(entry.count() >= actual);
+            assertTrue(entry.count() - entry.error() <= actual);
+        }
+    }
+
+    @Test
+    @DisplayName("변경이 없으면 같은 정렬 결과를 재사용")
+    void cachedTopIsReusedWithoutChanges() {
+        // given
+        SpaceSavingSummary<String> summary = new SpaceSavingSummary<>(10);
+        summary.add("대기줄", 5);
+
+        // when
+        List<SpaceSavingSummary.Entry<String>> first = summary.top(5);
+        List<SpaceSavingSummary.Entry<String>> second = summary.top(5);
+        summary.add("화장실", 7);
+        List<SpaceSavingSummary.Entry<String>> third = summary.top(5);
+
+        // then
+        assertSame(first, second);
+        assertNotSame(first, third);
+        assertEquals("화장실", third.get(0).key());
+    }
+}
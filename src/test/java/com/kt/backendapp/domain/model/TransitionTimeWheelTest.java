@@ -0,0 +1,90 @@
+package com.kt.backendapp.domain.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransitionTimeWheelTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 12, 1);
+
+    private TransitionTimeWheel wheel;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new TransitionTimeWheel(30, TODAY);
+    }
+
+    @Test
+    @DisplayName("전환 날짜가 된 대상만 반환하고, 날짜가 같으면 아무것도 반환하지 않음")
+    void advanceReturnsOnlyDueEntries() {
+        // given
+        wheel.schedule(1L, TODAY.plusDays(1));
+        wheel.schedule(2L, TODAY.plusDays(3));
+
+        // when & then
+        assertEquals(List.of(), wheel.advance(TODAY));
+        assertEquals(List.of(1L), wheel.advance(TODAY.plusDays(1)));
+        assertEquals(List.of(), wheel.advance(TODAY.plusDays(1)));
+        assertEquals(List.of(2L), wheel.advance(TODAY.plusDays(5)));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("다시 예약하면 이전 예약을 대체하고, 취소하면 반환하지 않음")
+    void rescheduleReplacesAndCancelRemoves() {
+        // given
+        wheel.schedule(1L, TODAY.plusDays(2));
+        wheel.schedule(1L, TODAY.plusDays(4));
+        wheel.schedule(2L, TODAY.plusDays(2));
+        wheel.cancel(2L);
+
+        // when & then
+        assertEquals(List.of(), wheel.advance(TODAY.plusDays(3)));
+        assertEquals(List.of(1L), wheel.advance(TODAY.plusDays(4)));
+    }
+
+    @Test
+    @DisplayName("이미 지난 날짜로 예약하면 다음 advance 에서 바로 반환")
+    void pastDateIsDueImmediately() {
+        // given
+        wheel.schedule(1L, TODAY.minusDays(2));
+
+        // when & then
+        assertEquals(List.of(1L), wheel.advance(TODAY));
+        assertEquals(List.of(), wheel.advance(TODAY));
+    }
+
+    @Test
+    @DisplayName("보관 범위를 넘는 예약은 받지 않음")
+    void scheduleBeyondHorizonIsRejected() {
+        // when & then
+        assertTrue(wheel.schedule(1L, TODAY.plusDays(30)));
+        assertFalse(wheel.schedule(2L, TODAY.plusDays(31)));
+        assertEquals(TODAY.plusDays(30), wheel.getHorizon());
+        assertEquals(1, wheel.size());
+    }
+
+    @Test
+    @DisplayName("보관 범위보다 오래 건너뛰어도 모든 예약을 한 번씩 반환")
+    void longJumpDrainsEverySlot() {
+        // given
+        wheel.schedule(1L, TODAY.plusDays(1));
+        wheel.schedule(2L, TODAY.plusDays(15));
+        wheel.schedule(3L, TODAY.plusDays(30));
+
+        // when
+        List<Long> due = wheel.advance(TODAY.plusDays(100));
+
+        // then
+        assertEquals(3, due.size());
+        assertTrue(due.containsAll(List.of(1L, 2L, 3L)));
+        assertEquals(TODAY.plusDays(100), wheel.getCurrentDay());
+        assertEquals(0, wheel.size());
+    }
+}
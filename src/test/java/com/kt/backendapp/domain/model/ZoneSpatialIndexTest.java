@@ -0,0 +1,180 @@
+package com.kt.backendapp.domain.model;
+
+import com.kt.backendapp.domain.vo.Coordinates;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+class ZoneSpatialIndexTest {
+
+    private static final Coordinates CITY_HALL = new Coordinates(37.5665, 126.9780);
+
+    private ZoneSpatialIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ZoneSpatialIndex(0.2);
+    }
+
+    @Test
+    @DisplayName("k-최근접 조회 결과가 전체 정렬 결과와 일치")
+    void nearestMatchesBruteForce() {
+        // given
+        Random random = new Random(42);
+        List<Coordinates> points = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            Coordinates point = new Coordinates(
+                    37.50 + random.nextDouble() * 0.15,
+                    126.90 + random.nextDouble() * 0.15);
+            points.add(point);
+            index.put(i, point);
+        }
+
+        // when
+        List<ZoneSpatialIndex.Neighbor> nearest = index.nearest(CITY_HALL, 5, null);
+
+        // then
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < points.size(); i++) {
+            expected.add(i);
+        }
+        expected.sort(Comparator.comparingDouble(i -> CITY_HALL.distanceTo(points.get(i))));
+
+        assertEquals(5, nearest.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals((long) expected.get(i), nearest.get(i).zoneId());
+            assertEquals(CITY_HALL.distanceTo(points.get(expected.get(i))), nearest.get(i).distanceKm(), 1e-9);
+        }
+    }
+
+    @Test
+    @DisplayName("반경 조회는 반경 이내 구역만 가까운 순으로 반환")
+    void withinRadius() {
+        // given
+        index.put(1L, new Coordinates(37.5665, 126.9790)); // 약 0.09km
+        index.put(2L, new Coordinates(37.5700, 126.9780)); // 약 0.39km
+        index.put(3L, new Coordinates(37.5800, 126.9780)); // 약 1.5km
+
+        // when
+        List<ZoneSpatialIndex.Neighbor> result = index.withinRadius(CITY_HALL, 0.5, null);
+
+        // then
+        assertEquals(2, result.size());
+        assertEquals(1L, result.get(0).zoneId());
+        assertEquals(2L, result.get(1).zoneId());
+    }
+
+    @Test
+    @DisplayName("구역 위치 갱신과 삭제가 조회에 반영")
+    void updateAndRemove() {
+        // given
+        index.put(1L, new Coordinates(37.6000, 127.0000));
+        index.put(2L, new Coordinates(37.5666, 126.9781));
+
+        // when
+        index.put(1L, new Coordinates(37.5665, 126.9780));
+        index.remove(2L);
+
+        // then
+        List<ZoneSpatialIndex.Neighbor> nearest = index.nearest(CITY_HALL, 3, null);
+        assertEquals(1, nearest.size());
+        assertEquals(1L, nearest.get(0).zoneId());
+        assertEquals(0.0, nearest.get(0).distanceKm(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("필터 조건에 맞지 않는 구역은 제외")
+    void nearestWithFilter() {
+        // given
+        index.put(1L, CITY_HALL);
+        index.put(2L, new Coordinates(37.5670, 126.9780));
+        index.put(3L, new Coordinates(37.5700, 126.9780));
+
+        // when
+        List<ZoneSpatialIndex.Neighbor> nearest = index.nearest(CITY_HALL, 1, zoneId -> zoneId != 1L);
+
+        // then
+        assertEquals(1, nearest.size());
+        assertEquals(2L, nearest.get(0).zoneId());
+    }
+
+    @Test
+    @DisplayName("멀리 떨어진 좌표가 있어도 조회가 빈 칸을 끝없이 확인하지 않는다")
+    void outlierDoesNotBlowUpNearest() {
+        // given: 서울 구역 100개와 (0, 0) 에 잘못 입력된 구역 하나
+        Random random = new Random(7);
+        List<Coordinates> points = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Coordinates point = new Coordinates(37.50 + random.nextDouble() * 0.1, 126.90 + random.nextDouble() * 0.1);
+            points.add(point);
+            index.put(i, point);
+        }
+        index.put(999L, new Coordinates(0, 0));
+
+        // when: 구역 수보다 많이 요청하고, 조건에 맞는 구역이 하나뿐인 조회
+        long start = System.nanoTime();
+        List<ZoneSpatialIndex.Neighbor> all = index.nearest(CITY_HALL, 500, null);
+        List<ZoneSpatialIndex.Neighbor> onlyOutlier = index.nearest(CITY_HALL, 1, id -> id == 999L);
+        List<ZoneSpatialIndex.Neighbor> wide = index.withinRadius(CITY_HALL, 20_000, null);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // then
+        assertEquals(101, all.size());
+        assertEquals(999L, all.get(100).zoneId());
+        assertEquals(1, onlyOutlier.size());
+        assertEquals(999L, onlyOutlier.get(0).zoneId());
+        assertEquals(101, wide.size());
+        assertTrue(elapsedMillis < 1000, "조회 시간: " + elapsedMillis + "ms");
+    }
+
+    @Test
+    @DisplayName("조건이 까다로워 전체 순회로 바뀌어도 결과는 같다")
+    void selectiveFilterMatchesBruteForce() {
+        // given
+        Random random = new Random(11);
+        List<Coordinates> points = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            Coordinates point = new Coordinates(37.0 + random.nextDouble() * 1.0, 126.5 + random.nextDouble() * 1.0);
+            points.add(point);
+            index.put(i, point);
+        }
+
+        // when: 37번째마다 하나만 후보
+        List<ZoneSpatialIndex.Neighbor> nearest = index.nearest(CITY_HALL, 3, id -> id % 37 == 0);
+
+        // then
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < points.size(); i += 37) {
+            expected.add(i);
+        }
+        expected.sort(Comparator.comparingDouble(i -> CITY_HALL.distanceTo(points.get(i))));
+        assertEquals(3, nearest.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals((long) expected.get(i), nearest.get(i).zoneId());
+        }
+    }
+
+    @Test
+    @DisplayName("삭제하면 등록 범위도 줄어 남은 구역만으로 조회")
+    void removeShrinksExtent() {
+        // given
+        index.put(1L, new Coordinates(37.5666, 126.9781));
+        index.put(2L, new Coordinates(37.5666, 127.0500));
+        index.put(999L, new Coordinates(0, 0));
+
+        // when
+        index.remove(999L);
+        List<ZoneSpatialIndex.Neighbor> nearest = index.nearest(new Coordinates(0, 0), 1, null);
+
+        // then
+        assertFalse(index.contains(999L));
+        assertEquals(1, nearest.size());
+        assertEquals(1L, nearest.get(0).zoneId());
+    }
+}
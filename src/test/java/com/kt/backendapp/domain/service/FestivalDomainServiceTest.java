@@ -44,6 +44,22 @@ class FestivalDomainServiceTest {
             festivalDomainService.determineStatus(festival, afterEnd));
     }
 
+    @Test
+    @DisplayName("상태별 다음 자동 전환 날짜")
+    void nextTransitionDateByStatus() {
+        // when & then
+        assertEquals(LocalDate.of(2024, 8, 15), festivalDomainService.nextTransitionDate(festival));
+
+        festival.setStatus(FestivalStatus.DURING);
+        assertEquals(LocalDate.of(2024, 8, 18), festivalDomainService.nextTransitionDate(festival));
+
+        festival.setStatus(FestivalStatus.ENDED);
+        assertNull(festivalDomainService.nextTransitionDate(festival));
+
+        festival.setStatus(FestivalStatus.CANCELLED);
+        assertNull(festivalDomainService.nextTransitionDate(festival));
+    }
+
     @Test
     @DisplayName("취소된 축제는 상태 변경 불가")
     void cancelledFestivalStatusChange() {
@@ -0,0 +1,38 @@
+package com.kt.backendapp.fixture;
+
+import com.kt.backendapp.entity.Festival;
+import com.kt.backendapp.entity.Zone;
+import com.kt.backendapp.entity.ZoneType;
+import com.kt.backendapp.realtime.ZoneLiveState;
+
+/**
+ * 구역 테스트 픽스처
+ * - 수용인원을 따로 주지 않으면 1000명 (혼잡도 = 현재 인원 / 10)
+ * - 실시간 상태는 운영 코드와 같은 ZoneLiveState.from 으로 만든다
+ */
+public final class ZoneFixtures {
+
+    public static final int CAPACITY = 1000;
+
+    private ZoneFixtures() {
+    }
+
+    public static Zone zone(Long id, Long festivalId, int capacity, int currentCapacity) {
+        return Zone.builder()
+                .id(id)
+                .festival(Festival.builder().id(festivalId).build())
+                .name("구역 " + id)
+                .type(ZoneType.MAIN_STAGE)
+                .capacity(capacity)
+                .currentCapacity(currentCapacity)
+                .build();
+    }
+
+    public static Zone zone(Long id, Long festivalId) {
+        return zone(id, festivalId, CAPACITY, 0);
+    }
+
+    public static ZoneLiveState liveState(Long zoneId, Long festivalId, int currentCapacity) {
+        return ZoneLiveState.from(zone(zoneId, festivalId, CAPACITY, currentCapacity));
+    }
+}
@@ -0,0 +1,92 @@
+package com.kt.backendapp.realtime;
+
+import com.kt.backendapp.repository.FestivalRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static com.kt.backendapp.fixture.ZoneFixtures.liveState;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CongestionEventBusTest {
+
+    private static final Long FESTIVAL_ID = 1L;
+    private static final Long ZONE_ID = 10L;
+
+    @Test
+    @DisplayName("해제 기준(70%) 아래로 내려가기 전까지는 경계값을 오가도 다시 알리지 않음")
+    void hysteresisSuppressesFlapping() {
+        // given
+        CongestionEventBus bus = bus(0);
+
+        // when
+        change(bus, 810);
+        change(bus, 790);
+        change(bus, 820);
+        change(bus, 750);
+        change(bus, 830);
+
+        // then
+        assertEquals(1, bus.getQueueSize());
+        assertEquals(1L, bus.getStatistics().get("detected"));
+    }
+
+    @Test
+    @DisplayName("해제 후 다시 진입해도 중복 제거 구간 안이면 알림을 한 번만 발행")
+    void reentryWithinWindowIsDeduplicated() {
+        // given
+        CongestionEventBus bus = bus(300_000);
+
+        // when
+        change(bus, 850);
+        change(bus, 600);
+        change(bus, 850);
+
+        // then
+        assertEquals(1, bus.getQueueSize());
+        assertEquals(2L, bus.getStatistics().get("detected"));
+        assertEquals(1L, bus.getStatistics().get("deduplicated"));
+    }
+
+    @Test
+    @DisplayName("HIGH 에서 CRITICAL 로 올라가면 중복 제거 구간 안이라도 알림")
+    void escalationToCriticalIsAlerted() {
+        // given
+        CongestionEventBus bus = bus(300_000);
+
+        // when
+        change(bus, 850);
+        change(bus, 950);
+
+        // then
+        assertEquals(2, bus.getQueueSize());
+        assertEquals(0L, bus.getStatistics().get("deduplicated"));
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 새 이벤트는 버리고 폐기 건수를 기록")
+    void dropsWhenQueueIsFull() {
+        // given
+        CongestionEventBus bus = new CongestionEventBus(mock(FestivalRepository.class),
+                mock(ApplicationEventPublisher.class), 1, 80, 70, 90, 85, 0);
+
+        // when
+        bus.onZoneStateChanged(null, liveState(10L, FESTIVAL_ID, 850));
+        bus.onZoneStateChanged(null, liveState(11L, FESTIVAL_ID, 850));
+
+        // then
+        assertEquals(1, bus.getQueueSize());
+        assertEquals(1L, bus.getStatistics().get("dropped"));
+    }
+
+    // 발행 스레드는 시작하지 않아 대기열에 쌓인 알림 수로 판정한다
+    private static CongestionEventBus bus(long dedupWindowMillis) {
+        return new CongestionEventBus(mock(FestivalRepository.class), mock(ApplicationEventPublisher.class),
+                100, 80, 70, 90, 85, dedupWindowMillis);
+    }
+
+    private static void change(CongestionEventBus bus, int currentCapacity) {
+        bus.onZoneStateChanged(null, liveState(ZONE_ID, FESTIVAL_ID, currentCapacity));
+    }
+}
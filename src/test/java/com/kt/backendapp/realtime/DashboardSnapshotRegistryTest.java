@@ -0,0 +1,121 @@
+package com.kt.backendapp.realtime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.kt.backendapp.fixture.ZoneFixtures.liveState;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DashboardSnapshotRegistryTest {
+
+    private static final Long FESTIVAL_ID = 1L;
+
+    private ZoneLiveStateStore zoneLiveStateStore;
+    private DashboardSnapshotRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        zoneLiveStateStore = mock(ZoneLiveStateStore.class);
+        registry = new DashboardSnapshotRegistry(zoneLiveStateStore);
+    }
+
+    @Test
+    @DisplayName("처음 조회할 때 저장소의 구역 상태로 한 번만 집계")
+    void initializesFromStoreOnce() {
+        // given
+        when(zoneLiveStateStore.getZones(FESTIVAL_ID))
+                .thenReturn(List.of(liveState(10L, FESTIVAL_ID, 500), liveState(11L, FESTIVAL_ID, 900)));
+
+        // when
+        DashboardCounters counters = registry.getCounters(FESTIVAL_ID);
+        registry.getCounters(FESTIVAL_ID);
+
+        // then
+        assertEquals(2, counters.getTotalZones());
+        assertEquals(2000, counters.getTotalCapacity());
+        assertEquals(1400, counters.getCurrentTotalCapacity());
+        assertEquals(1, counters.getModerateCongestionZones());
+        assertEquals(1, counters.getCriticalCongestionZones());
+        assertEquals(70.0, counters.getAverageCongestionLevel());
+        verify(zoneLiveStateStore, times(1)).getZones(FESTIVAL_ID);
+    }
+
+    @Test
+    @DisplayName("구역 변경은 차이만 반영하고 버전을 올리며, 순서가 뒤바뀐 이전 변경은 무시")
+    void appliesChangesByVersion() {
+        // given
+        ZoneLiveState initial = liveState(10L, FESTIVAL_ID, 500);
+        when(zoneLiveStateStore.getZones(FESTIVAL_ID)).thenReturn(List.of(initial));
+        long version = registry.getVersion(FESTIVAL_ID);
+        ZoneLiveState first = initial.withCurrentCapacity(700, null);
+        ZoneLiveState second = first.withCurrentCapacity(100, null);
+
+        // when
+        registry.onZoneStateChanged(first, second);
+        registry.onZoneStateChanged(initial, first); // 늦게 도착한 이전 변경
+
+        // then
+        DashboardCounters counters = registry.getCounters(FESTIVAL_ID);
+        assertEquals(version + 1, counters.getVersion());
+        assertEquals(100, counters.getCurrentTotalCapacity());
+        assertEquals(1, counters.getLowCongestionZones());
+        assertEquals(0, counters.getModerateCongestionZones());
+    }
+
+    @Test
+    @DisplayName("구역 삭제와 피드백 변경도 버전을 올림")
+    void removalAndFeedbackBumpVersion() {
+        // given
+        ZoneLiveState zone = liveState(10L, FESTIVAL_ID, 500);
+        when(zoneLiveStateStore.getZones(FESTIVAL_ID)).thenReturn(List.of(zone));
+        long version = registry.getVersion(FESTIVAL_ID);
+
+        // when
+        registry.onZoneRemoved(zone);
+        registry.invalidateFeedback(FESTIVAL_ID);
+
+        // then
+        DashboardCounters counters = registry.getCounters(FESTIVAL_ID);
+        assertEquals(version + 2, counters.getVersion());
+        assertEquals(0, counters.getTotalZones());
+        assertEquals(0, counters.getTotalCapacity());
+    }
+
+    @Test
+    @DisplayName("스냅샷은 더 최신 버전만 보관")
+    void keepsNewestSnapshot() {
+        // given
+        DashboardSnapshot newer = snapshot(5, "hash-5", false);
+        DashboardSnapshot older = snapshot(3, "hash-3", false);
+
+        // when
+        registry.storeSnapshot(newer);
+        DashboardSnapshot stored = registry.storeSnapshot(older);
+
+        // then
+        assertSame(newer, stored);
+        assertSame(newer, registry.getSnapshot(FESTIVAL_ID));
+    }
+
+    @Test
+    @DisplayName("ETag 는 내용 해시로 정해지고 부분 스냅샷은 구분")
+    void eTagFollowsContent() {
+        // given
+        DashboardSnapshot full = snapshot(5, "abc", false);
+        DashboardSnapshot sameContentLaterVersion = snapshot(9, "abc", false);
+        DashboardSnapshot partial = snapshot(9, "abc", true);
+
+        // when & then
+        assertEquals("\"abc\"", full.getETag());
+        assertEquals(full.getETag(), sameContentLaterVersion.getETag());
+        assertNotEquals(full.getETag(), partial.getETag());
+    }
+
+    private static DashboardSnapshot snapshot(long version, String contentHash, boolean partial) {
+        return new DashboardSnapshot(FESTIVAL_ID, version, System.currentTimeMillis(), null, partial, contentHash);
+    }
+}
@@ -0,0 +1,69 @@
+package com.kt.backendapp.realtime;
+
+import com.kt.backendapp.domain.model.FeedbackStatistics;
+import com.kt.backendapp.entity.SentimentType;
+import com.kt.backendapp.repository.SNSFeedbackRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class FeedbackStatisticsCacheTest {
+
+    private static final Long FESTIVAL_ID = 1L;
+
+    private SNSFeedbackRepository snsFeedbackRepository;
+    private FeedbackStatisticsCache cache;
+
+    @BeforeEach
+    void setUp() {
+        snsFeedbackRepository = mock(SNSFeedbackRepository.class);
+        cache = new FeedbackStatisticsCache(snsFeedbackRepository);
+
+        // 컬럼: sentiment, platform, GROUPING(sentiment), GROUPING(platform), 건수, 언급 수, 미해결 수, 심각도 합, 심각도 건수
+        List<Object[]> rows = List.of(
+                new Object[]{"NEGATIVE", null, 0, 1, 3L, 120L, 3L, 12L, 3L},
+                new Object[]{"POSITIVE", null, 0, 1, 1L, 40L, 0L, 1L, 1L},
+                new Object[]{null, "Twitter", 1, 0, 3L, 150L, 2L, 10L, 3L},
+                new Object[]{null, null, 1, 0, 1L, 10L, 1L, 3L, 1L},
+                new Object[]{null, null, 1, 1, 4L, 160L, 3L, 13L, 4L});
+        when(snsFeedbackRepository.getFeedbackStatistics(FESTIVAL_ID)).thenReturn(rows);
+    }
+
+    @Test
+    @DisplayName("GROUPING 값으로 감정별/플랫폼별/전체 행을 구분해 통계를 만듦")
+    void mapsGroupingSetsRows() {
+        // when
+        FeedbackStatistics statistics = cache.getStatistics(FESTIVAL_ID);
+
+        // then
+        assertEquals(4, statistics.getTotalFeedback());
+        assertEquals(160, statistics.getTotalMentions());
+        assertEquals(3, statistics.getUnresolvedCount());
+        assertEquals(13.0 / 4, statistics.getAverageSeverity());
+        assertEquals(75, statistics.getNegativeFeedbackPercentage());
+        assertEquals(new FeedbackStatistics.Bucket(3, 120), statistics.sentiment(SentimentType.NEGATIVE));
+        assertEquals(FeedbackStatistics.Bucket.EMPTY, statistics.sentiment(SentimentType.NEUTRAL));
+        assertEquals(new FeedbackStatistics.Bucket(3, 150), statistics.getByPlatform().get("Twitter"));
+        // 플랫폼이 NULL 인 그룹은 전체 합계 행과 구분되어 "기타" 로 집계
+        assertEquals(new FeedbackStatistics.Bucket(1, 10),
+                statistics.getByPlatform().get(FeedbackStatisticsCache.UNKNOWN_PLATFORM));
+    }
+
+    @Test
+    @DisplayName("무효화 전까지는 캐시된 통계를 사용하고, 무효화 후에는 다시 집계")
+    void reloadsOnlyAfterInvalidate() {
+        // when
+        cache.getStatistics(FESTIVAL_ID);
+        cache.getStatistics(FESTIVAL_ID);
+        cache.invalidate(FESTIVAL_ID);
+        cache.getStatistics(FESTIVAL_ID);
+
+        // then
+        verify(snsFeedbackRepository, times(2)).getFeedbackStatistics(FESTIVAL_ID);
+    }
+}
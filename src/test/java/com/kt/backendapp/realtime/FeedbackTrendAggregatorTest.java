@@ -0,0 +1,56 @@
+package com.kt.backendapp.realtime;
+
+import com.kt.backendapp.domain.model.FeedbackTrendWindow;
+import com.kt.backendapp.entity.SentimentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FeedbackTrendAggregatorTest {
+
+    private FeedbackTrendAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        // 조회/기록은 DB를 쓰지 않으므로 리포지토리 없이 생성
+        aggregator = new FeedbackTrendAggregator(null, 60, 4);
+    }
+
+    @Test
+    @DisplayName("수집된 적 없는 축제 조회는 0 을 반환하고 윈도우를 만들지 않음")
+    void unknownFestivalReadsZeroWithoutWindow() {
+        // when
+        FeedbackTrendWindow.Counts mentions = aggregator.getMentions(99L, 30);
+        FeedbackTrendWindow.Counts previous = aggregator.getPreviousMentions(99L, 30);
+        long[] series = aggregator.getSeries(99L, 30, 5);
+
+        // then
+        assertEquals(0, mentions.total());
+        assertEquals(0, previous.total());
+        assertEquals(6, series.length);
+        assertEquals(0, aggregator.getWindowCount());
+    }
+
+    @Test
+    @DisplayName("수집하면 해당 축제 윈도우에만 반영")
+    void recordCreatesWindow() {
+        // when
+        aggregator.record(1L, SentimentType.NEGATIVE, "Twitter", 3);
+
+        // then
+        assertEquals(1, aggregator.getWindowCount());
+        assertEquals(3, aggregator.getMentions(1L, 10).total());
+        assertEquals(3L, aggregator.getMentions(1L, 10).bySentiment().get(SentimentType.NEGATIVE));
+        assertEquals(0, aggregator.getMentions(2L, 10).total());
+    }
+
+    @Test
+    @DisplayName("직전 구간이 윈도우를 벗어나는 길이는 거부")
+    void rejectsPreviousSpanBeyondWindow() {
+        // when & then
+        assertEquals(30, aggregator.getMaxComparableMinutes());
+        assertThrows(IllegalArgumentException.class, () -> aggregator.getPreviousMentions(1L, 31));
+    }
+}
@@ -0,0 +1,67 @@
+package com.kt.backendapp.realtime;
+
+import com.kt.backendapp.dto.BulkIngestionResultDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.kt.backendapp.fixture.ZoneFixtures.liveState;
+import static org.junit.jupiter.api.Assertions.*;
+
+class IngestionMetricsTest {
+
+    private static final Long FESTIVAL_ID = 1L;
+
+    private SimpleMeterRegistry registry;
+    private IngestionMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metrics = new IngestionMetrics(registry);
+    }
+
+    @Test
+    @DisplayName("수집 요청 결과를 출처/결과별 카운터에 더하고, 비어 있는 건수는 0 으로 처리")
+    void recordsResultCountsBySource() {
+        // given
+        BulkIngestionResultDTO result = BulkIngestionResultDTO.builder()
+                .received(10)
+                .accepted(7)
+                .dropped(2)
+                .build();
+
+        // when
+        BulkIngestionResultDTO returned = metrics.record(IngestionMetrics.FEEDBACK, result);
+        metrics.record(IngestionMetrics.FEEDBACK, result);
+
+        // then
+        assertSame(result, returned);
+        assertEquals(20.0, count(IngestionMetrics.FEEDBACK, "received"));
+        assertEquals(14.0, count(IngestionMetrics.FEEDBACK, "accepted"));
+        assertEquals(4.0, count(IngestionMetrics.FEEDBACK, "dropped"));
+        assertEquals(0.0, count(IngestionMetrics.FEEDBACK, "coalesced"));
+        assertEquals(0.0, count(IngestionMetrics.ZONE, "received"));
+    }
+
+    @Test
+    @DisplayName("인원이 실제로 바뀐 상태 변경만 센다 (최초 적재와 같은 인원은 제외)")
+    void countsOnlyHeadcountChanges() {
+        // when
+        metrics.onZoneStateChanged(null, liveState(10L, FESTIVAL_ID, 100));
+        metrics.onZoneStateChanged(liveState(10L, FESTIVAL_ID, 100), liveState(10L, FESTIVAL_ID, 100));
+        metrics.onZoneStateChanged(liveState(10L, FESTIVAL_ID, 100), liveState(10L, FESTIVAL_ID, 150));
+
+        // then
+        assertEquals(1.0, registry.get("festival.zone.headcount.updates").counter().count());
+    }
+
+    private double count(String source, String result) {
+        return registry.get("festival.ingest.records")
+                .tag("source", source)
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+}
@@ -0,0 +1,67 @@
+package com.kt.backendapp.realtime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.kt.backendapp.fixture.ZoneFixtures.liveState;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZoneForecastTrackerTest {
+
+    private static final Long FESTIVAL_ID = 10L;
+    private static final long MINUTE = 60_000L;
+    private static final long START = 1_700_000_000_000L;
+    private static final int[] HORIZONS = {5, 15};
+
+    private ZoneForecastTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new ZoneForecastTracker(3, 10);
+        // 60분 동안 분당 10명씩 증가 (100 -> 700)
+        long[] atMillis = new long[61];
+        int[] headcounts = new int[61];
+        for (int minute = 0; minute <= 60; minute++) {
+            atMillis[minute] = START + minute * MINUTE;
+            headcounts[minute] = 100 + 10 * minute;
+        }
+        tracker.backfill(1L, atMillis, headcounts, atMillis.length);
+    }
+
+    @Test
+    @DisplayName("직후 조회는 학습한 증가 추세로 예측")
+    void followsTrendRightAfterLastChange() {
+        // when
+        ZoneForecastTracker.Forecast forecast = tracker.forecast(liveState(1L, FESTIVAL_ID, 700), HORIZONS, START + 60 * MINUTE);
+
+        // then
+        assertEquals(10, forecast.trendPerMinute(), 1.0);
+        assertTrue(forecast.predicted()[0] > 730);
+    }
+
+    @Test
+    @DisplayName("인원 변경 없이 시간이 지나면 추세가 꺾여 현재 인원 근처로 예측")
+    void silenceFlattensTrend() {
+        // when: 마지막 변경 후 30분 동안 인원이 그대로
+        ZoneForecastTracker.Forecast forecast = tracker.forecast(liveState(1L, FESTIVAL_ID, 700), HORIZONS, START + 90 * MINUTE);
+
+        // then
+        assertTrue(forecast.trendPerMinute() < 5, "추세: " + forecast.trendPerMinute());
+        assertTrue(forecast.predicted()[0] < 750, "5분 뒤: " + forecast.predicted()[0]);
+        assertEquals(61, forecast.samples());
+    }
+
+    @Test
+    @DisplayName("관측이 없는 구역은 현재 인원 유지로 예측")
+    void unknownZoneIsFlat() {
+        // when
+        ZoneForecastTracker.Forecast forecast = tracker.forecast(
+                liveState(2L, FESTIVAL_ID, 300), HORIZONS, START);
+
+        // then
+        assertEquals(0, forecast.trendPerMinute());
+        assertEquals(300, forecast.predicted()[1]);
+        assertEquals(Double.POSITIVE_INFINITY, forecast.minutesToCapacity());
+    }
+}
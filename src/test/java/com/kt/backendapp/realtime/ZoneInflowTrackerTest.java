@@ -0,0 +1,69 @@
+package com.kt.backendapp.realtime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.kt.backendapp.fixture.ZoneFixtures.liveState;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZoneInflowTrackerTest {
+
+    private static final Long FESTIVAL_ID = 10L;
+    private static final double TIME_CONSTANT_MS = 60_000;
+
+    private ZoneInflowTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new ZoneInflowTracker(TIME_CONSTANT_MS);
+    }
+
+    @Test
+    @DisplayName("인원이 늘면 유입이 양수로 추정")
+    void positiveInflow() throws InterruptedException {
+        // given
+        tracker.onZoneStateChanged(liveState(1L, FESTIVAL_ID, 100), liveState(1L, FESTIVAL_ID, 110));
+        Thread.sleep(20);
+
+        // when
+        tracker.onZoneStateChanged(liveState(1L, FESTIVAL_ID, 110), liveState(1L, FESTIVAL_ID, 150));
+
+        // then
+        assertTrue(tracker.getInflowPerMinute(1L) > 0);
+    }
+
+    @Test
+    @DisplayName("변경이 없으면 시간이 지날수록 유입이 0으로 감쇠")
+    void decaysWhileSilent() throws InterruptedException {
+        // given
+        tracker.onZoneStateChanged(liveState(1L, FESTIVAL_ID, 100), liveState(1L, FESTIVAL_ID, 110));
+        Thread.sleep(20);
+        tracker.onZoneStateChanged(liveState(1L, FESTIVAL_ID, 110), liveState(1L, FESTIVAL_ID, 150));
+        long now = System.currentTimeMillis();
+
+        // when
+        double recent = tracker.getInflowPerMinute(1L, now);
+        double afterOneConstant = tracker.getInflowPerMinute(1L, now + (long) TIME_CONSTANT_MS);
+        double muchLater = tracker.getInflowPerMinute(1L, now + (long) TIME_CONSTANT_MS * 20);
+
+        // then
+        assertTrue(afterOneConstant < recent);
+        assertEquals(recent / Math.E, afterOneConstant, recent * 0.01);
+        assertTrue(Math.abs(muchLater) < 1e-6);
+    }
+
+    @Test
+    @DisplayName("관측이 없거나 제거된 구역은 0")
+    void unknownOrRemovedZone() {
+        // given
+        tracker.onZoneStateChanged(liveState(1L, FESTIVAL_ID, 100), liveState(1L, FESTIVAL_ID, 150));
+
+        // when
+        tracker.onZoneRemoved(liveState(1L, FESTIVAL_ID, 150));
+
+        // then
+        assertEquals(0, tracker.getInflowPerMinute(1L));
+        assertEquals(0, tracker.getInflowPerMinute(2L));
+    }
+}
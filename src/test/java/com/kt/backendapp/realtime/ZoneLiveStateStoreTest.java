@@ -0,0 +1,186 @@
+package com.kt.backendapp.realtime;
+
+import com.kt.backendapp.entity.Zone;
+import com.kt.backendapp.exception.ResourceNotFoundException;
+import com.kt.backendapp.repository.FestivalRepository;
+import com.kt.backendapp.repository.ZoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.kt.backendapp.fixture.ZoneFixtures.zone;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ZoneLiveStateStoreTest {
+
+    private static final Long FESTIVAL_ID = 1L;
+
+    private ZoneRepository zoneRepository;
+    private FestivalRepository festivalRepository;
+    private ZoneStateListener listener;
+    private ZoneLiveStateStore store;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        zoneRepository = mock(ZoneRepository.class);
+        festivalRepository = mock(FestivalRepository.class);
+        listener = mock(ZoneStateListener.class);
+        ObjectProvider<ZoneStateListener> listenerProvider = mock(ObjectProvider.class);
+        when(listenerProvider.orderedStream()).thenAnswer(invocation -> Stream.of(listener));
+
+        store = new ZoneLiveStateStore(zoneRepository, festivalRepository, listenerProvider, 500);
+    }
+
+    @Test
+    @DisplayName("축제 구역은 처음 조회할 때 한 번만 DB에서 적재")
+    void loadsFestivalOnce() {
+        // given
+        givenFestival(zone(10L, FESTIVAL_ID, 1000, 250), zone(11L, FESTIVAL_ID, 500, 0));
+
+        // when
+        List<ZoneLiveState> first = store.getZones(FESTIVAL_ID);
+        List<ZoneLiveState> second = store.getZones(FESTIVAL_ID);
+
+        // then
+        assertEquals(2, first.size());
+        assertEquals(250, first.get(0).getCurrentCapacity());
+        assertEquals(25, first.get(0).getCongestionLevel());
+        assertEquals(2, second.size());
+        verify(zoneRepository, times(1)).findByFestivalId(FESTIVAL_ID);
+    }
+
+    @Test
+    @DisplayName("없는 축제 적재는 404 예외")
+    void missingFestivalIsNotFound() {
+        // given
+        when(festivalRepository.existsById(99L)).thenReturn(false);
+
+        // when & then
+        assertThrows(ResourceNotFoundException.class, () -> store.getZones(99L));
+        verify(zoneRepository, never()).findByFestivalId(any());
+    }
+
+    @Test
+    @DisplayName("여러 번 바뀐 구역은 마지막 값만 한 번 반영")
+    void flushWritesLatestStateOnce() {
+        // given
+        givenFestival(zone(10L, FESTIVAL_ID, 1000, 0));
+        store.ensureLoaded(FESTIVAL_ID);
+        when(zoneRepository.batchUpdateRealTimeData(any(), any(), any(), anyInt())).thenReturn(1);
+
+        // when
+        store.applyHeadcount(10L, 100);
+        store.applyHeadcount(10L, 400);
+        int flushed = store.flush();
+
+        // then
+        ArgumentCaptor<long[]> zoneIds = ArgumentCaptor.forClass(long[].class);
+        ArgumentCaptor<int[]> currentCapacities = ArgumentCaptor.forClass(int[].class);
+        ArgumentCaptor<int[]> congestionLevels = ArgumentCaptor.forClass(int[].class);
+        verify(zoneRepository).batchUpdateRealTimeData(zoneIds.capture(), currentCapacities.capture(),
+                congestionLevels.capture(), eq(1));
+        assertEquals(1, flushed);
+        assertEquals(10L, zoneIds.getValue()[0]);
+        assertEquals(400, currentCapacities.getValue()[0]);
+        assertEquals(40, congestionLevels.getValue()[0]);
+        assertEquals(0, store.getPendingCount());
+        assertEquals(0, store.flush());
+    }
+
+    @Test
+    @DisplayName("DB 반영 실패 시 다음 주기에 최신 값으로 재시도")
+    void flushFailureIsRetried() {
+        // given
+        givenFestival(zone(10L, FESTIVAL_ID, 1000, 0));
+        store.ensureLoaded(FESTIVAL_ID);
+        when(zoneRepository.batchUpdateRealTimeData(any(), any(), any(), anyInt()))
+                .thenThrow(new IllegalStateException("DB 연결 실패"))
+                .thenReturn(1);
+        store.applyHeadcount(10L, 100);
+
+        // when
+        int failed = store.flush();
+        store.applyHeadcount(10L, 300);
+        int retried = store.flush();
+
+        // then
+        ArgumentCaptor<int[]> currentCapacities = ArgumentCaptor.forClass(int[].class);
+        verify(zoneRepository, times(2)).batchUpdateRealTimeData(any(), currentCapacities.capture(), any(), eq(1));
+        assertEquals(0, failed);
+        assertEquals(1, retried);
+        assertEquals(300, currentCapacities.getAllValues().get(1)[0]);
+        assertFalse(store.isPending(10L));
+    }
+
+    @Test
+    @DisplayName("적재 전에 들어온 변경은 DB 값으로 덮어쓰지 않음")
+    void loadKeepsNewerMemoryState() {
+        // given
+        Zone zone = zone(10L, FESTIVAL_ID, 1000, 0);
+        store.register(zone);
+        store.applyHeadcount(10L, 700);
+        givenFestival(zone);
+
+        // when
+        List<ZoneLiveState> zones = store.getZones(FESTIVAL_ID);
+
+        // then
+        assertEquals(1, zones.size());
+        assertEquals(700, zones.get(0).getCurrentCapacity());
+    }
+
+    @Test
+    @DisplayName("삭제된 구역은 반영 대기에서도 제외")
+    void removedZoneIsNotFlushed() {
+        // given
+        givenFestival(zone(10L, FESTIVAL_ID, 1000, 0));
+        store.ensureLoaded(FESTIVAL_ID);
+        store.applyHeadcount(10L, 100);
+
+        // when
+        store.remove(10L);
+
+        // then
+        assertEquals(0, store.flush());
+        assertTrue(store.getZones(FESTIVAL_ID).isEmpty());
+        verify(zoneRepository, never()).batchUpdateRealTimeData(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("삭제된 축제는 메모리 상태를 비우고 이후 조회는 404")
+    void removedFestivalIsNotFound() {
+        // given
+        givenFestival(zone(10L, FESTIVAL_ID, 1000, 0));
+        store.ensureLoaded(FESTIVAL_ID);
+        store.applyHeadcount(10L, 100);
+        when(festivalRepository.existsById(FESTIVAL_ID)).thenReturn(false);
+
+        // when
+        store.removeFestival(FESTIVAL_ID);
+
+        // then
+        assertThrows(ResourceNotFoundException.class, () -> store.getZones(FESTIVAL_ID));
+        assertNull(store.peek(10L));
+        assertNull(store.applyHeadcount(10L, 200));
+        assertEquals(0, store.flush());
+        verify(zoneRepository, never()).batchUpdateRealTimeData(any(), any(), any(), anyInt());
+        verify(listener).onZoneRemoved(argThat(state -> state.getZoneId().equals(10L)));
+        verify(listener).onFestivalRemoved(FESTIVAL_ID);
+    }
+
+    private void givenFestival(Zone... zones) {
+        when(festivalRepository.existsById(FESTIVAL_ID)).thenReturn(true);
+        when(zoneRepository.findByFestivalId(FESTIVAL_ID)).thenReturn(List.of(zones));
+    }
+}
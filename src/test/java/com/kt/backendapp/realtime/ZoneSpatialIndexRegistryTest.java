@@ -0,0 +1,75 @@
+package com.kt.backendapp.realtime;
+
+import com.kt.backendapp.domain.model.ZoneSpatialIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static com.kt.backendapp.fixture.ZoneFixtures.liveState;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ZoneSpatialIndexRegistryTest {
+
+    private static final Long FESTIVAL_ID = 1L;
+
+    private ZoneLiveStateStore zoneLiveStateStore;
+    private ZoneSpatialIndexRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        zoneLiveStateStore = mock(ZoneLiveStateStore.class);
+        registry = new ZoneSpatialIndexRegistry(zoneLiveStateStore, 0.2);
+    }
+
+    @Test
+    @DisplayName("인덱스를 만드는 동안 들어온 조회는 구역이 모두 반영될 때까지 기다림")
+    void concurrentCallerWaitsForPopulatedIndex() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(zoneLiveStateStore.getZones(FESTIVAL_ID)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return List.of(located(10L, "37.5665,126.9780"), located(11L, "37.5670,126.9790"));
+        });
+        CompletableFuture<ZoneSpatialIndex> first = CompletableFuture.supplyAsync(() -> registry.getIndex(FESTIVAL_ID));
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+
+        // when
+        CompletableFuture<ZoneSpatialIndex> second = CompletableFuture.supplyAsync(() -> registry.getIndex(FESTIVAL_ID));
+        Thread.sleep(100);
+        boolean returnedEmptyIndex = second.isDone();
+        release.countDown();
+
+        // then
+        assertFalse(returnedEmptyIndex);
+        assertEquals(2, second.get(1, TimeUnit.SECONDS).size());
+        assertSame(first.get(1, TimeUnit.SECONDS), second.get());
+        verify(zoneLiveStateStore, times(1)).getZones(FESTIVAL_ID);
+    }
+
+    @Test
+    @DisplayName("생성에 실패하면 등록을 취소해 다음 조회에서 다시 생성")
+    void failedBuildIsRetried() {
+        // given
+        when(zoneLiveStateStore.getZones(FESTIVAL_ID))
+                .thenThrow(new IllegalStateException("DB 연결 실패"))
+                .thenReturn(List.of(located(10L, "37.5665,126.9780")));
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> registry.getIndex(FESTIVAL_ID));
+        assertEquals(1, registry.getIndex(FESTIVAL_ID).size());
+    }
+
+    private static ZoneLiveState located(Long zoneId, String coordinates) {
+        return liveState(zoneId, FESTIVAL_ID, 0).toBuilder()
+                .coordinates(coordinates)
+                .build();
+    }
+}
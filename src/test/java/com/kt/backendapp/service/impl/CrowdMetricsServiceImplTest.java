@@ -0,0 +1,164 @@
+package com.kt.backendapp.service.impl;
+
+import com.kt.backendapp.realtime.ZoneLiveState;
+import com.kt.backendapp.repository.CrowdMetricRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static com.kt.backendapp.fixture.ZoneFixtures.liveState;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class CrowdMetricsServiceImplTest {
+
+    // 1초 구간으로 두고 다음 구간까지 기다려 닫힌 구간을 만든다
+    private static final long BUCKET_SECONDS = 1;
+    private static final long NEXT_BUCKET_WAIT_MS = 1100;
+    private static final Long FESTIVAL_ID = 1L;
+
+    private CrowdMetricRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(CrowdMetricRepository.class);
+    }
+
+    @Test
+    @DisplayName("일시적 오류로 적재에 실패한 구간은 다음 주기에 다시 적재")
+    void transientFailureIsRetried() throws InterruptedException {
+        // given
+        CrowdMetricsServiceImpl service = service(100);
+        when(repository.upsertBuckets(any(), any(), any(), any(), anyInt()))
+                .thenThrow(new IllegalStateException("DB 연결 실패"))
+                .thenReturn(1);
+        recordAndWait(service, liveState(1L, FESTIVAL_ID, 300));
+
+        // when
+        int failed = service.flushClosedBuckets();
+        int pendingAfterFailure = service.getPendingBucketCount();
+        int retried = service.flushClosedBuckets();
+
+        // then
+        assertEquals(0, failed);
+        assertEquals(1, pendingAfterFailure);
+        assertEquals(1, retried);
+        assertEquals(0, service.getPendingBucketCount());
+        assertEquals(0, service.getDroppedBucketCount());
+    }
+
+    @Test
+    @DisplayName("무결성 오류는 배치를 나눠 문제 구간만 폐기")
+    void integrityViolationDropsOnlyBadRows() throws InterruptedException {
+        // given: 구역 2는 삭제되어 FK 위반
+        CrowdMetricsServiceImpl service = service(100);
+        when(repository.upsertBuckets(any(), any(), any(), any(), anyInt())).thenAnswer(invocation -> {
+            long[] zoneIds = invocation.getArgument(0);
+            int count = invocation.getArgument(4);
+            for (int i = 0; i < count; i++) {
+                if (zoneIds[i] == 2L) {
+                    throw new DataIntegrityViolationException("zone_id 외래 키 위반");
+                }
+            }
+            return count;
+        });
+        recordAndWait(service, liveState(1L, FESTIVAL_ID, 300), liveState(2L, FESTIVAL_ID, 100));
+
+        // when
+        int written = service.flushClosedBuckets();
+
+        // then
+        assertEquals(1, written);
+        assertEquals(1, service.getDroppedBucketCount());
+        assertEquals(0, service.getPendingBucketCount());
+        verify(repository, times(3)).upsertBuckets(any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("적재 대기 구간이 상한을 넘으면 오래된 구간부터 폐기")
+    void pendingLimitDropsOldest() throws InterruptedException {
+        // given
+        CrowdMetricsServiceImpl service = service(1);
+        when(repository.upsertBuckets(any(), any(), any(), any(), anyInt()))
+                .thenThrow(new IllegalStateException("DB 연결 실패"));
+        recordAndWait(service, liveState(1L, FESTIVAL_ID, 300), liveState(2L, FESTIVAL_ID, 100));
+
+        // when
+        service.flushClosedBuckets();
+
+        // then
+        assertEquals(1, service.getPendingBucketCount());
+        assertEquals(1, service.getDroppedBucketCount());
+    }
+
+    @Test
+    @DisplayName("삭제된 구역의 대기 구간은 적재하지 않음")
+    void removedZoneIsPurged() throws InterruptedException {
+        // given
+        CrowdMetricsServiceImpl service = service(100);
+        when(repository.upsertBuckets(any(), any(), any(), any(), anyInt()))
+                .thenThrow(new IllegalStateException("DB 연결 실패"));
+        ZoneLiveState removed = liveState(1L, FESTIVAL_ID, 300);
+        recordAndWait(service, removed);
+        service.flushClosedBuckets();
+
+        // when
+        service.onZoneRemoved(removed);
+
+        // then
+        assertEquals(0, service.getPendingBucketCount());
+        assertEquals(0, service.flushClosedBuckets());
+        verify(repository, times(1)).upsertBuckets(any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("롤업 기준 이전에 남은 분 단위 데이터는 가장 오래된 시간부터 모두 롤업")
+    void rollsUpEverythingBeforeCutoff() {
+        // given: 보존 정책이 사흘 동안 돌지 않아 롤업되지 않은 시간이 쌓인 경우
+        CrowdMetricsServiceImpl service = service(100);
+        LocalDateTime oldest = LocalDateTime.now().minusDays(10).withMinute(25);
+        when(repository.findOldestSubHourlyBefore(any())).thenReturn(oldest);
+
+        // when
+        service.applyRetentionPolicy();
+
+        // then
+        LocalDateTime from = oldest.truncatedTo(ChronoUnit.HOURS);
+        verify(repository).rollupToHourly(eq(from), any());
+        verify(repository).deleteSubHourly(eq(from), any());
+    }
+
+    @Test
+    @DisplayName("롤업할 분 단위 데이터가 없으면 만료 삭제만 실행")
+    void skipsRollupWhenNothingLeft() {
+        // given
+        CrowdMetricsServiceImpl service = service(100);
+        when(repository.findOldestSubHourlyBefore(any())).thenReturn(null);
+
+        // when
+        service.applyRetentionPolicy();
+
+        // then
+        verify(repository).deleteOlderThan(any());
+        verify(repository, never()).rollupToHourly(any(), any());
+        verify(repository, never()).deleteSubHourly(any(), any());
+    }
+
+    private CrowdMetricsServiceImpl service(int maxPendingBuckets) {
+        return new CrowdMetricsServiceImpl(repository, BUCKET_SECONDS, 7, 90, maxPendingBuckets);
+    }
+
+    private static void recordAndWait(CrowdMetricsServiceImpl service, ZoneLiveState... states) throws InterruptedException {
+        for (ZoneLiveState state : states) {
+            service.onZoneStateChanged(null, state);
+        }
+        Thread.sleep(NEXT_BUCKET_WAIT_MS);
+    }
+}
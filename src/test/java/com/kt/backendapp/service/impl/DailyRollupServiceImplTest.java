@@ -0,0 +1,138 @@
+package com.kt.backendapp.service.impl;
+
+import com.kt.backendapp.dto.BulkIngestionResultDTO;
+import com.kt.backendapp.dto.SalesRecordDTO;
+import com.kt.backendapp.entity.SentimentType;
+import com.kt.backendapp.repository.FestivalRepository;
+import com.kt.backendapp.repository.SNSDailyRepository;
+import com.kt.backendapp.repository.SalesDailyRepository;
+import com.kt.backendapp.repository.VisitorKpiRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class DailyRollupServiceImplTest {
+
+    private static final Long FESTIVAL_ID = 1L;
+
+    private SNSDailyRepository snsDailyRepository;
+    private SalesDailyRepository salesDailyRepository;
+    private FestivalRepository festivalRepository;
+
+    @BeforeEach
+    void setUp() {
+        snsDailyRepository = mock(SNSDailyRepository.class);
+        salesDailyRepository = mock(SalesDailyRepository.class);
+        festivalRepository = mock(FestivalRepository.class);
+        when(festivalRepository.existsById(FESTIVAL_ID)).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 감정 증분은 새 증분과 합치지 않고 같은 배치 번호로 재시도")
+    void failedBatchIsRetriedWithSameId() {
+        // given: 첫 반영은 실제로는 커밋됐지만 실패로 보고된 경우
+        DailyRollupServiceImpl service = service(100);
+        when(snsDailyRepository.addSentimentCounts(any(), any(), anyInt(), anyInt(), anyInt(), anyLong()))
+                .thenThrow(new IllegalStateException("응답 전에 연결 끊김"))
+                .thenReturn(0, 1);
+        service.recordFeedback(FESTIVAL_ID, SentimentType.NEGATIVE, 2);
+
+        // when
+        int failed = service.flush();
+        service.recordFeedback(FESTIVAL_ID, SentimentType.NEGATIVE, 1);
+        int retried = service.flush();
+
+        // then
+        ArgumentCaptor<Integer> negatives = ArgumentCaptor.forClass(Integer.class);
+        ArgumentCaptor<Long> batchIds = ArgumentCaptor.forClass(Long.class);
+        verify(snsDailyRepository, times(3)).addSentimentCounts(eq(FESTIVAL_ID), any(), eq(0),
+                negatives.capture(), eq(0), batchIds.capture());
+        assertEquals(0, failed);
+        assertEquals(2, retried);
+        assertEquals(List.of(2, 2, 1), negatives.getAllValues());
+        assertEquals(batchIds.getAllValues().get(0), batchIds.getAllValues().get(1));
+        assertNotEquals(batchIds.getAllValues().get(1), batchIds.getAllValues().get(2));
+    }
+
+    @Test
+    @DisplayName("재시도 중인 날짜의 새 증분은 재시도가 성공한 뒤 다음 배치로 반영")
+    void newDeltasWaitForRetry() {
+        // given
+        DailyRollupServiceImpl service = service(100);
+        when(snsDailyRepository.addSentimentCounts(any(), any(), anyInt(), anyInt(), anyInt(), anyLong()))
+                .thenThrow(new IllegalStateException("DB 연결 실패"))
+                .thenThrow(new IllegalStateException("DB 연결 실패"))
+                .thenReturn(1);
+        service.recordFeedback(FESTIVAL_ID, SentimentType.POSITIVE, 1);
+        service.flush();
+        service.recordFeedback(FESTIVAL_ID, SentimentType.POSITIVE, 3);
+
+        // when
+        service.flush();
+        service.flush();
+
+        // then
+        ArgumentCaptor<Integer> positives = ArgumentCaptor.forClass(Integer.class);
+        verify(snsDailyRepository, times(4)).addSentimentCounts(eq(FESTIVAL_ID), any(), positives.capture(),
+                eq(0), eq(0), anyLong());
+        assertEquals(List.of(1, 1, 1, 3), positives.getAllValues());
+    }
+
+    @Test
+    @DisplayName("반영 대기 매출 기록이 상한에 이르면 새 기록은 폐기하고 재전송된 기록은 중복으로 처리")
+    void pendingSalesLimit() {
+        // given
+        DailyRollupServiceImpl service = service(1);
+
+        // when
+        BulkIngestionResultDTO result = service.ingestSales("1", List.of(sale("A"), sale("B"), sale("A")));
+
+        // then
+        assertEquals(3, result.getReceived());
+        assertEquals(1, result.getAccepted());
+        assertEquals(1, result.getDropped());
+        assertEquals(1, result.getCoalesced());
+    }
+
+    @Test
+    @DisplayName("매출 반영에 실패한 기록은 다음 주기에 다시 반영")
+    void failedSalesAreRetried() {
+        // given
+        DailyRollupServiceImpl service = service(100);
+        when(salesDailyRepository.addRecords(anyLong(), any(), any(), any(), anyInt()))
+                .thenThrow(new IllegalStateException("DB 연결 실패"))
+                .thenReturn(1);
+        service.ingestSales("1", List.of(sale("A")));
+
+        // when
+        int failed = service.flush();
+        int retried = service.flush();
+
+        // then
+        assertEquals(0, failed);
+        assertEquals(1, retried);
+        verify(salesDailyRepository, times(2)).addRecords(eq(FESTIVAL_ID), any(), any(), any(), eq(1));
+    }
+
+    private DailyRollupServiceImpl service(int maxPendingSales) {
+        return new DailyRollupServiceImpl(snsDailyRepository, salesDailyRepository, mock(VisitorKpiRepository.class),
+                festivalRepository, "Asia/Seoul", 3, maxPendingSales);
+    }
+
+    private static SalesRecordDTO sale(String recordId) {
+        return SalesRecordDTO.builder()
+                .recordId(recordId)
+                .amount(10000L)
+                .build();
+    }
+}
@@ -0,0 +1,114 @@
+package com.kt.backendapp.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kt.backendapp.dto.FestivalDTO;
+import com.kt.backendapp.realtime.AlertFeed;
+import com.kt.backendapp.realtime.CongestionEventBus;
+import com.kt.backendapp.realtime.DashboardCounters;
+import com.kt.backendapp.realtime.DashboardSnapshot;
+import com.kt.backendapp.realtime.DashboardSnapshotRegistry;
+import com.kt.backendapp.service.DailyRollupService;
+import com.kt.backendapp.service.FestivalService;
+import com.kt.backendapp.service.SNSFeedbackService;
+import com.kt.backendapp.service.ZoneService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class DashboardServiceImplTest {
+
+    private static final Long FESTIVAL_ID = 1L;
+    private static final String FESTIVAL = "1";
+    private static final long BRANCH_TIMEOUT_MS = 100;
+
+    private FestivalService festivalService;
+    private ZoneService zoneService;
+    private SNSFeedbackService snsService;
+    private DashboardSnapshotRegistry dashboardSnapshotRegistry;
+    private ExecutorService queryExecutor;
+    private CountDownLatch slowZones;
+    private DashboardServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        festivalService = mock(FestivalService.class);
+        zoneService = mock(ZoneService.class);
+        snsService = mock(SNSFeedbackService.class);
+        dashboardSnapshotRegistry = mock(DashboardSnapshotRegistry.class);
+        queryExecutor = Executors.newFixedThreadPool(4);
+        slowZones = new CountDownLatch(1);
+
+        when(dashboardSnapshotRegistry.getCounters(FESTIVAL_ID))
+                .thenReturn(new DashboardCounters(3L, 1, 1000, 300, 30, 1, 0, 0, 0));
+        when(dashboardSnapshotRegistry.getVersion(FESTIVAL_ID)).thenReturn(3L);
+        when(dashboardSnapshotRegistry.storeSnapshot(any())).then(invocation -> invocation.getArgument(0));
+        when(festivalService.getFestivalById(FESTIVAL_ID))
+                .thenReturn(FestivalDTO.builder().id(FESTIVAL_ID).name("테스트 축제").status("during").build());
+        when(snsService.getTopIssuesByMentions(FESTIVAL, 3)).thenReturn(List.of());
+        when(snsService.getFeedbackSummary(FESTIVAL)).thenReturn(Map.of("totalMentions", 5L));
+
+        service = new DashboardServiceImpl(festivalService, zoneService, snsService, mock(DailyRollupService.class),
+                dashboardSnapshotRegistry, mock(AlertFeed.class), mock(CongestionEventBus.class), queryExecutor,
+                0, BRANCH_TIMEOUT_MS, new ObjectMapper());
+    }
+
+    @AfterEach
+    void tearDown() {
+        slowZones.countDown();
+        queryExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("시간 제한을 넘긴 항목만 대체 값으로 채우고, 부분 스냅샷은 캐시하지 않음")
+    void slowBranchFallsBackWithoutCaching() {
+        // given
+        when(zoneService.getZonesByFestivalId(FESTIVAL)).thenAnswer(invocation -> {
+            slowZones.await();
+            return List.of();
+        });
+
+        // when
+        long started = System.currentTimeMillis();
+        DashboardSnapshot snapshot = service.getOperationalDashboardSnapshot(FESTIVAL);
+        long elapsed = System.currentTimeMillis() - started;
+
+        // then
+        assertTrue(snapshot.isPartial());
+        assertEquals(List.of("zones"), snapshot.getDashboard().getDegradedSections());
+        assertEquals("테스트 축제", snapshot.getDashboard().getFestivalName());
+        assertEquals(5L, snapshot.getDashboard().getTotalMentions());
+        assertTrue(snapshot.getDashboard().getZones().isEmpty());
+        assertTrue(elapsed < BRANCH_TIMEOUT_MS * 10, "지연: " + elapsed + "ms");
+        verify(dashboardSnapshotRegistry, never()).storeSnapshot(any());
+        verify(dashboardSnapshotRegistry, never()).storeFeedbackSection(any(), any());
+    }
+
+    @Test
+    @DisplayName("모든 항목이 제때 끝나면 전체 스냅샷과 피드백 요약을 캐시")
+    void completeSnapshotIsCached() {
+        // given
+        when(zoneService.getZonesByFestivalId(FESTIVAL)).thenReturn(List.of());
+
+        // when
+        DashboardSnapshot snapshot = service.getOperationalDashboardSnapshot(FESTIVAL);
+
+        // then
+        assertFalse(snapshot.isPartial());
+        assertNull(snapshot.getDashboard().getDegradedSections());
+        verify(dashboardSnapshotRegistry).storeSnapshot(snapshot);
+        verify(dashboardSnapshotRegistry).storeFeedbackSection(eq(FESTIVAL_ID), any());
+        verify(snsService).getTopIssuesByMentions(FESTIVAL, 3);
+    }
+}
@@ -0,0 +1,91 @@
+package com.kt.backendapp.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kt.backendapp.realtime.DashboardCounters;
+import com.kt.backendapp.realtime.DashboardSnapshotRegistry;
+import com.kt.backendapp.realtime.ZoneLiveState;
+import com.kt.backendapp.realtime.ZoneLiveStateStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static com.kt.backendapp.fixture.ZoneFixtures.liveState;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DashboardStreamServiceImplTest {
+
+    private static final Long FESTIVAL_ID = 1L;
+    private static final String FESTIVAL = "1";
+    private static final int MAX_MISSED_DISPATCHES = 2;
+
+    private ZoneLiveStateStore zoneLiveStateStore;
+    private DashboardSnapshotRegistry dashboardSnapshotRegistry;
+
+    @BeforeEach
+    void setUp() {
+        zoneLiveStateStore = mock(ZoneLiveStateStore.class);
+        dashboardSnapshotRegistry = mock(DashboardSnapshotRegistry.class);
+        when(dashboardSnapshotRegistry.getCounters(FESTIVAL_ID))
+                .thenReturn(new DashboardCounters(1L, 1, 1000, 300, 30, 1, 0, 0, 0));
+    }
+
+    @Test
+    @DisplayName("구독자 수가 상한에 이르면 새 구독을 거절")
+    void rejectsOverSubscriberLimit() {
+        // given
+        DashboardStreamServiceImpl service = service(Runnable::run, 1);
+        service.subscribe(FESTIVAL);
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> service.subscribe(FESTIVAL));
+        assertEquals(1, service.getSubscriberCount());
+    }
+
+    @Test
+    @DisplayName("전송이 밀려 연속으로 이벤트를 덮어쓴 구독자는 끊음")
+    void cutsOffSubscriberThatFallsBehind() {
+        // given: 전송 작업이 실행되지 않아 첫 스냅샷부터 밀린 구독자
+        List<Runnable> stuck = new ArrayList<>();
+        DashboardStreamServiceImpl service = service(stuck::add, 10);
+        service.subscribe(FESTIVAL);
+
+        // when
+        for (int i = 0; i <= MAX_MISSED_DISPATCHES; i++) {
+            service.onZoneStateChanged(null, liveState(10L, FESTIVAL_ID, 100 * i));
+            service.dispatch();
+        }
+
+        // then
+        assertEquals(0, service.getSubscriberCount());
+        assertEquals(1, stuck.size());
+    }
+
+    @Test
+    @DisplayName("제때 받아가는 구독자는 매 주기 변경을 받아도 유지")
+    void keepsSubscriberThatKeepsUp() {
+        // given
+        DashboardStreamServiceImpl service = service(Runnable::run, 10);
+        service.subscribe(FESTIVAL);
+
+        // when
+        for (int i = 0; i <= MAX_MISSED_DISPATCHES * 2; i++) {
+            ZoneLiveState state = liveState(10L, FESTIVAL_ID, 100 * i);
+            service.onZoneStateChanged(null, state);
+            service.dispatch();
+        }
+
+        // then
+        assertEquals(1, service.getSubscriberCount());
+        verify(zoneLiveStateStore, times(1)).getZones(FESTIVAL_ID); // 첫 스냅샷 이후로는 변경분만 전송
+    }
+
+    private DashboardStreamServiceImpl service(Executor senderExecutor, int maxSubscribers) {
+        return new DashboardStreamServiceImpl(zoneLiveStateStore, dashboardSnapshotRegistry, new ObjectMapper(),
+                senderExecutor, 60_000, 15_000, maxSubscribers, 5_000, MAX_MISSED_DISPATCHES);
+    }
+}
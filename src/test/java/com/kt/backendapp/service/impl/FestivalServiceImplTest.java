@@ -0,0 +1,118 @@
+package com.kt.backendapp.service.impl;
+
+import com.kt.backendapp.realtime.DashboardSnapshotRegistry;
+import com.kt.backendapp.realtime.ZoneLiveStateStore;
+import com.kt.backendapp.repository.FestivalRepository;
+import com.kt.backendapp.service.FestivalStatusService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class FestivalServiceImplTest {
+
+    private static final Long FESTIVAL_ID = 1L;
+
+    private FestivalRepository festivalRepository;
+    private ZoneLiveStateStore zoneLiveStateStore;
+    private FestivalServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        festivalRepository = mock(FestivalRepository.class);
+        zoneLiveStateStore = mock(ZoneLiveStateStore.class);
+        when(festivalRepository.existsById(FESTIVAL_ID)).thenReturn(true);
+
+        service = new FestivalServiceImpl(festivalRepository, mock(DashboardSnapshotRegistry.class),
+                mock(ApplicationEventPublisher.class), mock(FestivalStatusService.class), zoneLiveStateStore);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("축제 삭제는 커밋된 뒤에 실시간 상태를 정리")
+    void deleteRemovesLiveStateAfterCommit() {
+        // given
+        service.deleteFestival(FESTIVAL_ID);
+        verify(zoneLiveStateStore, never()).removeFestival(any());
+
+        // when
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // then
+        verify(festivalRepository).deleteById(FESTIVAL_ID);
+        verify(zoneLiveStateStore).removeFestival(FESTIVAL_ID);
+    }
+
+    @Test
+    @DisplayName("축제 삭제가 롤백되면 실시간 상태를 유지")
+    void rolledBackDeleteKeepsLiveState() {
+        // when
+        service.deleteFestival(FESTIVAL_ID);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // then
+        verify(zoneLiveStateStore, never()).removeFestival(any());
+    }
+
+    @Test
+    @DisplayName("정렬 기준이 없으면 시작일 내림차순, 같은 값은 id 로 순서를 고정하고 페이지 크기는 상한으로 제한")
+    void catalogAppendsIdTieBreakAndCapsSize() {
+        // when
+        Pageable requested = catalogPageable(PageRequest.of(2, 1_000));
+
+        // then
+        assertEquals(2, requested.getPageNumber());
+        assertEquals(100, requested.getPageSize());
+        assertEquals(Sort.by(Sort.Direction.DESC, "startDate", "id"), requested.getSort());
+    }
+
+    @Test
+    @DisplayName("요청한 정렬 방향을 id 정렬에도 적용하고, id 정렬이 이미 있으면 추가하지 않음")
+    void catalogTieBreakFollowsRequestedDirection() {
+        // when
+        Pageable byName = catalogPageable(PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "name")));
+        Pageable byId = catalogPageable(PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "id")));
+
+        // then
+        assertEquals(Sort.by(Sort.Direction.ASC, "name", "id"), byName.getSort());
+        assertEquals(Sort.by(Sort.Direction.DESC, "id"), byId.getSort());
+    }
+
+    @Test
+    @DisplayName("허용되지 않은 정렬 항목은 조회 없이 거절")
+    void catalogRejectsUnknownSortProperty() {
+        // when & then
+        assertThrows(RuntimeException.class, () -> service.getAllFestivals(
+                PageRequest.of(0, 20, Sort.by("description")), null, null));
+        verify(festivalRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Pageable catalogPageable(Pageable pageable) {
+        when(festivalRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(Page.empty());
+        service.getAllFestivals(pageable, null, null);
+
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(festivalRepository).findAll(any(Specification.class), captor.capture());
+        return captor.getValue();
+    }
+}
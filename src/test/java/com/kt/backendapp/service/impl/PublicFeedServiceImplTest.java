@@ -0,0 +1,107 @@
+package com.kt.backendapp.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kt.backendapp.exception.ResourceNotFoundException;
+import com.kt.backendapp.realtime.ZoneLiveState;
+import com.kt.backendapp.realtime.ZoneLiveStateStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PublicFeedServiceImplTest {
+
+    private FakeZoneLiveStateStore store;
+    private PublicFeedServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        store = new FakeZoneLiveStateStore();
+        service = new PublicFeedServiceImpl(store, new ObjectMapper().findAndRegisterModules(), 60_000, 100);
+    }
+
+    @Test
+    @DisplayName("없는 축제는 404 로 기억해 다시 조회하지 않음")
+    void missingFestivalIsCached() {
+        // when
+        assertThrows(ResourceNotFoundException.class, () -> service.getFeed("99"));
+        assertThrows(ResourceNotFoundException.class, () -> service.getFeed("99"));
+
+        // then
+        assertEquals(1, store.calls(99L));
+        assertEquals(0, service.getFeedCount());
+    }
+
+    @Test
+    @DisplayName("숫자가 아닌 ID 는 저장소를 거치지 않고 404")
+    void nonNumericIdIsNotFound() {
+        // when & then
+        assertThrows(ResourceNotFoundException.class, () -> service.getFeed("abc"));
+        assertTrue(store.called.isEmpty());
+    }
+
+    @Test
+    @DisplayName("갱신 중 삭제가 확인된 축제는 피드를 정리하고 이후 404")
+    void deletedFestivalIsEvictedOnRefresh() {
+        // given
+        store.festivals.add(1L);
+        assertNotNull(service.getFeed("1"));
+        store.festivals.remove(1L);
+
+        // when
+        service.refresh();
+
+        // then
+        assertEquals(0, service.getFeedCount());
+        assertThrows(ResourceNotFoundException.class, () -> service.getFeed("1"));
+        assertEquals(2, store.calls(1L));
+    }
+
+    @Test
+    @DisplayName("축제 삭제 알림을 받으면 조회 중인 피드도 바로 정리하고 이후 404")
+    void deletedFestivalIsEvictedOnRemoval() {
+        // given
+        store.festivals.add(1L);
+        assertNotNull(service.getFeed("1"));
+
+        // when
+        service.onFestivalRemoved(1L);
+
+        // then
+        assertEquals(0, service.getFeedCount());
+        assertThrows(ResourceNotFoundException.class, () -> service.getFeed("1"));
+        assertEquals(1, store.calls(1L));
+    }
+
+    /**
+     * 등록된 축제는 구역 없이 반환하고 나머지는 없는 축제로 처리하는 저장소
+     */
+    private static class FakeZoneLiveStateStore extends ZoneLiveStateStore {
+        private final Set<Long> festivals = new HashSet<>();
+        private final Map<Long, Integer> called = new HashMap<>();
+
+        private FakeZoneLiveStateStore() {
+            super(null, null, null, 500);
+        }
+
+        @Override
+        public List<ZoneLiveState> getZones(Long festivalId) {
+            called.merge(festivalId, 1, Integer::sum);
+            if (!festivals.contains(festivalId)) {
+                throw new ResourceNotFoundException("축제를 찾을 수 없습니다: " + festivalId);
+            }
+            return List.of();
+        }
+
+        private int calls(Long festivalId) {
+            return called.getOrDefault(festivalId, 0);
+        }
+    }
+}
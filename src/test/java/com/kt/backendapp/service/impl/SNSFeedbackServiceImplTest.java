@@ -0,0 +1,99 @@
+package com.kt.backendapp.service.impl;
+
+import com.kt.backendapp.dto.PageDTO;
+import com.kt.backendapp.dto.SNSFeedbackDTO;
+import com.kt.backendapp.entity.Festival;
+import com.kt.backendapp.entity.SNSFeedback;
+import com.kt.backendapp.entity.SentimentType;
+import com.kt.backendapp.realtime.DashboardSnapshotRegistry;
+import com.kt.backendapp.realtime.FeedbackStatisticsCache;
+import com.kt.backendapp.realtime.FeedbackTrendAggregator;
+import com.kt.backendapp.realtime.TopIssueTracker;
+import com.kt.backendapp.repository.SNSFeedbackRepository;
+import com.kt.backendapp.service.SNSIngestionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class SNSFeedbackServiceImplTest {
+
+    private static final Long FESTIVAL_ID = 1L;
+    private static final String FESTIVAL = "1";
+
+    private SNSFeedbackRepository snsFeedbackRepository;
+    private SNSFeedbackServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        snsFeedbackRepository = mock(SNSFeedbackRepository.class);
+        service = new SNSFeedbackServiceImpl(mock(DashboardSnapshotRegistry.class), snsFeedbackRepository,
+                mock(FeedbackTrendAggregator.class), mock(TopIssueTracker.class), mock(SNSIngestionService.class),
+                mock(FeedbackStatisticsCache.class));
+    }
+
+    @Test
+    @DisplayName("검색 결과를 페이지 DTO 로 변환해 반환")
+    void returnsPageDTO() {
+        // given
+        Pageable pageable = PageRequest.of(1, 2);
+        when(snsFeedbackRepository.searchByIssue(FESTIVAL_ID, "주차", "%주차%", pageable))
+                .thenReturn(new PageImpl<>(List.of(feedback(5L, "주차장 부족")), pageable, 5));
+
+        // when
+        PageDTO<SNSFeedbackDTO> result = service.searchFeedbackByKeyword(FESTIVAL, " 주차 ", 1, 2);
+
+        // then
+        assertEquals(1, result.getPage());
+        assertEquals(2, result.getSize());
+        assertEquals(5L, result.getTotalElements());
+        assertEquals(3, result.getTotalPages());
+        assertTrue(result.getHasNext());
+        assertEquals("5", result.getItems().get(0).getId());
+        assertEquals("주차장 부족", result.getItems().get(0).getIssue());
+    }
+
+    @Test
+    @DisplayName("LIKE 패턴 문자는 이스케이프하고 페이지 크기는 상한으로 제한")
+    void escapesPatternAndClampsPageSize() {
+        // given
+        when(snsFeedbackRepository.searchByIssue(eq(FESTIVAL_ID), any(), any(), any()))
+                .thenAnswer(invocation -> new PageImpl<>(List.of(), invocation.getArgument(3, Pageable.class), 0));
+
+        // when
+        service.searchFeedbackByKeyword(FESTIVAL, "100%_할인", -1, 1_000);
+
+        // then
+        verify(snsFeedbackRepository).searchByIssue(FESTIVAL_ID, "100%_할인", "%100\\%\\_할인%", PageRequest.of(0, 100));
+    }
+
+    @Test
+    @DisplayName("빈 검색어와 너무 긴 검색어는 조회 없이 거절")
+    void rejectsBlankOrTooLongKeyword() {
+        // when & then
+        assertThrows(RuntimeException.class, () -> service.searchFeedbackByKeyword(FESTIVAL, "  ", 0, 20));
+        assertThrows(RuntimeException.class, () -> service.searchFeedbackByKeyword(FESTIVAL, "가".repeat(101), 0, 20));
+        verifyNoInteractions(snsFeedbackRepository);
+    }
+
+    private static SNSFeedback feedback(Long id, String issue) {
+        return SNSFeedback.builder()
+                .id(id)
+                .festival(Festival.builder().id(FESTIVAL_ID).build())
+                .issue(issue)
+                .mentions(10)
+                .sentiment(SentimentType.NEGATIVE)
+                .platform("Twitter")
+                .severityLevel(3)
+                .build();
+    }
+}
@@ -0,0 +1,147 @@
+package com.kt.backendapp.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kt.backendapp.dto.BulkIngestionResultDTO;
+import com.kt.backendapp.dto.SNSPostDTO;
+import com.kt.backendapp.entity.SentimentType;
+import com.kt.backendapp.realtime.DashboardSnapshotRegistry;
+import com.kt.backendapp.realtime.FeedbackStatisticsCache;
+import com.kt.backendapp.realtime.FeedbackTrendAggregator;
+import com.kt.backendapp.realtime.IngestionMetrics;
+import com.kt.backendapp.realtime.TopIssueTracker;
+import com.kt.backendapp.repository.FestivalRepository;
+import com.kt.backendapp.repository.SNSFeedbackRepository;
+import com.kt.backendapp.service.DailyRollupService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class SNSIngestionServiceImplTest {
+
+    private static final Long FESTIVAL_ID = 1L;
+    private static final String FESTIVAL = "1";
+    private static final String TOILET_ISSUE = "화장실 대기 줄이 너무 길어요";
+
+    private SNSFeedbackRepository snsFeedbackRepository;
+    private FestivalRepository festivalRepository;
+    private DashboardSnapshotRegistry dashboardSnapshotRegistry;
+    private SNSIngestionServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        snsFeedbackRepository = mock(SNSFeedbackRepository.class);
+        festivalRepository = mock(FestivalRepository.class);
+        dashboardSnapshotRegistry = mock(DashboardSnapshotRegistry.class);
+        when(festivalRepository.existsById(FESTIVAL_ID)).thenReturn(true);
+        when(snsFeedbackRepository.findUnresolvedIssuesByFestivalId(FESTIVAL_ID)).thenReturn(List.of());
+
+        service = new SNSIngestionServiceImpl(snsFeedbackRepository, festivalRepository, dashboardSnapshotRegistry,
+                mock(FeedbackTrendAggregator.class), mock(TopIssueTracker.class), mock(FeedbackStatisticsCache.class),
+                mock(DailyRollupService.class), new IngestionMetrics(new SimpleMeterRegistry()),
+                text -> SentimentType.NEGATIVE, new ObjectMapper(), 0.45, 5000);
+    }
+
+    @Test
+    @DisplayName("새 이슈는 합친 언급 수로 저장하고 이후 언급은 증가분만 반영")
+    void insertsNewIssuesThenAddsIncrements() {
+        // given
+        when(snsFeedbackRepository.insertIssues(anyLong(), any(), any(), any(), any(), any(), anyInt()))
+                .thenReturn(new long[]{100L});
+        when(snsFeedbackRepository.addMentions(any(), any(), any(), any(), anyInt())).thenReturn(1);
+        BulkIngestionResultDTO result = service.ingest(FESTIVAL, List.of(post(TOILET_ISSUE), post(TOILET_ISSUE)));
+
+        // when
+        int inserted = service.flush();
+        service.ingest(FESTIVAL, List.of(post(TOILET_ISSUE)));
+        int updated = service.flush();
+
+        // then
+        ArgumentCaptor<int[]> mentions = ArgumentCaptor.forClass(int[].class);
+        verify(snsFeedbackRepository).insertIssues(eq(1L), any(), mentions.capture(), any(), any(), any(), eq(1));
+        ArgumentCaptor<long[]> ids = ArgumentCaptor.forClass(long[].class);
+        ArgumentCaptor<int[]> deltas = ArgumentCaptor.forClass(int[].class);
+        verify(snsFeedbackRepository).addMentions(ids.capture(), deltas.capture(), any(), any(), eq(1));
+        assertEquals(2, result.getAccepted());
+        assertEquals(1, result.getCoalesced());
+        assertEquals(1, inserted);
+        assertEquals(2, mentions.getValue()[0]);
+        assertEquals(1, updated);
+        assertEquals(100L, ids.getValue()[0]);
+        assertEquals(1, deltas.getValue()[0]);
+        verify(dashboardSnapshotRegistry, times(2)).invalidateFeedback(FESTIVAL_ID);
+    }
+
+    @Test
+    @DisplayName("바뀐 이슈가 없으면 DB 에 쓰지 않음")
+    void flushWithoutChangesDoesNothing() {
+        // given
+        service.ensureLoaded(FESTIVAL);
+
+        // when
+        int flushed = service.flush();
+
+        // then
+        assertEquals(0, flushed);
+        verify(snsFeedbackRepository, never()).insertIssues(anyLong(), any(), any(), any(), any(), any(), anyInt());
+        verify(dashboardSnapshotRegistry, never()).invalidateFeedback(any());
+    }
+
+    @Test
+    @DisplayName("일시적 오류로 저장에 실패한 언급 수는 다음 주기에 다시 저장")
+    void transientFailureRestoresMentions() {
+        // given
+        when(snsFeedbackRepository.insertIssues(anyLong(), any(), any(), any(), any(), any(), anyInt()))
+                .thenThrow(new IllegalStateException("DB 연결 실패"))
+                .thenReturn(new long[]{100L});
+        service.ingest(FESTIVAL, List.of(post(TOILET_ISSUE), post(TOILET_ISSUE)));
+
+        // when
+        int failed = service.flush();
+        int retried = service.flush();
+
+        // then
+        ArgumentCaptor<int[]> mentions = ArgumentCaptor.forClass(int[].class);
+        verify(snsFeedbackRepository, times(2)).insertIssues(eq(1L), any(), mentions.capture(), any(), any(), any(), eq(1));
+        assertEquals(0, failed);
+        assertEquals(1, retried);
+        assertEquals(2, mentions.getAllValues().get(1)[0]);
+    }
+
+    @Test
+    @DisplayName("저장 중 축제 삭제가 확인되면 집계를 버리고 재시도하지 않음")
+    void deletedFestivalDropsState() {
+        // given
+        when(snsFeedbackRepository.insertIssues(anyLong(), any(), any(), any(), any(), any(), anyInt()))
+                .thenThrow(new DataIntegrityViolationException("festival_id 외래 키 위반"));
+        service.ingest(FESTIVAL, List.of(post(TOILET_ISSUE)));
+        when(festivalRepository.existsById(FESTIVAL_ID)).thenReturn(false);
+
+        // when
+        int flushed = service.flush();
+
+        // then
+        assertEquals(0, flushed);
+        assertEquals(0, service.flush());
+        verify(snsFeedbackRepository, times(1)).insertIssues(anyLong(), any(), any(), any(), any(), any(), anyInt());
+        assertThrows(RuntimeException.class, () -> service.ingest(FESTIVAL, List.of(post(TOILET_ISSUE))));
+    }
+
+    private static SNSPostDTO post(String text) {
+        return SNSPostDTO.builder()
+                .platform("Twitter")
+                .text(text)
+                .build();
+    }
+}
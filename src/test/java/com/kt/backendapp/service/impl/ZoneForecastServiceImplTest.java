@@ -0,0 +1,82 @@
+package com.kt.backendapp.service.impl;
+
+import com.kt.backendapp.realtime.ZoneForecastTracker;
+import com.kt.backendapp.realtime.ZoneLiveStateStore;
+import com.kt.backendapp.repository.CrowdMetricRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static com.kt.backendapp.fixture.ZoneFixtures.liveState;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ZoneForecastServiceImplTest {
+
+    private static final Long FESTIVAL_ID = 1L;
+    private static final String FESTIVAL = "1";
+
+    private CrowdMetricRepository crowdMetricRepository;
+    private ZoneForecastServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        ZoneLiveStateStore zoneLiveStateStore = mock(ZoneLiveStateStore.class);
+        crowdMetricRepository = mock(CrowdMetricRepository.class);
+        when(zoneLiveStateStore.getZones(FESTIVAL_ID)).thenReturn(List.of(liveState(10L, FESTIVAL_ID, 300)));
+
+        service = new ZoneForecastServiceImpl(zoneLiveStateStore, new ZoneForecastTracker(3, 10),
+                crowdMetricRepository, new int[]{5, 15, 30}, 60);
+    }
+
+    @Test
+    @DisplayName("이력 채우기에 실패하면 다음 조회 때 다시 시도하고, 성공한 뒤에는 다시 읽지 않음")
+    void failedBackfillIsRetried() {
+        // given
+        when(crowdMetricRepository.findHeadcountsByFestivalSince(eq(FESTIVAL_ID), any()))
+                .thenThrow(new IllegalStateException("DB 연결 실패"))
+                .thenReturn(List.of());
+
+        // when
+        service.getForecasts(FESTIVAL);
+        service.getForecasts(FESTIVAL);
+        service.getForecasts(FESTIVAL);
+
+        // then
+        verify(crowdMetricRepository, times(2)).findHeadcountsByFestivalSince(eq(FESTIVAL_ID), any());
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 조회는 진행 중인 이력 채우기가 끝날 때까지 기다림")
+    void concurrentCallersWaitForBackfill() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(crowdMetricRepository.findHeadcountsByFestivalSince(eq(FESTIVAL_ID), any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return List.of();
+        });
+        CompletableFuture<?> first = CompletableFuture.runAsync(() -> service.getForecasts(FESTIVAL));
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+
+        // when
+        CompletableFuture<?> second = CompletableFuture.runAsync(() -> service.getForecasts(FESTIVAL));
+        Thread.sleep(100);
+        boolean returnedBeforeBackfill = second.isDone();
+        release.countDown();
+        first.get(1, TimeUnit.SECONDS);
+        second.get(1, TimeUnit.SECONDS);
+
+        // then
+        assertFalse(returnedBeforeBackfill);
+        verify(crowdMetricRepository, times(1)).findHeadcountsByFestivalSince(eq(FESTIVAL_ID), any());
+    }
+}
@@ -0,0 +1,132 @@
+package com.kt.backendapp.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kt.backendapp.dto.BulkIngestionResultDTO;
+import com.kt.backendapp.dto.ZoneRealTimeUpdateDTO;
+import com.kt.backendapp.realtime.IngestionMetrics;
+import com.kt.backendapp.realtime.ZoneLiveStateStore;
+import com.kt.backendapp.realtime.ZoneStateListener;
+import com.kt.backendapp.repository.FestivalRepository;
+import com.kt.backendapp.repository.ZoneRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.kt.backendapp.fixture.ZoneFixtures.zone;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ZoneIngestionServiceImplTest {
+
+    private static final Long FESTIVAL_ID = 1L;
+    private static final Long OTHER_FESTIVAL_ID = 2L;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ZoneLiveStateStore store;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ZoneRepository zoneRepository = mock(ZoneRepository.class);
+        FestivalRepository festivalRepository = mock(FestivalRepository.class);
+        ObjectProvider<ZoneStateListener> listenerProvider = mock(ObjectProvider.class);
+        when(listenerProvider.orderedStream()).thenAnswer(invocation -> Stream.empty());
+        when(festivalRepository.existsById(any())).thenReturn(true);
+        when(zoneRepository.findByFestivalId(FESTIVAL_ID)).thenReturn(List.of(zone(10L, FESTIVAL_ID), zone(11L, FESTIVAL_ID)));
+        when(zoneRepository.findByFestivalId(OTHER_FESTIVAL_ID)).thenReturn(List.of(zone(20L, OTHER_FESTIVAL_ID)));
+
+        meterRegistry = new SimpleMeterRegistry();
+        store = new ZoneLiveStateStore(zoneRepository, festivalRepository, listenerProvider, 500);
+        store.ensureLoaded(OTHER_FESTIVAL_ID);
+    }
+
+    @Test
+    @DisplayName("같은 구역의 변경은 최신 값으로 합치고 잘못된 항목은 폐기")
+    void coalescesAndDropsInvalidUpdates() {
+        // given
+        ZoneIngestionServiceImpl service = service(100);
+        List<ZoneRealTimeUpdateDTO> updates = List.of(
+                update("10", 100),
+                update("10", 300),
+                update("11", 50),
+                update("20", 10),    // 다른 축제 구역
+                update("999", 10),   // 없는 구역
+                update("abc", 10),   // 형식 오류
+                update("11", -1));   // 음수 인원
+
+        // when
+        BulkIngestionResultDTO result = service.ingest(String.valueOf(FESTIVAL_ID), updates);
+
+        // then
+        assertEquals(7, result.getReceived());
+        assertEquals(3, result.getAccepted());
+        assertEquals(1, result.getCoalesced());
+        assertEquals(4, result.getDropped());
+        assertEquals(300, store.peek(10L).getCurrentCapacity());
+        assertEquals(2, store.getPendingCount());
+        assertEquals(1.0, meterRegistry.get("festival.ingest.records")
+                .tag("source", IngestionMetrics.ZONE).tag("result", "coalesced").counter().count());
+        assertEquals(4.0, meterRegistry.get("festival.ingest.records")
+                .tag("source", IngestionMetrics.ZONE).tag("result", "dropped").counter().count());
+    }
+
+    @Test
+    @DisplayName("반영 대기열이 가득 차면 새 구역은 버리고 대기 중인 구역은 덮어씀")
+    void pendingLimitDropsOnlyNewZones() {
+        // given
+        ZoneIngestionServiceImpl service = service(1);
+
+        // when
+        BulkIngestionResultDTO result = service.ingest(String.valueOf(FESTIVAL_ID),
+                List.of(update("10", 100), update("11", 50), update("10", 200)));
+
+        // then
+        assertEquals(2, result.getAccepted());
+        assertEquals(1, result.getCoalesced());
+        assertEquals(1, result.getDropped());
+        assertEquals(200, store.peek(10L).getCurrentCapacity());
+        assertFalse(store.isPending(11L));
+    }
+
+    @Test
+    @DisplayName("NDJSON 스트림의 잘못된 줄은 건너뛰고 계속 수집")
+    void ndjsonSkipsMalformedLines() {
+        // given
+        ZoneIngestionServiceImpl service = service(100);
+        String ndjson = """
+                {"zoneId":"10","currentCapacity":120}
+                {"zoneId":
+
+                {"zoneId":"11","currentCapacity":30}
+                """;
+
+        // when
+        BulkIngestionResultDTO result = service.ingestNdjson(String.valueOf(FESTIVAL_ID),
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+
+        // then
+        assertEquals(3, result.getReceived());
+        assertEquals(2, result.getAccepted());
+        assertEquals(1, result.getDropped());
+        assertEquals(120, store.peek(10L).getCurrentCapacity());
+        assertEquals(30, store.peek(11L).getCurrentCapacity());
+    }
+
+    private ZoneIngestionServiceImpl service(int maxPendingZones) {
+        return new ZoneIngestionServiceImpl(store, new IngestionMetrics(meterRegistry), new ObjectMapper(), maxPendingZones);
+    }
+
+    private static ZoneRealTimeUpdateDTO update(String zoneId, int currentCapacity) {
+        return ZoneRealTimeUpdateDTO.builder()
+                .zoneId(zoneId)
+                .currentCapacity(currentCapacity)
+                .build();
+    }
+}
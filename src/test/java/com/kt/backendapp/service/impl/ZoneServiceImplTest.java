@@ -0,0 +1,57 @@
+package com.kt.backendapp.service.impl;
+
+import com.kt.backendapp.dto.ZoneRequestDTO;
+import com.kt.backendapp.exception.ResourceNotFoundException;
+import com.kt.backendapp.realtime.ZoneLiveStateStore;
+import com.kt.backendapp.realtime.ZoneSpatialIndexRegistry;
+import com.kt.backendapp.repository.FestivalRepository;
+import com.kt.backendapp.repository.ZoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ZoneServiceImplTest {
+
+    private static final Long MISSING_ID = 99L;
+    private static final String MISSING = "99";
+
+    private ZoneRepository zoneRepository;
+    private FestivalRepository festivalRepository;
+    private ZoneLiveStateStore zoneLiveStateStore;
+    private ZoneServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        zoneRepository = mock(ZoneRepository.class);
+        festivalRepository = mock(FestivalRepository.class);
+        zoneLiveStateStore = mock(ZoneLiveStateStore.class);
+        service = new ZoneServiceImpl(zoneRepository, festivalRepository, zoneLiveStateStore,
+                mock(ZoneSpatialIndexRegistry.class));
+
+        when(zoneLiveStateStore.getZone(MISSING_ID)).thenReturn(Optional.empty());
+        when(zoneRepository.findById(MISSING_ID)).thenReturn(Optional.empty());
+        when(zoneRepository.existsById(MISSING_ID)).thenReturn(false);
+        when(festivalRepository.findById(MISSING_ID)).thenReturn(Optional.empty());
+    }
+
+    @Test
+    @DisplayName("없는 구역/축제 조회와 변경은 모두 ResourceNotFoundException (404)")
+    void missingResourcesAreNotFound() {
+        // given
+        ZoneRequestDTO request = ZoneRequestDTO.builder()
+                .name("메인 무대")
+                .build();
+
+        // when & then
+        assertThrows(ResourceNotFoundException.class, () -> service.getZoneById(MISSING));
+        assertThrows(ResourceNotFoundException.class, () -> service.getNearbyZones(MISSING, 5, null));
+        assertThrows(ResourceNotFoundException.class, () -> service.createZone(MISSING, request));
+        assertThrows(ResourceNotFoundException.class, () -> service.updateZone(MISSING, request));
+        assertThrows(ResourceNotFoundException.class, () -> service.deleteZone(MISSING));
+    }
+}